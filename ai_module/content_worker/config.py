@@ -16,6 +16,16 @@ class RabbitSettings:
     queue: str
     prefetch: int
     use_ssl: bool
+    dead_letter_exchange: str
+    max_priority: int
+
+    def queue_arguments(self) -> dict:
+        """백엔드(RabbitConfig)가 선언하는 큐 인자. 다르면 브로커가 PRECONDITION_FAILED 로 거절한다."""
+        return {
+            "x-dead-letter-exchange": self.dead_letter_exchange,
+            "x-dead-letter-routing-key": self.queue,
+            "x-max-priority": self.max_priority,
+        }
 
 
 def load_rabbit_settings() -> RabbitSettings:
@@ -27,4 +37,6 @@ def load_rabbit_settings() -> RabbitSettings:
         queue=os.getenv("RABBITMQ_CONTENT_QUEUE", "content-generate-queue"),
         prefetch=int(os.getenv("RABBITMQ_PREFETCH", "1")),
         use_ssl=os.getenv("RABBITMQ_USE_SSL", "false").lower() in {"1", "true", "yes"},
+        dead_letter_exchange=os.getenv("RABBITMQ_DEAD_LETTER_EXCHANGE", "ocp.dlx"),
+        max_priority=int(os.getenv("RABBITMQ_CONTENT_MAX_PRIORITY", "5")),
     )
@@ -75,6 +75,12 @@ class ContentGenerateRequest:
     site_url: str
     trend_category: TrendCategory
     is_test: bool
+    # 상품 스냅샷 (content-generate.product-snapshot.enabled=true 일 때 crawledProducts 대신 전달)
+    product_snapshot_id: Optional[int] = None
+    product_snapshot_url: Optional[str] = None
+    excluded_product_names: Optional[List[str]] = None
+    # 아웃박스 릴레이가 발행할 때 찍은 AMQP timestamp (epoch 초). 메시지 속성에서 채운다.
+    published_at: Optional[int] = None
 
     @classmethod
     def from_json(cls, body: bytes) -> ContentGenerateRequest:
@@ -115,5 +121,8 @@ class ContentGenerateRequest:
             webhook_urls=webhook_urls,
             site_url=data["siteUrl"],
             trend_category=trend_category,
-            is_test=data.get("isTest", False)
+            is_test=data.get("isTest", False),
+            product_snapshot_id=data.get("productSnapshotId"),
+            product_snapshot_url=data.get("productSnapshotUrl"),
+            excluded_product_names=data.get("excludedProductNames"),
         )
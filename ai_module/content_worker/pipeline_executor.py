@@ -21,9 +21,14 @@ from content_generator import generate_blog_content
 
 from .logger import logger
 from .models import ContentGenerateRequest
+from .product_snapshot import resolve_products
 
 
 WEBHOOK_HEADER = "X-WEBHOOK-SECRET"
+# 503: 같은 Work 의 앞 단계 결과를 백엔드가 아직 반영 중이므로 잠시 후 다시 보낸다.
+WEBHOOK_BUSY_STATUS = 503
+WEBHOOK_BUSY_RETRIES = 5
+WEBHOOK_BUSY_RETRY_DELAY_SECONDS = 1.0
 
 
 class PipelineLogger:
@@ -111,7 +116,17 @@ def send_webhook(
     if secret:
         headers[WEBHOOK_HEADER] = secret
 
-    response = requests.post(url, json=payload, headers=headers, timeout=timeout)
+    for attempt in range(1, WEBHOOK_BUSY_RETRIES + 1):
+        response = requests.post(url, json=payload, headers=headers, timeout=timeout)
+        if response.status_code != WEBHOOK_BUSY_STATUS or attempt == WEBHOOK_BUSY_RETRIES:
+            break
+        logger.warning(
+            "웹훅 503 (앞 단계 결과 반영 중) - %s초 후 재전송 (%s/%s)",
+            WEBHOOK_BUSY_RETRY_DELAY_SECONDS * attempt,
+            attempt,
+            WEBHOOK_BUSY_RETRIES,
+        )
+        time.sleep(WEBHOOK_BUSY_RETRY_DELAY_SECONDS * attempt)
     if not response.ok:
         raise Exception(
             f"Webhook failed: {response.status_code} - {response.text}"
@@ -342,6 +357,9 @@ def send_keyword_webhook(
         "startedAt": keyword_result.get("startedAt"),
         "completedAt": keyword_result.get("completedAt"),
     }
+    # 발행 시각을 돌려줘 백엔드가 발행부터 워커 시작까지의 큐 대기 시간을 잰다.
+    if request.published_at:
+        payload["publishedAt"] = datetime.fromtimestamp(request.published_at, timezone.utc).isoformat()
 
     send_webhook(webhook_url, payload, request.webhook_secret)
     logger.info("키워드 선택 webhook 전송 완료")
@@ -366,8 +384,9 @@ def select_product(
     """
     logger.info("크롤링된 상품에서 선택 중...")
 
-    if not request.crawled_products:
-        raise Exception("crawledProducts 목록이 비어 있습니다")
+    products = resolve_products(request)
+    if not products:
+        raise Exception("후보 상품 목록이 비어 있습니다 (crawledProducts / productSnapshotUrl)")
 
     keyword = keyword_result.get("keyword")
     if not keyword:
@@ -376,7 +395,7 @@ def select_product(
     # Convert ProductInfo objects to dict for product_selector
     site_name = request.site_url or ""
     enriched_products = []
-    for product in request.crawled_products:
+    for product in products:
         enriched = {
             "product_id": product.product_id,
             "name": product.product_name,
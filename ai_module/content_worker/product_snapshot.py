@@ -0,0 +1,68 @@
+"""
+Product snapshot loader for the Content Worker.
+
+백엔드가 content-generate.product-snapshot.enabled=true 로 보내면 요청에는 crawledProducts 대신
+productSnapshotUrl 과 excludedProductNames 만 담긴다. 스냅샷은 id 별로 불변이므로 프로세스 안에 캐시하고,
+매 요청마다 이 워크플로우가 이미 쓴 상품명만 걸러 쓴다.
+"""
+from __future__ import annotations
+
+import threading
+from collections import OrderedDict
+from typing import List
+
+import requests
+
+from .logger import logger
+from .models import ContentGenerateRequest, ProductInfo
+
+SNAPSHOT_CACHE_SIZE = 16
+SNAPSHOT_TIMEOUT_SECONDS = 30
+
+_cache: "OrderedDict[str, List[ProductInfo]]" = OrderedDict()
+_cache_lock = threading.Lock()
+
+
+def resolve_products(request: ContentGenerateRequest) -> List[ProductInfo]:
+    """
+    요청의 후보 상품 목록. 스냅샷 URL 이 있으면 스냅샷에서 excludedProductNames 를 뺀 목록,
+    없으면 메시지에 담긴 crawledProducts 를 그대로 쓴다.
+    """
+    if not request.product_snapshot_url:
+        return request.crawled_products or []
+
+    excluded = set(request.excluded_product_names or [])
+    products = [
+        product
+        for product in _load_snapshot(request.product_snapshot_url)
+        if product.product_name not in excluded
+    ]
+    logger.info(
+        "상품 스냅샷 사용 - snapshotId=%s candidates=%s excluded=%s",
+        request.product_snapshot_id,
+        len(products),
+        len(excluded),
+    )
+    return products
+
+
+def _load_snapshot(url: str) -> List[ProductInfo]:
+    with _cache_lock:
+        if url in _cache:
+            _cache.move_to_end(url)
+            return _cache[url]
+
+    # requests 는 Accept-Encoding: gzip 을 기본으로 보내고 gzip 본문을 풀어 준다.
+    response = requests.get(url, timeout=SNAPSHOT_TIMEOUT_SECONDS)
+    if not response.ok:
+        raise Exception(
+            f"상품 스냅샷 조회 실패: {response.status_code} - {response.text}"
+        )
+    products = [ProductInfo.from_dict(item) for item in response.json()]
+
+    with _cache_lock:
+        _cache[url] = products
+        _cache.move_to_end(url)
+        while len(_cache) > SNAPSHOT_CACHE_SIZE:
+            _cache.popitem(last=False)
+    return products
@@ -18,6 +18,10 @@ from .logger import logger
 from .models import ContentGenerateRequest
 from .pipeline_executor import execute_pipeline
 
+# 이 워커가 디코딩할 수 있는 content-type. Smile(application/x-jackson-smile)은 아직 지원하지 않으므로
+# 스프링 쪽 rabbit.encoding.queues.content-generate-queue 는 json 으로 둬야 한다.
+SUPPORTED_CONTENT_TYPES = {None, "", "application/json"}
+
 
 class ContentWorkerConsumer:
     """
@@ -66,7 +70,11 @@ class ContentWorkerConsumer:
             self._connection = pika.BlockingConnection(parameters)
             self._channel = self._connection.channel()
             self._channel.basic_qos(prefetch_count=self.settings.prefetch)
-            self._channel.queue_declare(queue=self.settings.queue, durable=True)
+            self._channel.queue_declare(
+                queue=self.settings.queue,
+                durable=True,
+                arguments=self.settings.queue_arguments(),
+            )
 
             logger.info("RabbitMQ 연결 성공")
 
@@ -107,8 +115,22 @@ class ContentWorkerConsumer:
         logger.info("메시지 수신: delivery_tag=%s", method.delivery_tag)
 
         try:
+            # 0️⃣ 디코딩할 수 없는 인코딩 → 재처리 의미 없음 (dead-letter 로 보내 parking 에서 재발행)
+            if properties.content_type not in SUPPORTED_CONTENT_TYPES:
+                logger.error(
+                    "지원하지 않는 메시지 content-type: %s (JSON 만 지원)",
+                    properties.content_type,
+                )
+                if ch.is_open:
+                    ch.basic_nack(
+                        delivery_tag=method.delivery_tag,
+                        requeue=False,
+                    )
+                return
+
             # 1️⃣ 메시지 파싱
             request = ContentGenerateRequest.from_json(body)
+            request.published_at = properties.timestamp
             logger.info(
                 "콘텐츠 생성 요청 파싱 완료 - workId=%s",
                 request.work_id,
@@ -27,6 +27,7 @@ RABBITMQ_URL_VAR = "rabbitmq_url"
 RABBITMQ_QUEUE_VAR = "rabbitmq_trend_queue"
 OPENAI_KEY_VAR = "openai_api_key"
 WEBHOOK_HEADER = "X-WEBHOOK-SECRET"
+PRODUCT_SNAPSHOT_TIMEOUT_SECONDS = 30
 
 
 def consume_request(**context) -> None:
@@ -44,6 +45,9 @@ def consume_request(**context) -> None:
         raise AirflowFailException("대기열에 메시지가 없습니다.")
 
     payload = json.loads(body)
+    # 아웃박스 릴레이가 발행 시각을 AMQP timestamp(초)로 찍는다. 키워드 웹훅으로 돌려줘 큐 대기 시간을 잰다.
+    if header_frame is not None and header_frame.timestamp:
+        payload["publishedAt"] = datetime.fromtimestamp(header_frame.timestamp, timezone.utc).isoformat()
     channel.basic_ack(delivery_tag=method_frame.delivery_tag)
     connection.close()
 
@@ -109,6 +113,7 @@ def select_keyword(**context) -> dict:
             "message": result.get("reason"),
             "startedAt": started_at.isoformat(),
             "completedAt": completed_at.isoformat(),
+            "publishedAt": request.get("publishedAt"),
         },
     )
     return result
@@ -143,6 +148,32 @@ def send_keyword_webhook(**context) -> None:
         )
 
 
+def load_candidate_products(request: dict[str, Any]) -> list[dict[str, Any]]:
+    """
+    후보 상품 목록. productSnapshotUrl 이 있으면 스냅샷(id 별 불변, ETag/gzip 캐시 가능)을 받아
+    excludedProductNames 를 빼고, 없으면 메시지의 crawledProducts 를 그대로 쓴다.
+    """
+    snapshot_url = request.get("productSnapshotUrl")
+    if not snapshot_url:
+        return request.get("crawledProducts") or []
+
+    # requests 는 Accept-Encoding: gzip 을 기본으로 보내고 gzip 본문을 풀어 준다.
+    response = requests.get(snapshot_url, timeout=PRODUCT_SNAPSHOT_TIMEOUT_SECONDS)
+    if not response.ok:
+        raise AirflowFailException(
+            f"상품 스냅샷 조회 실패 (status={response.status_code}, body={response.text})"
+        )
+    excluded = set(request.get("excludedProductNames") or [])
+    products = [product for product in response.json() if product.get("productName") not in excluded]
+    log.info(
+        "상품 스냅샷 사용 - snapshotId=%s candidates=%s excluded=%s",
+        request.get("productSnapshotId"),
+        len(products),
+        len(excluded),
+    )
+    return products
+
+
 def select_product(**context) -> dict:
     log.info("크롤링된 상품에서 선택 중...")
     ti = context["ti"]
@@ -153,9 +184,9 @@ def select_product(**context) -> dict:
     if not request or not keyword_result:
         raise AirflowFailException("상품 선택에 필요한 정보가 부족합니다.")
 
-    products = request.get("crawledProducts") or []
+    products = load_candidate_products(request)
     if not products:
-        raise AirflowFailException("crawledProducts 목록이 비어 있습니다.")
+        raise AirflowFailException("후보 상품 목록이 비어 있습니다. (crawledProducts / productSnapshotUrl)")
 
     keyword = keyword_result.get("keyword")
     if not keyword:
@@ -5,6 +5,7 @@
 
   import json
   import logging
+  import time
   import urllib.error
   import urllib.request
   from typing import Any, Dict, Optional
@@ -12,6 +13,11 @@
   from .logger import logger
   from .results import UploadResult
 
+  # 503: 같은 Work 의 앞 단계 결과를 백엔드가 아직 반영 중이므로 잠시 후 다시 보낸다.
+  BUSY_STATUS = 503
+  BUSY_RETRIES = 5
+  BUSY_RETRY_DELAY_SECONDS = 1.0
+
 
   def send_webhook(
       url: str,
@@ -30,21 +36,32 @@
       if token:
           request.add_header("X-WEBHOOK-SECRET", token)
 
-      try:
-          with urllib.request.urlopen(request, timeout=timeout) as response:
-              status = getattr(response, "status", response.getcode())
-              logger.info("웹훅 전송 성공 (status=%s)", status)
-              return 200 <= status < 300
-      except urllib.error.HTTPError as exc:
-          logger.error(
-              "웹훅 전송 실패(HTTP %s): %s",
-              exc.code,
-              exc.read().decode("utf-8", errors="ignore"),
-          )
-      except urllib.error.URLError as exc:
-          logger.error("웹훅 전송 실패(URL Error): %s", exc)
-      except Exception as exc:  # noqa: BLE001
-          logger.error("웹훅 전송 중 알 수 없는 오류: %s", exc)
+      for attempt in range(1, BUSY_RETRIES + 1):
+          try:
+              with urllib.request.urlopen(request, timeout=timeout) as response:
+                  status = getattr(response, "status", response.getcode())
+                  logger.info("웹훅 전송 성공 (status=%s)", status)
+                  return 200 <= status < 300
+          except urllib.error.HTTPError as exc:
+              if exc.code == BUSY_STATUS and attempt < BUSY_RETRIES:
+                  logger.warning(
+                      "웹훅 503 (앞 단계 결과 반영 중) - %s초 후 재전송 (%s/%s)",
+                      BUSY_RETRY_DELAY_SECONDS * attempt,
+                      attempt,
+                      BUSY_RETRIES,
+                  )
+                  time.sleep(BUSY_RETRY_DELAY_SECONDS * attempt)
+                  continue
+              logger.error(
+                  "웹훅 전송 실패(HTTP %s): %s",
+                  exc.code,
+                  exc.read().decode("utf-8", errors="ignore"),
+              )
+          except urllib.error.URLError as exc:
+              logger.error("웹훅 전송 실패(URL Error): %s", exc)
+          except Exception as exc:  # noqa: BLE001
+              logger.error("웹훅 전송 중 알 수 없는 오류: %s", exc)
+          return False
       return False
 
 
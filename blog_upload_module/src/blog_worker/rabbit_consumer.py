@@ -22,6 +22,10 @@ from .job_executor import execute_blog_upload
 from .logger import logger
 from .models import BlogUploadRequest
 
+# 이 워커가 디코딩할 수 있는 content-type. Smile(application/x-jackson-smile)은 아직 지원하지 않으므로
+# 스프링 쪽 rabbit.encoding.queues.blog-upload-queue 는 json 으로 둬야 한다.
+SUPPORTED_CONTENT_TYPES = {None, "", "application/json"}
+
 
 class BlogUploadConsumer:
     def __init__(self) -> None:
@@ -61,7 +65,11 @@ class BlogUploadConsumer:
             self._connection = pika.BlockingConnection(parameters)
             self._channel = self._connection.channel()
             self._channel.basic_qos(prefetch_count=self.settings.prefetch)
-            self._channel.queue_declare(queue=self.settings.queue, durable=True)
+            self._channel.queue_declare(
+                queue=self.settings.queue,
+                durable=True,
+                arguments=self.settings.queue_arguments(),
+            )
 
     def start(self) -> None:
         self.connect()
@@ -83,6 +91,10 @@ class BlogUploadConsumer:
 
     def _on_message(self, ch: BlockingChannel, method, properties, body: bytes) -> None:
         logger.info("메시지 수신: delivery_tag=%s", method.delivery_tag)
+        if properties.content_type not in SUPPORTED_CONTENT_TYPES:
+            logger.error("지원하지 않는 메시지 content-type: %s (JSON 만 지원)", properties.content_type)
+            ch.basic_nack(delivery_tag=method.delivery_tag, requeue=False)
+            return
         try:
             request = BlogUploadRequest.from_json(body)
             result = execute_blog_upload(request)
@@ -3,6 +3,7 @@ package com.ocp.ocp_finalproject.audit.domain;
 import com.ocp.ocp_finalproject.audit.enums.ActorType;
 import com.ocp.ocp_finalproject.audit.enums.AuditAction;
 import com.ocp.ocp_finalproject.audit.enums.AuditResult;
+import com.ocp.ocp_finalproject.common.entity.IdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -13,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -26,7 +28,11 @@ import lombok.NoArgsConstructor;
 public class AuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "audit_log_id_generator")
+    @TableGenerator(name = "audit_log_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.AUDIT_LOG, allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(columnDefinition = IdGenerators.ID_COLUMN_DEFINITION)
     private Long id;
 
     @Column(name = "occurred_at", nullable = false)
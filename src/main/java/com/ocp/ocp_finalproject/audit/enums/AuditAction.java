@@ -9,5 +9,6 @@ public enum AuditAction {
     WEBHOOK_KEYWORD_SELECT_RESULT,
     WEBHOOK_PRODUCT_SELECT_RESULT,
     WEBHOOK_CONTENT_GENERATE_RESULT,
-    WEBHOOK_BLOG_UPLOAD_RESULT
+    WEBHOOK_BLOG_UPLOAD_RESULT,
+    WEBHOOK_WORK_EVENTS
 }
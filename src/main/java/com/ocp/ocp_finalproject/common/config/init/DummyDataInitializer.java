@@ -23,6 +23,7 @@ import java.sql.Statement;
 public class DummyDataInitializer implements ApplicationRunner {
 
     private final DataSource dataSource;
+    private final IdGeneratorInitializer idGeneratorInitializer;
 
     @Value("classpath:db/seed/dummy_data.sql")
     private Resource dummyDataSql;
@@ -168,6 +169,9 @@ public class DummyDataInitializer implements ApplicationRunner {
 
             log.info("[Init] 모든 SQL 실행 완료");
 
+            // 시드 SQL 은 AUTO_INCREMENT 로 채번되므로 ID 채번 블록을 그 위로 다시 맞춘다.
+            idGeneratorInitializer.synchronize();
+
             // 데이터 확인
             try (Connection c = dataSource.getConnection();
                  Statement st = c.createStatement()) {
@@ -0,0 +1,64 @@
+package com.ocp.ocp_finalproject.common.config.init;
+
+import com.ocp.ocp_finalproject.common.entity.IdGenerators;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * id_generator 의 블록 시작값을 각 테이블의 현재 최대 ID 위로 맞춘다.
+ *
+ * <p>IDENTITY 로 쌓인 기존 행이나 시드 SQL 로 직접 넣은 행과 ID 가 겹치지 않도록,
+ * 리스너/스케줄러가 시작되기 전(모든 싱글톤 생성 직후)에 실행한다. 값은 올리기만 하므로
+ * 이미 블록을 받아 쓰고 있는 다른 노드가 있어도 안전하다. 스키마(ddl-auto)가 먼저 반영되도록
+ * {@link EntityManagerFactory} 에 의존한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer implements SmartInitializingSingleton {
+
+    private static final List<Segment> SEGMENTS = List.of(
+            new Segment(IdGenerators.WORK, "work", "work_id"),
+            new Segment(IdGenerators.AI_CONTENT, "ai_content", "ai_content_id"),
+            new Segment(IdGenerators.WORK_DETAIL_LOG, "work_detail_log", "log_id"),
+            new Segment(IdGenerators.AUDIT_LOG, "audit_log", "id"),
+            new Segment(IdGenerators.AI_USAGE_LOG, "ai_usage_log", "usage_log_id"),
+            new Segment(IdGenerators.PRODUCT_CRAWL, "product_crawl", "product_crawl_id"),
+            new Segment(IdGenerators.WORK_EVENT, "work_event", "work_event_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        synchronize();
+    }
+
+    /**
+     * 블록 시작값을 MAX(id) + 블록 크기 + 1 이상으로 올린다.
+     * pooled 최적화기는 읽은 값을 블록의 상한으로 쓰므로 첫 블록도 MAX(id) 보다 큰 ID 부터 나눠 준다.
+     */
+    public void synchronize() {
+        for (Segment segment : SEGMENTS) {
+            String sql = """
+                    INSERT INTO %s (%s, %s)
+                    SELECT ?, COALESCE(MAX(%s), 0) + ? FROM %s
+                    ON DUPLICATE KEY UPDATE %s = GREATEST(%s, VALUES(%s))
+                    """.formatted(IdGenerators.TABLE, IdGenerators.SEGMENT_COLUMN, IdGenerators.VALUE_COLUMN,
+                    segment.idColumn(), segment.table(),
+                    IdGenerators.VALUE_COLUMN, IdGenerators.VALUE_COLUMN, IdGenerators.VALUE_COLUMN);
+            jdbcTemplate.update(sql, segment.name(), IdGenerators.ALLOCATION_SIZE + 1);
+        }
+
+        log.info("[Init] ID 채번 블록 시작값 동기화 완료 - segments={}", SEGMENTS.size());
+    }
+
+    private record Segment(String name, String table, String idColumn) {
+    }
+}
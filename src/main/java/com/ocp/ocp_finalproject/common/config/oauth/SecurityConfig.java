@@ -86,6 +86,10 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/v1/site-requests/my").authenticated()
                         .requestMatchers("/api/v1/site-requests/**").hasRole("ADMIN")
 
+                        // 액추에이터: health 만 공개, metrics 등은 사용자별 태그와 큐 내부 정보가 있어 관리자만
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         .anyRequest().permitAll()
                 )
 
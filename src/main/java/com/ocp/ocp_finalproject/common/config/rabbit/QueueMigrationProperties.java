@@ -0,0 +1,19 @@
+package com.ocp.ocp_finalproject.common.config.rabbit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rabbit.queue-migration")
+public class QueueMigrationProperties {
+
+    /**
+     * 기동 시 작업 큐의 인자(x-max-priority, dead-letter 등)가 브로커에 선언된 것과 다르면,
+     * 비어 있고 소비자가 없는 큐에 한해 삭제 후 새 인자로 재선언한다.
+     */
+    private boolean enabled = true;
+}
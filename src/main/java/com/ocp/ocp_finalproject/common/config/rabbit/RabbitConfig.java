@@ -1,11 +1,29 @@
 package com.ocp.ocp_finalproject.common.config.rabbit;
 
+import com.ocp.ocp_finalproject.message.content.enums.ContentGenerateLane;
+import com.ocp.ocp_finalproject.message.converter.MessageEncodingProperties;
+import com.ocp.ocp_finalproject.message.converter.SmileMessageConverter;
+import com.ocp.ocp_finalproject.message.deadletter.DeadLetterQueues;
+import com.ocp.ocp_finalproject.message.deadletter.config.DeadLetterProperties;
+import com.ocp.ocp_finalproject.message.result.config.WorkResultProperties;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 public class RabbitConfig {
@@ -18,18 +36,82 @@ public class RabbitConfig {
 
     public static final String BLOG_UPLOAD_QUEUE = "blog-upload-queue";
 
+    public static final String CONTENT_GENERATE_DEAD_LETTER_QUEUE = CONTENT_GENERATE_QUEUE + DeadLetterQueues.DEAD_LETTER_SUFFIX;
 
-    // 콘텐츠 생성 큐
+    /**
+     * 큐로 주고받는 DTO 패키지. 타입 헤더로 역직렬화할 클래스를 고를 때 이 패키지만 허용한다.
+     * (Spring AMQP 는 패키지 이름이 정확히 같아야 신뢰하므로 와일드카드 하위 패키지는 쓸 수 없다.)
+     */
+    public static final String[] MESSAGE_PACKAGES = {
+            "com.ocp.ocp_finalproject.message.content.dto",
+            "com.ocp.ocp_finalproject.message.blog.dto",
+            "com.ocp.ocp_finalproject.message.result.dto"
+    };
+
+    public static final String BLOG_UPLOAD_DEAD_LETTER_QUEUE = BLOG_UPLOAD_QUEUE + DeadLetterQueues.DEAD_LETTER_SUFFIX;
+
+    public static final String WORK_RESULT_QUEUE = "work-result-queue";
+
+    public static final String WORK_RESULT_DEAD_LETTER_QUEUE = WORK_RESULT_QUEUE + DeadLetterQueues.DEAD_LETTER_SUFFIX;
+
+    public static final String WORK_RESULT_CONTAINER_FACTORY = "workResultContainerFactory";
+
+
+    // 콘텐츠 생성 큐 (reject 된 메시지는 dead-letter exchange 로, 테스트 실행은 높은 우선순위)
     @Bean
     public Queue contentRequestQueue() {
-        return new Queue(CONTENT_GENERATE_QUEUE, true); // durable queue
+        return workQueue(CONTENT_GENERATE_QUEUE)
+                .maxPriority(ContentGenerateLane.MAX_PRIORITY)
+                .build();
     }
 
 
-    // 블로그 업로드 큐
+    // 블로그 업로드 큐 (reject 된 메시지는 dead-letter exchange 로)
     @Bean
     public Queue blogUploadQueue() {
-        return new Queue(BLOG_UPLOAD_QUEUE, true); // durable queue\\
+        return workQueue(BLOG_UPLOAD_QUEUE).build();
+    }
+
+    // 워커 단계별 결과 큐 (웹훅 대신 발행, reject 된 메시지는 dead-letter exchange 로)
+    @Bean
+    public Queue workResultQueue() {
+        return workQueue(WORK_RESULT_QUEUE).build();
+    }
+
+    @Bean
+    public DirectExchange deadLetterExchange() {
+        return new DirectExchange(DeadLetterQueues.DEAD_LETTER_EXCHANGE, true, false);
+    }
+
+    /**
+     * 작업 큐마다 dead-letter 큐, 지연 재시도 큐(지수 TTL), parking 큐를 선언한다.
+     * 재시도 큐는 소비자 없이 TTL 만료 시 기본 exchange 로 dead-letter 되어 작업 큐로 돌아간다.
+     */
+    @Bean
+    public Declarables deadLetterDeclarables(DirectExchange deadLetterExchange, DeadLetterProperties deadLetterProperties) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (String queue : DeadLetterQueues.WORK_QUEUES) {
+            Queue deadLetterQueue = QueueBuilder.durable(DeadLetterQueues.deadLetter(queue)).build();
+            declarables.add(deadLetterQueue);
+            declarables.add(BindingBuilder.bind(deadLetterQueue).to(deadLetterExchange).with(queue));
+
+            for (int retry = 1; retry <= deadLetterProperties.getMaxRetries(); retry++) {
+                declarables.add(QueueBuilder.durable(DeadLetterQueues.retry(queue, retry))
+                        .ttl((int) deadLetterProperties.retryDelay(retry).toMillis())
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(queue)
+                        .build());
+            }
+            declarables.add(QueueBuilder.durable(DeadLetterQueues.parking(queue)).build());
+        }
+        return new Declarables(declarables);
+    }
+
+    private QueueBuilder workQueue(String name) {
+        // 인자를 바꾸면 기존 브로커의 큐는 WorkQueueMigrator 가 기동 시 재선언한다. 파이썬 워커의 queue_declare 인자도 함께 맞춘다.
+        return QueueBuilder.durable(name)
+                .deadLetterExchange(DeadLetterQueues.DEAD_LETTER_EXCHANGE)
+                .deadLetterRoutingKey(name);
     }
 
     @Bean
@@ -37,11 +119,55 @@ public class RabbitConfig {
         return new Jackson2JsonMessageConverter();
     }
 
+    @Bean
+    public SmileMessageConverter smileMessageConverter(MessageEncodingProperties messageEncodingProperties) {
+        return new SmileMessageConverter(messageEncodingProperties.getCompressionThreshold(), MESSAGE_PACKAGES);
+    }
+
+    /**
+     * content-type 헤더로 컨버터를 고른다. (기본 JSON, application/x-jackson-smile 은 Smile)
+     * 발행 시에는 MessageProperties 의 content-type 을, 수신 시에는 메시지의 content-type 을 본다.
+     * 리스너 컨테이너도 이 컨버터를 쓰도록 @Primary 로 둔다.
+     */
+    @Bean
+    @Primary
+    public ContentTypeDelegatingMessageConverter contentTypeDelegatingMessageConverter(
+            Jackson2JsonMessageConverter messageConverter,
+            SmileMessageConverter smileMessageConverter) {
+        ContentTypeDelegatingMessageConverter converter = new ContentTypeDelegatingMessageConverter(messageConverter);
+        converter.addDelegate("application/json", messageConverter);
+        converter.addDelegate(SmileMessageConverter.CONTENT_TYPE, smileMessageConverter);
+        return converter;
+    }
+
+    /**
+     * 작업 결과 큐 전용 배치 리스너 컨테이너.
+     * batchSize 개가 모이거나 receiveTimeout 이 지나면 List 로 한 번에 넘기고, 리스너가 처리 결과에 따라 직접 ack/reject 한다.
+     */
+    @Bean(WORK_RESULT_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory workResultContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            WorkResultProperties workResultProperties) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(workResultProperties.getBatchSize());
+        factory.setReceiveTimeout(workResultProperties.getReceiveTimeout().toMillis());
+        // 배치를 채울 수 있도록 prefetch 는 배치 크기 이상이어야 한다.
+        factory.setPrefetchCount(workResultProperties.getBatchSize());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory,
-                                         Jackson2JsonMessageConverter messageConverter) {
+                                         ContentTypeDelegatingMessageConverter contentTypeDelegatingMessageConverter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(messageConverter);
+        rabbitTemplate.setMessageConverter(contentTypeDelegatingMessageConverter);
+        // 라우팅되지 않은 메시지를 return 받아 아웃박스 릴레이가 실패로 처리하도록 한다.
+        rabbitTemplate.setMandatory(true);
         return rabbitTemplate;
     }
 }
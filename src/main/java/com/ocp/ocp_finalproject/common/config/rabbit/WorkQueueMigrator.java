@@ -0,0 +1,104 @@
+package com.ocp.ocp_finalproject.common.config.rabbit;
+
+import com.ocp.ocp_finalproject.message.deadletter.DeadLetterQueues;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ShutdownSignalException;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.AbstractConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 큐의 인자가 바뀌었을 때 브로커의 기존 큐를 새 인자로 옮긴다.
+ *
+ * <p>RabbitMQ 는 이미 있는 큐를 다른 인자로 선언하면 PRECONDITION_FAILED 로 거절하므로
+ * (x-max-priority, x-dead-letter-exchange 추가 등) RabbitAdmin 선언과 리스너 기동이 실패한다.
+ * 리스너가 시작되기 전(모든 싱글톤 생성 직후)에 RabbitAdmin 과 별개의 연결로 각 작업 큐를 새 인자로 선언해 보고,
+ * 거절되면 비어 있고 소비자가 없는 큐만 삭제 후 재선언한다. 메시지가 남아 있거나 워커가 붙어 있으면 지우지 않고
+ * 오류 로그를 남기므로, 발행을 멈추고 워커로 큐를 비운 뒤 워커를 내리고 재기동하면 된다. (README 참고)</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkQueueMigrator implements SmartInitializingSingleton {
+
+    private static final String CONNECTION_NAME = "work-queue-migration";
+
+    private final ConnectionFactory connectionFactory;
+    private final List<Queue> queues;
+    private final QueueMigrationProperties queueMigrationProperties;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!queueMigrationProperties.isEnabled()
+                || !(connectionFactory instanceof AbstractConnectionFactory abstractConnectionFactory)) {
+            return;
+        }
+
+        List<Queue> workQueues = queues.stream()
+                .filter(queue -> DeadLetterQueues.WORK_QUEUES.contains(queue.getName()))
+                .toList();
+        try (Connection connection = abstractConnectionFactory.getRabbitConnectionFactory().newConnection(CONNECTION_NAME)) {
+            for (Queue queue : workQueues) {
+                try {
+                    migrate(connection, queue);
+                } catch (IOException | TimeoutException e) {
+                    log.error("[RabbitMQ] 작업 큐 {} 인자 마이그레이션 실패 - {}", queue.getName(), e.getMessage());
+                }
+            }
+        } catch (IOException | TimeoutException e) {
+            // 브로커에 닿지 않으면 평소처럼 RabbitAdmin 이 연결될 때 선언한다.
+            log.warn("[RabbitMQ] 작업 큐 인자 확인 생략 (브로커 연결 실패) - {}", e.getMessage());
+        }
+    }
+
+    private void migrate(Connection connection, Queue queue) throws IOException, TimeoutException {
+        if (declare(connection, queue)) {
+            return;
+        }
+
+        try (Channel channel = connection.createChannel()) {
+            AMQP.Queue.DeclareOk current = channel.queueDeclarePassive(queue.getName());
+            if (current.getMessageCount() > 0 || current.getConsumerCount() > 0) {
+                log.error("[RabbitMQ] 작업 큐 {} 의 인자가 달라 재선언이 필요하지만 메시지 {}건 / 소비자 {}개가 남아 있어 건너뜀."
+                                + " 발행을 멈추고 큐를 비운 뒤 워커를 내리고 재기동하세요.",
+                        queue.getName(), current.getMessageCount(), current.getConsumerCount());
+                return;
+            }
+            // ifUnused / ifEmpty 로 확인 직후 들어온 메시지나 소비자가 있으면 브로커가 삭제를 거절한다.
+            channel.queueDelete(queue.getName(), true, true);
+            channel.queueDeclare(queue.getName(), queue.isDurable(), queue.isExclusive(), queue.isAutoDelete(),
+                    queue.getArguments());
+        }
+        log.warn("[RabbitMQ] 작업 큐 {} 를 새 인자로 재선언 - {}", queue.getName(), queue.getArguments());
+    }
+
+    /**
+     * 새 인자로 선언한다. 큐가 없거나 인자가 같으면 true, 인자가 달라 거절되면 false.
+     */
+    private boolean declare(Connection connection, Queue queue) throws IOException, TimeoutException {
+        Channel channel = connection.createChannel();
+        try {
+            channel.queueDeclare(queue.getName(), queue.isDurable(), queue.isExclusive(), queue.isAutoDelete(),
+                    queue.getArguments());
+        } catch (IOException e) {
+            // 거절되면 브로커가 채널을 닫는다.
+            if (e.getCause() instanceof ShutdownSignalException signal
+                    && signal.getReason() instanceof AMQP.Channel.Close close
+                    && close.getReplyCode() == AMQP.PRECONDITION_FAILED) {
+                return false;
+            }
+            throw e;
+        }
+        channel.close();
+        return true;
+    }
+}
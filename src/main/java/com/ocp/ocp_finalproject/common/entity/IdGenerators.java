@@ -0,0 +1,36 @@
+package com.ocp.ocp_finalproject.common.entity;
+
+/**
+ * 대량으로 쌓이는 엔티티의 ID 채번 설정.
+ *
+ * <p>IDENTITY 전략은 INSERT 를 실행해야 ID 를 알 수 있어 Hibernate 가 JDBC 배치를 끈다.
+ * 대신 id_generator 테이블에서 {@link #ALLOCATION_SIZE} 개 단위 블록(pooled hi/lo)을 받아 메모리에서 나눠 쓰므로
+ * 채번 왕복은 블록당 한 번이고 INSERT 는 {@code hibernate.jdbc.batch_size} 단위로 묶인다.
+ * 노드마다 다른 블록을 받으므로 ID 는 유일하지만 노드 간 순서는 보장하지 않는다.</p>
+ *
+ * <p>시드 SQL 처럼 ID 없이 직접 넣는 행을 위해 컬럼의 AUTO_INCREMENT 는 유지하고,
+ * 기동 시 {@code IdGeneratorInitializer} 가 각 블록의 시작값을 테이블의 현재 최대 ID 위로 올린다.</p>
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+
+    /**
+     * 직접 넣는 행이 AUTO_INCREMENT 로 채번되도록 유지하는 ID 컬럼 정의.
+     */
+    public static final String ID_COLUMN_DEFINITION = "bigint auto_increment";
+
+    public static final String WORK = "work";
+    public static final String AI_CONTENT = "ai_content";
+    public static final String WORK_DETAIL_LOG = "work_detail_log";
+    public static final String AUDIT_LOG = "audit_log";
+    public static final String AI_USAGE_LOG = "ai_usage_log";
+    public static final String PRODUCT_CRAWL = "product_crawl";
+    public static final String WORK_EVENT = "work_event";
+
+    private IdGenerators() {
+    }
+}
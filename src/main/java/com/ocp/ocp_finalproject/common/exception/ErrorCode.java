@@ -69,6 +69,7 @@ public enum ErrorCode {
     WORK_CREATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "WORK_005", "작업 생성에 실패했습니다"),
     WORK_WEBHOOK_TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "WORK_006", "유효하지 않은 웹훅 토큰입니다"),
     WORK_WEBHOOK_URL_NOT_CONFIGURED(HttpStatus.INTERNAL_SERVER_ERROR, "WORK_007", "블로그 웹훅 URL이 설정되지 않았습니다"),
+    WORK_WEBHOOK_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "WORK_008", "이전 단계 결과를 반영 중입니다. 잠시 후 다시 보내주세요"),
 
     // ===== 블로그 관련 (BLOG) =====
     BLOG_NOT_FOUND(HttpStatus.NOT_FOUND, "BLOG_001", "블로그를 찾을 수 없습니다"),
@@ -93,6 +94,7 @@ public enum ErrorCode {
     CRAWL_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "CRAWL_003", "크롤링 시간이 초과되었습니다"),
     HTML_EXTRACT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CRAWL_004", "HTML 추출에 실패했습니다"),
     HTML_NOT_FOUND(HttpStatus.NOT_FOUND, "CRAWL_005", "HTML 추출 결과를 찾을 수 없습니다"),
+    PRODUCT_SNAPSHOT_NOT_FOUND(HttpStatus.NOT_FOUND, "CRAWL_006", "상품 스냅샷을 찾을 수 없습니다"),
 
     // ===== 트렌드 관련 (TREND) =====
     TREND_NOT_FOUND(HttpStatus.NOT_FOUND, "TREND_001", "트렌드 키워드를 찾을 수 없습니다"),
@@ -152,6 +154,11 @@ public enum ErrorCode {
     SITE_URL_UPDATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SITE_002", "사이트 URL 수정에 실패했습니다"),
     DUPLICATE_SITE_URL(HttpStatus.CONFLICT, "SITE_003", "이미 등록된 사이트 URL입니다"),
 
+    // ===== 메시지 큐 관련 (MQ) =====
+    DEAD_LETTER_QUEUE_NOT_FOUND(HttpStatus.NOT_FOUND, "MQ_001", "dead-letter 처리를 지원하지 않는 큐입니다"),
+    PARKED_MESSAGE_FETCH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "MQ_002", "parking 메시지 조회에 실패했습니다"),
+    PARKED_MESSAGE_REPLAY_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "MQ_003", "parking 메시지 재처리에 실패했습니다"),
+
     // ===== 데이터베이스 관련 (DB) =====
     DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "DB_001", "데이터베이스 오류가 발생했습니다"),
     DUPLICATE_KEY(HttpStatus.CONFLICT, "DB_002", "중복된 데이터입니다"),
@@ -1,6 +1,7 @@
 package com.ocp.ocp_finalproject.content.domain;
 
 import com.ocp.ocp_finalproject.common.entity.BaseEntity;
+import com.ocp.ocp_finalproject.common.entity.IdGenerators;
 import com.ocp.ocp_finalproject.content.enums.ContentStatus;
 import com.ocp.ocp_finalproject.work.domain.Work;
 import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
@@ -16,8 +17,11 @@ import java.time.LocalDateTime;
 public class AiContent extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "ai_content_id")
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ai_content_id_generator")
+    @TableGenerator(name = "ai_content_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.AI_CONTENT, allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(name = "ai_content_id", columnDefinition = IdGenerators.ID_COLUMN_DEFINITION)
     private Long id;
 
     @Column(columnDefinition = "LONGTEXT")
@@ -109,6 +113,14 @@ public class AiContent extends BaseEntity {
         this.completedAt = completedAt;
     }
 
+    /**
+     * Work 실행이 생략(SHED)되어 생성 요청이 나가지 않을 때, 생성 대기 상태로 남지 않도록 실패로 닫는다.
+     */
+    public void markFailed(LocalDateTime completedAt) {
+        this.status = ContentStatus.FAILED;
+        this.completedAt = completedAt;
+    }
+
     public void updateBlogUploadResult(boolean isSuccess, LocalDateTime completedAt) {
         this.status = isSuccess ? ContentStatus.PUBLISHED : ContentStatus.FAILED;
         this.completedAt = completedAt;
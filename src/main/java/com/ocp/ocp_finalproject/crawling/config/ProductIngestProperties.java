@@ -0,0 +1,19 @@
+package com.ocp.ocp_finalproject.crawling.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "crawling.ingest")
+public class ProductIngestProperties {
+
+    /**
+     * 크롤링 상품 목록을 읽으면서 한 트랜잭션으로 upsert 할 상품 수.
+     * 요청 크기와 무관하게 메모리에는 이만큼만 올린다.
+     */
+    private int chunkSize = 500;
+}
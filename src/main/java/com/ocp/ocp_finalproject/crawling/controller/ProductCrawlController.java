@@ -1,12 +1,24 @@
 package com.ocp.ocp_finalproject.crawling.controller;
 
 import com.ocp.ocp_finalproject.common.response.ApiResult;
-import com.ocp.ocp_finalproject.crawling.dto.ProductCrawlDto;
+import com.ocp.ocp_finalproject.crawling.domain.ProductSnapshot;
+import com.ocp.ocp_finalproject.crawling.dto.ProductIngestResponse;
 import com.ocp.ocp_finalproject.crawling.service.ProductCrawlService;
+import com.ocp.ocp_finalproject.crawling.service.ProductSnapshotService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -14,11 +26,52 @@ import java.util.List;
 public class ProductCrawlController {
 
     private final ProductCrawlService productCrawlService;
+    private final ProductSnapshotService productSnapshotService;
 
-    // 여러 상품 한 번에 저장
-    @PostMapping("/products")
-    public ApiResult<String> saveProducts(@RequestBody List<ProductCrawlDto> products) {
-        productCrawlService.saveAll(products);
-        return ApiResult.success("크롤링 데이터 저장 완료");
+    /**
+     * 여러 상품 한 번에 저장 (site_name, product_code 기준 upsert)
+     * 크롤러는 수만 건을 한 번에 보내므로 본문을 목록으로 바인딩하지 않고 스트림으로 넘겨 청크 단위로 반영한다.
+     */
+    @PostMapping(value = "/products", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResult<ProductIngestResponse> saveProducts(InputStream body) {
+        ProductIngestResponse response = productCrawlService.ingest(body);
+        return ApiResult.success("크롤링 데이터 저장 완료", response);
+    }
+
+    /**
+     * 상품 스냅샷 조회 (콘텐츠 생성 워커용)
+     * 스냅샷은 바뀌지 않으므로 ETag + 장기 캐시를 허용하고, gzip 을 받는 클라이언트에는 저장된 압축 본문을 그대로 보낸다.
+     */
+    @GetMapping("/snapshots/{snapshotId}")
+    public ResponseEntity<byte[]> getSnapshot(
+            @PathVariable Long snapshotId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        ProductSnapshot snapshot = productSnapshotService.getSnapshot(snapshotId);
+        String eTag = "\"" + snapshot.getChecksum() + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getBody());
+        }
+        return response.body(gunzip(snapshot.getBody()));
+    }
+
+    private byte[] gunzip(byte[] body) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -1,21 +1,31 @@
 package com.ocp.ocp_finalproject.crawling.domain;
 
 import com.ocp.ocp_finalproject.common.entity.BaseEntity;
+import com.ocp.ocp_finalproject.common.entity.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Objects;
 
 @Entity
-@Table(name = "product_crawl")
+@Table(name = "product_crawl", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_crawl_site_product", columnNames = {"site_name", "product_code"})
+}, indexes = {
+        // 스냅샷 생성 시 사이트 상품을 id 순서로 나눠 읽는다.
+        @Index(name = "idx_product_crawl_site_name_id", columnList = "site_name, product_crawl_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProductCrawl extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "product_crawl_id")
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "product_crawl_id_generator")
+    @TableGenerator(name = "product_crawl_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.PRODUCT_CRAWL, allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(name = "product_crawl_id", columnDefinition = IdGenerators.ID_COLUMN_DEFINITION)
     private Long id;
 
     @Column(name= "site_name", length = 100)
@@ -60,4 +70,23 @@ public class ProductCrawl extends BaseEntity {
         crawl.productImageUrl = productImageUrl;
         return crawl;
     }
+
+    /**
+     * 같은 (사이트, 상품 코드)로 다시 크롤링된 값으로 갱신한다. 바뀐 값이 없으면 false.
+     */
+    public boolean update(ProductCrawl crawled) {
+        if (Objects.equals(siteUrl, crawled.siteUrl)
+                && Objects.equals(productName, crawled.productName)
+                && Objects.equals(productDetailUrl, crawled.productDetailUrl)
+                && Objects.equals(productPrice, crawled.productPrice)
+                && Objects.equals(productImageUrl, crawled.productImageUrl)) {
+            return false;
+        }
+        this.siteUrl = crawled.siteUrl;
+        this.productName = crawled.productName;
+        this.productDetailUrl = crawled.productDetailUrl;
+        this.productPrice = crawled.productPrice;
+        this.productImageUrl = crawled.productImageUrl;
+        return true;
+    }
 }
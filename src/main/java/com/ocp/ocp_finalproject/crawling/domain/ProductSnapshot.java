@@ -0,0 +1,55 @@
+package com.ocp.ocp_finalproject.crawling.domain;
+
+import com.ocp.ocp_finalproject.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사이트별 크롤링 상품 목록 스냅샷 (claim-check).
+ * 크롤링 결과가 저장될 때마다 새 버전을 만들고 내용은 바꾸지 않는다. 메시지에는 스냅샷 id 만 담는다.
+ * 본문은 gzip 압축한 JSON 배열이다.
+ */
+@Entity
+@Table(name = "product_snapshot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_snapshot_site_version", columnNames = {"site_name", "version"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductSnapshot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_snapshot_id")
+    private Long id;
+
+    @Column(name = "site_name", nullable = false, length = 100)
+    private String siteName;
+
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+
+    // 본문 SHA-256 (ETag, 같은 내용이면 새 버전을 만들지 않는다)
+    @Column(name = "checksum", nullable = false, length = 64)
+    private String checksum;
+
+    @Lob
+    @Column(name = "body", columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] body;
+
+    @Builder(builderMethodName = "createBuilder")
+    public static ProductSnapshot create(String siteName, Integer version, Integer itemCount, String checksum, byte[] body) {
+        ProductSnapshot snapshot = new ProductSnapshot();
+        snapshot.siteName = siteName;
+        snapshot.version = version;
+        snapshot.itemCount = itemCount;
+        snapshot.checksum = checksum;
+        snapshot.body = body;
+        return snapshot;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ocp.ocp_finalproject.crawling.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProductIngestResponse {
+
+    private final int received;
+
+    private final int inserted;
+
+    private final int updated;
+
+    // 저장된 값과 같아 바꾸지 않은 상품 수
+    private final int unchanged;
+
+    // 같은 청크(chunkSize) 안에서 뒤에 온 같은 상품으로 대체된 상품 수
+    private final int duplicates;
+
+    // 사이트명/상품 코드가 없어 버린 상품 수
+    private final int invalid;
+}
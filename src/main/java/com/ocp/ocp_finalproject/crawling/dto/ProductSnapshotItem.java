@@ -0,0 +1,24 @@
+package com.ocp.ocp_finalproject.crawling.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스냅샷에 싣는 상품 1건. 엔티티가 아니므로 페이지를 읽어도 영속성 컨텍스트에 쌓이지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductSnapshotItem {
+
+    private Long id;
+
+    private String productName;
+
+    private String productCode;
+
+    private String productDetailUrl;
+
+    private Integer productPrice;
+
+    private String productImageUrl;
+}
@@ -1,10 +1,42 @@
 package com.ocp.ocp_finalproject.crawling.repository;
 
 import com.ocp.ocp_finalproject.crawling.domain.ProductCrawl;
+import com.ocp.ocp_finalproject.crawling.dto.ProductSnapshotItem;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductCrawlRepository extends JpaRepository<ProductCrawl, Long> {
 
     List<ProductCrawl> findBySiteNameIgnoreCase(String siteName);
+
+    List<ProductCrawl> findBySiteNameAndProductCodeIn(String siteName, Collection<String> productCodes);
+
+    /**
+     * 사이트 상품을 afterId 다음부터 id 순서로 한 페이지 읽는다. (site_name, id) 인덱스 범위 조회
+     * site_name 은 DB 콜레이션이 대소문자를 구분하지 않으므로 같음 비교로 인덱스를 탄다.
+     * 사용처: ProductSnapshotService
+     */
+    @Query("""
+        SELECT new com.ocp.ocp_finalproject.crawling.dto.ProductSnapshotItem(
+            p.id,
+            p.productName,
+            p.productCode,
+            p.productDetailUrl,
+            p.productPrice,
+            p.productImageUrl
+        )
+        FROM ProductCrawl p
+        WHERE p.siteName = :siteName
+          AND p.id > :afterId
+        ORDER BY p.id ASC
+    """)
+    List<ProductSnapshotItem> findSnapshotItems(
+            @Param("siteName") String siteName,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
 }
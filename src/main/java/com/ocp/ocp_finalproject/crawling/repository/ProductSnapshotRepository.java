@@ -0,0 +1,10 @@
+package com.ocp.ocp_finalproject.crawling.repository;
+
+import com.ocp.ocp_finalproject.crawling.domain.ProductSnapshot;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductSnapshotRepository extends JpaRepository<ProductSnapshot, Long> {
+
+    Optional<ProductSnapshot> findTopBySiteNameOrderByVersionDesc(String siteName);
+}
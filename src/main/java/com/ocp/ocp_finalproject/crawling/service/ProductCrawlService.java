@@ -1,27 +1,182 @@
 package com.ocp.ocp_finalproject.crawling.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocp.ocp_finalproject.common.exception.CustomException;
+import com.ocp.ocp_finalproject.common.exception.ErrorCode;
+import com.ocp.ocp_finalproject.crawling.config.ProductIngestProperties;
 import com.ocp.ocp_finalproject.crawling.domain.ProductCrawl;
 import com.ocp.ocp_finalproject.crawling.dto.ProductCrawlDto;
+import com.ocp.ocp_finalproject.crawling.dto.ProductIngestResponse;
 import com.ocp.ocp_finalproject.crawling.repository.ProductCrawlRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductCrawlService {
     private final ProductCrawlRepository productCrawlRepository;
+    private final ProductSnapshotService productSnapshotService;
+    private final ProductIngestProperties productIngestProperties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * 여러 상품 저장
+     * 크롤러가 보낸 상품 JSON 배열을 스트리밍으로 읽어 (site_name, product_code) 기준으로 upsert 한 뒤,
+     * 반영된 사이트의 상품 스냅샷을 새 버전으로 만든다.
+     *
+     * <p>배열 전체를 바인딩하지 않고 chunkSize 건씩 읽어 청크마다 한 트랜잭션으로 반영하므로 메모리 사용량은
+     * 요청 크기와 무관하다. 스냅샷도 사이트 상품을 페이지 단위로 읽어 만든다. 중간에 실패하면 앞선 청크는 반영된 채로 남지만 upsert 이므로 같은 목록을 다시 보내면 된다.</p>
      */
-    @Transactional
-    public void saveAll(List<ProductCrawlDto> dtos) {
-        List<ProductCrawl> entities = dtos.stream()
-                .map(ProductCrawlDto::toEntity)
-                .toList();
-        productCrawlRepository.saveAll(entities);
+    public ProductIngestResponse ingest(InputStream body) {
+        int chunkSize = Math.max(1, productIngestProperties.getChunkSize());
+        List<ProductCrawlDto> chunk = new ArrayList<>(chunkSize);
+        IngestCount count = new IngestCount();
+        Set<String> siteNames = new HashSet<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "상품 목록은 JSON 배열이어야 합니다.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                chunk.add(objectMapper.readValue(parser, ProductCrawlDto.class));
+                if (chunk.size() == chunkSize) {
+                    upsert(chunk, count, siteNames);
+                    chunk.clear();
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "상품 목록의 원소는 JSON 객체여야 합니다.");
+            }
+            if (!chunk.isEmpty()) {
+                upsert(chunk, count, siteNames);
+            }
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "상품 목록 JSON 을 해석할 수 없습니다. " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // 실패해도 이미 반영된 청크의 사이트는 스냅샷을 맞춰 둔다.
+            if (!siteNames.isEmpty()) {
+                productSnapshotService.refresh(siteNames);
+            }
+        }
+
+        log.info("크롤링 상품 반영 - 수신 {}건, 추가 {}건, 갱신 {}건, 변경 없음 {}건, 중복 {}건, 잘못된 상품 {}건",
+                count.received, count.inserted, count.updated, count.unchanged, count.duplicates, count.invalid);
+        return ProductIngestResponse.builder()
+                .received(count.received)
+                .inserted(count.inserted)
+                .updated(count.updated)
+                .unchanged(count.unchanged)
+                .duplicates(count.duplicates)
+                .invalid(count.invalid)
+                .build();
+    }
+
+    private void upsert(List<ProductCrawlDto> chunk, IngestCount count, Set<String> siteNames) {
+        count.received += chunk.size();
+
+        // 같은 청크 안에서 같은 상품이 여러 번 오면 마지막 것만 반영한다.
+        Map<ProductKey, ProductCrawlDto> latest = new LinkedHashMap<>();
+        for (ProductCrawlDto dto : chunk) {
+            if (isBlank(dto.getSiteName()) || isBlank(dto.getProductCode())) {
+                count.invalid++;
+            } else if (latest.put(ProductKey.of(dto.getSiteName(), dto.getProductCode()), dto) != null) {
+                count.duplicates++;
+            }
+        }
+        if (latest.isEmpty()) {
+            return;
+        }
+
+        ChunkResult result;
+        try {
+            result = transactionTemplate.execute(tx -> upsertChunk(latest.values()));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 상품을 동시에 넣은 다른 요청과 겹쳐 유니크 키가 충돌했다. 다시 조회하면 갱신으로 처리된다.
+            log.info("크롤링 상품 upsert 충돌, 청크 재시도 - {}건", latest.size());
+            result = transactionTemplate.execute(tx -> upsertChunk(latest.values()));
+        }
+
+        count.inserted += result.inserted();
+        count.updated += result.updated();
+        count.unchanged += result.unchanged();
+        latest.values().forEach(dto -> siteNames.add(dto.getSiteName()));
+    }
+
+    private ChunkResult upsertChunk(Collection<ProductCrawlDto> dtos) {
+        Map<ProductKey, ProductCrawl> existing = new LinkedHashMap<>();
+        dtos.stream()
+                .collect(Collectors.groupingBy(dto -> dto.getSiteName().toLowerCase(Locale.ROOT), LinkedHashMap::new,
+                        Collectors.toList()))
+                .values()
+                .forEach(siteDtos -> productCrawlRepository.findBySiteNameAndProductCodeIn(
+                                siteDtos.get(0).getSiteName(),
+                                siteDtos.stream().map(ProductCrawlDto::getProductCode).toList())
+                        .forEach(product -> existing.putIfAbsent(
+                                ProductKey.of(product.getSiteName(), product.getProductCode()), product)));
+
+        List<ProductCrawl> inserts = new ArrayList<>();
+        int updated = 0;
+        int unchanged = 0;
+        for (ProductCrawlDto dto : dtos) {
+            ProductCrawl product = existing.get(ProductKey.of(dto.getSiteName(), dto.getProductCode()));
+            if (product == null) {
+                inserts.add(dto.toEntity());
+            } else if (product.update(dto.toEntity())) {
+                updated++;
+            } else {
+                unchanged++;
+            }
+        }
+        // pooled ID 채번이므로 INSERT 와 변경 감지 UPDATE 모두 커밋 시 JDBC 배치로 나간다.
+        productCrawlRepository.saveAll(inserts);
+        return new ChunkResult(inserts.size(), updated, unchanged);
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 유니크 키 (site_name, product_code). DB 콜레이션과 같이 대소문자를 구분하지 않는다.
+     */
+    private record ProductKey(String siteName, String productCode) {
+
+        static ProductKey of(String siteName, String productCode) {
+            return new ProductKey(siteName.toLowerCase(Locale.ROOT), productCode.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private record ChunkResult(int inserted, int updated, int unchanged) {
+    }
+
+    private static class IngestCount {
+        private int received;
+        private int inserted;
+        private int updated;
+        private int unchanged;
+        private int duplicates;
+        private int invalid;
     }
 }
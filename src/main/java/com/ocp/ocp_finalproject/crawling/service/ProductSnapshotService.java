@@ -0,0 +1,174 @@
+package com.ocp.ocp_finalproject.crawling.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocp.ocp_finalproject.common.exception.CustomException;
+import com.ocp.ocp_finalproject.common.exception.ErrorCode;
+import com.ocp.ocp_finalproject.crawling.domain.ProductSnapshot;
+import com.ocp.ocp_finalproject.crawling.dto.ProductSnapshotItem;
+import com.ocp.ocp_finalproject.crawling.repository.ProductCrawlRepository;
+import com.ocp.ocp_finalproject.crawling.repository.ProductSnapshotRepository;
+import com.ocp.ocp_finalproject.message.content.dto.ContentGenerateRequest.ProductInfo;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사이트별 크롤링 상품 스냅샷을 만들고 조회한다.
+ *
+ * <p>콘텐츠 생성 메시지마다 상품 수천 건을 직렬화하지 않도록, 크롤링 결과가 들어올 때 사이트당 한 번 스냅샷을 만들고
+ * 메시지에는 스냅샷 id 만 싣는다. 스냅샷은 만든 뒤 바뀌지 않으므로 조회 결과를 메모리에 캐시한다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSnapshotService {
+
+    private static final int CACHE_SIZE = 32;
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final ProductSnapshotRepository productSnapshotRepository;
+    private final ProductCrawlRepository productCrawlRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 스냅샷 id -> 스냅샷 (불변이므로 무효화하지 않는다)
+    private final Map<Long, ProductSnapshot> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, ProductSnapshot> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * 크롤링 결과가 저장된 사이트의 스냅샷을 새 버전으로 만든다. 내용이 그대로면 만들지 않는다.
+     *
+     * <p>상품은 {@link #PAGE_SIZE} 건씩 DTO 로 읽어 JSON 배열을 gzip 스트림에 바로 쓰므로, 메모리에는 한 페이지와
+     * 압축된 본문만 남는다. 읽기는 트랜잭션 없이 하고 최신 버전 비교와 저장만 사이트마다 짧은 트랜잭션으로 하며,
+     * 같은 사이트를 동시에 갱신해 버전이 겹치면 최신 버전을 다시 읽어 한 번 더 시도한다.</p>
+     */
+    public void refresh(Collection<String> siteNames) {
+        siteNames.stream()
+                .filter(siteName -> siteName != null && !siteName.isBlank())
+                .map(siteName -> siteName.toLowerCase(Locale.ROOT))
+                .distinct()
+                .forEach(this::refresh);
+    }
+
+    private void refresh(String siteName) {
+        SnapshotBody snapshotBody = build(siteName);
+        try {
+            transactionTemplate.executeWithoutResult(tx -> save(siteName, snapshotBody));
+        } catch (DataIntegrityViolationException e) {
+            log.info("상품 스냅샷 버전 충돌, 재시도 - site={}", siteName);
+            transactionTemplate.executeWithoutResult(tx -> save(siteName, snapshotBody));
+        }
+    }
+
+    private SnapshotBody build(String siteName) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int itemCount = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(new GZIPOutputStream(out))) {
+            generator.writeStartArray();
+            long afterId = 0L;
+            List<ProductSnapshotItem> page;
+            do {
+                page = productCrawlRepository.findSnapshotItems(siteName, afterId, PageRequest.of(0, PAGE_SIZE));
+                for (ProductSnapshotItem item : page) {
+                    objectMapper.writeValue(generator, toProductInfo(item));
+                }
+                itemCount += page.size();
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == PAGE_SIZE);
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 스냅샷 직렬화 실패 - site=" + siteName, e);
+        }
+        byte[] body = out.toByteArray();
+        return new SnapshotBody(body, sha256(body), itemCount);
+    }
+
+    private void save(String siteName, SnapshotBody snapshotBody) {
+        Optional<ProductSnapshot> latest = productSnapshotRepository.findTopBySiteNameOrderByVersionDesc(siteName);
+        if (latest.isPresent() && latest.get().getChecksum().equals(snapshotBody.checksum())) {
+            return;
+        }
+
+        int version = latest.map(snapshot -> snapshot.getVersion() + 1).orElse(1);
+        productSnapshotRepository.save(ProductSnapshot.createBuilder()
+                .siteName(siteName)
+                .version(version)
+                .itemCount(snapshotBody.itemCount())
+                .checksum(snapshotBody.checksum())
+                .body(snapshotBody.body())
+                .build());
+        log.info("상품 스냅샷 생성 - site={} version={} 상품 {}건, {}bytes",
+                siteName, version, snapshotBody.itemCount(), snapshotBody.body().length);
+    }
+
+    /**
+     * 사이트의 최신 스냅샷. 스냅샷 생성은 상품 전체를 읽으므로 요청 경로에서는 만들지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ProductSnapshot> findLatest(String siteName) {
+        return productSnapshotRepository.findTopBySiteNameOrderByVersionDesc(siteName.toLowerCase(Locale.ROOT));
+    }
+
+    @Transactional(readOnly = true)
+    public ProductSnapshot getSnapshot(Long snapshotId) {
+        synchronized (cache) {
+            ProductSnapshot cached = cache.get(snapshotId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        ProductSnapshot snapshot = productSnapshotRepository.findById(snapshotId)
+                .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_SNAPSHOT_NOT_FOUND));
+        synchronized (cache) {
+            cache.put(snapshotId, snapshot);
+        }
+        return snapshot;
+    }
+
+    private ProductInfo toProductInfo(ProductSnapshotItem item) {
+        ProductInfo info = new ProductInfo();
+        info.setProductId(item.getId());
+        info.setProductName(item.getProductName());
+        info.setProductPrice(item.getProductPrice());
+        info.setProductDetailUrl(item.getProductDetailUrl());
+        info.setProductCode(item.getProductCode());
+        info.setProductImageUrl(item.getProductImageUrl());
+        return info;
+    }
+
+    private String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record SnapshotBody(byte[] body, String checksum, int itemCount) {
+    }
+}
@@ -2,17 +2,27 @@ package com.ocp.ocp_finalproject.message.blog;
 
 import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
 import com.ocp.ocp_finalproject.message.blog.dto.BlogUploadRequest;
+import com.ocp.ocp_finalproject.message.content.enums.ContentGenerateLane;
+import com.ocp.ocp_finalproject.message.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class BlogUploadProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    /**
+     * 아웃박스 릴레이는 모든 큐의 메시지를 우선순위 순으로 발행하므로, 이미 생성이 끝난 콘텐츠의 업로드가
+     * 스케줄 콘텐츠 생성 적체 뒤로 밀리지 않도록 가장 높은 레인과 같은 우선순위를 준다.
+     */
+    public static final int PRIORITY = ContentGenerateLane.MAX_PRIORITY;
 
+    private final OutboxService outboxService;
+
+    /**
+     * 아웃박스에 저장하고 릴레이가 발행한다. 호출한 쪽 트랜잭션이 있으면 함께 커밋된다.
+     */
     public void send(BlogUploadRequest request) {
-        rabbitTemplate.convertAndSend(RabbitConfig.BLOG_UPLOAD_QUEUE, request);
+        outboxService.append(RabbitConfig.BLOG_UPLOAD_QUEUE, request, PRIORITY, null);
     }
 }
@@ -13,5 +13,6 @@ public class BlogUploadRequest {
     private String blogUrl;
     private String webhookUrl;
     private String webhookToken;
+    private String resultQueue;
     private Boolean isTest;
 }
@@ -2,17 +2,34 @@ package com.ocp.ocp_finalproject.message.content;
 
 import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
 import com.ocp.ocp_finalproject.message.content.dto.ContentGenerateRequest;
+import com.ocp.ocp_finalproject.message.content.enums.ContentGenerateLane;
+import com.ocp.ocp_finalproject.message.outbox.config.OutboxProperties;
+import com.ocp.ocp_finalproject.message.outbox.service.OutboxService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class ContentGenerateProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final OutboxService outboxService;
+    private final OutboxProperties outboxProperties;
 
+    /**
+     * 아웃박스에 저장하고 릴레이가 발행한다. 호출한 쪽 트랜잭션이 있으면 함께 커밋된다.
+     * 테스트 실행(isTest)은 높은 우선순위로 보내 스케줄 실행 적체 뒤에서 기다리지 않게 한다.
+     */
     public void send(ContentGenerateRequest request) {
-        rabbitTemplate.convertAndSend(RabbitConfig.CONTENT_GENERATE_QUEUE, request);
+        send(request, null);
+    }
+
+    /**
+     * 스케줄 실행은 사용자 id 를 공정 분배 키로 저장해 사용자별 라운드 로빈으로 발행한다. (테스트 실행은 바로 발행)
+     */
+    public void send(ContentGenerateRequest request, Long userId) {
+        ContentGenerateLane lane = ContentGenerateLane.of(request.getIsTest());
+        boolean fair = lane == ContentGenerateLane.BATCH && userId != null && outboxProperties.getFair().isEnabled();
+        outboxService.append(RabbitConfig.CONTENT_GENERATE_QUEUE, request, lane.getPriority(),
+                fair ? String.valueOf(userId) : null);
     }
 }
\ No newline at end of file
@@ -16,7 +16,12 @@ public class ContentGenerateRequest {
 
     // ===== 2. 상품 목록 (크롤링된 상품만 해당) =====
     // gmarket / musinsa / ssadagu 등 쇼핑몰 식별 가능하도록
-    private List<ProductInfo> crawledProducts;   // 요청 쇼핑몰이 지원대상이면 채움, 아니면 null
+    private List<ProductInfo> crawledProducts;   // 상품 스냅샷을 쓰지 않을 때만 채움 (content-generate.product-snapshot.enabled=false)
+
+    // 상품 스냅샷 (claim-check): 상품 목록 대신 스냅샷 id 와 조회 URL, 제외할 상품명만 보낸다.
+    private Long productSnapshotId;
+    private String productSnapshotUrl;
+    private List<String> excludedProductNames;   // 이미 사용된 상품명 (스냅샷에서 제외)
 
     // ===== 3. 최근 사용된 상품 정보 목록 (URL 기반 생성 방지용) =====
     // 크롤링된 쇼핑몰을 사용 중이면 null, 아니라면 최근 사용된 product 리스트
@@ -28,6 +33,9 @@ public class ContentGenerateRequest {
     // ===== 5. Webhook URLs (각 단계별로 따로 존재) =====
     private WebhookUrls webhookUrls;
 
+    // 결과 큐 (값이 있으면 단계별 결과를 이 큐로 발행하고, 발행 실패 시 웹훅으로 보낸다)
+    private String resultQueue;
+
     // ===== 6. 쇼핑몰 URLs =====
     private String siteUrl;
 
@@ -58,6 +66,7 @@ public class ContentGenerateRequest {
         private String productSelect;
         private String contentGenerate;
         private String airflowLog;
+        private String events;          // 단계 결과 묶음 전송 (/api/v1/work/events)
     }
 
     @Data
@@ -0,0 +1,32 @@
+package com.ocp.ocp_finalproject.message.content.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 콘텐츠 생성 큐의 우선순위 레인.
+ * 같은 큐에서 메시지 우선순위(x-max-priority)로 구분하므로 워커는 큐 하나만 소비하면 된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ContentGenerateLane {
+
+    INTERACTIVE("테스트 실행", 5),
+    BATCH("스케줄 실행", 1);
+
+    /**
+     * 콘텐츠 생성 큐에 선언하는 x-max-priority. 레인 우선순위는 이 값을 넘지 않아야 한다.
+     */
+    public static final int MAX_PRIORITY = 5;
+
+    private final String displayName;
+    private final int priority;
+
+    public static ContentGenerateLane of(Boolean isTest) {
+        return Boolean.TRUE.equals(isTest) ? INTERACTIVE : BATCH;
+    }
+
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,18 @@
+package com.ocp.ocp_finalproject.message.converter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RabbitMQ 메시지 본문 인코딩
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MessageEncoding {
+
+    JSON("JSON", "application/json"),
+    SMILE("Smile(바이너리 JSON) + gzip", SmileMessageConverter.CONTENT_TYPE);
+
+    private final String displayName;
+    private final String contentType;
+}
@@ -0,0 +1,30 @@
+package com.ocp.ocp_finalproject.message.converter;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rabbit.encoding")
+public class MessageEncodingProperties {
+
+    /**
+     * 큐별 발행 인코딩. 지정하지 않은 큐는 JSON 으로 보낸다.
+     * 소비자가 content-type 으로 디코더를 고르므로 큐 단위로 점진 전환할 수 있다.
+     */
+    private Map<String, MessageEncoding> queues = new HashMap<>();
+
+    /**
+     * 이 크기(바이트)를 넘는 SMILE 본문은 gzip 으로 압축한다.
+     */
+    private int compressionThreshold = 1024;
+
+    public MessageEncoding encodingFor(String queue) {
+        return queues.getOrDefault(queue, MessageEncoding.JSON);
+    }
+}
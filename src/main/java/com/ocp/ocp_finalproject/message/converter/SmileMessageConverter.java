@@ -0,0 +1,103 @@
+package com.ocp.ocp_finalproject.message.converter;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJackson2MessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+/**
+ * Jackson Smile(바이너리 JSON) 메시지 컨버터.
+ *
+ * <p>필드명은 같은 메시지 안에서 back-reference 로 한 번만 기록되고 숫자·길이는 바이너리로 쓰인다.
+ * 본문이 {@code compressionThreshold} 를 넘으면 gzip 으로 압축하고 content-encoding 에 gzip 을 남긴다.
+ * 스키마가 바뀌면 {@link #SCHEMA_VERSION} 을 올려, 소비자가 x-schema-version 헤더로 호환 여부를 판단하게 한다.</p>
+ */
+public class SmileMessageConverter extends AbstractJackson2MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-jackson-smile";
+    public static final String SCHEMA_VERSION_HEADER = "x-schema-version";
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final String GZIP = "gzip";
+
+    private final int compressionThreshold;
+
+    public SmileMessageConverter(int compressionThreshold, String... trustedPackages) {
+        // Jackson2JsonMessageConverter 기본 ObjectMapper 와 같은 설정 (모르는 필드 무시, 클래스패스의 모듈 등록)
+        super(SmileMapper.builder()
+                        .findAndAddModules()
+                        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                        .build(),
+                MimeType.valueOf(CONTENT_TYPE), trustedPackages);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    protected Message createMessage(Object objectToConvert, MessageProperties messageProperties,
+                                    @Nullable Type genericType) {
+        Message message = super.createMessage(objectToConvert, messageProperties, genericType);
+        MessageProperties properties = message.getMessageProperties();
+        properties.setHeader(SCHEMA_VERSION_HEADER, SCHEMA_VERSION);
+        // 바이너리 본문이므로 문자셋 인코딩은 두지 않는다.
+        properties.setContentEncoding(null);
+
+        byte[] body = message.getBody();
+        if (body.length <= compressionThreshold) {
+            return message;
+        }
+        properties.setContentEncoding(GZIP);
+        properties.setContentLength(0);
+        return new Message(gzip(body), properties);
+    }
+
+    @Override
+    public Object fromMessage(Message message, @Nullable Object conversionHint) throws MessageConversionException {
+        MessageProperties properties = message.getMessageProperties();
+        Object schemaVersion = properties.getHeader(SCHEMA_VERSION_HEADER);
+        if (schemaVersion != null && Integer.parseInt(schemaVersion.toString()) > SCHEMA_VERSION) {
+            throw new MessageConversionException("지원하지 않는 메시지 스키마 버전입니다. version=" + schemaVersion);
+        }
+
+        byte[] body = message.getBody();
+        if (properties.getContentEncoding() != null && properties.getContentEncoding().startsWith(GZIP)) {
+            body = gunzip(body);
+        }
+        // 상위 클래스는 본문을 문자셋으로 문자열 변환한 뒤 읽으므로 (Smile 파서는 문자 입력을 받지 않음)
+        // 대상 타입만 타입 매퍼(리스너 인자 타입 또는 __TypeId__ 헤더, 신뢰 패키지 검사)로 정하고 바이트 그대로 읽는다.
+        JavaType targetType = getJavaTypeMapper().toJavaType(properties);
+        try {
+            return objectMapper.readValue(body, targetType);
+        } catch (IOException e) {
+            throw new MessageConversionException("Smile 메시지 변환 실패", e);
+        }
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new MessageConversionException("메시지 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] gunzip(byte[] body) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new MessageConversionException("메시지 압축 해제 실패", e);
+        }
+    }
+}
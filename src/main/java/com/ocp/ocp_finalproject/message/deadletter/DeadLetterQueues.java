@@ -0,0 +1,56 @@
+package com.ocp.ocp_finalproject.message.deadletter;
+
+import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
+import java.util.List;
+
+/**
+ * 작업 큐별 dead-letter / 재시도 / parking 큐 이름 규칙.
+ *
+ * <p>작업 큐에서 reject(requeue=false) 된 메시지는 {@link #DEAD_LETTER_EXCHANGE} 를 거쳐 {@code {queue}.dlq} 로 가고,
+ * 라우터가 재시도 횟수에 따라 {@code {queue}.retry.{n}} (TTL 만료 시 작업 큐로 복귀) 또는 {@code {queue}.parking} 으로 옮긴다.</p>
+ */
+public final class DeadLetterQueues {
+
+    public static final String DEAD_LETTER_EXCHANGE = "ocp.dlx";
+
+    public static final String DEAD_LETTER_SUFFIX = ".dlq";
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+    public static final String PARKED_AT_HEADER = "x-parked-at";
+    public static final String PARKED_REASON_HEADER = "x-parked-reason";
+
+    /**
+     * dead-letter 토폴로지를 적용하는 작업 큐.
+     */
+    public static final List<String> WORK_QUEUES = List.of(
+            RabbitConfig.CONTENT_GENERATE_QUEUE,
+            RabbitConfig.BLOG_UPLOAD_QUEUE,
+            RabbitConfig.WORK_RESULT_QUEUE
+    );
+
+    private DeadLetterQueues() {
+    }
+
+    public static String deadLetter(String queue) {
+        return queue + DEAD_LETTER_SUFFIX;
+    }
+
+    public static String retry(String queue, int retry) {
+        return queue + ".retry." + retry;
+    }
+
+    public static String parking(String queue) {
+        return queue + ".parking";
+    }
+
+    /**
+     * dead-letter 큐 이름에서 작업 큐 이름을 돌려준다. 규칙에 맞지 않으면 null.
+     */
+    public static String workQueueOf(String deadLetterQueue) {
+        if (deadLetterQueue == null || !deadLetterQueue.endsWith(DEAD_LETTER_SUFFIX)) {
+            return null;
+        }
+        String queue = deadLetterQueue.substring(0, deadLetterQueue.length() - DEAD_LETTER_SUFFIX.length());
+        return WORK_QUEUES.contains(queue) ? queue : null;
+    }
+}
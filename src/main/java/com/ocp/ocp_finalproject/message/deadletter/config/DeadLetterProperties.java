@@ -0,0 +1,41 @@
+package com.ocp.ocp_finalproject.message.deadletter.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rabbit.dead-letter")
+public class DeadLetterProperties {
+
+    /**
+     * 재시도 큐를 거치는 최대 횟수. 모두 실패하면 parking 큐로 옮긴다.
+     * 재시도 큐 개수가 바뀌므로 운영 중 줄이면 남는 재시도 큐는 직접 지워야 한다.
+     */
+    private int maxRetries = 3;
+
+    /**
+     * 첫 재시도 지연. n 번째 재시도는 initialDelay * multiplier^(n-1) 뒤에 작업 큐로 돌아간다.
+     */
+    private Duration initialDelay = Duration.ofSeconds(10);
+
+    private double multiplier = 4.0;
+
+    /**
+     * 재시도/parking 큐로 옮길 때와 재처리(replay) 시 publisher confirm 대기 시간.
+     */
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 관리자 API 한 번에 조회/재처리할 수 있는 최대 메시지 수.
+     */
+    private int maxBatchSize = 500;
+
+    public Duration retryDelay(int retry) {
+        return Duration.ofMillis((long) (initialDelay.toMillis() * Math.pow(multiplier, retry - 1)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.ocp.ocp_finalproject.message.deadletter.controller;
+
+import com.ocp.ocp_finalproject.common.response.ApiResult;
+import com.ocp.ocp_finalproject.message.deadletter.dto.response.ParkedMessagesResponse;
+import com.ocp.ocp_finalproject.message.deadletter.dto.response.ParkedReplayResponse;
+import com.ocp.ocp_finalproject.message.deadletter.service.ParkedMessageService;
+import com.ocp.ocp_finalproject.user.domain.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/messages")
+public class AdminDeadLetterController {
+
+    private final ParkedMessageService parkedMessageService;
+
+    /**
+     * parking 메시지 조회(관리자)
+     * 재시도를 모두 소진한 메시지를 큐 앞쪽부터 limit 건 보여준다. (조회만 하고 큐에서 빼지 않는다)
+     */
+    @GetMapping("/{queue}/parking")
+    public ResponseEntity<ApiResult<ParkedMessagesResponse>> getParkedMessages(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable String queue,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        ParkedMessagesResponse parkedMessages = parkedMessageService.getParkedMessages(principal, queue, limit);
+
+        return ResponseEntity.ok(ApiResult.success("parking 메시지 조회 성공(관리자)", parkedMessages));
+    }
+
+    /**
+     * parking 메시지 일괄 재처리(관리자)
+     * 큐 앞쪽부터 limit 건을 작업 큐로 다시 보낸다. 재시도 횟수는 초기화된다.
+     */
+    @PostMapping("/{queue}/parking/replay")
+    public ResponseEntity<ApiResult<ParkedReplayResponse>> replayParkedMessages(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable String queue,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        ParkedReplayResponse replay = parkedMessageService.replay(principal, queue, limit);
+
+        return ResponseEntity.ok(ApiResult.success("parking 메시지 재처리 성공(관리자)", replay));
+    }
+}
@@ -0,0 +1,30 @@
+package com.ocp.ocp_finalproject.message.deadletter.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ParkedMessageResponse {
+
+    private final String messageId;
+
+    // 발행 시 DTO 타입 (__TypeId__)
+    private final String typeId;
+
+    private final String contentType;
+
+    private final int retryCount;
+
+    // 마지막 dead-letter 사유 (rejected / expired / maxlen)
+    private final String reason;
+
+    private final String parkedAt;
+
+    private final int bodySize;
+
+    // JSON 본문 앞부분 (바이너리 인코딩이면 null)
+    private final String bodyPreview;
+}
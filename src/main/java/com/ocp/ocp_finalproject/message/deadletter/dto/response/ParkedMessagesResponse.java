@@ -0,0 +1,23 @@
+package com.ocp.ocp_finalproject.message.deadletter.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ParkedMessagesResponse {
+
+    private final String queue;
+
+    private final String parkingQueue;
+
+    // parking 큐 전체 메시지 수
+    private final long parkedCount;
+
+    // 큐 앞쪽부터 최대 limit 건 (조회한 메시지는 그대로 큐에 남는다)
+    private final List<ParkedMessageResponse> messages;
+}
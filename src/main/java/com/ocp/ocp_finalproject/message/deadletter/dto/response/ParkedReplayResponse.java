@@ -0,0 +1,18 @@
+package com.ocp.ocp_finalproject.message.deadletter.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ParkedReplayResponse {
+
+    private final String queue;
+
+    private final int replayed;
+
+    // 재처리 후 parking 큐에 남은 메시지 수
+    private final long remaining;
+}
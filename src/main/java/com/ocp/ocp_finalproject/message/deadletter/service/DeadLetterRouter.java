@@ -0,0 +1,90 @@
+package com.ocp.ocp_finalproject.message.deadletter.service;
+
+import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
+import com.ocp.ocp_finalproject.message.deadletter.DeadLetterQueues;
+import com.ocp.ocp_finalproject.message.deadletter.config.DeadLetterProperties;
+import com.ocp.ocp_finalproject.message.publisher.ConfirmingPublisher;
+import com.ocp.ocp_finalproject.message.publisher.ConfirmingPublisher.OutgoingMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 큐에서 reject 된 메시지를 재시도 큐 또는 parking 큐로 옮긴다.
+ *
+ * <p>{@value DeadLetterQueues#RETRY_COUNT_HEADER} 헤더로 재시도 횟수를 센다. 횟수가 남았으면 다음 단계의 재시도 큐
+ * (TTL 이 지나면 작업 큐로 복귀)로, 모두 소진했으면 parking 큐로 보낸다. 옮긴 메시지의 publisher confirm 을 받은 뒤에
+ * ack 하므로 브로커 장애 시 메시지는 dead-letter 큐에 남는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterRouter {
+
+    private final ConfirmingPublisher confirmingPublisher;
+    private final DeadLetterProperties deadLetterProperties;
+    private final MeterRegistry meterRegistry;
+
+    @RabbitListener(queues = {
+            RabbitConfig.CONTENT_GENERATE_DEAD_LETTER_QUEUE,
+            RabbitConfig.BLOG_UPLOAD_DEAD_LETTER_QUEUE,
+            RabbitConfig.WORK_RESULT_DEAD_LETTER_QUEUE
+    })
+    public void route(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        String queue = DeadLetterQueues.workQueueOf(properties.getConsumerQueue());
+        if (queue == null) {
+            throw new AmqpRejectAndDontRequeueException("알 수 없는 dead-letter 큐: " + properties.getConsumerQueue());
+        }
+
+        int retries = retryCount(properties);
+        String target;
+        if (retries < deadLetterProperties.getMaxRetries()) {
+            properties.setHeader(DeadLetterQueues.RETRY_COUNT_HEADER, retries + 1);
+            target = DeadLetterQueues.retry(queue, retries + 1);
+            count(queue, "retried");
+        } else {
+            properties.setHeader(DeadLetterQueues.PARKED_AT_HEADER, LocalDateTime.now().toString());
+            properties.setHeader(DeadLetterQueues.PARKED_REASON_HEADER, deathReason(properties));
+            target = DeadLetterQueues.parking(queue);
+            count(queue, "parked");
+            log.warn("메시지 parking - queue={} messageId={} retries={}", queue, properties.getMessageId(), retries);
+        }
+
+        // confirm 실패 시 예외로 nack(requeue) 되어 dead-letter 큐에서 다시 처리된다.
+        confirmingPublisher.publish(new OutgoingMessage("", target, message)).join();
+    }
+
+    static int retryCount(MessageProperties properties) {
+        Object retries = properties.getHeader(DeadLetterQueues.RETRY_COUNT_HEADER);
+        return retries == null ? 0 : Integer.parseInt(retries.toString());
+    }
+
+    static String deathReason(MessageProperties properties) {
+        // x-death 는 가장 최근 dead-letter 기록이 맨 앞이다.
+        List<Map<String, ?>> deaths = properties.getXDeathHeader();
+        if (deaths == null || deaths.isEmpty()) {
+            return "unknown";
+        }
+        Object reason = deaths.get(0).get("reason");
+        return reason == null ? "unknown" : reason.toString();
+    }
+
+    private void count(String queue, String result) {
+        Counter.builder("rabbit.dead_letter.routed")
+                .description("dead-letter 메시지 재시도/parking 처리 수")
+                .tag("queue", queue)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
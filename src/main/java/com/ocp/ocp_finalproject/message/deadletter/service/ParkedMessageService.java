@@ -0,0 +1,199 @@
+package com.ocp.ocp_finalproject.message.deadletter.service;
+
+import com.ocp.ocp_finalproject.common.exception.CustomException;
+import com.ocp.ocp_finalproject.message.deadletter.DeadLetterQueues;
+import com.ocp.ocp_finalproject.message.deadletter.config.DeadLetterProperties;
+import com.ocp.ocp_finalproject.message.deadletter.dto.response.ParkedMessageResponse;
+import com.ocp.ocp_finalproject.message.deadletter.dto.response.ParkedMessagesResponse;
+import com.ocp.ocp_finalproject.message.deadletter.dto.response.ParkedReplayResponse;
+import com.ocp.ocp_finalproject.user.domain.User;
+import com.ocp.ocp_finalproject.user.domain.UserPrincipal;
+import com.ocp.ocp_finalproject.user.enums.UserRole;
+import com.ocp.ocp_finalproject.user.repository.UserRepository;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.stereotype.Service;
+
+import static com.ocp.ocp_finalproject.common.exception.ErrorCode.*;
+
+/**
+ * parking 큐 조회 / 일괄 재처리(관리자).
+ *
+ * <p>조회는 basic.get 으로 앞쪽 메시지를 ack 없이 읽은 뒤 모두 requeue 하므로 큐에서 빠지지 않는다.
+ * 재처리는 읽은 메시지를 재시도 헤더를 지워 작업 큐로 다시 보내고, publisher confirm 을 받은 뒤에 한 번에 ack 한다.
+ * confirm 전에 실패하면 읽은 메시지를 모두 requeue 하므로 일부는 작업 큐와 parking 큐에 중복될 수 있다. (at-least-once)</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParkedMessageService {
+
+    private static final String UTF_8 = StandardCharsets.UTF_8.name();
+    private static final int PREVIEW_LENGTH = 500;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final DeadLetterProperties deadLetterProperties;
+    private final UserRepository userRepository;
+
+    private final MessagePropertiesConverter messagePropertiesConverter = new DefaultMessagePropertiesConverter();
+
+    public ParkedMessagesResponse getParkedMessages(UserPrincipal principal, String queue, int limit) {
+        validateAndGetUser(principal);
+        validateQueue(queue);
+        String parkingQueue = DeadLetterQueues.parking(queue);
+        int size = batchSize(limit);
+
+        try {
+            return rabbitTemplate.execute(channel -> {
+                List<ParkedMessageResponse> messages = new ArrayList<>();
+                long lastDeliveryTag = -1L;
+                try {
+                    while (messages.size() < size) {
+                        GetResponse response = channel.basicGet(parkingQueue, false);
+                        if (response == null) {
+                            break;
+                        }
+                        lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                        messages.add(toResponse(response));
+                    }
+                } finally {
+                    if (lastDeliveryTag >= 0) {
+                        channel.basicNack(lastDeliveryTag, true, true);
+                    }
+                }
+
+                return ParkedMessagesResponse.builder()
+                        .queue(queue)
+                        .parkingQueue(parkingQueue)
+                        .parkedCount(channel.queueDeclarePassive(parkingQueue).getMessageCount())
+                        .messages(messages)
+                        .build();
+            });
+        } catch (AmqpException e) {
+            log.error("parking 메시지 조회 실패 - queue={}", parkingQueue, e);
+            throw new CustomException(PARKED_MESSAGE_FETCH_FAILED);
+        }
+    }
+
+    public ParkedReplayResponse replay(UserPrincipal principal, String queue, int limit) {
+        validateAndGetUser(principal);
+        validateQueue(queue);
+        String parkingQueue = DeadLetterQueues.parking(queue);
+        int size = batchSize(limit);
+
+        try {
+            ParkedReplayResponse result = rabbitTemplate.execute(channel -> {
+                channel.confirmSelect();
+                int replayed = 0;
+                long lastDeliveryTag = -1L;
+                try {
+                    while (replayed < size) {
+                        GetResponse response = channel.basicGet(parkingQueue, false);
+                        if (response == null) {
+                            break;
+                        }
+                        lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                        channel.basicPublish("", queue, false, replayProperties(response), response.getBody());
+                        replayed++;
+                    }
+                    if (lastDeliveryTag >= 0) {
+                        channel.waitForConfirmsOrDie(deadLetterProperties.getConfirmTimeout().toMillis());
+                        channel.basicAck(lastDeliveryTag, true);
+                    }
+                } catch (Exception e) {
+                    if (lastDeliveryTag >= 0) {
+                        channel.basicNack(lastDeliveryTag, true, true);
+                    }
+                    throw e;
+                }
+
+                return ParkedReplayResponse.builder()
+                        .queue(queue)
+                        .replayed(replayed)
+                        .remaining(channel.queueDeclarePassive(parkingQueue).getMessageCount())
+                        .build();
+            });
+            log.info("parking 메시지 재처리 - queue={} replayed={} remaining={}",
+                    queue, result.getReplayed(), result.getRemaining());
+            return result;
+        } catch (AmqpException e) {
+            log.error("parking 메시지 재처리 실패 - queue={}", parkingQueue, e);
+            throw new CustomException(PARKED_MESSAGE_REPLAY_FAILED);
+        }
+    }
+
+    /**
+     * 재시도 횟수를 초기화해 작업 큐에서 처음 받은 메시지처럼 다시 재시도 단계를 거치게 한다.
+     */
+    private AMQP.BasicProperties replayProperties(GetResponse response) {
+        MessageProperties properties = messagePropertiesConverter.toMessageProperties(
+                response.getProps(), response.getEnvelope(), UTF_8);
+        Map<String, Object> headers = properties.getHeaders();
+        headers.remove(DeadLetterQueues.RETRY_COUNT_HEADER);
+        headers.remove(DeadLetterQueues.PARKED_AT_HEADER);
+        headers.remove(DeadLetterQueues.PARKED_REASON_HEADER);
+        headers.remove("x-death");
+        return messagePropertiesConverter.fromMessageProperties(properties, UTF_8);
+    }
+
+    private ParkedMessageResponse toResponse(GetResponse response) {
+        MessageProperties properties = messagePropertiesConverter.toMessageProperties(
+                response.getProps(), response.getEnvelope(), UTF_8);
+        byte[] body = response.getBody();
+        String contentEncoding = properties.getContentEncoding();
+        boolean json = properties.getContentType() != null && properties.getContentType().contains("json")
+                && (contentEncoding == null || !contentEncoding.startsWith("gzip"));
+
+        Object parkedAt = properties.getHeader(DeadLetterQueues.PARKED_AT_HEADER);
+        Object typeId = properties.getHeader("__TypeId__");
+        return ParkedMessageResponse.builder()
+                .messageId(properties.getMessageId())
+                .typeId(typeId == null ? null : typeId.toString())
+                .contentType(properties.getContentType())
+                .retryCount(DeadLetterRouter.retryCount(properties))
+                .reason(DeadLetterRouter.deathReason(properties))
+                .parkedAt(parkedAt == null ? null : parkedAt.toString())
+                .bodySize(body.length)
+                .bodyPreview(json ? preview(body) : null)
+                .build();
+    }
+
+    private String preview(byte[] body) {
+        String text = new String(body, StandardCharsets.UTF_8);
+        return text.length() <= PREVIEW_LENGTH ? text : text.substring(0, PREVIEW_LENGTH) + "...";
+    }
+
+    private int batchSize(int limit) {
+        return Math.max(1, Math.min(limit, deadLetterProperties.getMaxBatchSize()));
+    }
+
+    private void validateQueue(String queue) {
+        if (!DeadLetterQueues.WORK_QUEUES.contains(queue)) {
+            throw new CustomException(DEAD_LETTER_QUEUE_NOT_FOUND);
+        }
+    }
+
+    private void validateAndGetUser(UserPrincipal principal) {
+        if (principal == null || principal.getUser() == null) {
+            throw new CustomException(UNAUTHORIZED);
+        }
+
+        User user = userRepository.findById(principal.getUser().getId())
+                .orElseThrow(() -> new CustomException(USER_NOT_FOUND));
+
+        if (user.getRole() != UserRole.ADMIN) {
+            throw new CustomException(ACCESS_DENIED);
+        }
+    }
+}
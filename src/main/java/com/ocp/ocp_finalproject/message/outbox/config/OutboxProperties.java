@@ -0,0 +1,99 @@
+package com.ocp.ocp_finalproject.message.outbox.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    private Relay relay = new Relay();
+
+    private Fair fair = new Fair();
+
+    @Getter
+    @Setter
+    public static class Relay {
+        /**
+         * 릴레이 사용 여부. 끄면 아웃박스에 쌓이기만 한다.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 아웃박스 폴링 주기.
+         */
+        private Duration fixedDelay = Duration.ofMillis(500);
+
+        /**
+         * 한 번에 선점해 발행할 메시지 수. 배치 단위로 publisher confirm 을 기다린다.
+         */
+        private int batchSize = 200;
+
+        /**
+         * 배치 전체의 publisher confirm 대기 시간. 발행기 재전송(rabbit.publisher.*)이 끝날 만큼 길어야 한다.
+         */
+        private Duration confirmTimeout = Duration.ofSeconds(20);
+
+        /**
+         * 최대 발행 시도 횟수. 넘기면 FAILED 로 남긴다.
+         */
+        private int maxAttempts = 10;
+
+        /**
+         * 첫 재시도 대기 시간 (시도마다 두 배).
+         */
+        private Duration backoff = Duration.ofSeconds(1);
+
+        /**
+         * 발행 완료 메시지 보관 기간.
+         */
+        private Duration retention = Duration.ofDays(3);
+    }
+
+    @Getter
+    @Setter
+    public static class Fair {
+        /**
+         * 사용자별 공정 분배 사용 여부. 끄면 fair_key 가 있는 메시지도 일반 릴레이가 저장 순서대로 발행한다.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 공정 분배 메시지 전체 발행 속도 (노드별, 초당).
+         */
+        private double permitsPerSecond = 20.0;
+
+        /**
+         * 한 번에 몰아서 발행할 수 있는 최대 수 (토큰 버킷 용량).
+         */
+        private int burst = 50;
+
+        /**
+         * 분배 주기.
+         */
+        private Duration fixedDelay = Duration.ofMillis(500);
+
+        /**
+         * 사용자별 가중치 (fair_key = 사용자 id). 라운드마다 가중치만큼 발행한다. 지정하지 않으면 defaultWeight.
+         */
+        private Map<String, Integer> weights = new HashMap<>();
+
+        private int defaultWeight = 1;
+
+        /**
+         * 사용자별 적체 지표(outbox.fair.backlog)를 남길 최대 사용자 수 (적체가 큰 순).
+         */
+        private int metricsTopUsers = 20;
+
+        public int weightOf(String fairKey) {
+            return Math.max(1, weights.getOrDefault(fairKey, defaultWeight));
+        }
+    }
+}
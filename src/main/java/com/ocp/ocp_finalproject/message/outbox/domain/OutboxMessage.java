@@ -0,0 +1,123 @@
+package com.ocp.ocp_finalproject.message.outbox.domain;
+
+import com.ocp.ocp_finalproject.common.entity.BaseEntity;
+import com.ocp.ocp_finalproject.message.outbox.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스. 업무 데이터와 같은 트랜잭션에서 저장되고, 릴레이가 RabbitMQ 로 발행한다.
+ * 본문은 RabbitTemplate 의 메시지 컨버터로 미리 직렬화해 두므로 발행되는 메시지는 직접 보낼 때와 같다.
+ */
+@Entity
+// 릴레이 선점 쿼리의 ORDER BY priority DESC, id ASC 를 인덱스 순서로 읽도록 priority 를 내림차순으로 둔다.
+// (정렬 없이 LIMIT 만큼만 읽으므로 SKIP LOCKED 선점이 filesort 로 전체 대기 행을 훑지 않는다)
+@Table(name = "outbox_message", indexes = {
+        @Index(name = "idx_outbox_message_status_priority",
+                columnList = "status, priority DESC, outbox_message_id, next_attempt_at"),
+        @Index(name = "idx_outbox_message_fair_key_status_priority",
+                columnList = "fair_key, status, priority DESC, outbox_message_id, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxMessage extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_message_id")
+    private Long id;
+
+    @Column(name = "exchange", nullable = false, length = 100)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false, length = 100)
+    private String routingKey;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "content_encoding", length = 50)
+    private String contentEncoding;
+
+    // Jackson 메시지 컨버터의 __TypeId__ 헤더 값
+    @Column(name = "type_id", length = 255)
+    private String typeId;
+
+    // Smile 컨버터의 x-schema-version 헤더 값 (JSON 이면 null)
+    @Column(name = "schema_version")
+    private Integer schemaVersion;
+
+    // AMQP 메시지 우선순위. 릴레이도 높은 것부터 발행한다. (NULL 은 DESC 정렬에서 맨 뒤로 밀리므로 항상 채운다)
+    @Column(name = "priority", nullable = false)
+    private Integer priority;
+
+    // 공정 분배 키 (사용자 id). 값이 있으면 공정 분배 릴레이가 사용자별 라운드 로빈으로 발행한다.
+    @Column(name = "fair_key", length = 50)
+    private String fairKey;
+
+    @Lob
+    @Column(name = "body", columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder(builderMethodName = "createBuilder")
+    public static OutboxMessage create(String exchange, String routingKey, String contentType, String contentEncoding,
+                                       String typeId, Integer schemaVersion, Integer priority, String fairKey,
+                                       byte[] body) {
+        OutboxMessage message = new OutboxMessage();
+        message.exchange = exchange;
+        message.routingKey = routingKey;
+        message.contentType = contentType;
+        message.contentEncoding = contentEncoding;
+        message.typeId = typeId;
+        message.schemaVersion = schemaVersion;
+        message.priority = priority;
+        message.fairKey = fairKey;
+        message.body = body;
+        message.status = OutboxStatus.PENDING;
+        message.attempts = 0;
+        message.nextAttemptAt = LocalDateTime.now();
+        return message;
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.status = OutboxStatus.SENT;
+        this.sentAt = sentAt;
+        this.lastError = null;
+    }
+
+    /**
+     * 발행 실패를 기록한다. 최대 시도 횟수를 넘기면 FAILED 로 두고 더 이상 발행하지 않는다.
+     */
+    public void markFailed(String error, int maxAttempts, Duration backoff, LocalDateTime now) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        // 시도할수록 대기 시간을 두 배씩 늘린다.
+        this.nextAttemptAt = now.plus(backoff.multipliedBy(1L << Math.min(this.attempts - 1, 10)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.ocp.ocp_finalproject.message.outbox.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공정 분배 키(사용자)별 발행 대기 메시지 수
+ */
+@Getter
+@AllArgsConstructor
+public class FairKeyBacklog {
+
+    private String fairKey;
+
+    private long count;
+}
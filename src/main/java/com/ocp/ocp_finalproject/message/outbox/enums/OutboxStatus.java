@@ -0,0 +1,18 @@
+package com.ocp.ocp_finalproject.message.outbox.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스 메시지 발행 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxStatus {
+
+    PENDING("발행 대기"),
+    SENT("발행 완료"),
+    FAILED("발행 실패");
+
+    private final String displayName;
+}
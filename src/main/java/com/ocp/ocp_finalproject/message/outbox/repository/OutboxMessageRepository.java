@@ -0,0 +1,102 @@
+package com.ocp.ocp_finalproject.message.outbox.repository;
+
+import com.ocp.ocp_finalproject.message.outbox.domain.OutboxMessage;
+import com.ocp.ocp_finalproject.message.outbox.dto.FairKeyBacklog;
+import com.ocp.ocp_finalproject.message.outbox.enums.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * 발행할 메시지를 우선순위가 높은 것부터, 같으면 저장 순서대로 선점한다. (status, priority DESC, id) 인덱스 순서 조회
+     * SKIP LOCKED(-2) 로 다른 노드의 릴레이가 잡은 행은 건너뛴다.
+     * includeFair 가 false 면 공정 분배 대상(fair_key 있음)은 공정 분배 릴레이에 맡기고 건너뛴다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT m
+        FROM OutboxMessage m
+        WHERE m.status = :status
+          AND m.nextAttemptAt <= :now
+          AND (m.fairKey IS NULL OR :includeFair = true)
+        ORDER BY m.priority DESC, m.id ASC
+    """)
+    List<OutboxMessage> findPublishable(
+            @Param("status") OutboxStatus status,
+            @Param("now") LocalDateTime now,
+            @Param("includeFair") boolean includeFair,
+            Pageable pageable
+    );
+
+    /**
+     * 공정 분배 키별 발행 대기 메시지 수
+     */
+    @Query("""
+        SELECT new com.ocp.ocp_finalproject.message.outbox.dto.FairKeyBacklog(
+            m.fairKey,
+            COUNT(m)
+        )
+        FROM OutboxMessage m
+        WHERE m.status = :status
+          AND m.nextAttemptAt <= :now
+          AND m.fairKey IS NOT NULL
+        GROUP BY m.fairKey
+    """)
+    List<FairKeyBacklog> countPublishableByFairKey(
+            @Param("status") OutboxStatus status,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 공정 분배 키 하나의 발행할 메시지를 선점한다. (fair_key, status, priority DESC, id) 인덱스 순서 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT m
+        FROM OutboxMessage m
+        WHERE m.fairKey = :fairKey
+          AND m.status = :status
+          AND m.nextAttemptAt <= :now
+        ORDER BY m.priority DESC, m.id ASC
+    """)
+    List<OutboxMessage> findPublishableByFairKey(
+            @Param("fairKey") String fairKey,
+            @Param("status") OutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 보관 기간이 지난 발행 완료 메시지 id (정리용)
+     */
+    @Query("""
+        SELECT m.id
+        FROM OutboxMessage m
+        WHERE m.status = :status
+          AND m.sentAt < :before
+        ORDER BY m.id ASC
+    """)
+    List<Long> findIdsByStatusAndSentAtBefore(
+            @Param("status") OutboxStatus status,
+            @Param("before") LocalDateTime before,
+            Pageable pageable
+    );
+
+    long countByStatus(OutboxStatus status);
+
+    long countByStatusAndRoutingKey(OutboxStatus status, String routingKey);
+}
@@ -0,0 +1,181 @@
+package com.ocp.ocp_finalproject.message.outbox.service;
+
+import com.ocp.ocp_finalproject.message.outbox.config.OutboxProperties;
+import com.ocp.ocp_finalproject.message.outbox.domain.OutboxMessage;
+import com.ocp.ocp_finalproject.message.outbox.dto.FairKeyBacklog;
+import com.ocp.ocp_finalproject.message.outbox.enums.OutboxStatus;
+import com.ocp.ocp_finalproject.message.outbox.repository.OutboxMessageRepository;
+import com.ocp.ocp_finalproject.scheduler.util.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 공정 분배 키(사용자)가 있는 아웃박스 메시지를 사용자별 가중 라운드 로빈으로 발행한다.
+ *
+ * <p>메시지를 저장 순서대로 내보내면 워크플로우가 많은 사용자 한 명이 큐를 채워 다른 사용자가 뒤로 밀린다.
+ * 여기서는 주기마다 토큰 버킷으로 발행량을 정하고, 사용자마다 라운드당 가중치만큼씩 나눠 준 뒤 사용자를 번갈아
+ * 가며 발행한다. 라운드 시작 위치는 직전에 마지막으로 배정받은 사용자 다음부터라 발행량이 적어도 돌아가며 기회를 얻는다.
+ * 처리율은 노드별로 적용된다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FairOutboxRelay {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxRelay outboxRelay;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong backlogUsers = new AtomicLong();
+    private final AtomicLong backlogTotal = new AtomicLong();
+    private TokenBucketRateLimiter rateLimiter;
+    private MultiGauge userBacklog;
+    private String lastServedKey;
+
+    @PostConstruct
+    void init() {
+        OutboxProperties.Fair fair = outboxProperties.getFair();
+        rateLimiter = new TokenBucketRateLimiter(Math.max(1, fair.getBurst()), fair.getPermitsPerSecond());
+        userBacklog = MultiGauge.builder("outbox.fair.backlog")
+                .description("사용자별 발행 대기 메시지 수 (적체가 큰 사용자만)")
+                .register(meterRegistry);
+        Gauge.builder("outbox.fair.backlog.users", backlogUsers, AtomicLong::get)
+                .description("발행 대기 메시지가 있는 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.fair.backlog.total", backlogTotal, AtomicLong::get)
+                .description("공정 분배 대상 발행 대기 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.fair.fixed-delay:PT0.5S}")
+    public void relay() {
+        OutboxProperties.Fair fair = outboxProperties.getFair();
+        if (!fair.isEnabled() || !outboxProperties.getRelay().isEnabled()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<FairKeyBacklog> backlogs = outboxMessageRepository.countPublishableByFairKey(OutboxStatus.PENDING, now);
+            recordBacklog(backlogs, fair);
+            if (backlogs.isEmpty()) {
+                return;
+            }
+
+            long total = backlogs.stream().mapToLong(FairKeyBacklog::getCount).sum();
+            int budget = rateLimiter.acquireUpTo((int) Math.min(total, fair.getBurst()));
+            if (budget == 0) {
+                return;
+            }
+
+            Map<String, Integer> allocation = allocate(backlogs, budget, fair);
+            transactionTemplate.executeWithoutResult(tx -> {
+                Map<String, List<OutboxMessage>> claimed = new LinkedHashMap<>();
+                allocation.forEach((fairKey, size) -> claimed.put(fairKey, outboxMessageRepository.findPublishableByFairKey(
+                        fairKey, OutboxStatus.PENDING, now, PageRequest.of(0, size))));
+                outboxRelay.publishClaimed(interleave(claimed, fair));
+            });
+        } catch (Exception e) {
+            log.error("공정 분배 릴레이 실패", e);
+        }
+    }
+
+    /**
+     * 발행량(budget)을 사용자별로 라운드당 가중치만큼 나눈다. 반환 순서가 배정 순서다.
+     */
+    private Map<String, Integer> allocate(List<FairKeyBacklog> backlogs, int budget, OutboxProperties.Fair fair) {
+        List<FairKeyBacklog> ordered = rotate(backlogs);
+        Map<String, Integer> allocation = new LinkedHashMap<>();
+        Map<String, Long> remaining = new LinkedHashMap<>();
+        ordered.forEach(backlog -> remaining.put(backlog.getFairKey(), backlog.getCount()));
+
+        int left = budget;
+        while (left > 0 && !remaining.isEmpty()) {
+            Iterator<Map.Entry<String, Long>> iterator = remaining.entrySet().iterator();
+            while (left > 0 && iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+                int share = (int) Math.min(Math.min(fair.weightOf(entry.getKey()), entry.getValue()), left);
+                allocation.merge(entry.getKey(), share, Integer::sum);
+                left -= share;
+                lastServedKey = entry.getKey();
+                if (entry.getValue() == share) {
+                    iterator.remove();
+                } else {
+                    entry.setValue(entry.getValue() - share);
+                }
+            }
+        }
+        return allocation;
+    }
+
+    /**
+     * 사용자 순서를 고정(fair_key 순)하고 직전에 마지막으로 배정받은 사용자 다음부터 시작한다.
+     */
+    private List<FairKeyBacklog> rotate(List<FairKeyBacklog> backlogs) {
+        List<FairKeyBacklog> sorted = new ArrayList<>(backlogs);
+        sorted.sort(Comparator.comparing(FairKeyBacklog::getFairKey));
+        if (lastServedKey == null) {
+            return sorted;
+        }
+        int start = 0;
+        while (start < sorted.size() && sorted.get(start).getFairKey().compareTo(lastServedKey) <= 0) {
+            start++;
+        }
+        List<FairKeyBacklog> rotated = new ArrayList<>(sorted.subList(start, sorted.size()));
+        rotated.addAll(sorted.subList(0, start));
+        return rotated;
+    }
+
+    /**
+     * 사용자별로 선점한 메시지를 라운드당 가중치만큼씩 번갈아 이어 붙인다. (브로커 큐에도 이 순서로 쌓인다)
+     */
+    private List<OutboxMessage> interleave(Map<String, List<OutboxMessage>> claimed, OutboxProperties.Fair fair) {
+        List<OutboxMessage> interleaved = new ArrayList<>();
+        Map<String, Iterator<OutboxMessage>> iterators = new LinkedHashMap<>();
+        claimed.forEach((fairKey, messages) -> iterators.put(fairKey, messages.iterator()));
+
+        while (!iterators.isEmpty()) {
+            Iterator<Map.Entry<String, Iterator<OutboxMessage>>> users = iterators.entrySet().iterator();
+            while (users.hasNext()) {
+                Map.Entry<String, Iterator<OutboxMessage>> user = users.next();
+                Iterator<OutboxMessage> messages = user.getValue();
+                for (int i = 0; i < fair.weightOf(user.getKey()) && messages.hasNext(); i++) {
+                    interleaved.add(messages.next());
+                }
+                if (!messages.hasNext()) {
+                    users.remove();
+                }
+            }
+        }
+        return interleaved;
+    }
+
+    private void recordBacklog(List<FairKeyBacklog> backlogs, OutboxProperties.Fair fair) {
+        backlogUsers.set(backlogs.size());
+        backlogTotal.set(backlogs.stream().mapToLong(FairKeyBacklog::getCount).sum());
+        userBacklog.register(backlogs.stream()
+                .sorted(Comparator.comparingLong(FairKeyBacklog::getCount).reversed())
+                .limit(fair.getMetricsTopUsers())
+                .<MultiGauge.Row<?>>map(backlog -> MultiGauge.Row.of(Tags.of("user_id", backlog.getFairKey()), backlog.getCount()))
+                .toList(), true);
+    }
+}
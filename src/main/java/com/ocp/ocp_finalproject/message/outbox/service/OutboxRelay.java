@@ -0,0 +1,180 @@
+package com.ocp.ocp_finalproject.message.outbox.service;
+
+import com.ocp.ocp_finalproject.message.converter.SmileMessageConverter;
+import com.ocp.ocp_finalproject.message.outbox.config.OutboxProperties;
+import com.ocp.ocp_finalproject.message.outbox.domain.OutboxMessage;
+import com.ocp.ocp_finalproject.message.outbox.enums.OutboxStatus;
+import com.ocp.ocp_finalproject.message.outbox.repository.OutboxMessageRepository;
+import com.ocp.ocp_finalproject.message.publisher.ConfirmingPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스에 쌓인 메시지를 RabbitMQ 로 발행한다.
+ *
+ * <p>배치 단위로 메시지를 선점(SKIP LOCKED)해 {@link ConfirmingPublisher} 로 모두 보낸 뒤 confirm 결과를
+ * 한꺼번에 반영하고, ack 받은 메시지만 SENT 로 바꾼다. 발행기 재전송까지 실패한 메시지는 백오프 후 다음 폴링에서 재시도한다.
+ * confirm 을 받지 못한 채 실제로는 전달됐을 수 있으므로 전달 보장은 at-least-once 이며,
+ * 소비자는 messageId(outbox-{id}) 나 workId 로 중복을 걸러야 한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final String MESSAGE_ID_PREFIX = "outbox-";
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ConfirmingPublisher confirmingPublisher;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay:PT0.5S}")
+    public void relay() {
+        OutboxProperties.Relay properties = outboxProperties.getRelay();
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        int claimed;
+        do {
+            try {
+                claimed = relayBatch(properties);
+            } catch (Exception e) {
+                log.error("아웃박스 릴레이 실패", e);
+                return;
+            }
+        } while (claimed == properties.getBatchSize());
+    }
+
+    private int relayBatch(OutboxProperties.Relay properties) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Integer claimed = transactionTemplate.execute(tx -> {
+            List<OutboxMessage> messages = outboxMessageRepository.findPublishable(OutboxStatus.PENDING,
+                    LocalDateTime.now(), !outboxProperties.getFair().isEnabled(), PageRequest.of(0, properties.getBatchSize()));
+            publishClaimed(messages);
+            return messages.size();
+        });
+        sample.stop(Timer.builder("outbox.relay.batch")
+                .description("아웃박스 배치 발행(confirm 포함) 소요 시간")
+                .register(meterRegistry));
+        return claimed == null ? 0 : claimed;
+    }
+
+    /**
+     * 선점한 메시지를 발행하고 confirm 결과를 반영한다. 선점한 트랜잭션 안에서 호출해야 한다.
+     */
+    void publishClaimed(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        OutboxProperties.Relay properties = outboxProperties.getRelay();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 배치 전체를 비동기로 보낸다. (같은 큐끼리 채널 하나로 연속 전송, nack 은 발행기가 재전송)
+        //    행 락을 잡은 채이므로 윈도우 자리를 confirm 대기 시간 이상 기다리지 않고, 못 보낸 메시지는 재시도로 넘긴다.
+        List<CompletableFuture<Void>> confirms = confirmingPublisher.publishAll(messages.stream()
+                .map(message -> new ConfirmingPublisher.OutgoingMessage(
+                        message.getExchange(), message.getRoutingKey(), toAmqpMessage(message)))
+                .toList(), properties.getConfirmTimeout());
+
+        // 2. 배치의 confirm 결과를 한 번에 반영한다.
+        long deadline = System.nanoTime() + properties.getConfirmTimeout().toNanos();
+        for (int i = 0; i < messages.size(); i++) {
+            OutboxMessage message = messages.get(i);
+            try {
+                confirms.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                message.markSent(LocalDateTime.now());
+                count("sent");
+            } catch (TimeoutException e) {
+                fail(message, "confirm timeout", properties, now);
+            } catch (ExecutionException e) {
+                fail(message, e.getCause() != null ? e.getCause().getMessage() : e.getMessage(), properties, now);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(message, "interrupted", properties, now);
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 메시지를 정리한다.
+     */
+    @Scheduled(cron = "${outbox.relay.purge-cron:0 0 * * * *}")
+    public void purgeSent() {
+        LocalDateTime before = LocalDateTime.now().minus(outboxProperties.getRelay().getRetention());
+        int purged = 0;
+        List<Long> ids;
+        do {
+            ids = outboxMessageRepository.findIdsByStatusAndSentAtBefore(
+                    OutboxStatus.SENT, before, PageRequest.of(0, PURGE_BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> batch = ids;
+            transactionTemplate.executeWithoutResult(tx -> outboxMessageRepository.deleteAllByIdInBatch(batch));
+            purged += ids.size();
+        } while (ids.size() == PURGE_BATCH_SIZE);
+
+        if (purged > 0) {
+            log.info("발행 완료 아웃박스 메시지 {}건 정리", purged);
+        }
+    }
+
+    private Message toAmqpMessage(OutboxMessage message) {
+        MessageBuilder builder = MessageBuilder.withBody(message.getBody());
+        builder.setContentType(message.getContentType())
+                .setContentEncoding(message.getContentEncoding())
+                .setMessageId(MESSAGE_ID_PREFIX + message.getId())
+                // 발행 시각. 워커가 결과와 함께 돌려줘 큐 대기 시간(rabbit.queue.wait)을 잰다. (AMQP timestamp 는 초 단위)
+                .setTimestamp(new Date())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        if (message.getTypeId() != null) {
+            builder.setHeader("__TypeId__", message.getTypeId());
+        }
+        if (message.getSchemaVersion() != null) {
+            builder.setHeader(SmileMessageConverter.SCHEMA_VERSION_HEADER, message.getSchemaVersion());
+        }
+        if (message.getPriority() != null) {
+            builder.setPriority(message.getPriority());
+        }
+        return builder.build();
+    }
+
+    private void fail(OutboxMessage message, String error, OutboxProperties.Relay properties, LocalDateTime now) {
+        message.markFailed(error, properties.getMaxAttempts(), properties.getBackoff(), now);
+        count(message.getStatus() == OutboxStatus.FAILED ? "failed" : "retry");
+        if (message.getStatus() == OutboxStatus.FAILED) {
+            log.error("아웃박스 메시지 {} 발행 포기 ({}회 시도) - {}", message.getId(), message.getAttempts(), error);
+        } else {
+            log.warn("아웃박스 메시지 {} 발행 실패, {} 재시도 - {}", message.getId(), message.getNextAttemptAt(), error);
+        }
+    }
+
+    private void count(String result) {
+        Counter.builder("outbox.relay.messages")
+                .description("아웃박스 릴레이 처리 메시지 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
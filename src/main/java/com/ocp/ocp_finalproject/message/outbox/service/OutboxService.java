@@ -0,0 +1,67 @@
+package com.ocp.ocp_finalproject.message.outbox.service;
+
+import com.ocp.ocp_finalproject.message.converter.MessageEncodingProperties;
+import com.ocp.ocp_finalproject.message.converter.SmileMessageConverter;
+import com.ocp.ocp_finalproject.message.outbox.domain.OutboxMessage;
+import com.ocp.ocp_finalproject.message.outbox.repository.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보낼 메시지를 아웃박스 테이블에 저장한다. 실제 발행은 {@link OutboxRelay} 가 한다.
+ *
+ * <p>호출한 쪽의 트랜잭션에 참여하므로 Work 생성 등 업무 데이터와 함께 커밋되거나 함께 롤백된다.
+ * 트랜잭션 밖에서 호출하면 메시지 1건을 저장하는 트랜잭션을 따로 연다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private static final String DEFAULT_EXCHANGE = "";
+
+    /**
+     * 우선순위를 따로 주지 않은 메시지의 우선순위. 우선순위 큐가 아니면 브로커는 이 값을 무시한다.
+     */
+    public static final int DEFAULT_PRIORITY = 0;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final MessageEncodingProperties messageEncodingProperties;
+
+    @Transactional
+    public OutboxMessage append(String queue, Object payload) {
+        return append(queue, payload, DEFAULT_PRIORITY, null);
+    }
+
+    /**
+     * @param priority AMQP 메시지 우선순위 (x-max-priority 가 선언된 큐에서만 의미가 있다). null 이면 {@link #DEFAULT_PRIORITY}
+     * @param fairKey  공정 분배 키 (사용자 id). null 이면 일반 릴레이가 저장 순서대로 발행한다.
+     */
+    @Transactional
+    public OutboxMessage append(String queue, Object payload, Integer priority, String fairKey) {
+        // 발행 시점이 아닌 지금 직렬화해 두어 릴레이는 바이트만 그대로 보낸다.
+        // 큐별 인코딩(content-type)에 따라 컨버터가 JSON / Smile 을 고른다.
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(messageEncodingProperties.encodingFor(queue).getContentType());
+        Message message = rabbitTemplate.getMessageConverter().toMessage(payload, messageProperties);
+        MessageProperties properties = message.getMessageProperties();
+
+        Object typeId = properties.getHeader("__TypeId__");
+        Object schemaVersion = properties.getHeader(SmileMessageConverter.SCHEMA_VERSION_HEADER);
+        return outboxMessageRepository.save(OutboxMessage.createBuilder()
+                .exchange(DEFAULT_EXCHANGE)
+                .routingKey(queue)
+                .contentType(properties.getContentType())
+                .contentEncoding(properties.getContentEncoding())
+                .typeId(typeId != null ? typeId.toString() : null)
+                .schemaVersion(schemaVersion != null ? Integer.valueOf(schemaVersion.toString()) : null)
+                .priority(priority != null ? priority : DEFAULT_PRIORITY)
+                .fairKey(fairKey)
+                .body(message.getBody())
+                .build());
+    }
+}
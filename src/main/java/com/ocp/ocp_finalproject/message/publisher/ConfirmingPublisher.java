@@ -0,0 +1,198 @@
+package com.ocp.ocp_finalproject.message.publisher;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 publisher confirm 기반 대량 발행기.
+ *
+ * <p>메시지마다 confirm 을 기다리지 않고 CorrelationData 의 future 로 결과를 받는다. 동시에 confirm 대기 중인
+ * 메시지 수는 in-flight 윈도우(세마포어)로 제한해 브로커와 메모리를 보호한다. 같은 exchange/큐로 가는 메시지는
+ * 채널 하나를 잡고({@link RabbitTemplate#invoke}) 연속으로 보낸다. 메시지 본문을 합치지 않으므로 소비자 쪽
+ * 포맷은 그대로다. nack 이나 confirm 타임아웃은 백오프 후 재전송하고, 라우팅 실패(return)는 재전송하지 않는다.
+ * 윈도우가 가득 차 정해진 시간 안에 자리가 나지 않으면 기다리지 않고 실패로 끝내, 호출한 쪽(아웃박스 릴레이 등)이
+ * 잡고 있는 락을 오래 쥐고 있지 않게 한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfirmingPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final PublisherProperties publisherProperties;
+    private final MeterRegistry meterRegistry;
+
+    private Semaphore inFlightWindow;
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong correlationSequence = new AtomicLong();
+    private ScheduledExecutorService retryExecutor;
+
+    @PostConstruct
+    void init() {
+        inFlightWindow = new Semaphore(Math.max(1, publisherProperties.getMaxInFlight()));
+        retryExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("rabbit-publish-retry")
+                .daemon(true)
+                .factory());
+        Gauge.builder("rabbit.publish.in_flight", inFlight, AtomicLong::get)
+                .description("confirm 대기 중인 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        retryExecutor.shutdownNow();
+    }
+
+    /**
+     * 메시지를 목록 순서대로 보낸다. 반환한 future 는 ack 를 받으면 완료되고, 재시도를 모두 실패하면 예외로 끝난다.
+     */
+    public List<CompletableFuture<Void>> publishAll(List<OutgoingMessage> messages) {
+        return publishAll(messages, publisherProperties.getConfirmTimeout());
+    }
+
+    /**
+     * @param windowTimeout 배치 전체가 in-flight 윈도우 자리를 기다릴 수 있는 시간. 넘기면 남은 메시지는 실패로 끝난다.
+     */
+    public List<CompletableFuture<Void>> publishAll(List<OutgoingMessage> messages, Duration windowTimeout) {
+        long windowDeadline = System.nanoTime() + windowTimeout.toNanos();
+        Map<String, List<Pending>> byDestination = new LinkedHashMap<>();
+        List<CompletableFuture<Void>> results = new ArrayList<>(messages.size());
+        for (OutgoingMessage message : messages) {
+            Pending pending = new Pending(message, new CompletableFuture<>());
+            byDestination.computeIfAbsent(message.exchange() + "/" + message.routingKey(), key -> new ArrayList<>())
+                    .add(pending);
+            results.add(pending.result());
+        }
+
+        for (List<Pending> batch : byDestination.values()) {
+            try {
+                rabbitTemplate.invoke(operations -> {
+                    batch.forEach(pending -> send(operations, pending, 1, windowDeadline));
+                    return null;
+                });
+            } catch (AmqpException e) {
+                // 채널을 얻지 못한 경우 (이미 보낸 메시지는 각자의 confirm 으로 처리된다)
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            }
+        }
+        return results;
+    }
+
+    public CompletableFuture<Void> publish(OutgoingMessage message) {
+        return publishAll(List.of(message)).get(0);
+    }
+
+    private void send(RabbitOperations operations, Pending pending, int attempt, long windowDeadline) {
+        if (pending.result().isDone()) {
+            return;
+        }
+        OutgoingMessage message = pending.message();
+        try {
+            if (!inFlightWindow.tryAcquire(Math.max(0, windowDeadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                count(message.routingKey(), "window_timeout");
+                pending.result().completeExceptionally(new AmqpException("in-flight 윈도우 대기 시간 초과"));
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.result().completeExceptionally(e);
+            return;
+        }
+        inFlight.incrementAndGet();
+
+        CorrelationData correlationData = new CorrelationData(String.valueOf(correlationSequence.incrementAndGet()));
+        long sentAt = System.nanoTime();
+        try {
+            operations.send(message.exchange(), message.routingKey(), message.message(), correlationData);
+        } catch (AmqpException e) {
+            release();
+            retryOrFail(pending, attempt, "send failed: " + e.getMessage());
+            return;
+        }
+
+        correlationData.getFuture()
+                .orTimeout(publisherProperties.getConfirmTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    release();
+                    confirmLatency(message.routingKey()).record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+                    if (error != null) {
+                        retryOrFail(pending, attempt, "confirm timeout");
+                    } else if (correlationData.getReturned() != null) {
+                        count(message.routingKey(), "returned");
+                        pending.result().completeExceptionally(new AmqpException(
+                                "라우팅되지 않은 메시지: " + correlationData.getReturned().getReplyText()));
+                    } else if (!confirm.isAck()) {
+                        count(message.routingKey(), "nacked");
+                        retryOrFail(pending, attempt, "nack: " + confirm.getReason());
+                    } else {
+                        count(message.routingKey(), "acked");
+                        pending.result().complete(null);
+                    }
+                });
+    }
+
+    private void retryOrFail(Pending pending, int attempt, String reason) {
+        String routingKey = pending.message().routingKey();
+        if (attempt >= publisherProperties.getMaxAttempts()) {
+            count(routingKey, "failed");
+            pending.result().completeExceptionally(new AmqpException(reason + " (" + attempt + "회 시도)"));
+            return;
+        }
+        count(routingKey, "retried");
+        long delayMillis = publisherProperties.getRetryBackoff().toMillis() * attempt;
+        retryExecutor.schedule(() -> send(rabbitTemplate, pending, attempt + 1,
+                System.nanoTime() + publisherProperties.getConfirmTimeout().toNanos()), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        inFlightWindow.release();
+    }
+
+    private Timer confirmLatency(String routingKey) {
+        return Timer.builder("rabbit.publish.confirm.latency")
+                .description("발행부터 publisher confirm 까지 걸린 시간")
+                .tag("routing_key", routingKey)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void count(String routingKey, String result) {
+        Counter.builder("rabbit.publish.messages")
+                .description("발행 메시지 수 (rate 로 처리량 확인)")
+                .tag("routing_key", routingKey)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public record OutgoingMessage(String exchange, String routingKey, Message message) {
+    }
+
+    private record Pending(OutgoingMessage message, CompletableFuture<Void> result) {
+    }
+}
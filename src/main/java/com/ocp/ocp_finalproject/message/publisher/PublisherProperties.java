@@ -0,0 +1,34 @@
+package com.ocp.ocp_finalproject.message.publisher;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rabbit.publisher")
+public class PublisherProperties {
+
+    /**
+     * confirm 을 받지 못한 채 보낼 수 있는 최대 메시지 수 (in-flight 윈도우).
+     */
+    private int maxInFlight = 1000;
+
+    /**
+     * nack / confirm 타임아웃 시 재전송을 포함한 최대 시도 횟수.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 재전송 대기 시간 (시도 횟수만큼 곱한다).
+     */
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+    /**
+     * 메시지 1건의 confirm 대기 시간.
+     */
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+}
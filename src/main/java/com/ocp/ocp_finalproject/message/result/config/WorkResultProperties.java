@@ -0,0 +1,31 @@
+package com.ocp.ocp_finalproject.message.result.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rabbit.work-result")
+public class WorkResultProperties {
+
+    /**
+     * 워커에게 결과 큐 이름을 전달할지 여부. 끄면 워커는 기존처럼 단계별 웹훅으로 결과를 보낸다.
+     * 큐 발행에 실패한 워커도 웹훅으로 대체 전송하므로 웹훅 엔드포인트는 그대로 유지한다.
+     * 현재 파이썬 워커는 resultQueue 를 읽지 않고 웹훅으로만 보내므로, 워커가 결과 큐 발행을 지원할 때까지 기본값은 끈다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 한 번에 소비해 한 트랜잭션으로 반영할 결과 메시지 수.
+     */
+    private int batchSize = 100;
+
+    /**
+     * 배치를 채우지 못했을 때 다음 메시지를 기다리는 최대 시간. 지나면 모인 만큼만 처리한다.
+     */
+    private Duration receiveTimeout = Duration.ofMillis(500);
+}
@@ -0,0 +1,9 @@
+package com.ocp.ocp_finalproject.message.result.dto;
+
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+
+/**
+ * 반영할 단계 결과 1건. request 는 type 에 맞는 웹훅 요청 DTO 다.
+ */
+public record WorkResult(WorkResultType type, Long workId, Object request) {
+}
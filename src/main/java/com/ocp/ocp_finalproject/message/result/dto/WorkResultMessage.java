@@ -0,0 +1,22 @@
+package com.ocp.ocp_finalproject.message.result.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 작업 결과 큐 메시지. payload 는 단계별 웹훅 요청 본문과 같은 형식이다.
+ * (KEYWORD_SELECT → KeywordSelectWebhookRequest, PRODUCT_SELECT → ProductSelectWebhookRequest,
+ * CONTENT_GENERATE → ContentGenerateWebhookRequest, BLOG_UPLOAD → BlogUploadWebhookRequest)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class WorkResultMessage {
+
+    private WorkResultType type;
+
+    private JsonNode payload;
+}
@@ -0,0 +1,16 @@
+package com.ocp.ocp_finalproject.message.result.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WorkResultType {
+
+    KEYWORD_SELECT("키워드 선택"),
+    PRODUCT_SELECT("상품 선택"),
+    CONTENT_GENERATE("콘텐츠 생성"),
+    BLOG_UPLOAD("블로그 업로드");
+
+    private final String displayName;
+}
@@ -0,0 +1,186 @@
+package com.ocp.ocp_finalproject.message.result.service;
+
+import com.ocp.ocp_finalproject.content.domain.AiContent;
+import com.ocp.ocp_finalproject.content.repository.AiContentRepository;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResult;
+import com.ocp.ocp_finalproject.work.domain.Work;
+import com.ocp.ocp_finalproject.work.dto.request.BlogUploadWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.ContentGenerateWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.KeywordSelectWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.ProductSelectWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.WebhookEvent;
+import com.ocp.ocp_finalproject.work.repository.WorkRepository;
+import com.ocp.ocp_finalproject.work.service.BlogUploadWebhookService;
+import com.ocp.ocp_finalproject.work.service.ContentGenerateWebhookService;
+import com.ocp.ocp_finalproject.work.service.KeywordSelectWebhookService;
+import com.ocp.ocp_finalproject.work.service.ProductSelectWebhookService;
+import com.ocp.ocp_finalproject.work.service.WebhookIdempotencyService;
+import com.ocp.ocp_finalproject.work.service.WorkEventLogService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 단계 결과 묶음을 한 트랜잭션으로 반영한다. (작업 결과 큐 배치 소비, 비동기 웹훅 처리 공용)
+ *
+ * <p>웹훅은 결과 1건마다 Work / AiContent 를 따로 조회하고 트랜잭션을 따로 열었다. 여기서는 묶음에 포함된
+ * Work 와 AiContent 를 각각 IN 쿼리 한 번으로 읽고 모든 상태 전이를 한 트랜잭션으로 반영한다.
+ * 상태 전이 자체는 웹훅 서비스의 {@code apply} 를 그대로 쓰므로 웹훅과 결과가 같다.</p>
+ *
+ * <p>묶음 트랜잭션이 실패하면 건별 트랜잭션으로 다시 반영해 실패한 결과만 돌려준다. 실패한 결과 뒤에 오는
+ * 같은 Work 의 결과는 반영하지 않고 함께 돌려주므로, 호출자가 다시 반영해도 단계 순서가 유지된다.
+ * Work 나 AiContent 가 없는 결과는 재시도해도 소용이 없으므로 버린다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkResultApplier {
+
+    private final WorkRepository workRepository;
+    private final AiContentRepository aiContentRepository;
+    private final KeywordSelectWebhookService keywordSelectWebhookService;
+    private final ProductSelectWebhookService productSelectWebhookService;
+    private final ContentGenerateWebhookService contentGenerateWebhookService;
+    private final BlogUploadWebhookService blogUploadWebhookService;
+    private final WebhookIdempotencyService webhookIdempotencyService;
+    private final WorkEventLogService workEventLogService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param source 메트릭 태그 (queue, webhook)
+     * @return 반영에 실패한 결과 (입력 순서 유지)
+     */
+    public List<WorkResult> apply(List<WorkResult> results, String source) {
+        if (results.isEmpty()) {
+            return List.of();
+        }
+        try {
+            List<WorkResult> skipped = transactionTemplate.execute(tx -> applyAll(results));
+            count(results, skipped, source);
+            return List.of();
+        } catch (RuntimeException e) {
+            log.warn("작업 결과 묶음 반영 실패, 건별로 다시 반영 - source={} size={}", source, results.size(), e);
+            return applyOneByOne(results, source);
+        }
+    }
+
+    private List<WorkResult> applyOneByOne(List<WorkResult> results, String source) {
+        List<WorkResult> failed = new ArrayList<>();
+        Set<Long> failedWorkIds = new HashSet<>();
+        for (WorkResult result : results) {
+            // 앞 단계 결과가 실패한 Work 의 뒤 결과는 순서가 뒤바뀌지 않도록 반영하지 않고 함께 돌려준다.
+            if (failedWorkIds.contains(result.workId())) {
+                failed.add(result);
+                continue;
+            }
+            try {
+                List<WorkResult> skipped = transactionTemplate.execute(tx -> applyAll(List.of(result)));
+                count(List.of(result), skipped, source);
+            } catch (RuntimeException e) {
+                log.error("작업 결과 반영 실패 - source={} type={} workId={}", source, result.type(), result.workId(), e);
+                count(result, "failed", source);
+                failed.add(result);
+                failedWorkIds.add(result.workId());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * @return 중복 전송이거나 Work / AiContent 가 없어 버린 결과
+     */
+    private List<WorkResult> applyAll(List<WorkResult> results) {
+        List<WorkResult> skipped = new ArrayList<>();
+        // 이미 처리한 결과는 엔티티를 읽기 전에 거른다.
+        List<WorkResult> fresh = new ArrayList<>(results.size());
+        for (WorkResult result : results) {
+            if (webhookIdempotencyService.tryRegister(result.type(), (WebhookEvent) result.request())) {
+                fresh.add(result);
+            } else {
+                skipped.add(result);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return skipped;
+        }
+
+        // 결과를 이벤트 로그에 남긴다. 비동기 반영 모드면 Work / AiContent 반영은 프로젝터가 한다.
+        if (workEventLogService.appendAll(fresh)) {
+            return skipped;
+        }
+        skipped.addAll(project(fresh));
+        return skipped;
+    }
+
+    /**
+     * Work 와 AiContent 를 IN 쿼리로 읽어 결과를 순서대로 반영한다. 호출자의 트랜잭션 안에서 실행한다.
+     * 사용처: applyAll (바로 반영), WorkEventProjector (비동기 반영)
+     *
+     * @return Work 나 AiContent 가 없어 버린 결과
+     */
+    public List<WorkResult> project(List<WorkResult> results) {
+        Set<Long> workIds = results.stream()
+                .map(WorkResult::workId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Work> works = workRepository.findAllWithWorkflowByIdIn(workIds).stream()
+                .collect(Collectors.toMap(Work::getId, Function.identity()));
+        Map<Long, AiContent> aiContents = aiContentRepository.findByWorkIdIn(workIds).stream()
+                .collect(Collectors.toMap(aiContent -> aiContent.getWork().getId(), Function.identity(), (first, second) -> first));
+
+        List<WorkResult> skipped = new ArrayList<>();
+        // 같은 Work 의 단계 결과가 한 묶음에 섞여 있어도 수신 순서대로 반영한다.
+        for (WorkResult result : results) {
+            Work work = works.get(result.workId());
+            AiContent aiContent = aiContents.get(result.workId());
+            if (work == null || aiContent == null) {
+                log.warn("작업 결과 대상 없음, 버림 - type={} workId={} work={} aiContent={}",
+                        result.type(), result.workId(), work != null, aiContent != null);
+                skipped.add(result);
+                continue;
+            }
+            apply(result, work, aiContent);
+        }
+        return skipped;
+    }
+
+    private void apply(WorkResult result, Work work, AiContent aiContent) {
+        switch (result.type()) {
+            case KEYWORD_SELECT ->
+                    keywordSelectWebhookService.apply((KeywordSelectWebhookRequest) result.request(), work, aiContent);
+            case PRODUCT_SELECT ->
+                    productSelectWebhookService.apply((ProductSelectWebhookRequest) result.request(), work, aiContent);
+            case CONTENT_GENERATE ->
+                    contentGenerateWebhookService.apply((ContentGenerateWebhookRequest) result.request(), work, aiContent);
+            case BLOG_UPLOAD ->
+                    blogUploadWebhookService.apply((BlogUploadWebhookRequest) result.request(), work, aiContent);
+        }
+    }
+
+    private void count(List<WorkResult> results, List<WorkResult> skipped, String source) {
+        for (WorkResult result : results) {
+            count(result, skipped != null && skipped.contains(result) ? "skipped" : "applied", source);
+        }
+    }
+
+    private void count(WorkResult result, String outcome, String source) {
+        Counter.builder("work.result.applied")
+                .description("단계 결과 반영 수")
+                .tag("source", source)
+                .tag("type", result.type().name())
+                .tag("result", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
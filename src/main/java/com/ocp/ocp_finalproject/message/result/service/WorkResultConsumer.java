@@ -0,0 +1,97 @@
+package com.ocp.ocp_finalproject.message.result.service;
+
+import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResult;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResultMessage;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워커가 단계별 결과를 발행하는 작업 결과 큐를 배치로 소비한다.
+ *
+ * <p>배치 전체를 {@link WorkResultApplier} 로 한 트랜잭션에 반영하고 마지막 delivery tag 로 한 번에 ack 한다.
+ * 반영에 실패한 메시지와 해석할 수 없는 메시지만 reject 해 dead-letter(재시도/parking) 로 보낸다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkResultConsumer {
+
+    private static final String SOURCE = "queue";
+
+    private final WorkResultApplier workResultApplier;
+    private final ContentTypeDelegatingMessageConverter messageConverter;
+    private final WorkResultMapper workResultMapper;
+    private final MeterRegistry meterRegistry;
+
+    @RabbitListener(queues = RabbitConfig.WORK_RESULT_QUEUE, containerFactory = RabbitConfig.WORK_RESULT_CONTAINER_FACTORY)
+    public void consume(List<Message> messages, Channel channel) throws IOException {
+        Map<WorkResult, Message> deliveries = new IdentityHashMap<>();
+        List<WorkResult> results = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            try {
+                WorkResult result = decode(message);
+                deliveries.put(result, message);
+                results.add(result);
+            } catch (MessageConversionException e) {
+                log.warn("작업 결과 메시지 해석 실패 - messageId={}", message.getMessageProperties().getMessageId(), e);
+                reject(channel, message);
+            }
+        }
+        if (results.isEmpty()) {
+            return;
+        }
+
+        List<WorkResult> failed = workResultApplier.apply(results, SOURCE);
+        if (failed.isEmpty()) {
+            long lastDeliveryTag = deliveries.get(results.get(results.size() - 1)).getMessageProperties().getDeliveryTag();
+            channel.basicAck(lastDeliveryTag, true);
+            return;
+        }
+
+        for (WorkResult result : results) {
+            Message message = deliveries.get(result);
+            if (failed.contains(result)) {
+                reject(channel, message);
+            } else {
+                channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+            }
+        }
+    }
+
+    private WorkResult decode(Message message) {
+        // 워커는 __TypeId__ 헤더를 붙이지 않으므로 변환 대상 타입을 지정한다.
+        message.getMessageProperties().setInferredArgumentType(WorkResultMessage.class);
+        if (!(messageConverter.fromMessage(message) instanceof WorkResultMessage envelope)) {
+            throw new MessageConversionException("작업 결과 메시지 형식이 아닙니다. content-type="
+                    + message.getMessageProperties().getContentType());
+        }
+        try {
+            return workResultMapper.toWorkResult(envelope);
+        } catch (IllegalArgumentException e) {
+            throw new MessageConversionException(e.getMessage(), e);
+        }
+    }
+
+    private void reject(Channel channel, Message message) throws IOException {
+        // requeue=false: 작업 결과 큐의 dead-letter exchange 를 거쳐 재시도/parking 큐로 간다.
+        channel.basicReject(message.getMessageProperties().getDeliveryTag(), false);
+        Counter.builder("rabbit.work_result.rejected")
+                .description("작업 결과 큐에서 reject 한 메시지 수")
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ocp.ocp_finalproject.message.result.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResult;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResultMessage;
+import com.ocp.ocp_finalproject.work.dto.request.BlogUploadWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.ContentGenerateWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.KeywordSelectWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.ProductSelectWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.WebhookEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종류(type) + 본문(payload) 형식의 단계 결과를 웹훅 요청 DTO 로 바꾼다. (작업 결과 큐, 묶음 이벤트 API 공용)
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkResultMapper {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @throws IllegalArgumentException 종류/본문/워크 ID 가 없거나 본문을 해석할 수 없을 때
+     */
+    public WorkResult toWorkResult(WorkResultMessage message) {
+        if (message == null || message.getType() == null || message.getPayload() == null) {
+            throw new IllegalArgumentException("작업 결과 종류 또는 본문이 누락되었습니다.");
+        }
+
+        Class<? extends WebhookEvent> requestType = switch (message.getType()) {
+            case KEYWORD_SELECT -> KeywordSelectWebhookRequest.class;
+            case PRODUCT_SELECT -> ProductSelectWebhookRequest.class;
+            case CONTENT_GENERATE -> ContentGenerateWebhookRequest.class;
+            case BLOG_UPLOAD -> BlogUploadWebhookRequest.class;
+        };
+
+        WebhookEvent request;
+        try {
+            request = objectMapper.treeToValue(message.getPayload(), requestType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("작업 결과 본문을 해석할 수 없습니다. type=" + message.getType(), e);
+        }
+        if (request.getWorkId() == null) {
+            throw new IllegalArgumentException("워크 ID가 누락되었습니다. type=" + message.getType());
+        }
+        return new WorkResult(message.getType(), request.getWorkId(), request);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ocp.ocp_finalproject.monitoring.domain;
 
 import com.ocp.ocp_finalproject.common.entity.BaseEntity;
+import com.ocp.ocp_finalproject.common.entity.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 import java.math.BigDecimal;
@@ -20,8 +21,11 @@ public class AiUsageLog extends BaseEntity {
      * 사용 로그 ID (Primary Key)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "usage_log_id", nullable = false)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ai_usage_log_id_generator")
+    @TableGenerator(name = "ai_usage_log_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.AI_USAGE_LOG, allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(name = "usage_log_id", nullable = false, columnDefinition = IdGenerators.ID_COLUMN_DEFINITION)
     private Long id;
 
     /**
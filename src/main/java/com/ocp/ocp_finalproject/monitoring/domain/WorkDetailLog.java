@@ -1,6 +1,7 @@
 package com.ocp.ocp_finalproject.monitoring.domain;
 
 import com.ocp.ocp_finalproject.common.entity.BaseEntity;
+import com.ocp.ocp_finalproject.common.entity.IdGenerators;
 import com.ocp.ocp_finalproject.monitoring.enums.StepStatus;
 import jakarta.persistence.*;
 import lombok.*;
@@ -20,8 +21,11 @@ public class WorkDetailLog extends BaseEntity {
      * 로그 ID (Primary Key)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "log_id", nullable = false)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "work_detail_log_id_generator")
+    @TableGenerator(name = "work_detail_log_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.WORK_DETAIL_LOG, allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(name = "log_id", nullable = false, columnDefinition = IdGenerators.ID_COLUMN_DEFINITION)
     private Long id;
 
     /**
@@ -2,17 +2,32 @@ package com.ocp.ocp_finalproject.scheduler.config;
 
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 import org.springframework.scheduling.quartz.SpringBeanJobFactory;
+import org.springframework.util.StringUtils;
 
+import java.util.Properties;
+
+/**
+ * Quartz 스케줄러 설정.
+ *
+ * <p>기본값은 메모리(RAMJobStore) 모드이며, {@code spring.quartz.job-store-type=jdbc} 로 실행하면
+ * Spring Boot가 등록하는 DataSource 커스터마이저가 적용되어 JDBC JobStore로 동작한다.
+ * 여러 노드가 같은 스케줄을 공유하려면 {@code quartz-cluster} 프로필(application-quartz-cluster.yml)을 사용한다.</p>
+ */
 @Configuration
 public class QuartzConfig {
 
     @Bean
-    public SchedulerFactoryBean schedulerFactoryBean(ApplicationContext applicationContext) {
+    public SchedulerFactoryBean schedulerFactoryBean(ApplicationContext applicationContext,
+                                                     QuartzProperties quartzProperties,
+                                                     ObjectProvider<SchedulerFactoryBeanCustomizer> customizers) {
         SpringBeanJobFactory jobFactory = new SpringBeanJobFactory();
         jobFactory.setApplicationContext(applicationContext);
 
@@ -20,6 +35,19 @@ public class QuartzConfig {
         factoryBean.setJobFactory(jobFactory);
         factoryBean.setOverwriteExistingJobs(true);
         factoryBean.setWaitForJobsToCompleteOnShutdown(true);
+
+        // 클러스터 모드에서는 모든 노드가 같은 스케줄러 이름을 사용해야 같은 트리거 테이블을 공유한다.
+        if (StringUtils.hasText(quartzProperties.getSchedulerName())) {
+            factoryBean.setSchedulerName(quartzProperties.getSchedulerName());
+        }
+        if (!quartzProperties.getProperties().isEmpty()) {
+            Properties properties = new Properties();
+            properties.putAll(quartzProperties.getProperties());
+            factoryBean.setQuartzProperties(properties);
+        }
+
+        // job-store-type=jdbc 일 때 DataSource/TransactionManager를 연결해주는 커스터마이저가 여기서 적용된다.
+        customizers.orderedStream().forEach(customizer -> customizer.customize(factoryBean));
         return factoryBean;
     }
 
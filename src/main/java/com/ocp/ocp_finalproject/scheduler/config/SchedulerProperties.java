@@ -0,0 +1,179 @@
+package com.ocp.ocp_finalproject.scheduler.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduler")
+public class SchedulerProperties {
+
+    /**
+     * 워크플로우 실행 스케줄링 엔진.
+     * QUARTZ: 워크플로우마다 Quartz Job/Trigger 등록, TICK: next_fire_at 컬럼 + 1분 주기 tick 디스패처.
+     */
+    private Engine engine = Engine.QUARTZ;
+
+    /**
+     * 콘텐츠 생성 실행 시각을 워크플로우마다 분산시키는 지터 범위. 0 이면 사용하지 않는다.
+     * 콘텐츠 생성은 업로드 1시간 전에 시작하므로 1시간 미만이어야 하며, 업로드 시각은 바뀌지 않는다.
+     */
+    private Duration contentJitter = Duration.ZERO;
+
+    private Tick tick = new Tick();
+
+    private Bootstrap bootstrap = new Bootstrap();
+
+    private Reconcile reconcile = new Reconcile();
+
+    private LifecycleSweep lifecycleSweep = new LifecycleSweep();
+
+    private CatchUp catchUp = new CatchUp();
+
+    private Admission admission = new Admission();
+
+    public boolean isTickEngine() {
+        return engine == Engine.TICK;
+    }
+
+    public enum Engine {
+        QUARTZ,
+        TICK
+    }
+
+    @Getter
+    @Setter
+    public static class Tick {
+        /**
+         * tick 실행 주기 (Quartz cron). 분 단위 granularity.
+         */
+        private String cron = "0 * * * * ?";
+
+        /**
+         * 한 번에 선점(claim)할 워크플로우 수.
+         */
+        private int batchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Bootstrap {
+        /**
+         * 기동 시 한 번에 읽어 등록할 워크플로우 수.
+         */
+        private int pageSize = 1000;
+
+        /**
+         * Job/Trigger 생성에 사용할 스레드 수.
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    @Getter
+    @Setter
+    public static class Reconcile {
+        /**
+         * DB 워크플로우 상태와 Quartz Job 의 정합성 점검 사용 여부.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 점검 주기.
+         */
+        private Duration fixedDelay = Duration.ofMinutes(5);
+
+        /**
+         * DB 조회 / 일괄 복구 페이지 크기.
+         */
+        private int pageSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class LifecycleSweep {
+        /**
+         * 활성화(startAt) / 만료(endAt) 스위퍼 실행 주기 (Quartz cron).
+         */
+        private String cron = "0 * * * * ?";
+
+        /**
+         * 한 번에 상태를 전환할 워크플로우 수.
+         */
+        private int batchSize = 200;
+    }
+
+    @Getter
+    @Setter
+    public static class CatchUp {
+        /**
+         * 기동 시 다운타임 동안 놓친 실행(misfire)을 재실행할지 여부.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 재실행 대상 범위. 기동 시각 기준 이보다 오래된 실행은 버린다.
+         */
+        private Duration horizon = Duration.ofHours(6);
+
+        /**
+         * 초당 재실행 수 (토큰 버킷 충전 속도).
+         */
+        private double permitsPerSecond = 2.0;
+
+        /**
+         * 한 번에 몰아서 재실행할 수 있는 최대 수 (토큰 버킷 용량).
+         */
+        private int burst = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+        /**
+         * 콘텐츠 생성 큐 적체 시 스케줄 실행 발행을 미루는(admission control) 기능 사용 여부.
+         * 테스트 실행(INTERACTIVE 레인)은 항상 허용한다.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 소비자(워커) 1개당 허용하는 적체 메시지 수. 소비자 수가 0 이면(워커 재시작 중이거나 조회 시점 차이)
+         * 알 수 없는 것으로 보고 {@code maxBacklog} 만 적용한다.
+         */
+        private int maxBacklogPerConsumer = 20;
+
+        /**
+         * 소비자 수와 무관한 전체 적체 상한.
+         */
+        private int maxBacklog = 2000;
+
+        /**
+         * 큐 깊이 조회 결과 캐시 시간. 같은 분에 몰리는 수천 건의 실행이 브로커를 매번 조회하지 않도록 한다.
+         */
+        private Duration probeTtl = Duration.ofSeconds(2);
+
+        /**
+         * 미룬 실행을 다시 판단하기까지의 간격.
+         */
+        private Duration deferDelay = Duration.ofMinutes(5);
+
+        /**
+         * 최초 실행 시각부터 이 시간 안에 발행하지 못하면 생략한다.
+         * 콘텐츠 생성은 업로드 1시간 전에 시작하므로 생성 시간을 남겨 1시간보다 짧아야 한다.
+         */
+        private Duration deadline = Duration.ofMinutes(45);
+
+        /**
+         * 미룬 실행을 찾는 주기.
+         */
+        private Duration pollDelay = Duration.ofSeconds(30);
+
+        /**
+         * 한 번에 선점할 미룬 실행 수.
+         */
+        private int batchSize = 100;
+    }
+}
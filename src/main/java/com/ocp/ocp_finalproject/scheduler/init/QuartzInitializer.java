@@ -1,25 +1,22 @@
 package com.ocp.ocp_finalproject.scheduler.init;
 
+import com.ocp.ocp_finalproject.scheduler.service.SchedulerBootstrapService;
 import com.ocp.ocp_finalproject.scheduler.service.SchedulerSyncService;
-import com.ocp.ocp_finalproject.workflow.domain.Workflow;
-import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
-import org.quartz.SchedulerException;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class QuartzInitializer implements ApplicationListener<ApplicationReadyEvent> {
 
-    private final WorkflowRepository workflowRepository;
     private final SchedulerSyncService schedulerSyncService;
+    private final SchedulerBootstrapService schedulerBootstrapService;
 
     @SneakyThrows
     @Override
@@ -27,26 +24,13 @@ public class QuartzInitializer implements ApplicationListener<ApplicationReadyEv
 
         // 1. 스케줄러 시작
         schedulerSyncService.startSchedulerIfNeeded();
+        schedulerSyncService.registerGlobalJobs();
 
-        // 2. 활성 워크플로우 등록
-        List<Workflow> workflows = workflowRepository.findAllActive();
-        workflows.forEach(workflow -> {
-            try {
-                schedulerSyncService.registerWorkflowJobs(workflow);
-            } catch (SchedulerException e) {
-                // 예외 처리: 로그 출력 등
-                log.error("워크플로우 스케줄 등록 실패: {}", workflow.getId(), e);
-            }
-        });
+        // 2. 활성 워크플로우 Job 일괄 등록 (대기 워크플로우 활성화는 생애주기 스위퍼가 처리)
+        LocalDateTime rescheduledAt = LocalDateTime.now();
+        schedulerBootstrapService.bootstrap();
 
-        // 3. 대기 워크플로우 활성화 Job 등록
-        List<Workflow> pendingWorkflows = workflowRepository.findAllPending();
-        pendingWorkflows.forEach(workflow -> {
-            try {
-                schedulerSyncService.registerActivationJob(workflow);
-            } catch (SchedulerException e) {
-                log.error("워크플로우 활성화 스케줄 등록 실패: {}", workflow.getId(), e);
-            }
-        });
+        // 3. 다운타임 동안 놓친 실행 재실행 (처리율 제한)
+        schedulerSyncService.scheduleMisfireCatchUp(rescheduledAt);
     }
 }
@@ -1,14 +1,14 @@
 package com.ocp.ocp_finalproject.scheduler.job;
 
-import com.ocp.ocp_finalproject.message.blog.BlogUploadProducer;
-import com.ocp.ocp_finalproject.message.blog.dto.BlogUploadRequest;
-import com.ocp.ocp_finalproject.work.service.BlogUploadService;
+import com.ocp.ocp_finalproject.scheduler.service.WorkflowFireScheduleService;
+import com.ocp.ocp_finalproject.scheduler.service.WorkflowRunDispatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.*;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Slf4j
 @Component
@@ -17,24 +17,19 @@ import java.util.List;
 @DisallowConcurrentExecution
 public class BlogUploadJob implements Job {
 
-
-    private final BlogUploadService blogUploadService;
-
-    private final BlogUploadProducer blogUploadProducer;
+    private final WorkflowRunDispatcher workflowRunDispatcher;
+    private final WorkflowFireScheduleService workflowFireScheduleService;
 
     @Override
     public void execute(JobExecutionContext context) throws JobExecutionException {
         Long workflowId = context.getMergedJobDataMap().getLong("workflowId");
 
-        log.info("Workflow {} 블로그 업로드 스케줄 실행", workflowId);
-
-        // 해당 workflow에 대해 업로드 요청만 생성
-        List<BlogUploadRequest> requests = blogUploadService.collectPendingBlogUploadsForWorkflow(workflowId);
-
-        for (BlogUploadRequest request : requests) {
-            BlogUploadRequest prepared = blogUploadService.prepareBlogUploadRequest(request);
-            blogUploadProducer.send(prepared);
-            log.info("워크 {} 블로그 업로드 메시지 전송", prepared.getWorkId());
+        try {
+            workflowRunDispatcher.dispatchBlogUpload(workflowId);
+        } finally {
+            // 트리거는 이미 다음 회차로 넘어갔으므로 디스패치 결과와 무관하게 next_fire_at 을 갱신한다.
+            LocalDateTime firedAt = LocalDateTime.ofInstant(context.getScheduledFireTime().toInstant(), ZoneId.systemDefault());
+            workflowFireScheduleService.advanceUploadFireAt(workflowId, firedAt);
         }
     }
 }
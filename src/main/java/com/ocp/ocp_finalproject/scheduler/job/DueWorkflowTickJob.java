@@ -0,0 +1,25 @@
+package com.ocp.ocp_finalproject.scheduler.job;
+
+import com.ocp.ocp_finalproject.scheduler.service.DueWorkflowTickService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * tick 스케줄링 엔진에서 사용하는 전역 Quartz Job. 워크플로우 수와 관계없이 1개만 등록된다.
+ */
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class DueWorkflowTickJob implements Job {
+
+    private final DueWorkflowTickService dueWorkflowTickService;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        dueWorkflowTickService.tick();
+    }
+}
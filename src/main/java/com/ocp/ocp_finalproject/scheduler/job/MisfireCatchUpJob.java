@@ -0,0 +1,36 @@
+package com.ocp.ocp_finalproject.scheduler.job;
+
+import com.ocp.ocp_finalproject.scheduler.service.MisfireCatchUpService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 기동 직후 1회 실행되어 다운타임 동안 놓친 실행을 재실행하는 Quartz Job.
+ * 클러스터에서는 같은 키로 하나만 등록되므로 노드 여러 대가 동시에 기동해도 한 번만 실행된다.
+ */
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class MisfireCatchUpJob implements Job {
+
+    private final MisfireCatchUpService misfireCatchUpService;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        long until = context.getMergedJobDataMap().getLong("until");
+        try {
+            misfireCatchUpService.catchUp(LocalDateTime.ofInstant(Instant.ofEpochMilli(until), ZoneId.systemDefault()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobExecutionException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ocp.ocp_finalproject.scheduler.job;
+
+import com.ocp.ocp_finalproject.scheduler.service.ScheduleDriftReconciler;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.PersistJobDataAfterExecution;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB-스케줄러 정합성 점검을 실행하는 전역 Quartz Job.
+ * 클러스터에서도 한 노드만 실행하며, 직전 점검의 어긋남은 JobDataMap 에 남겨 다음 실행 노드가 이어받는다.
+ */
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+@PersistJobDataAfterExecution
+public class ScheduleDriftReconcileJob implements Job {
+
+    public static final String PREVIOUS_DRIFT_KEY = "previousDrift";
+
+    private final ScheduleDriftReconciler scheduleDriftReconciler;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        JobDataMap jobDataMap = context.getJobDetail().getJobDataMap();
+        String previous = jobDataMap.getString(PREVIOUS_DRIFT_KEY);
+        Set<String> previousDrift = previous == null || previous.isEmpty()
+                ? Set.of()
+                : Arrays.stream(previous.split(",")).collect(Collectors.toSet());
+
+        Set<String> currentDrift = scheduleDriftReconciler.reconcile(previousDrift);
+        jobDataMap.put(PREVIOUS_DRIFT_KEY, String.join(",", currentDrift));
+    }
+}
@@ -0,0 +1,25 @@
+package com.ocp.ocp_finalproject.scheduler.job;
+
+import com.ocp.ocp_finalproject.scheduler.service.WorkflowLifecycleSweepService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * startAt 이 지난 PENDING 워크플로우 활성화, endAt 이 지난 워크플로우 만료를 처리하는 전역 Quartz Job.
+ */
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class WorkflowLifecycleSweepJob implements Job {
+
+    private final WorkflowLifecycleSweepService workflowLifecycleSweepService;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        workflowLifecycleSweepService.sweep();
+    }
+}
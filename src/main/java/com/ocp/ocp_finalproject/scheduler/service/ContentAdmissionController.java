@@ -0,0 +1,143 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
+import com.ocp.ocp_finalproject.message.content.enums.ContentGenerateLane;
+import com.ocp.ocp_finalproject.message.outbox.enums.OutboxStatus;
+import com.ocp.ocp_finalproject.message.outbox.repository.OutboxMessageRepository;
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 콘텐츠 생성 큐 적체를 보고 스케줄 실행의 발행 허용 여부를 정한다.
+ *
+ * <p>적체량은 브로커 큐의 대기 메시지 수(passive declare)에 아직 릴레이되지 않은 아웃박스 메시지 수를 더한 값이다.
+ * 조회 결과는 {@code probeTtl} 동안 재사용하고, 그 사이 허용한 건수를 더해 같은 분에 몰리는 실행이
+ * 오래된 값으로 한꺼번에 허용되지 않게 한다. 조회에 실패하면 실행을 막지 않고 허용한다.
+ *
+ * <p>브로커/DB 조회는 락 밖에서 한 스레드만 하고, 그동안 다른 스레드는 이전 조회 결과로 판단한다.
+ * 허용 건수는 조회 결과마다 원자적으로 세므로 판단 자체는 락 없이 한도를 넘지 않는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentAdmissionController {
+
+    private static final String QUEUE = RabbitConfig.CONTENT_GENERATE_QUEUE;
+
+    private final AmqpAdmin amqpAdmin;
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final SchedulerProperties schedulerProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile QueueLoad cachedLoad;
+
+    public boolean isEnabled() {
+        return schedulerProperties.getAdmission().isEnabled();
+    }
+
+    public AdmissionCheck check(ContentGenerateLane lane) {
+        if (!isEnabled() || lane == ContentGenerateLane.INTERACTIVE) {
+            count(lane, "admitted");
+            return new AdmissionCheck(true, null);
+        }
+
+        QueueLoad load = currentLoad();
+        if (load == null) {
+            count(lane, "admitted");
+            return new AdmissionCheck(true, "queue depth unavailable");
+        }
+
+        long limit = limit(load.consumers());
+        // 한도 안이면 허용 건수를 올리고, 올리기 전 값으로 판단한다.
+        long admittedSinceProbe = load.admittedSinceProbe()
+                .getAndUpdate(admitted -> load.backlog() + admitted < limit ? admitted + 1 : admitted);
+        long backlog = load.backlog() + admittedSinceProbe;
+        String note = "backlog=%d consumers=%d limit=%d".formatted(backlog, load.consumers(), limit);
+        if (backlog >= limit) {
+            count(lane, "deferred");
+            return new AdmissionCheck(false, note);
+        }
+
+        count(lane, "admitted");
+        return new AdmissionCheck(true, note);
+    }
+
+    public void count(ContentGenerateLane lane, String decision) {
+        Counter.builder("scheduler.admission.decisions")
+                .description("콘텐츠 생성 실행 허용 결정 수")
+                .tag("lane", lane.tagValue())
+                .tag("decision", decision)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private long limit(int consumers) {
+        SchedulerProperties.Admission admission = schedulerProperties.getAdmission();
+        // 소비자 0 은 워커 재시작 중이거나 조회 시점 차이일 수 있어 알 수 없는 것으로 본다.
+        if (consumers <= 0) {
+            return admission.getMaxBacklog();
+        }
+        return Math.min(admission.getMaxBacklog(), (long) admission.getMaxBacklogPerConsumer() * consumers);
+    }
+
+    private QueueLoad currentLoad() {
+        QueueLoad cached = cachedLoad;
+        long now = System.nanoTime();
+        if (cached != null && now - cached.probedAt() < schedulerProperties.getAdmission().getProbeTtl().toNanos()) {
+            return cached;
+        }
+
+        // 다른 스레드가 조회 중이면 기다리지 않고 이전 값으로 판단한다. (첫 조회 전이면 함께 조회)
+        boolean owner = refreshing.compareAndSet(false, true);
+        if (!owner && cached != null) {
+            return cached;
+        }
+        try {
+            QueueLoad probed = probe(now);
+            if (probed != null) {
+                cachedLoad = probed;
+            }
+            return probed;
+        } finally {
+            if (owner) {
+                refreshing.set(false);
+            }
+        }
+    }
+
+    private QueueLoad probe(long now) {
+        try {
+            QueueInformation queueInformation = amqpAdmin.getQueueInfo(QUEUE);
+            if (queueInformation == null) {
+                log.warn("콘텐츠 생성 큐 깊이 조회 실패 - 큐 없음 queue={}", QUEUE);
+                return null;
+            }
+            long outboxPending = outboxMessageRepository.countByStatusAndRoutingKey(OutboxStatus.PENDING, QUEUE);
+            return new QueueLoad(queueInformation.getMessageCount() + outboxPending,
+                    queueInformation.getConsumerCount(), now, new AtomicLong());
+        } catch (AmqpException e) {
+            log.warn("콘텐츠 생성 큐 깊이 조회 실패 - 실행 허용 queue={}", QUEUE, e);
+            return null;
+        }
+    }
+
+    public record AdmissionCheck(boolean admitted, String note) {
+    }
+
+    /**
+     * 조회 결과와 그 뒤 허용한 건수. 새로 조회하면 새 인스턴스로 바뀌므로 허용 건수도 0 부터 다시 센다.
+     */
+    private record QueueLoad(long backlog, int consumers, long probedAt, AtomicLong admittedSinceProbe) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.workflow.util.RecurrenceRuleFireTimeCalculator;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 콘텐츠 생성 실행 시각 지터.
+ *
+ * <p>정각(09:00, 12:00 등)에 몰린 워크플로우의 콘텐츠 생성이 같은 초에 한꺼번에 실행되지 않도록,
+ * 워크플로우 id 로부터 [0, contentJitter) 범위의 초 단위 지연을 결정적으로 계산한다.
+ * 같은 워크플로우는 항상 같은 값을 받으므로 재기동/재등록해도 실행 시각이 흔들리지 않는다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentJitterPolicy {
+
+    // 연속된 id 도 범위 전체에 고르게 퍼지도록 곱하는 64비트 황금비 상수
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final SchedulerProperties schedulerProperties;
+
+    @PostConstruct
+    void validate() {
+        Duration window = schedulerProperties.getContentJitter();
+        if (window.isNegative() || window.compareTo(RecurrenceRuleFireTimeCalculator.CONTENT_GENERATION_OFFSET.abs()) >= 0) {
+            throw new IllegalStateException("scheduler.content-jitter 는 0 이상 1시간 미만이어야 합니다. value=" + window);
+        }
+    }
+
+    public Duration jitterFor(Long workflowId) {
+        long windowSeconds = schedulerProperties.getContentJitter().toSeconds();
+        if (windowSeconds <= 0 || workflowId == null) {
+            return Duration.ZERO;
+        }
+        long hash = (workflowId * GOLDEN_RATIO) >>> 32;
+        return Duration.ofSeconds(Math.floorMod(hash, windowSeconds));
+    }
+
+    /**
+     * 블로그 업로드 기준 콘텐츠 생성 오프셋 (-1시간 + 지터)
+     */
+    public Duration contentOffset(Long workflowId) {
+        return RecurrenceRuleFireTimeCalculator.contentOffset(jitterFor(workflowId));
+    }
+}
@@ -0,0 +1,110 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import com.ocp.ocp_finalproject.content.repository.AiContentRepository;
+import com.ocp.ocp_finalproject.message.content.ContentGenerateProducer;
+import com.ocp.ocp_finalproject.message.content.dto.ContentGenerateRequest;
+import com.ocp.ocp_finalproject.message.content.enums.ContentGenerateLane;
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.scheduler.service.ContentAdmissionController.AdmissionCheck;
+import com.ocp.ocp_finalproject.work.domain.Work;
+import com.ocp.ocp_finalproject.work.enums.AdmissionDecision;
+import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
+import com.ocp.ocp_finalproject.work.repository.WorkRepository;
+import com.ocp.ocp_finalproject.work.service.ContentGenerateService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 큐 적체로 발행을 미룬(DEFERRED) 콘텐츠 생성 Work 를 다시 판단한다.
+ *
+ * <p>마감 시각(admissionDeadline)이 지났으면 업로드 시각 전에 콘텐츠를 만들 수 없으므로 생략(SHED)하고
+ * 생성 대기 중인 AiContent 도 같은 트랜잭션에서 실패로 닫는다.
+ * 적체가 풀렸으면 같은 Work 로 요청을 만들어 발행한다. 아직 적체 중이면 다시 미룬다.
+ * 행은 SKIP LOCKED 로 선점하므로 여러 노드가 함께 돌아도 같은 Work 를 두 번 발행하지 않는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeferredContentDispatcher {
+
+    private final WorkRepository workRepository;
+    private final AiContentRepository aiContentRepository;
+    private final ContentGenerateService contentGenerateService;
+    private final ContentGenerateProducer contentGenerateProducer;
+    private final ContentAdmissionController contentAdmissionController;
+    private final SchedulerProperties schedulerProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(
+            fixedDelayString = "${scheduler.admission.poll-delay:PT30S}",
+            initialDelayString = "${scheduler.admission.poll-delay:PT30S}"
+    )
+    public void dispatchDeferred() {
+        int batchSize = schedulerProperties.getAdmission().getBatchSize();
+        int admitted = 0;
+        int shed = 0;
+        int deferred = 0;
+
+        while (true) {
+            DispatchBatch batch = transactionTemplate.execute(tx -> dispatchBatch(batchSize));
+            if (batch == null || batch.claimed() == 0) {
+                break;
+            }
+            admitted += batch.admitted();
+            shed += batch.shed();
+            deferred += batch.claimed() - batch.admitted() - batch.shed();
+            if (batch.claimed() < batchSize) {
+                break;
+            }
+        }
+
+        if (admitted + shed + deferred > 0) {
+            log.info("지연된 콘텐츠 생성 처리 - 발행 {}건, 생략 {}건, 재지연 {}건", admitted, shed, deferred);
+        }
+    }
+
+    private DispatchBatch dispatchBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Work> works = workRepository.findDueDeferred(
+                AdmissionDecision.DEFERRED, WorkExecutionStatus.PENDING, now, PageRequest.of(0, batchSize));
+
+        int admitted = 0;
+        List<Long> shedWorkIds = new ArrayList<>();
+        for (Work work : works) {
+            if (work.getAdmissionDeadline() != null && now.isAfter(work.getAdmissionDeadline())) {
+                work.shed(work.getAdmissionNote(), now);
+                contentAdmissionController.count(ContentGenerateLane.BATCH, "shed");
+                log.warn("워크 {} 콘텐츠 생성 생략 - 마감 {} 까지 적체가 풀리지 않음", work.getId(), work.getAdmissionDeadline());
+                shedWorkIds.add(work.getId());
+                continue;
+            }
+
+            AdmissionCheck check = contentAdmissionController.check(ContentGenerateLane.BATCH);
+            if (!check.admitted()) {
+                work.defer(now.plus(schedulerProperties.getAdmission().getDeferDelay()), work.getAdmissionDeadline(), check.note());
+                continue;
+            }
+
+            ContentGenerateRequest request = contentGenerateService.createRequestForWork(work);
+            work.admit(check.note());
+            contentGenerateProducer.send(contentGenerateService.applyWebhookSettings(request),
+                    WorkflowRunDispatcher.userIdOf(work));
+            admitted++;
+        }
+
+        if (!shedWorkIds.isEmpty()) {
+            aiContentRepository.findByWorkIdIn(shedWorkIds).forEach(aiContent -> aiContent.markFailed(now));
+        }
+        return new DispatchBatch(works.size(), admitted, shedWorkIds.size());
+    }
+
+    private record DispatchBatch(int claimed, int admitted, int shed) {
+    }
+}
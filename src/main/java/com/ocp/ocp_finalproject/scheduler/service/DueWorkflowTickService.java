@@ -0,0 +1,67 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * tick 스케줄링 엔진의 본체.
+ * 1분마다 실행 시각이 도래한 워크플로우를 인덱스 범위 조회로 배치 선점한 뒤 디스패치한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DueWorkflowTickService {
+
+    private final SchedulerProperties schedulerProperties;
+    private final WorkflowFireScheduleService workflowFireScheduleService;
+    private final WorkflowRunDispatcher workflowRunDispatcher;
+
+    public void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = schedulerProperties.getTick().getBatchSize();
+
+        int contentRuns = drain(
+                () -> workflowFireScheduleService.claimDueContentRuns(now, batchSize),
+                batchSize,
+                workflowRunDispatcher::dispatchContentGeneration,
+                "콘텐츠 생성"
+        );
+        int uploadRuns = drain(
+                () -> workflowFireScheduleService.claimDueUploadRuns(now, batchSize),
+                batchSize,
+                workflowRunDispatcher::dispatchBlogUpload,
+                "블로그 업로드"
+        );
+
+        if (contentRuns > 0 || uploadRuns > 0) {
+            log.info("스케줄 tick 완료 - 기준시각={} 콘텐츠 생성 {}건, 블로그 업로드 {}건", now, contentRuns, uploadRuns);
+        }
+    }
+
+    private int drain(BatchClaimer claimer, int batchSize, Consumer<Long> dispatcher, String runName) {
+        int dispatched = 0;
+        List<Long> workflowIds;
+        do {
+            workflowIds = claimer.claim();
+            for (Long workflowId : workflowIds) {
+                try {
+                    dispatcher.accept(workflowId);
+                    dispatched++;
+                } catch (Exception e) {
+                    log.error("워크플로우 {} {} 디스패치 실패", workflowId, runName, e);
+                }
+            }
+        } while (workflowIds.size() == batchSize);
+        return dispatched;
+    }
+
+    @FunctionalInterface
+    private interface BatchClaimer {
+        List<Long> claim();
+    }
+}
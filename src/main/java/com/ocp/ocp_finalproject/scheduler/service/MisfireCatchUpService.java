@@ -0,0 +1,183 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.scheduler.util.TokenBucketRateLimiter;
+import com.ocp.ocp_finalproject.work.dto.response.WorkflowLastWorkResponse;
+import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
+import com.ocp.ocp_finalproject.work.repository.WorkRepository;
+import com.ocp.ocp_finalproject.workflow.domain.Workflow;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowRunType;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
+import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
+import com.ocp.ocp_finalproject.workflow.util.RecurrenceRuleFireTimeCalculator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 다운타임(배포, 장애) 동안 놓친 콘텐츠 생성 / 블로그 업로드 실행을 재실행한다.
+ *
+ * <p>기동 시 Trigger 는 새로 등록되고 cron Trigger 는 misfire 시 아무것도 하지 않으므로(DoNothing), 놓친 실행은
+ * 여기서만 복구된다. 워크플로우마다 마지막 성공 작업(Work) 이후 ~ 기동 시각 사이의 실행 시각을 계산하되
+ * horizon 보다 오래된 실행은 버리고, 남은 실행을 예정 시각 순서대로 토큰 버킷 속도에 맞춰 디스패치한다.
+ * 복구 트래픽이 RabbitMQ / MySQL / OpenAI 에 한꺼번에 몰리지 않게 하기 위함이다.</p>
+ *
+ * <p>블로그 업로드는 실행 시 대기 중인 업로드를 모두 처리하므로 워크플로우당 1회로 합친다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MisfireCatchUpService {
+
+    private final WorkflowRepository workflowRepository;
+    private final WorkRepository workRepository;
+    private final WorkflowRunDispatcher workflowRunDispatcher;
+    private final SchedulerProperties schedulerProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param until 스케줄을 다시 등록한 시각 (이후 실행은 정상 Trigger / tick 이 처리)
+     */
+    public void catchUp(LocalDateTime until) throws InterruptedException {
+        SchedulerProperties.CatchUp properties = schedulerProperties.getCatchUp();
+        LocalDateTime horizonStart = until.minus(properties.getHorizon());
+
+        List<MissedRun> missedRuns = collectMissedRuns(horizonStart, until);
+        if (missedRuns.isEmpty()) {
+            log.info("놓친 스케줄 실행 없음 - 구간 {} ~ {}", horizonStart, until);
+            return;
+        }
+        log.info("놓친 스케줄 실행 {}건 재실행 시작 - 구간 {} ~ {}, 초당 {}건",
+                missedRuns.size(), horizonStart, until, properties.getPermitsPerSecond());
+
+        TokenBucketRateLimiter rateLimiter =
+                new TokenBucketRateLimiter(properties.getBurst(), properties.getPermitsPerSecond());
+        int dispatched = 0;
+        int failed = 0;
+        for (MissedRun missedRun : missedRuns) {
+            rateLimiter.acquire();
+            try {
+                if (!isStillActive(missedRun.workflowId())) {
+                    count(missedRun.type(), "skipped");
+                    continue;
+                }
+                if (missedRun.type() == WorkflowRunType.CONTENT_GENERATION) {
+                    workflowRunDispatcher.dispatchContentGeneration(missedRun.workflowId());
+                } else {
+                    workflowRunDispatcher.dispatchBlogUpload(missedRun.workflowId());
+                }
+                count(missedRun.type(), "dispatched");
+                dispatched++;
+            } catch (Exception e) {
+                count(missedRun.type(), "failed");
+                failed++;
+                log.error("워크플로우 {} {} 재실행 실패 - 예정 시각 {}",
+                        missedRun.workflowId(), missedRun.type().getDisplayName(), missedRun.scheduledAt(), e);
+            }
+        }
+        log.info("놓친 스케줄 재실행 완료 - 성공 {}건, 실패 {}건", dispatched, failed);
+    }
+
+    private List<MissedRun> collectMissedRuns(LocalDateTime horizonStart, LocalDateTime until) {
+        int pageSize = schedulerProperties.getBootstrap().getPageSize();
+        List<MissedRun> missedRuns = new ArrayList<>();
+        long lastId = 0L;
+        while (true) {
+            List<Workflow> workflows = workflowRepository.findPageByStatusAfterId(
+                    WorkflowStatus.ACTIVE, lastId, PageRequest.of(0, pageSize));
+            if (workflows.isEmpty()) {
+                break;
+            }
+            lastId = workflows.get(workflows.size() - 1).getId();
+
+            List<Long> workflowIds = workflows.stream().map(Workflow::getId).toList();
+            Map<Long, LocalDateTime> lastContentRuns = toMap(workRepository.findLastStartedAtByWorkflowIds(
+                    workflowIds, WorkExecutionStatus.FAILED, horizonStart));
+            Map<Long, LocalDateTime> lastUploads = toMap(workRepository.findLastCompletedAtByWorkflowIds(
+                    workflowIds, WorkExecutionStatus.COMPLETED, horizonStart));
+
+            for (Workflow workflow : workflows) {
+                try {
+                    collectMissedRuns(workflow, horizonStart, until, lastContentRuns, lastUploads, missedRuns);
+                } catch (RuntimeException e) {
+                    log.warn("워크플로우 {} 놓친 실행 계산 실패", workflow.getId(), e);
+                }
+            }
+
+            if (workflows.size() < pageSize) {
+                break;
+            }
+        }
+        missedRuns.sort(Comparator.comparing(MissedRun::scheduledAt));
+        return missedRuns;
+    }
+
+    private void collectMissedRuns(Workflow workflow,
+                                   LocalDateTime horizonStart,
+                                   LocalDateTime until,
+                                   Map<Long, LocalDateTime> lastContentRuns,
+                                   Map<Long, LocalDateTime> lastUploads,
+                                   List<MissedRun> missedRuns) {
+        if (workflow.getRecurrenceRule() == null) {
+            return;
+        }
+        // 워크플로우가 만들어지기 전 실행 시각은 놓친 것이 아니다.
+        LocalDateTime since = latest(horizonStart, workflow.getCreatedAt());
+
+        List<LocalDateTime> contentFireTimes = RecurrenceRuleFireTimeCalculator.fireTimesBetween(
+                workflow.getRecurrenceRule(),
+                RecurrenceRuleFireTimeCalculator.contentOffset(workflow.getContentJitter()),
+                latest(since, lastContentRuns.get(workflow.getId())),
+                until
+        );
+        contentFireTimes.forEach(fireTime ->
+                missedRuns.add(new MissedRun(workflow.getId(), WorkflowRunType.CONTENT_GENERATION, fireTime)));
+
+        List<LocalDateTime> uploadFireTimes = RecurrenceRuleFireTimeCalculator.fireTimesBetween(
+                workflow.getRecurrenceRule(),
+                null,
+                latest(since, lastUploads.get(workflow.getId())),
+                until
+        );
+        if (!uploadFireTimes.isEmpty()) {
+            LocalDateTime latestUpload = uploadFireTimes.get(uploadFireTimes.size() - 1);
+            missedRuns.add(new MissedRun(workflow.getId(), WorkflowRunType.BLOG_UPLOAD, latestUpload));
+        }
+    }
+
+    private boolean isStillActive(Long workflowId) {
+        return workflowRepository.findById(workflowId)
+                .map(workflow -> workflow.getStatus() == WorkflowStatus.ACTIVE)
+                .orElse(false);
+    }
+
+    private Map<Long, LocalDateTime> toMap(List<WorkflowLastWorkResponse> lastWorks) {
+        return lastWorks.stream()
+                .collect(Collectors.toMap(WorkflowLastWorkResponse::getWorkflowId, WorkflowLastWorkResponse::getLastAt));
+    }
+
+    private LocalDateTime latest(LocalDateTime base, LocalDateTime candidate) {
+        return candidate != null && candidate.isAfter(base) ? candidate : base;
+    }
+
+    private void count(WorkflowRunType type, String result) {
+        Counter.builder("scheduler.catchup.runs")
+                .description("기동 시 재실행한 놓친 스케줄 실행 수")
+                .tag("type", type.name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record MissedRun(Long workflowId, WorkflowRunType type, LocalDateTime scheduledAt) {
+    }
+}
@@ -0,0 +1,314 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.workflow.domain.Workflow;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
+import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DB 의 워크플로우 상태와 Quartz 에 등록된 Job 이 어긋난 것을 주기적으로 찾아 복구한다.
+ *
+ * <p>{@code scheduleJobsAfterCommit} 은 커밋 이후에 실행되므로 그 안에서 실패하면 워크플로우는 바뀌었는데
+ * Job 은 그대로 남거나(orphan) 빠진 채(missing)로 남는다. 여기서는 ACTIVE id 와 스케줄러 Job 키를
+ * 병렬로 읽어 비교한 뒤, 어긋난 항목을 일괄 삭제(deleteJobs) / 일괄 등록(scheduleJobs) 한다.</p>
+ *
+ * <p>상태 변경 직후 afterCommit 이 아직 실행되지 않은 워크플로우를 잘못 복구하지 않도록,
+ * 연속된 두 번의 점검에서 모두 어긋난 항목만 복구한다. 클러스터에서 노드마다 동시에 점검하지 않도록
+ * 전역 Quartz Job({@code ScheduleDriftReconcileJob}) 으로 한 노드에서만 실행한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleDriftReconciler {
+
+    private static final String CONTENT_JOB_PREFIX = "content-generate-";
+    private static final String UPLOAD_JOB_PREFIX = "blog-upload-";
+
+    private final WorkflowRepository workflowRepository;
+    private final SchedulerSyncService schedulerSyncService;
+    private final WorkflowFireScheduleService workflowFireScheduleService;
+    private final SchedulerProperties schedulerProperties;
+    private final Scheduler scheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param previousDrift 직전 점검에서 발견한 어긋남 (이번 점검에서도 남아 있으면 복구)
+     * @return 이번 점검에서 발견한 어긋남. 점검에 실패하면 직전 값을 그대로 돌려준다.
+     */
+    public Set<String> reconcile(Set<String> previousDrift) {
+        try {
+            Snapshot snapshot = takeSnapshot();
+            DriftReport report = detectDrift(snapshot);
+
+            Set<String> currentDrift = report.keys();
+            DriftReport confirmed = report.confirmedBy(previousDrift);
+
+            if (confirmed.isEmpty()) {
+                if (!currentDrift.isEmpty()) {
+                    log.info("스케줄 정합성 점검 - 어긋남 {}건 발견, 다음 점검에서 재확인 후 복구", currentDrift.size());
+                }
+                return currentDrift;
+            }
+
+            repair(confirmed);
+            return currentDrift;
+        } catch (Exception e) {
+            log.error("스케줄 정합성 점검 실패", e);
+            return previousDrift;
+        }
+    }
+
+    /**
+     * ACTIVE id 와 스케줄러 Job 키를 동시에 읽는다.
+     */
+    private Snapshot takeSnapshot() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Set<Long>> activeIds =
+                    CompletableFuture.supplyAsync(() -> loadIds(WorkflowStatus.ACTIVE), executor);
+            CompletableFuture<Map<String, Set<Long>>> jobIds =
+                    CompletableFuture.supplyAsync(this::loadJobIdsByPrefix, executor);
+
+            return new Snapshot(activeIds.join(), jobIds.join());
+        }
+    }
+
+    private Set<Long> loadIds(WorkflowStatus status) {
+        int pageSize = schedulerProperties.getReconcile().getPageSize();
+        Set<Long> ids = new HashSet<>();
+        long lastId = 0L;
+        while (true) {
+            List<Long> page = workflowRepository.findIdsByStatusAfterId(status, lastId, PageRequest.of(0, pageSize));
+            ids.addAll(page);
+            if (page.size() < pageSize) {
+                return ids;
+            }
+            lastId = page.get(page.size() - 1);
+        }
+    }
+
+    private Map<String, Set<Long>> loadJobIdsByPrefix() {
+        Map<String, Set<Long>> jobIds = new HashMap<>();
+        for (String prefix : List.of(CONTENT_JOB_PREFIX, UPLOAD_JOB_PREFIX)) {
+            jobIds.put(prefix, new HashSet<>());
+        }
+
+        try {
+            for (JobKey jobKey : scheduler.getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP))) {
+                for (Map.Entry<String, Set<Long>> entry : jobIds.entrySet()) {
+                    Long workflowId = parseWorkflowId(jobKey.getName(), entry.getKey());
+                    if (workflowId != null) {
+                        entry.getValue().add(workflowId);
+                        break;
+                    }
+                }
+            }
+        } catch (SchedulerException e) {
+            throw new IllegalStateException(e);
+        }
+        return jobIds;
+    }
+
+    private Long parseWorkflowId(String jobName, String prefix) {
+        if (!jobName.startsWith(prefix)) {
+            return null;
+        }
+        String suffix = jobName.substring(prefix.length());
+        if (suffix.isEmpty() || !suffix.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return Long.valueOf(suffix);
+    }
+
+    private DriftReport detectDrift(Snapshot snapshot) {
+        Set<Long> contentJobs = snapshot.jobIds().get(CONTENT_JOB_PREFIX);
+        Set<Long> uploadJobs = snapshot.jobIds().get(UPLOAD_JOB_PREFIX);
+        boolean tickEngine = schedulerProperties.isTickEngine();
+
+        Set<Long> missingWorkflowJobs = new HashSet<>();
+        if (!tickEngine) {
+            for (Long workflowId : snapshot.activeIds()) {
+                if (!contentJobs.contains(workflowId) || !uploadJobs.contains(workflowId)) {
+                    missingWorkflowJobs.add(workflowId);
+                }
+            }
+        }
+
+        Set<JobKey> orphanJobs = new HashSet<>();
+        // tick 엔진에서는 워크플로우별 실행 Job 자체가 없어야 한다.
+        collectOrphans(orphanJobs, CONTENT_JOB_PREFIX, contentJobs, id -> !tickEngine && snapshot.activeIds().contains(id));
+        collectOrphans(orphanJobs, UPLOAD_JOB_PREFIX, uploadJobs, id -> !tickEngine && snapshot.activeIds().contains(id));
+
+        return new DriftReport(missingWorkflowJobs, orphanJobs);
+    }
+
+    private void collectOrphans(Set<JobKey> orphanJobs, String prefix, Set<Long> workflowIds, Predicate<Long> expected) {
+        for (Long workflowId : workflowIds) {
+            if (!expected.test(workflowId)) {
+                orphanJobs.add(new JobKey(prefix + workflowId));
+            }
+        }
+    }
+
+    private void repair(DriftReport drift) {
+        int orphanJobs = deleteInBatches(drift.orphanJobs());
+        int missingWorkflowJobs = scheduleInBatches(drift.missingWorkflowJobs());
+
+        count("missing_workflow_jobs", missingWorkflowJobs);
+        count("orphan_jobs", orphanJobs);
+
+        log.warn("스케줄 정합성 복구 - 누락 워크플로우 Job 등록 {}건, 고아 Job 삭제 {}건",
+                missingWorkflowJobs, orphanJobs);
+    }
+
+    /**
+     * 삭제 직전에 워크플로우를 다시 읽어, 점검 도중 활성화된 워크플로우의 Job 은 남긴다.
+     */
+    private int deleteInBatches(Set<JobKey> jobKeys) {
+        int pageSize = schedulerProperties.getReconcile().getPageSize();
+        List<JobKey> keys = new ArrayList<>(jobKeys);
+        int deleted = 0;
+        for (int from = 0; from < keys.size(); from += pageSize) {
+            List<JobKey> batch = keys.subList(from, Math.min(from + pageSize, keys.size()));
+            Integer count = transactionTemplate.execute(tx -> {
+                Set<Long> activeIds = activeIdsOf(batch);
+                List<JobKey> orphans = batch.stream()
+                        .filter(jobKey -> !activeIds.contains(workflowIdOf(jobKey)))
+                        .toList();
+                try {
+                    scheduler.deleteJobs(orphans);
+                } catch (SchedulerException e) {
+                    throw new IllegalStateException(e);
+                }
+                return orphans.size();
+            });
+            deleted += count == null ? 0 : count;
+        }
+        return deleted;
+    }
+
+    private Set<Long> activeIdsOf(List<JobKey> jobKeys) {
+        // tick 엔진에서는 워크플로우 상태와 무관하게 워크플로우별 Job 이 모두 고아다.
+        if (schedulerProperties.isTickEngine()) {
+            return Set.of();
+        }
+        Set<Long> workflowIds = new HashSet<>();
+        jobKeys.forEach(jobKey -> workflowIds.add(workflowIdOf(jobKey)));
+        Set<Long> activeIds = new HashSet<>();
+        for (Workflow workflow : workflowRepository.findAllById(workflowIds)) {
+            if (workflow.getStatus() == WorkflowStatus.ACTIVE) {
+                activeIds.add(workflow.getId());
+            }
+        }
+        return activeIds;
+    }
+
+    private Long workflowIdOf(JobKey jobKey) {
+        Long workflowId = parseWorkflowId(jobKey.getName(), CONTENT_JOB_PREFIX);
+        return workflowId != null ? workflowId : parseWorkflowId(jobKey.getName(), UPLOAD_JOB_PREFIX);
+    }
+
+    /**
+     * 복구 직전에 워크플로우를 다시 읽어 상태가 그대로인 것만 등록한다.
+     */
+    private int scheduleInBatches(Set<Long> workflowIds) {
+        int repaired = 0;
+        for (List<Long> batch : partition(workflowIds)) {
+            Integer scheduled = transactionTemplate.execute(tx -> {
+                LocalDateTime now = LocalDateTime.now();
+                Map<JobDetail, Set<? extends Trigger>> jobs = new HashMap<>();
+                List<JobKey> staleKeys = new ArrayList<>();
+                int count = 0;
+                for (Workflow workflow : workflowRepository.findAllWithRecurrenceRuleByIdIn(batch)) {
+                    if (workflow.getStatus() != WorkflowStatus.ACTIVE) {
+                        continue;
+                    }
+                    try {
+                        workflowFireScheduleService.refresh(workflow, now);
+                        jobs.putAll(schedulerSyncService.buildWorkflowJobs(workflow));
+                        staleKeys.addAll(schedulerSyncService.workflowJobKeys(workflow.getId()));
+                        count++;
+                    } catch (RuntimeException e) {
+                        log.error("워크플로우 {} 스케줄 복구 실패", workflow.getId(), e);
+                    }
+                }
+                try {
+                    scheduler.deleteJobs(staleKeys);
+                    scheduler.scheduleJobs(jobs, true);
+                } catch (SchedulerException e) {
+                    throw new IllegalStateException(e);
+                }
+                return count;
+            });
+            repaired += scheduled == null ? 0 : scheduled;
+        }
+        return repaired;
+    }
+
+    private List<List<Long>> partition(Set<Long> ids) {
+        int pageSize = schedulerProperties.getReconcile().getPageSize();
+        List<Long> sorted = ids.stream().sorted().toList();
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < sorted.size(); from += pageSize) {
+            batches.add(sorted.subList(from, Math.min(from + pageSize, sorted.size())));
+        }
+        return batches;
+    }
+
+    private void count(String type, int amount) {
+        Counter.builder("scheduler.reconcile.repaired")
+                .description("DB-스케줄러 정합성 점검에서 복구한 항목 수")
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    private record Snapshot(Set<Long> activeIds, Map<String, Set<Long>> jobIds) {
+    }
+
+    private record DriftReport(Set<Long> missingWorkflowJobs, Set<JobKey> orphanJobs) {
+
+        Set<String> keys() {
+            Set<String> keys = new HashSet<>();
+            missingWorkflowJobs.forEach(id -> keys.add("missing-workflow-" + id));
+            orphanJobs.forEach(jobKey -> keys.add("orphan-" + jobKey.getName()));
+            return keys;
+        }
+
+        DriftReport confirmedBy(Set<String> previous) {
+            Set<Long> confirmedMissingWorkflowJobs = new HashSet<>(missingWorkflowJobs);
+            confirmedMissingWorkflowJobs.removeIf(id -> !previous.contains("missing-workflow-" + id));
+            Set<JobKey> confirmedOrphanJobs = new HashSet<>(orphanJobs);
+            confirmedOrphanJobs.removeIf(jobKey -> !previous.contains("orphan-" + jobKey.getName()));
+            return new DriftReport(confirmedMissingWorkflowJobs, confirmedOrphanJobs);
+        }
+
+        boolean isEmpty() {
+            return missingWorkflowJobs.isEmpty() && orphanJobs.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.workflow.domain.RecurrenceRule;
+import com.ocp.ocp_finalproject.workflow.dto.ScheduleForecastRuleDto;
+import com.ocp.ocp_finalproject.workflow.dto.response.ScheduleForecastBucketResponse;
+import com.ocp.ocp_finalproject.workflow.dto.response.ScheduleForecastResponse;
+import com.ocp.ocp_finalproject.workflow.enums.ForecastGranularity;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowRunType;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
+import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
+import com.ocp.ocp_finalproject.workflow.util.RecurrenceRuleCronConverter;
+import com.ocp.ocp_finalproject.workflow.util.RecurrenceRuleFireTimeCalculator;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.CronExpression;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 앞으로 실행될 콘텐츠 생성 / 블로그 업로드 수를 분·시간 단위로 예측한다. (워커 풀, OpenAI 쿼터 산정용)
+ *
+ * <p>규칙마다 실행 시각을 하나씩 펼치지 않고, 같은 Cron 표현식을 쓰는 규칙을 묶어 표현식당 한 번만 실행 시각을
+ * 계산한다. 각 실행 시각에 실제로 실행되는 규칙 수는 묶음 안의 startAt / endAt 정렬 배열을 이분 탐색해 구한다.
+ * 콘텐츠 생성은 워크플로우마다 초 단위 지터가 붙어 Cron 표현식이 모두 달라지므로, 지터를 뺀 표현식(-1시간)으로 묶고
+ * 묶음 안에서 같은 지터끼리 나눠 실행 시각에 지터를 더해 누적한다.
+ * Quartz Trigger 는 만들지 않으며, Cron 변환과 묶음 계산은 병렬로 수행한다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleForecastService {
+
+    private static final List<WorkflowStatus> FORECAST_STATUSES = List.of(WorkflowStatus.ACTIVE, WorkflowStatus.PENDING);
+
+    private final WorkflowRepository workflowRepository;
+    private final ContentJitterPolicy contentJitterPolicy;
+    private final SchedulerProperties schedulerProperties;
+
+    @Transactional(readOnly = true)
+    public ScheduleForecastResponse forecast(LocalDateTime from, LocalDateTime to, ForecastGranularity granularity) {
+        long startedAt = System.nanoTime();
+        LocalDateTime rangeFrom = from.truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime rangeTo = to.truncatedTo(ChronoUnit.MINUTES);
+        int minutes = (int) ChronoUnit.MINUTES.between(rangeFrom, rangeTo);
+
+        List<ScheduleForecastRuleDto> rules = loadRules(rangeFrom, rangeTo);
+
+        // 1. 규칙 -> (실행 종류, 지터를 뺀 Cron 표현식) 별 실행 기간 묶음
+        Map<CronGroupKey, List<ActiveWindow>> groups = rules.parallelStream()
+                .flatMap(this::toCronEntries)
+                .collect(Collectors.groupingByConcurrent(
+                        CronEntry::key,
+                        Collectors.mapping(CronEntry::window, Collectors.toList())
+                ));
+
+        // 2. 묶음마다 실행 시각을 한 번만 계산해 분 단위 히스토그램에 누적
+        Histogram histogram = new Histogram(rangeFrom, minutes);
+        groups.entrySet().parallelStream()
+                .forEach(group -> accumulate(group.getKey(), group.getValue(), histogram, rangeTo));
+
+        ScheduleForecastResponse response = histogram.toResponse(rangeTo, granularity, rules.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("스케줄 부하 예측 - 규칙 {}개, Cron 묶음 {}개, 구간 {} ~ {}, 소요 {}ms",
+                rules.size(), groups.size(), rangeFrom, rangeTo, response.getElapsedMillis());
+        return response;
+    }
+
+    private List<ScheduleForecastRuleDto> loadRules(LocalDateTime from, LocalDateTime to) {
+        int pageSize = schedulerProperties.getBootstrap().getPageSize();
+        List<ScheduleForecastRuleDto> rules = new ArrayList<>();
+        long lastId = 0L;
+        while (true) {
+            List<ScheduleForecastRuleDto> page = workflowRepository.findForecastRulesAfterId(
+                    FORECAST_STATUSES, from, to, lastId, PageRequest.of(0, pageSize));
+            rules.addAll(page);
+            if (page.size() < pageSize) {
+                return rules;
+            }
+            lastId = page.get(page.size() - 1).getWorkflowId();
+        }
+    }
+
+    private Stream<CronEntry> toCronEntries(ScheduleForecastRuleDto dto) {
+        try {
+            RecurrenceRule rule = dto.toRecurrenceRule();
+            ActiveWindow window = new ActiveWindow(toEpochSecond(rule.getStartAt()),
+                    rule.getEndAt() == null ? Long.MAX_VALUE : toEpochSecond(rule.getEndAt()));
+
+            ActiveWindow jitteredWindow = window.withJitter(contentJitterPolicy.jitterFor(dto.getWorkflowId()).toSeconds());
+
+            List<CronEntry> entries = new ArrayList<>();
+            for (String cron : RecurrenceRuleCronConverter.toCronExpressionsWithOffset(
+                    rule, RecurrenceRuleFireTimeCalculator.CONTENT_GENERATION_OFFSET)) {
+                entries.add(new CronEntry(new CronGroupKey(WorkflowRunType.CONTENT_GENERATION, cron), jitteredWindow));
+            }
+            for (String cron : RecurrenceRuleCronConverter.toCronExpressions(rule)) {
+                entries.add(new CronEntry(new CronGroupKey(WorkflowRunType.BLOG_UPLOAD, cron), window));
+            }
+            return entries.stream();
+        } catch (RuntimeException e) {
+            log.warn("워크플로우 {} 반복 규칙을 예측에서 제외합니다.", dto.getWorkflowId(), e);
+            return Stream.empty();
+        }
+    }
+
+    private void accumulate(CronGroupKey key, List<ActiveWindow> windows, Histogram histogram, LocalDateTime rangeTo) {
+        // 같은 지터끼리 startAt / endAt 정렬 배열을 만든다. (블로그 업로드는 지터가 없어 하나)
+        List<JitterGroup> jitterGroups = windows.stream()
+                .collect(Collectors.groupingBy(ActiveWindow::jitterSeconds))
+                .entrySet().stream()
+                .map(entry -> new JitterGroup(entry.getKey(),
+                        entry.getValue().stream().mapToLong(ActiveWindow::startAt).sorted().toArray(),
+                        entry.getValue().stream().mapToLong(ActiveWindow::endAt).sorted().toArray()))
+                .toList();
+        long minStart = jitterGroups.stream().mapToLong(group -> group.starts()[0]).min().orElseThrow();
+        long maxEnd = jitterGroups.stream().mapToLong(group -> group.ends()[group.ends().length - 1]).max().orElseThrow();
+        long maxJitter = jitterGroups.stream().mapToLong(JitterGroup::jitterSeconds).max().orElseThrow();
+
+        CronExpression cronExpression = RecurrenceRuleFireTimeCalculator.parse(key.cron());
+        // 묶음에서 가장 먼저 시작하는 규칙 이전 시각은 계산하지 않는다. (지터를 더하기 전 시각 기준)
+        long rangeStart = Math.max(minStart, toEpochSecond(histogram.from()));
+        long rangeEnd = Math.min(maxEnd, toEpochSecond(rangeTo) - 1);
+
+        Date next = cronExpression.getNextValidTimeAfter(new Date((rangeStart - maxJitter - 1) * 1000));
+        while (next != null) {
+            long baseFireAt = next.getTime() / 1000;
+            if (baseFireAt > rangeEnd) {
+                break;
+            }
+            for (JitterGroup group : jitterGroups) {
+                long fireAt = baseFireAt + group.jitterSeconds();
+                if (fireAt < rangeStart || fireAt > rangeEnd) {
+                    continue;
+                }
+                // startAt <= fireAt <= endAt 인 규칙 수
+                long count = upperBound(group.starts(), fireAt) - lowerBound(group.ends(), fireAt);
+                if (count > 0) {
+                    histogram.add(key.type(), fireAt, count);
+                }
+            }
+            next = cronExpression.getNextValidTimeAfter(next);
+        }
+    }
+
+    // value 이하인 원소 수
+    private static int upperBound(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index + 1 < sorted.length && sorted[index + 1] == value) {
+            index++;
+        }
+        return index + 1;
+    }
+
+    // value 미만인 원소 수
+    private static int lowerBound(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && sorted[index - 1] == value) {
+            index--;
+        }
+        return index;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private record CronGroupKey(WorkflowRunType type, String cron) {
+    }
+
+    private record ActiveWindow(long startAt, long endAt, long jitterSeconds) {
+
+        ActiveWindow(long startAt, long endAt) {
+            this(startAt, endAt, 0);
+        }
+
+        ActiveWindow withJitter(long jitterSeconds) {
+            return new ActiveWindow(startAt, endAt, jitterSeconds);
+        }
+    }
+
+    private record JitterGroup(long jitterSeconds, long[] starts, long[] ends) {
+    }
+
+    private record CronEntry(CronGroupKey key, ActiveWindow window) {
+    }
+
+    /**
+     * [from, from + minutes) 구간의 분 단위 실행 수. 여러 스레드에서 동시에 누적한다.
+     */
+    private record Histogram(LocalDateTime from, long fromEpochSecond, AtomicLongArray contentGenerations,
+                             AtomicLongArray blogUploads) {
+
+        Histogram(LocalDateTime from, int minutes) {
+            this(from, toEpochSecond(from), new AtomicLongArray(minutes), new AtomicLongArray(minutes));
+        }
+
+        void add(WorkflowRunType type, long fireAtEpochSecond, long count) {
+            int minute = (int) ((fireAtEpochSecond - fromEpochSecond) / 60);
+            if (type == WorkflowRunType.CONTENT_GENERATION) {
+                contentGenerations.addAndGet(minute, count);
+            } else {
+                blogUploads.addAndGet(minute, count);
+            }
+        }
+
+        ScheduleForecastResponse toResponse(LocalDateTime to, ForecastGranularity granularity, int ruleCount, long elapsedMillis) {
+            long totalContentGenerations = 0;
+            long totalBlogUploads = 0;
+            int peakIndex = -1;
+            long peakTotal = 0;
+            Map<LocalDateTime, long[]> buckets = new TreeMap<>();
+
+            for (int i = 0; i < contentGenerations.length(); i++) {
+                long content = contentGenerations.get(i);
+                long upload = blogUploads.get(i);
+                if (content == 0 && upload == 0) {
+                    continue;
+                }
+                totalContentGenerations += content;
+                totalBlogUploads += upload;
+                if (content + upload > peakTotal) {
+                    peakTotal = content + upload;
+                    peakIndex = i;
+                }
+
+                LocalDateTime bucketAt = from.plusMinutes(i).truncatedTo(granularity.getUnit());
+                long[] bucket = buckets.computeIfAbsent(bucketAt, at -> new long[2]);
+                bucket[0] += content;
+                bucket[1] += upload;
+            }
+
+            return ScheduleForecastResponse.builder()
+                    .from(from)
+                    .to(to)
+                    .granularity(granularity)
+                    .ruleCount(ruleCount)
+                    .totalContentGenerations(totalContentGenerations)
+                    .totalBlogUploads(totalBlogUploads)
+                    .peakMinute(peakIndex < 0 ? null : toBucket(from.plusMinutes(peakIndex),
+                            contentGenerations.get(peakIndex), blogUploads.get(peakIndex)))
+                    .buckets(buckets.entrySet().stream()
+                            .map(entry -> toBucket(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                            .toList())
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        }
+
+        private static ScheduleForecastBucketResponse toBucket(LocalDateTime at, long contentGenerations, long blogUploads) {
+            return ScheduleForecastBucketResponse.builder()
+                    .at(at)
+                    .contentGenerations(contentGenerations)
+                    .blogUploads(blogUploads)
+                    .total(contentGenerations + blogUploads)
+                    .build();
+        }
+    }
+}
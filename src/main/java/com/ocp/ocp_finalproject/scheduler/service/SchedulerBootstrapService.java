@@ -0,0 +1,207 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.workflow.domain.Workflow;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
+import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기동 시 ACTIVE / PENDING 워크플로우의 스케줄을 일괄 등록한다. (PENDING 은 다음 실행 시각만 계산)
+ *
+ * <p>워크플로우를 id 키셋 페이지 단위로 읽고, 페이지마다 Job/Trigger 생성을 여러 스레드로 나눠 수행한 뒤
+ * {@link Scheduler#scheduleJobs(Map, boolean)} 한 번으로 등록한다. 워크플로우 1건씩
+ * checkExists/deleteJob/scheduleJob 을 반복하던 방식보다 JobStore 왕복 횟수가 페이지 수 수준으로 줄어든다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerBootstrapService {
+
+    private final WorkflowRepository workflowRepository;
+    private final SchedulerSyncService schedulerSyncService;
+    private final WorkflowFireScheduleService workflowFireScheduleService;
+    private final SchedulerProperties schedulerProperties;
+    private final Scheduler scheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public void bootstrap() throws SchedulerException {
+        long startedAt = System.nanoTime();
+        int parallelism = Math.max(1, schedulerProperties.getBootstrap().getParallelism());
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+
+        BootstrapResult active;
+        BootstrapResult pending;
+        try {
+            active = bootstrap(WorkflowStatus.ACTIVE, schedulerSyncService::buildWorkflowJobs, executor, parallelism);
+            // PENDING 은 실행 Job 없이 next_fire_at 만 계산한다. (활성화는 생애주기 스위퍼가 처리)
+            pending = bootstrap(WorkflowStatus.PENDING, workflow -> Map.of(), executor, parallelism);
+        } finally {
+            executor.shutdown();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        String engine = schedulerProperties.getEngine().name().toLowerCase();
+        Timer.builder("scheduler.bootstrap.duration")
+                .description("기동 시 워크플로우 스케줄 일괄 등록 소요 시간")
+                .tag("engine", engine)
+                .register(meterRegistry)
+                .record(elapsed);
+        recordCount(WorkflowStatus.ACTIVE, active);
+        recordCount(WorkflowStatus.PENDING, pending);
+
+        log.info("스케줄 부트스트랩 완료 - engine={} ACTIVE {}건(실패 {}), PENDING {}건(실패 {}), 소요 {}ms",
+                engine, active.registered(), active.failed(), pending.registered(), pending.failed(), elapsed.toMillis());
+    }
+
+    private BootstrapResult bootstrap(WorkflowStatus status,
+                                      Function<Workflow, Map<JobDetail, Set<? extends Trigger>>> jobBuilder,
+                                      ExecutorService executor,
+                                      int parallelism) throws SchedulerException {
+        int pageSize = schedulerProperties.getBootstrap().getPageSize();
+        long total = workflowRepository.countByStatus(status);
+        boolean persistentStore = scheduler.getMetaData().isJobStoreSupportsPersistence();
+
+        long lastId = 0L;
+        int processed = 0;
+        int registered = 0;
+        int failed = 0;
+
+        while (true) {
+            List<Workflow> workflows = loadPage(status, lastId, pageSize);
+            if (workflows.isEmpty()) {
+                break;
+            }
+            lastId = workflows.get(workflows.size() - 1).getId();
+
+            List<PageChunk> chunks = buildInParallel(workflows, jobBuilder, executor, parallelism);
+            Map<JobDetail, Set<? extends Trigger>> jobs = new HashMap<>();
+            int pageFailed = 0;
+            for (PageChunk chunk : chunks) {
+                jobs.putAll(chunk.jobs());
+                pageFailed += chunk.failed();
+            }
+
+            try {
+                if (persistentStore) {
+                    // 이전 기동에서 남은 Job(상태가 바뀐 워크플로우의 Job 포함)을 한 번에 정리한다.
+                    scheduler.deleteJobs(staleJobKeys(workflows));
+                }
+                scheduler.scheduleJobs(jobs, true);
+                registered += workflows.size() - pageFailed;
+                failed += pageFailed;
+            } catch (SchedulerException e) {
+                log.error("스케줄 부트스트랩 페이지 등록 실패 - status={} lastId={}", status, lastId, e);
+                failed += workflows.size();
+            }
+
+            processed += workflows.size();
+            log.info("스케줄 부트스트랩 진행 - {} {}/{} ({}%)",
+                    status, processed, total, total == 0 ? 100 : processed * 100 / total);
+
+            if (workflows.size() < pageSize) {
+                break;
+            }
+        }
+        return new BootstrapResult(registered, failed);
+    }
+
+    /**
+     * 한 페이지를 읽으면서 next_fire_at 컬럼도 함께 갱신한다. (변경된 행만 UPDATE)
+     */
+    private List<Workflow> loadPage(WorkflowStatus status, long lastId, int pageSize) {
+        return transactionTemplate.execute(tx -> {
+            List<Workflow> workflows = workflowRepository.findPageByStatusAfterId(status, lastId, PageRequest.of(0, pageSize));
+            LocalDateTime now = LocalDateTime.now();
+            for (Workflow workflow : workflows) {
+                try {
+                    workflowFireScheduleService.refresh(workflow, now);
+                } catch (RuntimeException e) {
+                    log.warn("워크플로우 {} 다음 실행 시각 계산 실패", workflow.getId(), e);
+                }
+            }
+            return workflows;
+        });
+    }
+
+    private List<PageChunk> buildInParallel(List<Workflow> workflows,
+                                            Function<Workflow, Map<JobDetail, Set<? extends Trigger>>> jobBuilder,
+                                            ExecutorService executor,
+                                            int parallelism) {
+        int chunkSize = (workflows.size() + parallelism - 1) / parallelism;
+        List<CompletableFuture<PageChunk>> futures = new ArrayList<>();
+        for (int from = 0; from < workflows.size(); from += chunkSize) {
+            List<Workflow> chunk = workflows.subList(from, Math.min(from + chunkSize, workflows.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> buildChunk(chunk, jobBuilder), executor));
+        }
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private PageChunk buildChunk(List<Workflow> workflows,
+                                 Function<Workflow, Map<JobDetail, Set<? extends Trigger>>> jobBuilder) {
+        Map<JobDetail, Set<? extends Trigger>> jobs = new HashMap<>();
+        int failed = 0;
+        for (Workflow workflow : workflows) {
+            try {
+                jobs.putAll(jobBuilder.apply(workflow));
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("워크플로우 스케줄 생성 실패: {}", workflow.getId(), e);
+            }
+        }
+        return new PageChunk(jobs, failed);
+    }
+
+    private List<JobKey> staleJobKeys(List<Workflow> workflows) {
+        List<JobKey> jobKeys = new ArrayList<>();
+        for (Workflow workflow : workflows) {
+            jobKeys.addAll(schedulerSyncService.workflowJobKeys(workflow.getId()));
+        }
+        return jobKeys;
+    }
+
+    private void recordCount(WorkflowStatus status, BootstrapResult result) {
+        Counter.builder("scheduler.bootstrap.workflows")
+                .tag("status", status.name())
+                .tag("result", "registered")
+                .register(meterRegistry)
+                .increment(result.registered());
+        Counter.builder("scheduler.bootstrap.workflows")
+                .tag("status", status.name())
+                .tag("result", "failed")
+                .register(meterRegistry)
+                .increment(result.failed());
+    }
+
+    private record PageChunk(Map<JobDetail, Set<? extends Trigger>> jobs, int failed) {
+    }
+
+    private record BootstrapResult(int registered, int failed) {
+    }
+}
@@ -1,40 +1,67 @@
 package com.ocp.ocp_finalproject.scheduler.service;
 
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
 import com.ocp.ocp_finalproject.scheduler.job.BlogUploadJob;
 import com.ocp.ocp_finalproject.scheduler.job.ContentGenerationJob;
-import com.ocp.ocp_finalproject.scheduler.job.WorkflowActivationJob;
-import com.ocp.ocp_finalproject.scheduler.job.WorkflowExpirationJob;
+import com.ocp.ocp_finalproject.scheduler.job.DueWorkflowTickJob;
+import com.ocp.ocp_finalproject.scheduler.job.MisfireCatchUpJob;
+import com.ocp.ocp_finalproject.scheduler.job.ScheduleDriftReconcileJob;
+import com.ocp.ocp_finalproject.scheduler.job.WorkflowLifecycleSweepJob;
 import com.ocp.ocp_finalproject.workflow.domain.Workflow;
 import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
 import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
 import com.ocp.ocp_finalproject.workflow.util.RecurrenceRuleCronConverter;
-import java.time.Duration;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.quartz.*;
+import org.quartz.impl.matchers.GroupMatcher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 워크플로우 상태에 맞춰 Quartz Job/Trigger를 등록·삭제한다.
+ *
+ * <p>스케줄 변경 메서드는 대부분 {@code afterCommit} 콜백에서 호출된다. JDBC JobStore(클러스터 모드)는
+ * 현재 스레드에 바인딩된 커넥션을 재사용하므로, 이미 커밋이 끝난 트랜잭션에 QRTZ_ 테이블 변경이 섞여
+ * 유실되지 않도록 항상 새 트랜잭션(REQUIRES_NEW)에서 실행한다.</p>
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SchedulerSyncService {
 
-    private static final Duration CONTENT_JOB_OFFSET = Duration.ofHours(-1);
     private static final String CONTENT_JOB_PREFIX = "content-generate-";
     private static final String CONTENT_TRIGGER_PREFIX = "content-generate-trigger-";
     private static final String UPLOAD_JOB_PREFIX = "blog-upload-";
     private static final String UPLOAD_TRIGGER_PREFIX = "blog-upload-trigger-";
-    private static final String EXPIRATION_JOB_PREFIX = "workflow-expiration-";
-    private static final String EXPIRATION_TRIGGER_PREFIX = "workflow-expiration-trigger-";
-    private static final String ACTIVATION_JOB_PREFIX = "workflow-activation-";
-    private static final String ACTIVATION_TRIGGER_PREFIX = "workflow-activation-trigger-";
+    // 예전 워크플로우별 1회성 활성화/만료 Job (생애주기 스위퍼로 대체, 기동 시 정리)
+    private static final List<String> LEGACY_LIFECYCLE_JOB_PREFIXES = List.of("workflow-expiration-", "workflow-activation-");
+    private static final JobKey TICK_JOB_KEY = new JobKey("due-workflow-tick");
+    private static final String TICK_TRIGGER_KEY = "due-workflow-tick-trigger";
+    private static final JobKey LIFECYCLE_SWEEP_JOB_KEY = new JobKey("workflow-lifecycle-sweep");
+    private static final String LIFECYCLE_SWEEP_TRIGGER_KEY = "workflow-lifecycle-sweep-trigger";
+    private static final JobKey CATCH_UP_JOB_KEY = new JobKey("misfire-catch-up");
+    private static final String CATCH_UP_TRIGGER_KEY = "misfire-catch-up-trigger";
+    private static final JobKey RECONCILE_JOB_KEY = new JobKey("schedule-drift-reconcile");
+    private static final String RECONCILE_TRIGGER_KEY = "schedule-drift-reconcile-trigger";
 
     private  final WorkflowRepository workflowRepository;
     private final Scheduler scheduler;
+    private final SchedulerProperties schedulerProperties;
+    private final WorkflowFireScheduleService workflowFireScheduleService;
+    private final ContentJitterPolicy contentJitterPolicy;
+    private final TriggerReconciler triggerReconciler;
 
     public void startSchedulerIfNeeded() throws SchedulerException {
         if (!scheduler.isStarted()) {
@@ -42,6 +69,125 @@ public class SchedulerSyncService {
         }
     }
 
+    /**
+     * 워크플로우 수와 무관한 전역 Job 을 등록한다.
+     * 생애주기(활성화/만료) 스위퍼는 항상, 정합성 점검은 켜져 있을 때만, 1분 주기 tick Job 은 tick 엔진일 때만 존재한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void registerGlobalJobs() throws SchedulerException {
+        purgeLegacyLifecycleJobs();
+        registerLifecycleSweepJob();
+        registerReconcileJob();
+
+        if (!schedulerProperties.isTickEngine()) {
+            scheduler.deleteJob(TICK_JOB_KEY);
+            return;
+        }
+
+        JobDetail tickJob = JobBuilder.newJob(DueWorkflowTickJob.class)
+                .withIdentity(TICK_JOB_KEY)
+                .storeDurably()
+                .build();
+
+        // 밀린 tick 은 다음 tick 이 next_fire_at <= now 조건으로 한꺼번에 처리하므로 재실행하지 않는다.
+        Trigger tickTrigger = TriggerBuilder.newTrigger()
+                .withIdentity(TICK_TRIGGER_KEY)
+                .forJob(tickJob)
+                .withSchedule(CronScheduleBuilder.cronSchedule(schedulerProperties.getTick().getCron())
+                        .withMisfireHandlingInstructionDoNothing())
+                .build();
+
+        scheduler.scheduleJob(tickJob, Set.of(tickTrigger), true);
+    }
+
+    private void registerLifecycleSweepJob() throws SchedulerException {
+        JobDetail sweepJob = JobBuilder.newJob(WorkflowLifecycleSweepJob.class)
+                .withIdentity(LIFECYCLE_SWEEP_JOB_KEY)
+                .storeDurably()
+                .build();
+
+        // 스위퍼는 startAt/endAt <= now 조건으로 밀린 대상까지 한 번에 처리하므로 밀린 실행은 버린다.
+        Trigger sweepTrigger = TriggerBuilder.newTrigger()
+                .withIdentity(LIFECYCLE_SWEEP_TRIGGER_KEY)
+                .forJob(sweepJob)
+                .withSchedule(CronScheduleBuilder.cronSchedule(schedulerProperties.getLifecycleSweep().getCron())
+                        .withMisfireHandlingInstructionDoNothing())
+                .build();
+
+        scheduler.scheduleJob(sweepJob, Set.of(sweepTrigger), true);
+    }
+
+    private void registerReconcileJob() throws SchedulerException {
+        SchedulerProperties.Reconcile reconcile = schedulerProperties.getReconcile();
+        if (!reconcile.isEnabled()) {
+            scheduler.deleteJob(RECONCILE_JOB_KEY);
+            return;
+        }
+
+        JobDetail reconcileJob = JobBuilder.newJob(ScheduleDriftReconcileJob.class)
+                .withIdentity(RECONCILE_JOB_KEY)
+                .storeDurably()
+                .build();
+
+        // 점검은 매번 전체를 비교하므로 밀린 실행은 버린다. 첫 실행은 기동 직후 등록이 끝난 뒤로 미룬다.
+        long intervalMillis = reconcile.getFixedDelay().toMillis();
+        Trigger reconcileTrigger = TriggerBuilder.newTrigger()
+                .withIdentity(RECONCILE_TRIGGER_KEY)
+                .forJob(reconcileJob)
+                .startAt(new Date(System.currentTimeMillis() + intervalMillis))
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInMilliseconds(intervalMillis)
+                        .repeatForever()
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+
+        scheduler.scheduleJob(reconcileJob, Set.of(reconcileTrigger), true);
+    }
+
+    private void purgeLegacyLifecycleJobs() throws SchedulerException {
+        List<JobKey> legacyJobKeys = scheduler.getJobKeys(GroupMatcher.jobGroupEquals(Scheduler.DEFAULT_GROUP)).stream()
+                .filter(jobKey -> LEGACY_LIFECYCLE_JOB_PREFIXES.stream().anyMatch(jobKey.getName()::startsWith))
+                .toList();
+        if (!legacyJobKeys.isEmpty()) {
+            scheduler.deleteJobs(legacyJobKeys);
+            log.info("워크플로우별 활성화/만료 Job {}건 정리 (생애주기 스위퍼로 대체)", legacyJobKeys.size());
+        }
+    }
+
+    /**
+     * 놓친 실행 재실행 Job 을 1회 등록한다. 이미 다른 노드가 등록해 실행 중이면 건너뛴다.
+     *
+     * @param until 이 시각까지 예정됐던 실행이 재실행 대상 (스케줄 재등록 직전 시각)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void scheduleMisfireCatchUp(LocalDateTime until) throws SchedulerException {
+        if (!schedulerProperties.getCatchUp().isEnabled()) {
+            return;
+        }
+
+        // 실행이 끝나면 Trigger 와 함께 삭제되도록 durable 로 두지 않는다. 도중에 노드가 죽으면 다른 노드가 이어서 실행한다.
+        JobDetail catchUpJob = JobBuilder.newJob(MisfireCatchUpJob.class)
+                .withIdentity(CATCH_UP_JOB_KEY)
+                .usingJobData("until", until.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .requestRecovery()
+                .build();
+
+        Trigger catchUpTrigger = TriggerBuilder.newTrigger()
+                .withIdentity(CATCH_UP_TRIGGER_KEY)
+                .forJob(catchUpJob)
+                .startNow()
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withMisfireHandlingInstructionFireNow())
+                .build();
+
+        try {
+            scheduler.scheduleJob(catchUpJob, catchUpTrigger);
+        } catch (ObjectAlreadyExistsException e) {
+            log.info("놓친 실행 재실행 Job 이 이미 등록되어 있어 건너뜁니다.");
+        }
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void registerWorkflowJobs(Long workflowId) throws SchedulerException {
         Workflow workflow = workflowRepository.findByIdWithRecurrenceRule(workflowId)
                 .orElseThrow();
@@ -49,167 +195,167 @@ public class SchedulerSyncService {
         registerWorkflowJobs(workflow);
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void registerWorkflowJobs(Workflow workflow) throws SchedulerException {
         if (workflow.getStatus() != WorkflowStatus.ACTIVE) {
             throw new IllegalStateException("ACTIVE 상태의 워크플로우만 스케줄링할 수 있습니다. id=" + workflow.getId());
         }
 
-        removeActivationJob(workflow.getId());
+        // 엔진과 무관하게 next_fire_at 컬럼은 항상 최신으로 유지한다. (조회·예측용 인덱스)
+        workflowFireScheduleService.refresh(workflow.getId());
 
-        // 1. 콘텐츠 생성 Job/Trigger 생성 (블로그 업로드보다 1시간 빠르게 실행)
-        JobDetail contentJob = JobBuilder.newJob(ContentGenerationJob.class)
-                .withIdentity(CONTENT_JOB_PREFIX + workflow.getId())
-                .usingJobData("workflowId", workflow.getId())
-                .storeDurably()
-                .build();
+        Map<JobDetail, Set<? extends Trigger>> jobs = buildWorkflowJobs(workflow);
+        scheduler.deleteJobs(workflowJobKeys(workflow.getId()));
+        scheduler.scheduleJobs(jobs, true);
+    }
+
+    /**
+     * ACTIVE 워크플로우에 필요한 Job/Trigger 를 만든다. 스케줄러에는 등록하지 않으므로 여러 스레드에서 호출해도 된다.
+     * Quartz 엔진: 콘텐츠 생성 + 블로그 업로드, tick 엔진: 워크플로우별 Job 없음.
+     * 활성화/만료는 {@link WorkflowLifecycleSweepService} 가 처리한다.
+     */
+    public Map<JobDetail, Set<? extends Trigger>> buildWorkflowJobs(Workflow workflow) {
+        Map<JobDetail, Set<? extends Trigger>> jobs = new LinkedHashMap<>();
+
+        if (!schedulerProperties.isTickEngine()) {
+            // 1. 콘텐츠 생성 Job/Trigger 생성 (블로그 업로드보다 1시간 빠르게 실행, 지터만큼 늦춰 분산)
+            JobDetail contentJob = JobBuilder.newJob(ContentGenerationJob.class)
+                    .withIdentity(CONTENT_JOB_PREFIX + workflow.getId())
+                    .usingJobData("workflowId", workflow.getId())
+                    .storeDurably()
+                    .build();
+
+            List<String> contentCronExpressions = RecurrenceRuleCronConverter
+                    .toCronExpressionsWithOffset(workflow.getRecurrenceRule(), contentJitterPolicy.contentOffset(workflow.getId()));
+            if (contentCronExpressions.isEmpty()) {
+                throw new IllegalStateException("콘텐츠 생성 Cron 표현식을 하나 이상 생성해야 합니다.");
+            }
+            jobs.put(contentJob, new HashSet<>(buildTriggers(
+                    contentJob,
+                    contentCronExpressions,
+                    CONTENT_TRIGGER_PREFIX + workflow.getId()
+            )));
 
-        List<String> contentCronExpressions = RecurrenceRuleCronConverter
-                .toCronExpressionsWithOffset(workflow.getRecurrenceRule(), CONTENT_JOB_OFFSET);
-        if (contentCronExpressions.isEmpty()) {
-            throw new IllegalStateException("콘텐츠 생성 Cron 표현식을 하나 이상 생성해야 합니다.");
+            // 2. 블로그 업로드 Job
+            JobDetail uploadJob = JobBuilder.newJob(BlogUploadJob.class)
+                    .withIdentity(UPLOAD_JOB_PREFIX + workflow.getId())
+                    .usingJobData("workflowId", workflow.getId())
+                    .storeDurably()
+                    .build();
+
+            List<String> cronExpressions = RecurrenceRuleCronConverter.toCronExpressions(workflow.getRecurrenceRule());
+            if (cronExpressions.isEmpty()) {
+                throw new IllegalStateException("Blog upload Cron 표현식을 하나 이상 생성해야 합니다.");
+            }
+            jobs.put(uploadJob, new HashSet<>(buildTriggers(
+                    uploadJob,
+                    cronExpressions,
+                    UPLOAD_TRIGGER_PREFIX + workflow.getId()
+            )));
         }
-        List<Trigger> contentTriggers = buildTriggers(
-                contentJob,
-                contentCronExpressions,
-                CONTENT_TRIGGER_PREFIX + workflow.getId()
+        return jobs;
+    }
+
+    /**
+     * 워크플로우 1건에 속한 실행 Job 키 (콘텐츠 생성, 블로그 업로드).
+     */
+    public List<JobKey> workflowJobKeys(Long workflowId) {
+        return List.of(
+                new JobKey(CONTENT_JOB_PREFIX + workflowId),
+                new JobKey(UPLOAD_JOB_PREFIX + workflowId)
         );
-        if (scheduler.checkExists(contentJob.getKey())) {
-            scheduler.deleteJob(contentJob.getKey());
+    }
+
+    /**
+     * 이미 등록된 워크플로우의 스케줄을 현재 상태에 맞춘다.
+     * Job 을 지우고 다시 만들지 않고, 달라진 Trigger 만 추가/삭제/변경한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateWorkflowJobs(Long workflowId) throws SchedulerException {
+        Workflow workflow = workflowRepository.findByIdWithRecurrenceRule(workflowId)
+                .orElseThrow();
+        if (workflow.getStatus() != WorkflowStatus.ACTIVE) {
+            throw new IllegalStateException("ACTIVE 상태의 워크플로우만 스케줄링할 수 있습니다. id=" + workflowId);
         }
-        scheduler.scheduleJob(contentJob, new HashSet<>(contentTriggers), true);
 
-        // 2. 블로그 업로드 Job
-        JobDetail uploadJob = JobBuilder.newJob(BlogUploadJob.class)
-                .withIdentity(UPLOAD_JOB_PREFIX + workflow.getId())
-                .usingJobData("workflowId", workflow.getId())
-                .storeDurably()
-                .build();
+        workflowFireScheduleService.refresh(workflowId);
 
-        List<String> cronExpressions = RecurrenceRuleCronConverter.toCronExpressions(workflow.getRecurrenceRule());
-        if (cronExpressions.isEmpty()) {
-            throw new IllegalStateException("Blog upload Cron 표현식을 하나 이상 생성해야 합니다.");
+        Map<JobDetail, Set<? extends Trigger>> desiredJobs = buildWorkflowJobs(workflow);
+        Set<JobKey> desiredJobKeys = new HashSet<>();
+        TriggerReconciler.Result result = new TriggerReconciler.Result(0, 0, 0);
+        for (Map.Entry<JobDetail, Set<? extends Trigger>> entry : desiredJobs.entrySet()) {
+            desiredJobKeys.add(entry.getKey().getKey());
+            result = result.plus(triggerReconciler.reconcile(entry.getKey(), entry.getValue()));
         }
-        List<Trigger> uploadTriggers = buildTriggers(
-                uploadJob,
-                cronExpressions,
-                UPLOAD_TRIGGER_PREFIX + workflow.getId()
-        );
 
-        if (scheduler.checkExists(uploadJob.getKey())) {
-            scheduler.deleteJob(uploadJob.getKey());
+        // 더 이상 필요 없는 Job (tick 엔진 전환 등)
+        for (JobKey jobKey : workflowJobKeys(workflowId)) {
+            if (!desiredJobKeys.contains(jobKey)) {
+                scheduler.deleteJob(jobKey);
+            }
         }
-        Set<Trigger> triggerSet = new HashSet<>(uploadTriggers);
-        scheduler.scheduleJob(uploadJob, triggerSet, true);
 
-        // 3. 만료 Job
-        registerExpirationJob(workflow);
+        log.debug("워크플로우 {} 스케줄 갱신 - Trigger 추가 {}, 삭제 {}, 변경 {}",
+                workflowId, result.added(), result.removed(), result.changed());
     }
 
-    public void updateWorkflowJobs(Long workflowId) throws SchedulerException {
-        removeWorkflowJobs(workflowId);
-        registerWorkflowJobs(workflowId);
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void removeWorkflowJobs(Long workflowId) {
+        try {
+            scheduler.deleteJobs(workflowJobKeys(workflowId));
+        } catch (SchedulerException e) {
+            throw new IllegalStateException(e);
+        }
+        workflowFireScheduleService.clear(workflowId);
     }
 
-    public void removeWorkflowJobs(Long workflowId) {
+    /**
+     * 여러 워크플로우의 실행 Job 을 한 번에 삭제한다. (스위퍼의 일괄 만료 처리용)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void removeWorkflowJobs(Collection<Long> workflowIds) {
+        List<JobKey> jobKeys = new ArrayList<>();
+        workflowIds.forEach(workflowId -> jobKeys.addAll(workflowJobKeys(workflowId)));
         try {
-            scheduler.deleteJob(new JobKey(CONTENT_JOB_PREFIX + workflowId));
-            scheduler.deleteJob(new JobKey(UPLOAD_JOB_PREFIX + workflowId));
-            scheduler.deleteJob(new JobKey(EXPIRATION_JOB_PREFIX + workflowId));
+            scheduler.deleteJobs(jobKeys);
         } catch (SchedulerException e) {
             throw new IllegalStateException(e);
         }
+        workflowIds.forEach(workflowFireScheduleService::clear);
     }
 
-    public void registerActivationJob(Long workflowId) throws SchedulerException {
+    /**
+     * PENDING 워크플로우는 실행 Job 없이 대기한다. startAt 이 지나면 생애주기 스위퍼가 ACTIVE 로 전환한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void registerPendingWorkflow(Long workflowId) {
         Workflow workflow = workflowRepository.findByIdWithRecurrenceRule(workflowId)
                 .orElseThrow();
-        registerActivationJob(workflow);
-    }
-
-    public void registerActivationJob(Workflow workflow) throws SchedulerException {
         if (workflow.getRecurrenceRule() == null || workflow.getRecurrenceRule().getStartAt() == null) {
-            removeActivationJob(workflow.getId());
-            throw new IllegalStateException("워크플로우에 startAt 정보가 없습니다. id=" + workflow.getId());
+            throw new IllegalStateException("워크플로우에 startAt 정보가 없습니다. id=" + workflowId);
         }
         if (workflow.getStatus() != WorkflowStatus.PENDING) {
-            removeActivationJob(workflow.getId());
             return;
         }
 
-        removeWorkflowJobs(workflow.getId());
-
-        JobKey jobKey = new JobKey(ACTIVATION_JOB_PREFIX + workflow.getId());
-        JobDetail activationJob = JobBuilder.newJob(WorkflowActivationJob.class)
-                .withIdentity(jobKey)
-                .usingJobData("workflowId", workflow.getId())
-                .build();
-
-        Trigger activationTrigger = TriggerBuilder.newTrigger()
-                .withIdentity(ACTIVATION_TRIGGER_PREFIX + workflow.getId())
-                .forJob(activationJob)
-                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
-                        .withMisfireHandlingInstructionFireNow())
-                .startAt(Date.from(workflow.getRecurrenceRule().getStartAt()
-                        .atZone(ZoneId.systemDefault()).toInstant()))
-                .build();
-
-        if (scheduler.checkExists(jobKey)) {
-            scheduler.deleteJob(jobKey);
-        }
-        scheduler.scheduleJob(activationJob, activationTrigger);
-    }
-
-    public void removeActivationJob(Long workflowId) {
-        try {
-            scheduler.deleteJob(new JobKey(ACTIVATION_JOB_PREFIX + workflowId));
-        } catch (SchedulerException e) {
-            throw new IllegalStateException(e);
-        }
+        removeWorkflowJobs(workflowId);
+        // 대기 중인 워크플로우도 시작 이후 첫 실행 시각을 미리 계산해 둔다. (tick 은 ACTIVE 만 선점)
+        workflowFireScheduleService.refresh(workflowId);
     }
 
     private List<Trigger> buildTriggers(JobDetail job, List<String> cronExpressions, String baseTriggerKey) {
         List<Trigger> triggers = new ArrayList<>();
         for (int i = 0; i < cronExpressions.size(); i++) {
             String triggerId = cronExpressions.size() == 1 ? baseTriggerKey : baseTriggerKey + "-" + (i + 1);
+            // 놓친 실행을 한꺼번에 몰아서 실행하지 않는다. (재실행은 MisfireCatchUpService 가 처리율 제한을 걸어 수행)
             Trigger trigger = TriggerBuilder.newTrigger()
                     .withIdentity(triggerId)
                     .forJob(job)
-                    .withSchedule(CronScheduleBuilder.cronSchedule(cronExpressions.get(i)))
+                    .withSchedule(CronScheduleBuilder.cronSchedule(cronExpressions.get(i))
+                            .withMisfireHandlingInstructionDoNothing())
                     .build();
             triggers.add(trigger);
         }
         return triggers;
     }
-
-    private void registerExpirationJob(Workflow workflow) throws SchedulerException {
-        if (workflow.getRecurrenceRule() == null || workflow.getRecurrenceRule().getEndAt() == null) {
-            removeExpirationJob(workflow.getId());
-            return;
-        }
-
-        JobDetail expirationJob = JobBuilder.newJob(WorkflowExpirationJob.class)
-                .withIdentity(EXPIRATION_JOB_PREFIX + workflow.getId())
-                .usingJobData("workflowId", workflow.getId())
-                .storeDurably()
-                .build();
-
-        Trigger expirationTrigger = TriggerBuilder.newTrigger()
-                .withIdentity(EXPIRATION_TRIGGER_PREFIX + workflow.getId())
-                .forJob(expirationJob)
-                .startAt(Date.from(workflow.getRecurrenceRule().getEndAt()
-                        .atZone(ZoneId.systemDefault()).toInstant()))
-                .build();
-
-        if (scheduler.checkExists(expirationJob.getKey())) {
-            scheduler.deleteJob(expirationJob.getKey());
-        }
-        scheduler.scheduleJob(expirationJob, expirationTrigger);
-    }
-
-    private void removeExpirationJob(Long workflowId) throws SchedulerException {
-        JobKey expirationJobKey = new JobKey(EXPIRATION_JOB_PREFIX + workflowId);
-        if (scheduler.checkExists(expirationJobKey)) {
-            scheduler.deleteJob(expirationJobKey);
-        }
-    }
 }
@@ -0,0 +1,96 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.CronTrigger;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleTrigger;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원하는 Job/Trigger 구성과 스케줄러에 등록된 Trigger 를 비교해 달라진 Trigger 만 반영한다.
+ *
+ * <p>Job 을 지우고 다시 만드는 대신 추가(scheduleJob) / 삭제(unscheduleJob) / 변경(rescheduleJob) 만 수행하므로
+ * endAt 만 바뀐 경우처럼 대부분의 Trigger 가 그대로인 수정에서는 JobStore 쓰기가 거의 발생하지 않는다.
+ * 호출하는 쪽의 트랜잭션 안에서 실행되며, JDBC JobStore 에서는 같은 트랜잭션으로 묶인다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TriggerReconciler {
+
+    private final Scheduler scheduler;
+
+    public Result reconcile(JobDetail job, Set<? extends Trigger> desiredTriggers) throws SchedulerException {
+        if (!scheduler.checkExists(job.getKey())) {
+            scheduler.scheduleJob(job, desiredTriggers, true);
+            return new Result(desiredTriggers.size(), 0, 0);
+        }
+
+        Map<TriggerKey, Trigger> existingTriggers = new HashMap<>();
+        for (Trigger trigger : scheduler.getTriggersOfJob(job.getKey())) {
+            existingTriggers.put(trigger.getKey(), trigger);
+        }
+
+        int added = 0;
+        int changed = 0;
+        for (Trigger desired : desiredTriggers) {
+            Trigger existing = existingTriggers.remove(desired.getKey());
+            if (existing == null) {
+                scheduler.scheduleJob(desired);
+                added++;
+            } else if (!sameSchedule(existing, desired)) {
+                scheduler.rescheduleJob(desired.getKey(), desired);
+                changed++;
+            }
+        }
+
+        // 남은 Trigger 는 더 이상 필요 없는 것 (예: 실행 시각 수가 줄어든 경우)
+        List<TriggerKey> removedKeys = List.copyOf(existingTriggers.keySet());
+        if (!removedKeys.isEmpty()) {
+            scheduler.unscheduleJobs(removedKeys);
+        }
+
+        Result result = new Result(added, removedKeys.size(), changed);
+        if (result.hasChanges()) {
+            log.debug("Trigger 동기화 - job={} 추가 {}, 삭제 {}, 변경 {}", job.getKey(), added, removedKeys.size(), changed);
+        }
+        return result;
+    }
+
+    private boolean sameSchedule(Trigger existing, Trigger desired) {
+        if (existing.getMisfireInstruction() != desired.getMisfireInstruction()) {
+            return false;
+        }
+        if (existing instanceof CronTrigger existingCron && desired instanceof CronTrigger desiredCron) {
+            return Objects.equals(existingCron.getCronExpression(), desiredCron.getCronExpression())
+                    && Objects.equals(existingCron.getTimeZone(), desiredCron.getTimeZone());
+        }
+        if (existing instanceof SimpleTrigger existingSimple && desired instanceof SimpleTrigger desiredSimple) {
+            return Objects.equals(existingSimple.getStartTime(), desiredSimple.getStartTime())
+                    && existingSimple.getRepeatCount() == desiredSimple.getRepeatCount()
+                    && existingSimple.getRepeatInterval() == desiredSimple.getRepeatInterval();
+        }
+        return false;
+    }
+
+    public record Result(int added, int removed, int changed) {
+
+        public boolean hasChanges() {
+            return added + removed + changed > 0;
+        }
+
+        public Result plus(Result other) {
+            return new Result(added + other.added, removed + other.removed, changed + other.changed);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import com.ocp.ocp_finalproject.workflow.domain.Workflow;
+import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
+import com.ocp.ocp_finalproject.workflow.util.RecurrenceRuleFireTimeCalculator;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 워크플로우의 next_content_fire_at / next_upload_fire_at 컬럼을 관리하고,
+ * tick 엔진이 실행 시각이 도래한 워크플로우를 배치 단위로 선점(claim)하도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkflowFireScheduleService {
+
+    private final WorkflowRepository workflowRepository;
+    private final ContentJitterPolicy contentJitterPolicy;
+
+    @Transactional
+    public void refresh(Long workflowId) {
+        Workflow workflow = workflowRepository.findByIdWithRecurrenceRule(workflowId)
+                .orElseThrow();
+        refresh(workflow, LocalDateTime.now());
+    }
+
+    /**
+     * 영속 상태의 워크플로우에 다음 실행 시각을 다시 계산해 반영한다.
+     */
+    public void refresh(Workflow workflow, LocalDateTime now) {
+        workflow.assignContentJitter(contentJitterPolicy.jitterFor(workflow.getId()));
+        workflow.refreshNextFireTimes(now);
+    }
+
+    /**
+     * Quartz 엔진에서 콘텐츠 생성 Job 이 실행된 뒤, 이번 실행 시각 이후의 다음 실행 시각으로 넘긴다.
+     */
+    @Transactional
+    public void advanceContentFireAt(Long workflowId, LocalDateTime firedAt) {
+        workflowRepository.findByIdWithRecurrenceRule(workflowId)
+                .ifPresent(workflow -> workflow.updateNextContentFireAt(nextContentFireTime(workflow, firedAt)));
+    }
+
+    @Transactional
+    public void advanceUploadFireAt(Long workflowId, LocalDateTime firedAt) {
+        workflowRepository.findByIdWithRecurrenceRule(workflowId)
+                .ifPresent(workflow -> workflow.updateNextUploadFireAt(nextUploadFireTime(workflow, firedAt)));
+    }
+
+    @Transactional
+    public void clear(Long workflowId) {
+        workflowRepository.findById(workflowId)
+                .ifPresent(workflow -> workflow.updateNextFireTimes(null, null));
+    }
+
+    /**
+     * 콘텐츠 생성 시각이 지난 워크플로우를 최대 limit 건 선점하고, 같은 트랜잭션에서 다음 실행 시각으로 넘긴다.
+     * 커밋 이후에는 다른 노드의 tick 이 같은 회차를 다시 잡지 않는다.
+     */
+    @Transactional
+    public List<Long> claimDueContentRuns(LocalDateTime now, int limit) {
+        List<Workflow> dueWorkflows = workflowRepository.findDueForContentGeneration(now, PageRequest.of(0, limit));
+        dueWorkflows.forEach(workflow -> workflow.updateNextContentFireAt(nextContentFireTime(workflow, now)));
+        return dueWorkflows.stream()
+                .map(Workflow::getId)
+                .toList();
+    }
+
+    @Transactional
+    public List<Long> claimDueUploadRuns(LocalDateTime now, int limit) {
+        List<Workflow> dueWorkflows = workflowRepository.findDueForBlogUpload(now, PageRequest.of(0, limit));
+        dueWorkflows.forEach(workflow -> workflow.updateNextUploadFireAt(nextUploadFireTime(workflow, now)));
+        return dueWorkflows.stream()
+                .map(Workflow::getId)
+                .toList();
+    }
+
+    private LocalDateTime nextContentFireTime(Workflow workflow, LocalDateTime after) {
+        return RecurrenceRuleFireTimeCalculator.nextContentFireTime(workflow.getRecurrenceRule(), workflow.getContentJitter(), after);
+    }
+
+    private LocalDateTime nextUploadFireTime(Workflow workflow, LocalDateTime after) {
+        return RecurrenceRuleFireTimeCalculator.nextUploadFireTime(workflow.getRecurrenceRule(), after);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.workflow.domain.Workflow;
+import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
+import com.ocp.ocp_finalproject.workflow.service.WorkflowActivationService;
+import com.ocp.ocp_finalproject.workflow.service.WorkflowExpirationService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 워크플로우 생애주기 스위퍼.
+ *
+ * <p>워크플로우마다 startAt/endAt 1회성 Quartz Job 을 두는 대신, 주기적으로 시작/종료 시점이 지난 워크플로우를
+ * 인덱스 범위 조회로 배치 선점(SKIP LOCKED)해 상태를 전환한다. 전환은 DB 에만 기록되므로 재기동에도 유실되지 않고,
+ * 다운타임 동안 밀린 대상은 다음 실행에서 한꺼번에 처리된다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkflowLifecycleSweepService {
+
+    private final WorkflowRepository workflowRepository;
+    private final WorkflowActivationService workflowActivationService;
+    private final WorkflowExpirationService workflowExpirationService;
+    private final SchedulerSyncService schedulerSyncService;
+    private final SchedulerProperties schedulerProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = schedulerProperties.getLifecycleSweep().getBatchSize();
+
+        int activated = 0;
+        SweepBatch batch;
+        do {
+            batch = transition(
+                    () -> workflowRepository.findDueForActivation(now, PageRequest.of(0, batchSize)),
+                    workflowActivationService::activateIfStarted,
+                    now
+            );
+            // 커밋 이후 실제 작업 스케줄 등록
+            for (Long workflowId : batch.transitionedIds()) {
+                try {
+                    schedulerSyncService.registerWorkflowJobs(workflowId);
+                } catch (Exception e) {
+                    log.error("워크플로우 {} 스케줄 등록 실패 (정합성 점검에서 재시도)", workflowId, e);
+                }
+            }
+            activated += batch.transitionedIds().size();
+        } while (batch.hasMore(batchSize));
+
+        int expired = 0;
+        do {
+            batch = transition(
+                    () -> workflowRepository.findDueForExpiration(now, PageRequest.of(0, batchSize)),
+                    workflowExpirationService::completeIfExpired,
+                    now
+            );
+            if (!batch.transitionedIds().isEmpty()) {
+                schedulerSyncService.removeWorkflowJobs(batch.transitionedIds());
+            }
+            expired += batch.transitionedIds().size();
+        } while (batch.hasMore(batchSize));
+
+        if (activated > 0 || expired > 0) {
+            log.info("워크플로우 생애주기 스위프 완료 - 기준시각={} 활성화 {}건, 만료 {}건", now, activated, expired);
+        }
+    }
+
+    private SweepBatch transition(BatchLoader loader, BiPredicate<Workflow, LocalDateTime> transition, LocalDateTime now) {
+        return transactionTemplate.execute(tx -> {
+            List<Workflow> workflows = loader.load();
+            List<Long> transitionedIds = new ArrayList<>();
+            for (Workflow workflow : workflows) {
+                try {
+                    if (transition.test(workflow, now)) {
+                        transitionedIds.add(workflow.getId());
+                    }
+                } catch (RuntimeException e) {
+                    log.error("워크플로우 {} 상태 전환 실패", workflow.getId(), e);
+                }
+            }
+            return new SweepBatch(workflows.size(), transitionedIds);
+        });
+    }
+
+    @FunctionalInterface
+    private interface BatchLoader {
+        List<Workflow> load();
+    }
+
+    private record SweepBatch(int claimed, List<Long> transitionedIds) {
+
+        // 꽉 찬 배치였고 진전이 있었을 때만 다음 배치를 가져온다. (전환 실패 행을 반복 선점하지 않도록)
+        boolean hasMore(int batchSize) {
+            return claimed == batchSize && !transitionedIds.isEmpty();
+        }
+    }
+}
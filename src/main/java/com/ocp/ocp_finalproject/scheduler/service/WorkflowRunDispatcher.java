@@ -0,0 +1,116 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import com.ocp.ocp_finalproject.message.blog.BlogUploadProducer;
+import com.ocp.ocp_finalproject.message.blog.dto.BlogUploadRequest;
+import com.ocp.ocp_finalproject.message.content.ContentGenerateProducer;
+import com.ocp.ocp_finalproject.message.content.dto.ContentGenerateRequest;
+import com.ocp.ocp_finalproject.message.content.enums.ContentGenerateLane;
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.scheduler.service.ContentAdmissionController.AdmissionCheck;
+import com.ocp.ocp_finalproject.work.domain.Work;
+import com.ocp.ocp_finalproject.work.enums.AdmissionDecision;
+import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
+import com.ocp.ocp_finalproject.work.repository.WorkRepository;
+import com.ocp.ocp_finalproject.work.service.BlogUploadService;
+import com.ocp.ocp_finalproject.work.service.ContentGenerateService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 스케줄 실행 1회분(콘텐츠 생성 / 블로그 업로드)을 실제로 디스패치한다.
+ * Quartz Job 과 tick 디스패처가 같은 경로를 사용한다.
+ *
+ * <p>Work 생성과 메시지 저장(아웃박스)을 한 트랜잭션으로 묶는다. 브로커로의 발행은 아웃박스 릴레이가
+ * 하므로 스케줄러 스레드가 브로커 지연에 묶이지 않고, 발행 실패로 Work 만 PENDING 에 남는 일도 없다.</p>
+ *
+ * <p>콘텐츠 생성은 발행 전에 큐 적체를 확인한다({@link ContentAdmissionController}). 적체가 한도를 넘으면
+ * Work 만 DEFERRED 로 남겨 {@link DeferredContentDispatcher} 가 나중에 발행하고, 이미 발행을 기다리는 Work 가
+ * 있는 워크플로우의 다음 실행은 새 Work 를 만들지 않고 그 Work 에 합친다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkflowRunDispatcher {
+
+    private final ContentGenerateService contentGenerateService;
+    private final ContentGenerateProducer contentGenerateProducer;
+    private final BlogUploadService blogUploadService;
+    private final BlogUploadProducer blogUploadProducer;
+    private final ContentAdmissionController contentAdmissionController;
+    private final WorkRepository workRepository;
+    private final SchedulerProperties schedulerProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public void dispatchContentGeneration(Long workflowId) {
+        log.info("Workflow {} 콘텐츠 생성 스케줄 실행", workflowId);
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (coalesceIntoDeferred(workflowId)) {
+                return;
+            }
+
+            ContentGenerateRequest request = contentGenerateService.createRequest(workflowId);
+            Work work = workRepository.getReferenceById(request.getWorkId());
+            AdmissionCheck check = contentAdmissionController.check(ContentGenerateLane.of(request.getIsTest()));
+            if (!check.admitted()) {
+                LocalDateTime now = LocalDateTime.now();
+                SchedulerProperties.Admission admission = schedulerProperties.getAdmission();
+                work.defer(now.plus(admission.getDeferDelay()), now.plus(admission.getDeadline()), check.note());
+                log.warn("워크 {} 콘텐츠 생성 발행 지연 - 큐 적체 ({})", work.getId(), check.note());
+                return;
+            }
+
+            work.admit(check.note());
+            contentGenerateProducer.send(contentGenerateService.applyWebhookSettings(request), userIdOf(work));
+            log.info("워크 {} 콘텐트 생성 메시지 저장 (Python worker 사용)", request.getWorkId());
+        });
+
+        // Airflow 대신 Python worker 사용으로 변경됨 - Airflow 트리거 비활성화
+        // String dagRunId = airflowTriggerClient.triggerTrendPipeline(prepared.getWorkId());
+        // log.info("스케줄 실행 - workId: {}, dagRunId: {}", prepared.getWorkId(), dagRunId);
+    }
+
+    /**
+     * 발행을 기다리는 같은 워크플로우의 Work 가 있으면 이번 실행을 그 Work 에 합친다.
+     */
+    private boolean coalesceIntoDeferred(Long workflowId) {
+        if (!contentAdmissionController.isEnabled()) {
+            return false;
+        }
+        Optional<Work> deferred = workRepository.findFirstByWorkflowIdAndAdmissionDecisionAndStatusOrderByIdAsc(
+                workflowId, AdmissionDecision.DEFERRED, WorkExecutionStatus.PENDING);
+        if (deferred.isEmpty()) {
+            return false;
+        }
+        deferred.get().coalesce(LocalDateTime.now().plus(schedulerProperties.getAdmission().getDeadline()));
+        contentAdmissionController.count(ContentGenerateLane.BATCH, "coalesced");
+        log.info("Workflow {} 콘텐츠 생성 실행을 발행 대기 중인 워크 {} 에 합침", workflowId, deferred.get().getId());
+        return true;
+    }
+
+    static Long userIdOf(Work work) {
+        return work.getWorkflow() != null && work.getWorkflow().getUser() != null
+                ? work.getWorkflow().getUser().getId()
+                : null;
+    }
+
+    public void dispatchBlogUpload(Long workflowId) {
+        log.info("Workflow {} 블로그 업로드 스케줄 실행", workflowId);
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            // 해당 workflow에 대해 업로드 요청만 생성
+            List<BlogUploadRequest> requests = blogUploadService.collectPendingBlogUploadsForWorkflow(workflowId);
+
+            for (BlogUploadRequest request : requests) {
+                BlogUploadRequest prepared = blogUploadService.prepareBlogUploadRequest(request);
+                blogUploadProducer.send(prepared);
+                log.info("워크 {} 블로그 업로드 메시지 저장", prepared.getWorkId());
+            }
+        });
+    }
+}
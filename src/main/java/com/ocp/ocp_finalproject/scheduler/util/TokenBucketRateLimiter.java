@@ -0,0 +1,67 @@
+package com.ocp.ocp_finalproject.scheduler.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 방식의 간단한 처리율 제한기.
+ * 초당 permitsPerSecond 개씩 토큰이 차고, 최대 capacity 개까지 쌓인다. 토큰이 없으면 찰 때까지 대기한다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final double capacity;
+    private final double permitsPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(int capacity, double permitsPerSecond) {
+        if (capacity < 1 || permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity 는 1 이상, permitsPerSecond 는 0 보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개를 얻을 때까지 대기한다.
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tryAcquire()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 대기하지 않고 지금 쌓인 토큰을 최대 permits 개까지 가져간다. 가져간 개수를 돌려준다.
+     */
+    public synchronized int acquireUpTo(int permits) {
+        if (permits <= 0) {
+            return 0;
+        }
+        refill();
+        int acquired = (int) Math.min(permits, Math.floor(tokens));
+        tokens -= acquired;
+        return acquired;
+    }
+
+    /**
+     * 토큰을 얻으면 0, 아니면 다음 토큰이 찰 때까지 남은 시간(ns)을 돌려준다.
+     */
+    private synchronized long tryAcquire() {
+        refill();
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / permitsPerNano));
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
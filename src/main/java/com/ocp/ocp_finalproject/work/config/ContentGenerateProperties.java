@@ -13,4 +13,27 @@ public class ContentGenerateProperties {
 
     private String webhookSecret;
     private String webhookUrl;
+
+    /**
+     * 단계 결과를 묶어서 보내는 이벤트 API URL. 워커는 단계별 웹훅 대신 이 URL 로 모아 보낼 수 있다.
+     */
+    private String eventsUrl;
+
+    private ProductSnapshot productSnapshot = new ProductSnapshot();
+
+    @Getter
+    @Setter
+    public static class ProductSnapshot {
+        /**
+         * 크롤링 상품 목록을 메시지에 싣지 않고 스냅샷 id 로 보낼지 여부.
+         * 메시지 형식이 바뀌므로(crawledProducts 대신 productSnapshotUrl) 스냅샷 조회를 지원하는 워커
+         * (ai_module content_worker, airflow trend_pipeline)를 모두 배포한 뒤에 켠다.
+         */
+        private boolean enabled = false;
+
+        /**
+         * 워커가 스냅샷을 조회할 URL (뒤에 /{snapshotId} 를 붙인다).
+         */
+        private String baseUrl;
+    }
 }
@@ -0,0 +1,34 @@
+package com.ocp.ocp_finalproject.work.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "webhook.idempotency")
+public class WebhookIdempotencyProperties {
+
+    /**
+     * 같은 단계 결과의 중복 전송(워커 재시도)을 버릴지 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 최근 처리한 멱등 키를 기억하는 메모리 LRU 크기. 여기서 걸리면 DB 를 조회하지 않는다.
+     */
+    private int cacheSize = 10000;
+
+    /**
+     * 수신 기록 보관 기간. 워커 재시도 기간보다 길어야 한다.
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * 보관 기간이 지난 수신 기록 한 번에 지우는 행 수.
+     */
+    private int purgeBatchSize = 5000;
+}
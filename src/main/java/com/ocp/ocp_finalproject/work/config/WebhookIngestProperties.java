@@ -0,0 +1,65 @@
+package com.ocp.ocp_finalproject.work.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "webhook.ingest")
+public class WebhookIngestProperties {
+
+    /**
+     * SYNC: 웹훅 요청 안에서 결과를 반영하고 200 응답 (기존 방식).
+     * ASYNC: 시크릿/필수값만 확인하고 버퍼에 넣은 뒤 202 응답, 처리기가 묶음으로 반영.
+     */
+    private Mode mode = Mode.SYNC;
+
+    /**
+     * 버퍼에 쌓아 둘 수 있는 최대 결과 수. 가득 차면 해당 요청은 동기 처리로 되돌린다.
+     * 같은 Work 의 앞 결과가 아직 남아 있으면 순서를 지키기 위해 503 으로 거절한다.
+     */
+    private int capacity = 10000;
+
+    /**
+     * 버퍼를 비우는 처리기(가상 스레드) 수. 버퍼는 처리기 수만큼 나누고 workId 로 파티션을 고른다.
+     */
+    private int processors = 2;
+
+    /**
+     * 처리기가 한 트랜잭션으로 반영할 최대 결과 수.
+     */
+    private int batchSize = 100;
+
+    /**
+     * 반영에 실패한 결과를 다시 반영하는 최대 횟수(첫 시도 포함). 모두 실패하면 로그를 남기고 버린다.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 버퍼가 비었을 때 다음 결과를 기다리는 시간. 재시도 전 대기 시간으로도 쓴다.
+     */
+    private Duration pollTimeout = Duration.ofMillis(200);
+
+    /**
+     * 종료 시 처리기가 끝나기를 기다리는 시간. 이후 남은 결과는 종료 스레드에서 반영한다.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 묶음 이벤트 API(/api/v1/work/events) 한 요청에 담을 수 있는 최대 이벤트 수.
+     */
+    private int maxEventsPerRequest = 500;
+
+    public boolean isAsync() {
+        return mode == Mode.ASYNC;
+    }
+
+    public enum Mode {
+        SYNC,
+        ASYNC
+    }
+}
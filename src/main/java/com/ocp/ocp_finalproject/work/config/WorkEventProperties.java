@@ -0,0 +1,41 @@
+package com.ocp.ocp_finalproject.work.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "work-event")
+public class WorkEventProperties {
+
+    /**
+     * INLINE: 이벤트를 남기고 같은 트랜잭션에서 Work / AiContent 도 바로 갱신 (기존 동작 + 이벤트 로그).
+     * 결과 1건마다 기존 UPDATE 에 work_event INSERT 가 1건 더해지므로 수신 경로의 쓰기가 늘어난다.
+     * ASYNC: 결과 수신 시에는 이벤트만 INSERT 하고, 프로젝터가 묶음으로 Work / AiContent 에 반영한다.
+     * 수신 경로는 INSERT 만 하지만 Work / AiContent 는 projectorFixedDelay 만큼 늦게 보인다.
+     */
+    private Projection projection = Projection.INLINE;
+
+    /**
+     * 비동기 반영 주기.
+     */
+    private Duration projectorFixedDelay = Duration.ofSeconds(1);
+
+    /**
+     * 한 번에 반영할 이벤트 수.
+     */
+    private int projectorBatchSize = 200;
+
+    public boolean isAsyncProjection() {
+        return projection == Projection.ASYNC;
+    }
+
+    public enum Projection {
+        INLINE,
+        ASYNC
+    }
+}
@@ -6,11 +6,14 @@ import com.ocp.ocp_finalproject.audit.enums.AuditAction;
 import com.ocp.ocp_finalproject.common.exception.CustomException;
 import com.ocp.ocp_finalproject.common.exception.ErrorCode;
 import com.ocp.ocp_finalproject.common.response.ApiResult;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
 import com.ocp.ocp_finalproject.work.config.BlogUploadProperties;
 import com.ocp.ocp_finalproject.work.dto.request.BlogUploadWebhookRequest;
 import com.ocp.ocp_finalproject.work.service.BlogUploadWebhookService;
+import com.ocp.ocp_finalproject.work.service.WebhookIngestService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -26,6 +29,7 @@ public class BlogUploadWebhookController {
     private static final String WEBHOOK_HEADER = "X-WEBHOOK-SECRET";
 
     private final BlogUploadWebhookService webhookService;
+    private final WebhookIngestService webhookIngestService;
     private final BlogUploadProperties blogUploadProperties;
 
     @Audit(
@@ -35,13 +39,16 @@ public class BlogUploadWebhookController {
             targetIdSpel = "#request.workId"
     )
     @PostMapping
-    public ApiResult<Void> handleWebhook(
+    public ResponseEntity<ApiResult<Void>> handleWebhook(
             @RequestHeader(value = WEBHOOK_HEADER, required = false) String secretHeader,
             @RequestBody BlogUploadWebhookRequest request
     ) {
         validateSecret(secretHeader);
+        if (webhookIngestService.accept(WorkResultType.BLOG_UPLOAD, request.getWorkId(), request)) {
+            return ResponseEntity.accepted().body(ApiResult.success("블로그 업로드 결과를 접수했습니다."));
+        }
         webhookService.handleResult(request);
-        return ApiResult.success("블로그 업로드 결과를 처리했습니다.");
+        return ResponseEntity.ok(ApiResult.success("블로그 업로드 결과를 처리했습니다."));
     }
 
     private void validateSecret(String secretHeader) {
@@ -6,11 +6,14 @@ import com.ocp.ocp_finalproject.audit.enums.AuditAction;
 import com.ocp.ocp_finalproject.common.exception.CustomException;
 import com.ocp.ocp_finalproject.common.exception.ErrorCode;
 import com.ocp.ocp_finalproject.common.response.ApiResult;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
 import com.ocp.ocp_finalproject.work.config.KeywordSelectProperties;
 import com.ocp.ocp_finalproject.work.dto.request.KeywordSelectWebhookRequest;
 import com.ocp.ocp_finalproject.work.service.KeywordSelectWebhookService;
+import com.ocp.ocp_finalproject.work.service.WebhookIngestService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @Slf4j
@@ -23,6 +26,7 @@ public class KeywordSelectWebhookController {
 
     private final KeywordSelectProperties keywordSelectProperties;
     private final KeywordSelectWebhookService webhookService;
+    private final WebhookIngestService webhookIngestService;
 
     @Audit(
             action = AuditAction.WEBHOOK_KEYWORD_SELECT_RESULT,
@@ -31,13 +35,16 @@ public class KeywordSelectWebhookController {
             targetIdSpel = "#request.workId"
     )
     @PostMapping
-    public ApiResult<Void> handleWebhook(
+    public ResponseEntity<ApiResult<Void>> handleWebhook(
             @RequestHeader(value = WEBHOOK_HEADER, required = false) String secretHeader,
             @RequestBody KeywordSelectWebhookRequest request
     ) {
         validateSecret(secretHeader);
+        if (webhookIngestService.accept(WorkResultType.KEYWORD_SELECT, request.getWorkId(), request)) {
+            return ResponseEntity.accepted().body(ApiResult.success("키워드 선택 결과를 접수했습니다."));
+        }
         webhookService.handleResult(request);
-        return ApiResult.success("키워드 선택 결과를 처리했습니다.");
+        return ResponseEntity.ok(ApiResult.success("키워드 선택 결과를 처리했습니다."));
     }
 
     private void validateSecret(String authorizationHeader) {
@@ -6,11 +6,14 @@ import com.ocp.ocp_finalproject.audit.enums.AuditAction;
 import com.ocp.ocp_finalproject.common.exception.CustomException;
 import com.ocp.ocp_finalproject.common.exception.ErrorCode;
 import com.ocp.ocp_finalproject.common.response.ApiResult;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
 import com.ocp.ocp_finalproject.work.config.ProductSelectProperties;
 import com.ocp.ocp_finalproject.work.dto.request.ProductSelectWebhookRequest;
 import com.ocp.ocp_finalproject.work.service.ProductSelectWebhookService;
+import com.ocp.ocp_finalproject.work.service.WebhookIngestService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -27,6 +30,7 @@ public class ProductSelectWebhookController {
 
     private final ProductSelectProperties productSelectProperties;
     private final ProductSelectWebhookService webhookService;
+    private final WebhookIngestService webhookIngestService;
 
     @Audit(
             action = AuditAction.WEBHOOK_PRODUCT_SELECT_RESULT,
@@ -35,13 +39,16 @@ public class ProductSelectWebhookController {
             targetIdSpel = "#request.workId"
     )
     @PostMapping
-    public ApiResult<Void> handleWebhook(
+    public ResponseEntity<ApiResult<Void>> handleWebhook(
             @RequestHeader(value = WEBHOOK_HEADER, required = false) String secretHeader,
             @RequestBody ProductSelectWebhookRequest request
     ) {
         validateSecret(secretHeader);
+        if (webhookIngestService.accept(WorkResultType.PRODUCT_SELECT, request.getWorkId(), request)) {
+            return ResponseEntity.accepted().body(ApiResult.success("상품 선택 결과를 접수했습니다."));
+        }
         webhookService.handleResult(request);
-        return ApiResult.success("상품 선택 결과를 처리했습니다.");
+        return ResponseEntity.ok(ApiResult.success("상품 선택 결과를 처리했습니다."));
     }
 
     private void validateSecret(String secretHeader) {
@@ -0,0 +1,96 @@
+package com.ocp.ocp_finalproject.work.controller;
+
+import com.ocp.ocp_finalproject.audit.annotation.Audit;
+import com.ocp.ocp_finalproject.audit.enums.ActorType;
+import com.ocp.ocp_finalproject.audit.enums.AuditAction;
+import com.ocp.ocp_finalproject.common.exception.CustomException;
+import com.ocp.ocp_finalproject.common.exception.ErrorCode;
+import com.ocp.ocp_finalproject.common.response.ApiResult;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResultMessage;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+import com.ocp.ocp_finalproject.work.config.BlogUploadProperties;
+import com.ocp.ocp_finalproject.work.config.ContentGenerateProperties;
+import com.ocp.ocp_finalproject.work.dto.response.WorkEventsResponse;
+import com.ocp.ocp_finalproject.work.service.WorkEventService;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 단계 결과 묶음 이벤트 API. 요청 본문은 {@code [{"type": "KEYWORD_SELECT", "payload": {...웹훅 본문...}}, ...]} 이다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/work/events")
+@RequiredArgsConstructor
+public class WorkEventController {
+
+    private static final String WEBHOOK_HEADER = "X-WEBHOOK-SECRET";
+
+    private final ContentGenerateProperties contentGenerateProperties;
+    private final BlogUploadProperties blogUploadProperties;
+    private final WorkEventService workEventService;
+
+    @Audit(
+            action = AuditAction.WEBHOOK_WORK_EVENTS,
+            actorType = ActorType.SYSTEM,
+            targetType = "WORK"
+    )
+    @PostMapping
+    public ResponseEntity<ApiResult<WorkEventsResponse>> handleEvents(
+            @RequestHeader(value = WEBHOOK_HEADER, required = false) String secretHeader,
+            @RequestBody List<WorkResultMessage> events
+    ) {
+        validateSecret(secretHeader, events);
+        WorkEventsResponse response = workEventService.handle(events);
+        if (response.getQueued() == response.getReceived()) {
+            return ResponseEntity.accepted().body(ApiResult.success("작업 이벤트를 접수했습니다.", response));
+        }
+        return ResponseEntity.ok(ApiResult.success("작업 이벤트를 처리했습니다.", response));
+    }
+
+    /**
+     * 블로그 업로드 결과는 블로그 업로드 워커의 시크릿, 나머지 단계는 콘텐츠 생성 워커의 시크릿과 맞아야 한다.
+     * 헤더는 하나이므로 두 시크릿이 다르면 블로그 업로드와 다른 단계 이벤트를 한 요청에 섞을 수 없다.
+     */
+    private void validateSecret(String secretHeader, List<WorkResultMessage> events) {
+        if (events == null) {
+            return;
+        }
+        List<String> expectedSecrets = events.stream()
+                .filter(Objects::nonNull)
+                .map(WorkResultMessage::getType)
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(this::secretOf)
+                .distinct()
+                .toList();
+        if (expectedSecrets.size() > 1) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "블로그 업로드 이벤트와 다른 단계 이벤트는 시크릿이 달라 한 요청에 섞어 보낼 수 없습니다. 요청을 나눠 보내세요.");
+        }
+
+        for (String expectedSecret : expectedSecrets) {
+            if (expectedSecret == null || expectedSecret.isBlank()) {
+                log.warn("작업 이벤트 웹훅 시크릿이 설정되지 않았습니다.");
+                throw new CustomException(ErrorCode.WORK_WEBHOOK_TOKEN_INVALID, "웹훅 시크릿이 설정되지 않았습니다.");
+            }
+            if (secretHeader == null || !secretHeader.equals(expectedSecret)) {
+                throw new CustomException(ErrorCode.WORK_WEBHOOK_TOKEN_INVALID);
+            }
+        }
+    }
+
+    private String secretOf(WorkResultType type) {
+        return type == WorkResultType.BLOG_UPLOAD
+                ? blogUploadProperties.getWebhookSecret()
+                : contentGenerateProperties.getWebhookSecret();
+    }
+}
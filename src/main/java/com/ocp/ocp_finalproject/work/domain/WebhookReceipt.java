@@ -0,0 +1,40 @@
+package com.ocp.ocp_finalproject.work.domain;
+
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리한 단계 결과(웹훅/결과 큐)의 수신 기록. (workId, step, eventKey) 가 같으면 중복 전송으로 보고 버린다.
+ * 행은 {@code INSERT IGNORE} 로만 쓰고 보관 기간이 지나면 지우므로 BaseEntity 의 감사 컬럼은 두지 않는다.
+ */
+@Entity
+@Table(name = "webhook_receipt",
+        uniqueConstraints = @UniqueConstraint(name = "uk_webhook_receipt_work_step_event", columnNames = {"work_id", "step", "event_key"}),
+        indexes = @Index(name = "idx_webhook_receipt_received_at", columnList = "received_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WebhookReceipt {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "webhook_receipt_id")
+    private Long id;
+
+    @Column(name = "work_id", nullable = false)
+    private Long workId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "step", nullable = false, length = 20)
+    private WorkResultType step;
+
+    @Column(name = "event_key", nullable = false, length = 64)
+    private String eventKey;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+}
@@ -1,7 +1,9 @@
 package com.ocp.ocp_finalproject.work.domain;
 
 import com.ocp.ocp_finalproject.common.entity.BaseEntity;
+import com.ocp.ocp_finalproject.common.entity.IdGenerators;
 import com.ocp.ocp_finalproject.content.domain.AiContent;
+import com.ocp.ocp_finalproject.work.enums.AdmissionDecision;
 import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
 import com.ocp.ocp_finalproject.workflow.domain.Workflow;
 import jakarta.persistence.*;
@@ -13,14 +15,19 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "work")
+@Table(name = "work", indexes = {
+        @Index(name = "idx_work_admission_next_admission_at", columnList = "admission_decision, next_admission_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Work extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "work_id")
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "work_id_generator")
+    @TableGenerator(name = "work_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.WORK, allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(name = "work_id", columnDefinition = IdGenerators.ID_COLUMN_DEFINITION)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -49,6 +56,27 @@ public class Work extends BaseEntity {
     @Column(name = "failure_reason", columnDefinition = "TEXT")
     private String failureReason;
 
+    // 큐 적체에 따른 실행 허용 결정 (스케줄 실행만, 이전 작업은 null)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "admission_decision", length = 20)
+    private AdmissionDecision admissionDecision;
+
+    // 결정 당시 큐 상태 (적체량 / 소비자 수 / 한도)
+    @Column(name = "admission_note", length = 255)
+    private String admissionNote;
+
+    // DEFERRED 작업을 다시 판단할 시각
+    @Column(name = "next_admission_at")
+    private LocalDateTime nextAdmissionAt;
+
+    // 이 시각까지 발행하지 못하면 업로드 시각을 맞출 수 없어 생략한다.
+    @Column(name = "admission_deadline")
+    private LocalDateTime admissionDeadline;
+
+    // DEFERRED 동안 합쳐진 같은 워크플로우의 후속 실행 수
+    @Column(name = "coalesced_runs")
+    private Integer coalescedRuns;
+
     @Builder(builderMethodName = "createBuilder")
     public static Work create(Workflow workflow, WorkExecutionStatus status, LocalDateTime startedAt, LocalDateTime completedAt) {
         Work work = new Work();
@@ -89,6 +117,39 @@ public class Work extends BaseEntity {
         this.status = WorkExecutionStatus.REQUESTED;
     }
 
+    public void admit(String admissionNote) {
+        this.admissionDecision = AdmissionDecision.ADMITTED;
+        this.admissionNote = admissionNote;
+        this.nextAdmissionAt = null;
+    }
+
+    public void defer(LocalDateTime nextAdmissionAt, LocalDateTime admissionDeadline, String admissionNote) {
+        this.admissionDecision = AdmissionDecision.DEFERRED;
+        this.admissionNote = admissionNote;
+        this.nextAdmissionAt = nextAdmissionAt;
+        this.admissionDeadline = admissionDeadline;
+    }
+
+    /**
+     * 발행을 기다리는 동안 같은 워크플로우의 다음 실행이 오면 새 Work 를 만들지 않고 이 작업에 합친다.
+     * 합친 실행의 업로드 시각까지 기다릴 수 있으므로 마감 시각은 더 늦은 쪽으로 늘린다.
+     */
+    public void coalesce(LocalDateTime admissionDeadline) {
+        this.coalescedRuns = this.coalescedRuns == null ? 1 : this.coalescedRuns + 1;
+        if (this.admissionDeadline == null || admissionDeadline.isAfter(this.admissionDeadline)) {
+            this.admissionDeadline = admissionDeadline;
+        }
+    }
+
+    public void shed(String admissionNote, LocalDateTime completedAt) {
+        this.admissionDecision = AdmissionDecision.SHED;
+        this.admissionNote = admissionNote;
+        this.nextAdmissionAt = null;
+        this.status = WorkExecutionStatus.FAILED;
+        this.failureReason = "콘텐츠 생성 큐 적체로 실행이 생략되었습니다. " + admissionNote;
+        this.completedAt = completedAt;
+    }
+
     public void updateProductSelection(boolean isSuccess, LocalDateTime completedAt, String failureReason) {
         if (isSuccess) {
             this.status = WorkExecutionStatus.PRODUCT_SELECTED;
@@ -0,0 +1,85 @@
+package com.ocp.ocp_finalproject.work.domain;
+
+import com.ocp.ocp_finalproject.common.entity.IdGenerators;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 단계 결과 이벤트 로그. 결과를 받을 때마다 한 행을 추가(INSERT)만 하고, 사실(fact) 컬럼은 고치지 않는다.
+ *
+ * <p>payload 는 받은 웹훅 본문 그대로이며 Work / AiContent 의 현재 상태는 이 로그를 반영(projection)한 결과다.
+ * 비동기 반영 모드에서는 프로젝터가 반영 후 projected_at 만 채운다. 단계별 시작/완료/수신 시각이 남으므로
+ * Work 별 단계 소요 시간을 이 테이블에서 바로 계산할 수 있다.</p>
+ */
+@Entity
+@Table(name = "work_event", indexes = {
+        @Index(name = "idx_work_event_work_id", columnList = "work_id, work_event_id"),
+        @Index(name = "idx_work_event_projected_at", columnList = "projected_at, work_event_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WorkEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "work_event_id_generator")
+    @TableGenerator(name = "work_event_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.WORK_EVENT, allocationSize = IdGenerators.ALLOCATION_SIZE)
+    @Column(name = "work_event_id", columnDefinition = IdGenerators.ID_COLUMN_DEFINITION)
+    private Long id;
+
+    @Column(name = "work_id", nullable = false)
+    private Long workId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "step", nullable = false, length = 20)
+    private WorkResultType step;
+
+    @Column(name = "success")
+    private Boolean success;
+
+    // 워커가 보고한 단계 시작 시각 (키워드 선택만 보낸다)
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    // 워커가 보고한 시각(started_at, completed_at)은 Work 와 같이 UTC 로 바꿔 저장한다.
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // 수신/반영 시각은 다른 엔티티와 같이 서버 시각
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Lob
+    @Column(name = "payload", columnDefinition = "LONGTEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "projected_at")
+    private LocalDateTime projectedAt;
+
+    @Builder(builderMethodName = "createBuilder")
+    public static WorkEvent create(Long workId, WorkResultType step, Boolean success, LocalDateTime startedAt,
+                                   LocalDateTime completedAt, LocalDateTime receivedAt, String payload,
+                                   LocalDateTime projectedAt) {
+        WorkEvent event = new WorkEvent();
+        event.workId = workId;
+        event.step = step;
+        event.success = success;
+        event.startedAt = startedAt;
+        event.completedAt = completedAt;
+        event.receivedAt = receivedAt;
+        event.payload = payload;
+        event.projectedAt = projectedAt;
+        return event;
+    }
+
+    public void markProjected(LocalDateTime projectedAt) {
+        this.projectedAt = projectedAt;
+    }
+}
@@ -10,11 +10,14 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-public class BlogUploadWebhookRequest {
+public class BlogUploadWebhookRequest implements WebhookEvent {
 
     @JsonProperty("workId")
     private Long workId;
 
+    @JsonProperty("eventId")
+    private String eventId;
+
     private String platform;
 
     private boolean success;
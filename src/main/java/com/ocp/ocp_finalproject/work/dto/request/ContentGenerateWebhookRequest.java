@@ -9,11 +9,14 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-public class ContentGenerateWebhookRequest {
+public class ContentGenerateWebhookRequest implements WebhookEvent {
 
     @JsonProperty("workId")
     private Long workId;
 
+    @JsonProperty("eventId")
+    private String eventId;
+
     private Boolean success;
 
     private String message;
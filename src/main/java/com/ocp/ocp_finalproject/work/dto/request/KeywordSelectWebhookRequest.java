@@ -10,11 +10,14 @@ import java.time.OffsetDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-public class KeywordSelectWebhookRequest {
+public class KeywordSelectWebhookRequest implements WebhookEvent {
 
     @JsonProperty("workId")
     private Long workId;
 
+    @JsonProperty("eventId")
+    private String eventId;
+
     private String keyword;
 
     private boolean success;
@@ -27,6 +30,10 @@ public class KeywordSelectWebhookRequest {
     @JsonProperty("completedAt")
     private OffsetDateTime completedAt;
 
+    // 요청 메시지가 큐에 발행된 시각 (아웃박스 릴레이가 AMQP timestamp 로 찍고 워커가 그대로 돌려준다)
+    @JsonProperty("publishedAt")
+    private OffsetDateTime publishedAt;
+
     @JsonProperty("isTest")
     private Boolean isTest;
 }
@@ -9,11 +9,14 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-public class ProductSelectWebhookRequest {
+public class ProductSelectWebhookRequest implements WebhookEvent {
 
     @JsonProperty("workId")
     private Long workId;
 
+    @JsonProperty("eventId")
+    private String eventId;
+
     private Boolean success;
 
     private String message;
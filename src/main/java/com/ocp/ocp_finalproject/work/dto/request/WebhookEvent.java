@@ -0,0 +1,18 @@
+package com.ocp.ocp_finalproject.work.dto.request;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 단계별 웹훅 요청 공통 항목. 중복 전송 판정(멱등 키)에 쓴다.
+ */
+public interface WebhookEvent {
+
+    Long getWorkId();
+
+    /**
+     * 워커가 결과마다 붙이는 이벤트 id. 재전송 시에도 같은 값을 보낸다. (없으면 completedAt 으로 판정)
+     */
+    String getEventId();
+
+    OffsetDateTime getCompletedAt();
+}
@@ -0,0 +1,24 @@
+package com.ocp.ocp_finalproject.work.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class WorkEventsResponse {
+
+    private final int received;
+
+    // 비동기 모드에서 버퍼에 넣어 나중에 반영할 이벤트 수
+    private final int queued;
+
+    // 이 요청 안에서 반영(중복/대상 없음으로 버린 것 포함)한 이벤트 수
+    private final int processed;
+
+    // 반영에 실패했거나, 같은 Work 의 앞 결과가 아직 버퍼에 남아 받지 못한 이벤트의 요청 배열 인덱스.
+    // 워커는 이 이벤트만 다시 보내면 된다.
+    private final List<Integer> failedIndexes;
+}
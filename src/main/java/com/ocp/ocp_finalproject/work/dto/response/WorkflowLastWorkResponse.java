@@ -0,0 +1,18 @@
+package com.ocp.ocp_finalproject.work.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 워크플로우별 마지막 작업 시각 (misfire 재실행 기준점)
+ */
+@Getter
+@AllArgsConstructor
+public class WorkflowLastWorkResponse {
+
+    private Long workflowId;
+
+    private LocalDateTime lastAt;
+}
@@ -0,0 +1,22 @@
+package com.ocp.ocp_finalproject.work.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 콘텐츠 생성 큐 적체에 따른 실행 허용(admission) 결정
+ *
+ * 사용 대상:
+ * - Work (스케줄 실행으로 생성된 작업)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AdmissionDecision {
+
+    ADMITTED("허용", "큐에 메시지 발행"),
+    DEFERRED("지연", "큐 적체로 발행을 미룸"),
+    SHED("생략", "업로드 시각 전에 처리할 수 없어 실행 생략");
+
+    private final String displayName;
+    private final String description;
+}
@@ -0,0 +1,37 @@
+package com.ocp.ocp_finalproject.work.repository;
+
+import com.ocp.ocp_finalproject.work.domain.WebhookReceipt;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WebhookReceiptRepository extends JpaRepository<WebhookReceipt, Long> {
+
+    /**
+     * 수신 기록을 남긴다. 같은 (workId, step, eventKey) 가 이미 있으면 아무것도 하지 않고 0 을 돌려준다.
+     * 유니크 인덱스로 판정하므로 동시에 들어온 중복 요청도 하나만 1 을 받는다. (MySQL 전용)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO webhook_receipt (work_id, step, event_key, received_at)
+        VALUES (:workId, :step, :eventKey, :receivedAt)
+    """, nativeQuery = true)
+    int insertIgnore(
+            @Param("workId") Long workId,
+            @Param("step") String step,
+            @Param("eventKey") String eventKey,
+            @Param("receivedAt") LocalDateTime receivedAt
+    );
+
+    @Modifying
+    @Query(value = """
+        DELETE FROM webhook_receipt
+        WHERE received_at < :before
+        LIMIT :limit
+    """, nativeQuery = true)
+    int deleteReceivedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,48 @@
+package com.ocp.ocp_finalproject.work.repository;
+
+import com.ocp.ocp_finalproject.work.domain.WorkEvent;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkEventRepository extends JpaRepository<WorkEvent, Long> {
+
+    /**
+     * 아직 반영하지 않은 이벤트 id 를 수신 순서대로 조회한다. (projected_at, id) 인덱스 범위 조회, 잠그지 않는다.
+     * 사용처: WorkEventProjector (이어서 {@link #lockAllByIdIn} 으로 선점)
+     */
+    @Query("""
+        SELECT e.id
+        FROM WorkEvent e
+        WHERE e.projectedAt IS NULL
+        ORDER BY e.id ASC
+    """)
+    List<Long> findUnprojectedIds(Pageable pageable);
+
+    /**
+     * 이벤트를 PK 로 잠근다. 범위 잠금이 아니라 레코드 잠금만 잡으므로 (projected_at IS NULL 범위에 갭 락을 걸던
+     * 선점과 달리) 새 이벤트 INSERT 를 막지 않는다. 같은 Work 의 단계 순서를 지키기 위해 SKIP LOCKED 는 쓰지 않으며,
+     * 다른 노드가 먼저 잡은 이벤트는 그 커밋을 기다린 뒤 반영 여부를 다시 본다.
+     * 사용처: WorkEventProjector
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT e
+        FROM WorkEvent e
+        WHERE e.id IN :ids
+        ORDER BY e.id ASC
+    """)
+    List<WorkEvent> lockAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Work 의 단계 이벤트 이력 (수신 순서)
+     */
+    List<WorkEvent> findByWorkIdOrderByIdAsc(Long workId);
+}
@@ -2,14 +2,22 @@ package com.ocp.ocp_finalproject.work.repository;
 
 import com.ocp.ocp_finalproject.work.domain.Work;
 import com.ocp.ocp_finalproject.work.dto.response.WorkResponse;
+import com.ocp.ocp_finalproject.work.dto.response.WorkflowLastWorkResponse;
+import com.ocp.ocp_finalproject.work.enums.AdmissionDecision;
 import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -117,4 +125,87 @@ public interface WorkRepository extends JpaRepository<Work, Long> {
     """)
     Optional<Work> findByIdWithWorkflow(@Param("workId") Long workId);
 
+    /**
+     * 작업 결과 큐 배치 소비용: 배치에 포함된 Work 를 Workflow 와 함께 한 번에 로딩
+     * 사용처: WorkResultConsumer
+     */
+    @Query("""
+        SELECT w
+        FROM Work w
+        LEFT JOIN FETCH w.workflow wf
+        WHERE w.id IN :workIds
+    """)
+    List<Work> findAllWithWorkflowByIdIn(@Param("workIds") Collection<Long> workIds);
+
+    /**
+     * 워크플로우별 마지막으로 실행(디스패치)된 작업 시작 시각. since 이전 작업은 보지 않는다.
+     * 사용처: MisfireCatchUpService (콘텐츠 생성 재실행 기준점)
+     */
+    @Query("""
+        SELECT new com.ocp.ocp_finalproject.work.dto.response.WorkflowLastWorkResponse(
+            w.workflow.id,
+            MAX(w.startedAt)
+        )
+        FROM Work w
+        WHERE w.workflow.id IN :workflowIds
+          AND w.status <> :excludedStatus
+          AND w.startedAt >= :since
+        GROUP BY w.workflow.id
+    """)
+    List<WorkflowLastWorkResponse> findLastStartedAtByWorkflowIds(
+            @Param("workflowIds") Collection<Long> workflowIds,
+            @Param("excludedStatus") WorkExecutionStatus excludedStatus,
+            @Param("since") LocalDateTime since
+    );
+
+    /**
+     * 워크플로우별 마지막 작업 완료 시각 (status 일치). since 이전 작업은 보지 않는다.
+     * 사용처: MisfireCatchUpService (블로그 업로드 재실행 기준점)
+     */
+    @Query("""
+        SELECT new com.ocp.ocp_finalproject.work.dto.response.WorkflowLastWorkResponse(
+            w.workflow.id,
+            MAX(w.completedAt)
+        )
+        FROM Work w
+        WHERE w.workflow.id IN :workflowIds
+          AND w.status = :status
+          AND w.completedAt >= :since
+        GROUP BY w.workflow.id
+    """)
+    List<WorkflowLastWorkResponse> findLastCompletedAtByWorkflowIds(
+            @Param("workflowIds") Collection<Long> workflowIds,
+            @Param("status") WorkExecutionStatus status,
+            @Param("since") LocalDateTime since
+    );
+
+    /**
+     * 발행을 기다리는(DEFERRED) 같은 워크플로우의 작업. 다음 실행을 이 작업에 합칠 때 사용
+     * 사용처: WorkflowRunDispatcher
+     */
+    Optional<Work> findFirstByWorkflowIdAndAdmissionDecisionAndStatusOrderByIdAsc(
+            Long workflowId, AdmissionDecision admissionDecision, WorkExecutionStatus status);
+
+    /**
+     * 다시 판단할 시각이 된 DEFERRED 작업을 선점한다. (admission_decision, next_admission_at) 인덱스 범위 조회
+     * SKIP LOCKED(-2) 로 다른 노드가 잡은 행은 건너뛴다.
+     * 사용처: DeferredContentDispatcher
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT w
+        FROM Work w
+        WHERE w.admissionDecision = :decision
+          AND w.nextAdmissionAt <= :now
+          AND w.status = :status
+        ORDER BY w.nextAdmissionAt ASC
+    """)
+    List<Work> findDueDeferred(
+            @Param("decision") AdmissionDecision decision,
+            @Param("status") WorkExecutionStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
 }
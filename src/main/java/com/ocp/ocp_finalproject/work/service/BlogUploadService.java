@@ -4,10 +4,12 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ocp.ocp_finalproject.blog.domain.BlogType;
 import com.ocp.ocp_finalproject.blog.domain.UserBlog;
+import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
 import com.ocp.ocp_finalproject.common.exception.CustomException;
 import com.ocp.ocp_finalproject.common.exception.ErrorCode;
 import com.ocp.ocp_finalproject.content.domain.AiContent;
 import com.ocp.ocp_finalproject.message.blog.dto.BlogUploadRequest;
+import com.ocp.ocp_finalproject.message.result.config.WorkResultProperties;
 import com.ocp.ocp_finalproject.work.config.BlogUploadProperties;
 import com.ocp.ocp_finalproject.work.domain.Work;
 import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
@@ -40,6 +42,7 @@ public class BlogUploadService {
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
     private final BlogUploadProperties blogUploadProperties;
+    private final WorkResultProperties workResultProperties;
     private final WorkRepository workRepository;
     private final AiContentRepository aiContentRepository;
     private final ObjectMapper objectMapper;
@@ -96,6 +99,7 @@ public class BlogUploadService {
     public BlogUploadRequest prepareBlogUploadRequest(BlogUploadRequest request) {
         applyDefaultWebhookUrlIfNeeded(request);
         applyWebhookToken(request);
+        request.setResultQueue(workResultProperties.isEnabled() ? RabbitConfig.WORK_RESULT_QUEUE : null);
         return request;
     }
 
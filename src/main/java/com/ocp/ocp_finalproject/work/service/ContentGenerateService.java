@@ -1,16 +1,20 @@
 package com.ocp.ocp_finalproject.work.service;
 
+import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
 import com.ocp.ocp_finalproject.common.exception.CustomException;
 import com.ocp.ocp_finalproject.common.exception.ErrorCode;
 import com.ocp.ocp_finalproject.content.domain.AiContent;
 import com.ocp.ocp_finalproject.content.enums.ContentStatus;
 import com.ocp.ocp_finalproject.content.repository.AiContentRepository;
 import com.ocp.ocp_finalproject.crawling.domain.ProductCrawl;
+import com.ocp.ocp_finalproject.crawling.domain.ProductSnapshot;
 import com.ocp.ocp_finalproject.crawling.repository.ProductCrawlRepository;
+import com.ocp.ocp_finalproject.crawling.service.ProductSnapshotService;
 import com.ocp.ocp_finalproject.message.content.dto.ContentGenerateRequest;
 import com.ocp.ocp_finalproject.message.content.dto.ContentGenerateRequest.ProductInfo;
 import com.ocp.ocp_finalproject.message.content.dto.ContentGenerateRequest.TrendCategory;
 import com.ocp.ocp_finalproject.message.content.dto.ContentGenerateRequest.WebhookUrls;
+import com.ocp.ocp_finalproject.message.result.config.WorkResultProperties;
 import com.ocp.ocp_finalproject.work.config.AirflowLogProperties;
 import com.ocp.ocp_finalproject.work.config.ContentGenerateProperties;
 import com.ocp.ocp_finalproject.work.config.KeywordSelectProperties;
@@ -42,18 +46,18 @@ public class ContentGenerateService {
     private final WorkRepository workRepository;
     private final AiContentRepository aiContentRepository;
     private final ProductCrawlRepository productCrawlRepository;
+    private final ProductSnapshotService productSnapshotService;
     private final KeywordSelectProperties keywordSelectProperties;
     private final ProductSelectProperties productSelectProperties;
     private final ContentGenerateProperties contentGenerateProperties;
     private final AirflowLogProperties airflowLogProperties;
+    private final WorkResultProperties workResultProperties;
 
     @Transactional
     public ContentGenerateRequest createRequest(Long workflowId) {
         Workflow workflow = workflowRepository.findById(workflowId)
                 .orElseThrow(() -> new CustomException(ErrorCode.WORKFLOW_NOT_FOUND));
 
-        boolean isTestWorkflow = workflow.getStatus() == WorkflowStatus.PRE_REGISTERED;
-
         LocalDateTime now = LocalDateTime.now();
         Work work = workRepository.save(
                 Work.createBuilder()
@@ -76,6 +80,20 @@ public class ContentGenerateService {
                 .build();
         aiContentRepository.save(aiContent);
 
+        return buildRequest(work, workflow);
+    }
+
+    /**
+     * 큐 적체로 발행을 미뤘던 Work 로 요청을 다시 만든다. (Work / AiContent 는 새로 만들지 않는다)
+     */
+    @Transactional
+    public ContentGenerateRequest createRequestForWork(Work work) {
+        return buildRequest(work, work.getWorkflow());
+    }
+
+    private ContentGenerateRequest buildRequest(Work work, Workflow workflow) {
+        boolean isTestWorkflow = workflow.getStatus() == WorkflowStatus.PRE_REGISTERED;
+
         ContentGenerateRequest request = new ContentGenerateRequest();
         request.setWorkId(work.getId());
         request.setSiteUrl(workflow.getSiteUrl());
@@ -84,6 +102,10 @@ public class ContentGenerateService {
 
         request.setRecentTrendKeywords(fetchRecentTrendKeywords(workflow.getId()));
 
+        if (contentGenerateProperties.getProductSnapshot().isEnabled() && applyProductSnapshot(request, workflow)) {
+            return request;
+        }
+
         List<ProductInfo> crawledProducts = fetchCrawledProducts(workflow);
         boolean hasCrawled = !crawledProducts.isEmpty();
         request.setHasCrawledItems(hasCrawled);
@@ -101,7 +123,9 @@ public class ContentGenerateService {
         webhookUrls.setProductSelect(productSelectProperties.getWebhookUrl());
         webhookUrls.setContentGenerate(contentGenerateProperties.getWebhookUrl());
         webhookUrls.setAirflowLog(airflowLogProperties.getWebhookUrl());
+        webhookUrls.setEvents(contentGenerateProperties.getEventsUrl());
         request.setWebhookUrls(webhookUrls);
+        request.setResultQueue(workResultProperties.isEnabled() ? RabbitConfig.WORK_RESULT_QUEUE : null);
         return request;
     }
 
@@ -112,6 +136,35 @@ public class ContentGenerateService {
         work.markRequested();
     }
 
+    /**
+     * 크롤링 상품 목록 대신 사이트 스냅샷 id 와 제외할 상품명만 담는다. (워커가 스냅샷을 조회해 걸러 쓴다)
+     * 스냅샷은 크롤링 결과 수신 시에만 만든다. 아직 스냅샷이 없는 사이트는 false 를 돌려 기존 방식(상품 목록 포함)으로 보낸다.
+     */
+    private boolean applyProductSnapshot(ContentGenerateRequest request, Workflow workflow) {
+        Optional<ProductSnapshot> snapshot = resolveSupportedSite(workflow.getSiteUrl())
+                .flatMap(productSnapshotService::findLatest);
+        if (snapshot.isEmpty()) {
+            return false;
+        }
+
+        if (snapshot.get().getItemCount() == 0) {
+            request.setHasCrawledItems(false);
+            request.setRecentlyUsedProducts(fetchRecentlyUsedProducts(workflow.getId()));
+            return true;
+        }
+
+        List<String> excludedProductNames = aiContentRepository.findRecentChoiceProductsByWorkflowId(workflow.getId()).stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        request.setHasCrawledItems(true);
+        request.setProductSnapshotId(snapshot.get().getId());
+        request.setProductSnapshotUrl(contentGenerateProperties.getProductSnapshot().getBaseUrl() + "/" + snapshot.get().getId());
+        request.setExcludedProductNames(excludedProductNames);
+        return true;
+    }
+
     private List<String> fetchRecentTrendKeywords(Long workflowId) {
         List<String> keywords = aiContentRepository.findRecentTrendKeywordsByWorkflowId(
                 workflowId,
@@ -4,6 +4,7 @@ import com.ocp.ocp_finalproject.common.exception.CustomException;
 import com.ocp.ocp_finalproject.common.exception.ErrorCode;
 import com.ocp.ocp_finalproject.content.domain.AiContent;
 import com.ocp.ocp_finalproject.content.repository.AiContentRepository;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
 import com.ocp.ocp_finalproject.work.domain.Work;
 import com.ocp.ocp_finalproject.work.dto.request.ContentGenerateWebhookRequest;
 import com.ocp.ocp_finalproject.work.repository.WorkRepository;
@@ -27,6 +28,8 @@ public class ContentGenerateWebhookService {
 
     private final WorkRepository workRepository;
     private final AiContentRepository aiContentRepository;
+    private final WebhookIdempotencyService webhookIdempotencyService;
+    private final WorkEventLogService workEventLogService;
     private final BlogUploadService blogUploadService;
     private final BlogUploadProducer blogUploadProducer;
 
@@ -37,6 +40,16 @@ public class ContentGenerateWebhookService {
             throw new CustomException(ErrorCode.WORK_NOT_FOUND, "워크 ID가 누락되었습니다.");
         }
 
+        // 워커 재전송 등 이미 처리한 결과는 엔티티를 읽기 전에 버린다.
+        if (!webhookIdempotencyService.tryRegister(WorkResultType.CONTENT_GENERATE, request)) {
+            return;
+        }
+
+        // 결과를 이벤트 로그에 남긴다. 비동기 반영 모드면 Work / AiContent 반영은 프로젝터가 한다.
+        if (workEventLogService.append(WorkResultType.CONTENT_GENERATE, request)) {
+            return;
+        }
+
         // N+1 쿼리 개선: findByIdWithWorkflow() 사용 (2번 쿼리 → 1번 쿼리, 50% 개선)
         Work work = workRepository.findByIdWithWorkflow(workId)
                 .orElseThrow(() -> new CustomException(ErrorCode.WORK_NOT_FOUND, "워크를 찾을 수 없습니다. workId=" + workId));
@@ -44,6 +57,14 @@ public class ContentGenerateWebhookService {
         AiContent aiContent = aiContentRepository.findByWorkId(workId)
                 .orElseThrow(() -> new CustomException(ErrorCode.AI_CONTENT_NOT_FOUND, "콘텐츠를 찾을 수 없습니다. workId=" + workId));
 
+        apply(request, work, aiContent);
+    }
+
+    /**
+     * 이미 로딩한 Work / AiContent 에 결과를 반영한다. 트랜잭션은 호출자가 연다. (웹훅, 작업 결과 큐 배치 소비 공용)
+     */
+    public void apply(ContentGenerateWebhookRequest request, Work work, AiContent aiContent) {
+        Long workId = work.getId();
         Boolean successFlag = request.getSuccess();
         if (successFlag == null) {
             throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "성공 여부가 누락되었습니다.");
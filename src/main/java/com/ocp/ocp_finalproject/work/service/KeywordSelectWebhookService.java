@@ -1,16 +1,23 @@
 package com.ocp.ocp_finalproject.work.service;
 
+import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
 import com.ocp.ocp_finalproject.common.exception.CustomException;
 import com.ocp.ocp_finalproject.common.exception.ErrorCode;
 import com.ocp.ocp_finalproject.content.domain.AiContent;
 import com.ocp.ocp_finalproject.content.repository.AiContentRepository;
+import com.ocp.ocp_finalproject.message.content.enums.ContentGenerateLane;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
 import com.ocp.ocp_finalproject.work.domain.Work;
 import com.ocp.ocp_finalproject.work.dto.request.KeywordSelectWebhookRequest;
+import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
 import com.ocp.ocp_finalproject.work.repository.WorkRepository;
 import com.ocp.ocp_finalproject.work.util.WebhookTimeParser;
 import com.ocp.ocp_finalproject.workflow.domain.Workflow;
 import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
 import com.ocp.ocp_finalproject.workflow.enums.WorkflowTestStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +31,9 @@ public class KeywordSelectWebhookService {
 
     private final WorkRepository workRepository;
     private final AiContentRepository aiContentRepository;
+    private final WebhookIdempotencyService webhookIdempotencyService;
+    private final WorkEventLogService workEventLogService;
+    private final MeterRegistry meterRegistry;
 
     @Transactional
     public void handleResult(KeywordSelectWebhookRequest request) {
@@ -32,6 +42,16 @@ public class KeywordSelectWebhookService {
             throw new CustomException(ErrorCode.WORK_NOT_FOUND, "워크 ID가 누락되었습니다.");
         }
 
+        // 워커 재전송 등 이미 처리한 결과는 엔티티를 읽기 전에 버린다.
+        if (!webhookIdempotencyService.tryRegister(WorkResultType.KEYWORD_SELECT, request)) {
+            return;
+        }
+
+        // 결과를 이벤트 로그에 남긴다. 비동기 반영 모드면 Work / AiContent 반영은 프로젝터가 한다.
+        if (workEventLogService.append(WorkResultType.KEYWORD_SELECT, request)) {
+            return;
+        }
+
         // N+1 쿼리 개선: findByIdWithWorkflow() 사용 (2번 쿼리 → 1번 쿼리, 50% 개선)
         Work work = workRepository.findByIdWithWorkflow(workId)
                 .orElseThrow(() -> new CustomException(ErrorCode.WORK_NOT_FOUND, "워크를 찾을 수 없습니다. workId=" + workId));
@@ -39,7 +59,14 @@ public class KeywordSelectWebhookService {
         AiContent ai = aiContentRepository.findByWorkId(workId)
                 .orElseThrow(() -> new CustomException(ErrorCode.AI_CONTENT_NOT_FOUND,"콘텐츠를 찾을 수 없습니다. workId="+workId));
 
+        apply(request, work, ai);
+    }
 
+    /**
+     * 이미 로딩한 Work / AiContent 에 결과를 반영한다. 트랜잭션은 호출자가 연다. (웹훅, 작업 결과 큐 배치 소비 공용)
+     */
+    public void apply(KeywordSelectWebhookRequest request, Work work, AiContent ai) {
+        Long workId = work.getId();
         LocalDateTime startedAt = WebhookTimeParser.toUtcOrNow(request.getStartedAt());
         LocalDateTime completedAt = WebhookTimeParser.toUtcOrNow(request.getCompletedAt());
 
@@ -47,13 +74,38 @@ public class KeywordSelectWebhookService {
         boolean isSuccess = request.isSuccess();
         log.info("웹훅 결과 수신 workId={} success={} keyword={} startedAt={} completedAt={}", workId, isSuccess, request.getKeyword(), startedAt, completedAt);
 
+        boolean isTest = isTestRequest(request.getIsTest(), work);
+        recordQueueWait(work, request, isTest);
+
         work.updateKeywordCompletion(isSuccess, startedAt, completedAt, request.getMessage());
         ai.updateKeywordCompletion(isSuccess, request.getKeyword(), startedAt, completedAt);
 
-        boolean isTest = isTestRequest(request.getIsTest(), work);
         updateTestStatusIfNeeded(work, isTest, isSuccess);
     }
 
+    /**
+     * 키워드 선택은 워커의 첫 단계이므로 메시지 발행(워커가 돌려준 publishedAt)부터 워커 시작까지를 큐 대기 시간으로 본다.
+     * Work 생성 시각부터 재면 입장 제어 지연과 아웃박스 대기가 섞이므로, publishedAt 을 보내지 않는 워커의 결과는 기록하지 않는다.
+     * 같은 Work 의 웹훅 재전송은 이미 상태가 바뀌어 있어 한 번만 기록된다.
+     */
+    private void recordQueueWait(Work work, KeywordSelectWebhookRequest request, boolean isTest) {
+        boolean awaitingWorker = work.getStatus() == WorkExecutionStatus.PENDING || work.getStatus() == WorkExecutionStatus.REQUESTED;
+        if (!awaitingWorker || request.getPublishedAt() == null || request.getStartedAt() == null) {
+            return;
+        }
+        Duration wait = Duration.between(request.getPublishedAt().toInstant(), request.getStartedAt().toInstant());
+        if (wait.isNegative()) {
+            return;
+        }
+        Timer.builder("rabbit.queue.wait")
+                .description("메시지 발행부터 워커가 처리를 시작하기까지 걸린 시간 (레인별)")
+                .tag("queue", RabbitConfig.CONTENT_GENERATE_QUEUE)
+                .tag("lane", ContentGenerateLane.of(isTest).tagValue())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(wait);
+    }
+
     private boolean isTestRequest(Boolean isTestFlag, Work work) {
         if (Boolean.TRUE.equals(isTestFlag)) {
             return true;
@@ -0,0 +1,141 @@
+package com.ocp.ocp_finalproject.work.service;
+
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+import com.ocp.ocp_finalproject.work.config.WebhookIdempotencyProperties;
+import com.ocp.ocp_finalproject.work.dto.request.WebhookEvent;
+import com.ocp.ocp_finalproject.work.repository.WebhookReceiptRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 단계 결과 중복 전송 판정. 멱등 키는 (workId, step, eventId) 이고 eventId 가 없으면 completedAt 을 쓴다.
+ *
+ * <p>최근 처리한 키는 메모리 LRU 에 두어 워커 재시도 폭주 때 엔티티 조회는 물론 DB 접근 없이 버린다.
+ * LRU 에 없으면 webhook_receipt 에 {@code INSERT IGNORE} 로 기록해 판정한다. 기록은 결과 반영과 같은 트랜잭션이므로
+ * 반영이 롤백되면 기록도 사라져 재전송을 다시 처리할 수 있고, LRU 에는 커밋된 뒤에만 올린다.</p>
+ */
+@Slf4j
+@Service
+public class WebhookIdempotencyService {
+
+    private static final int MAX_EVENT_KEY_LENGTH = 64;
+
+    private final WebhookIdempotencyProperties webhookIdempotencyProperties;
+    private final WebhookReceiptRepository webhookReceiptRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Boolean> recentKeys;
+
+    public WebhookIdempotencyService(WebhookIdempotencyProperties webhookIdempotencyProperties,
+                                     WebhookReceiptRepository webhookReceiptRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     MeterRegistry meterRegistry) {
+        this.webhookIdempotencyProperties = webhookIdempotencyProperties;
+        this.webhookReceiptRepository = webhookReceiptRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        int cacheSize = Math.max(1, webhookIdempotencyProperties.getCacheSize());
+        this.recentKeys = Collections.synchronizedMap(new LinkedHashMap<>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * 처음 받은 결과면 수신 기록을 남기고 true, 이미 처리한 결과면 false.
+     * 결과를 반영하는 트랜잭션 안에서, 엔티티를 읽기 전에 호출해야 한다.
+     */
+    public boolean tryRegister(WorkResultType step, WebhookEvent event) {
+        String eventKey = eventKey(event);
+        if (!webhookIdempotencyProperties.isEnabled() || event.getWorkId() == null || eventKey == null) {
+            return true;
+        }
+
+        String cacheKey = event.getWorkId() + ":" + step.name() + ":" + eventKey;
+        // containsKey 는 접근 순서를 갱신하지 않으므로 get 으로 확인해야 자주 오는 키가 LRU 에 남는다.
+        if (recentKeys.get(cacheKey) != null) {
+            countDuplicate(step, "cache");
+            return false;
+        }
+
+        int inserted = webhookReceiptRepository.insertIgnore(event.getWorkId(), step.name(), eventKey, LocalDateTime.now());
+        if (inserted == 0) {
+            recentKeys.put(cacheKey, Boolean.TRUE);
+            countDuplicate(step, "db");
+            log.info("중복 단계 결과 무시 - step={} workId={} eventKey={}", step, event.getWorkId(), eventKey);
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentKeys.put(cacheKey, Boolean.TRUE);
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * 보관 기간이 지난 수신 기록을 정리한다.
+     */
+    @Scheduled(cron = "${webhook.idempotency.purge-cron:0 30 * * * *}")
+    public void purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minus(webhookIdempotencyProperties.getRetention());
+        int batchSize = webhookIdempotencyProperties.getPurgeBatchSize();
+        int purged = 0;
+        int deleted;
+        do {
+            Integer count = transactionTemplate.execute(tx -> webhookReceiptRepository.deleteReceivedBefore(before, batchSize));
+            deleted = count == null ? 0 : count;
+            purged += deleted;
+        } while (deleted == batchSize);
+
+        if (purged > 0) {
+            log.info("보관 기간이 지난 웹훅 수신 기록 {}건 정리", purged);
+        }
+    }
+
+    static String eventKey(WebhookEvent event) {
+        String key = event.getEventId();
+        if (key == null || key.isBlank()) {
+            key = event.getCompletedAt() == null ? null : event.getCompletedAt().toInstant().toString();
+        }
+        if (key == null || key.length() <= MAX_EVENT_KEY_LENGTH) {
+            return key;
+        }
+        // 컬럼 크기를 고정하기 위해 긴 키는 SHA-256 16진수(64자)로 줄인다.
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void countDuplicate(WorkResultType step, String detectedBy) {
+        Counter.builder("webhook.idempotency.duplicates")
+                .description("중복 전송으로 버린 단계 결과 수")
+                .tag("step", step.name())
+                .tag("detected_by", detectedBy)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,307 @@
+package com.ocp.ocp_finalproject.work.service;
+
+import com.ocp.ocp_finalproject.common.exception.CustomException;
+import com.ocp.ocp_finalproject.common.exception.ErrorCode;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResult;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+import com.ocp.ocp_finalproject.message.result.service.WorkResultApplier;
+import com.ocp.ocp_finalproject.work.config.WebhookIngestProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비동기 웹훅 수신 (webhook.ingest.mode=ASYNC).
+ *
+ * <p>웹훅 컨트롤러는 시크릿과 워크 ID 만 확인해 결과를 제한된 크기의 메모리 버퍼에 넣고 바로 202 로 응답한다.
+ * 가상 스레드 처리기들이 버퍼에서 최대 batchSize 건씩 꺼내 {@link WorkResultApplier} 로 한 트랜잭션에 반영하므로,
+ * DB 가 느려도 워커의 웹훅 요청이 타임아웃/재전송으로 이어지지 않는다.</p>
+ *
+ * <p>버퍼는 처리기 수만큼 나누고 workId 로 파티션을 고르므로, 같은 Work 의 단계 결과는 한 처리기가 받은 순서대로 반영한다.
+ * 반영에 실패한 결과는 워커에 이미 202 로 응답했으므로 같은 파티션의 다음 묶음 앞에 다시 넣어 maxAttempts 번까지 재시도한다.</p>
+ *
+ * <p>버퍼가 가득 차면 {@link #accept} 가 false 를 돌려 컨트롤러가 기존처럼 동기 처리한다. 단, 같은 Work 의 앞 단계 결과가
+ * 아직 버퍼나 재시도 목록에 남아 있으면 동기 처리하면 순서가 뒤바뀌므로 {@link ErrorCode#WORK_WEBHOOK_BUSY}(503) 로 거절해
+ * 워커가 다시 보내게 한다. 메모리 버퍼이므로 비정상 종료 시 반영 전 결과는 유실될 수 있다. 정상 종료 시에는 새 결과를
+ * 더 받지 않게 한 뒤 처리기를 멈추고 남은 결과를 모두 반영한다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebhookIngestService {
+
+    private static final String SOURCE = "webhook";
+
+    private final WebhookIngestProperties webhookIngestProperties;
+    private final WorkResultApplier workResultApplier;
+    private final MeterRegistry meterRegistry;
+
+    private final List<Partition> partitions = new ArrayList<>();
+    // accept 는 읽기 락, 종료는 쓰기 락. 종료가 running 을 내린 뒤에는 버퍼에 새 결과가 들어오지 않는다.
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        if (!webhookIngestProperties.isAsync()) {
+            return;
+        }
+        int processors = Math.max(1, webhookIngestProperties.getProcessors());
+        int partitionCapacity = Math.max(1, webhookIngestProperties.getCapacity() / processors);
+        for (int i = 0; i < processors; i++) {
+            partitions.add(new Partition(new ArrayBlockingQueue<>(partitionCapacity)));
+        }
+        Gauge.builder("webhook.ingest.buffer.size", partitions,
+                        list -> list.stream().mapToInt(partition -> partition.buffer().size()).sum())
+                .description("반영을 기다리는 비동기 웹훅 결과 수")
+                .register(meterRegistry);
+
+        running = true;
+        for (int i = 0; i < partitions.size(); i++) {
+            Partition partition = partitions.get(i);
+            partition.processor = Thread.ofVirtual()
+                    .name("webhook-ingest-" + i)
+                    .start(() -> process(partition));
+        }
+        log.info("비동기 웹훅 처리기 시작 - processors={} capacity={}", partitions.size(), partitionCapacity * partitions.size());
+    }
+
+    /**
+     * 결과를 버퍼에 넣는다. 동기 모드이거나 워크 ID 가 없거나 버퍼가 가득 차면 false (호출자가 동기 처리).
+     *
+     * @throws CustomException 버퍼가 가득 찼는데 같은 Work 의 앞 결과가 아직 반영되지 않은 경우 (WORK_WEBHOOK_BUSY)
+     */
+    public boolean accept(WorkResultType type, Long workId, Object request) {
+        if (workId == null) {
+            return false;
+        }
+        return accept(new WorkResult(type, workId, request));
+    }
+
+    public boolean accept(WorkResult result) {
+        return switch (admit(result.workId(), List.of(result))) {
+            case BUFFERED -> true;
+            case INLINE -> false;
+            case BUSY -> throw new CustomException(ErrorCode.WORK_WEBHOOK_BUSY);
+        };
+    }
+
+    /**
+     * 한 Work 의 결과들을 모두 버퍼에 넣거나 하나도 넣지 않는다.
+     *
+     * @return BUFFERED: 버퍼에 넣음, INLINE: 호출자가 동기 처리, BUSY: 앞 결과가 남아 있어 지금은 받을 수 없음
+     */
+    public Admission admit(Long workId, List<WorkResult> results) {
+        if (workId == null || partitions.isEmpty()) {
+            return Admission.INLINE;
+        }
+        acceptLock.readLock().lock();
+        try {
+            Partition partition = partitionOf(workId);
+            synchronized (partition) {
+                // 처리기는 꺼내기만 하므로 확인한 여유 공간은 줄지 않는다.
+                if (running && partition.buffer().remainingCapacity() >= results.size()) {
+                    partition.buffer().addAll(results);
+                    partition.pendingByWork().merge(workId, results.size(), Integer::sum);
+                    results.forEach(result -> count(result.type(), "accepted"));
+                    return Admission.BUFFERED;
+                }
+                if (partition.pendingByWork().containsKey(workId)) {
+                    results.forEach(result -> count(result.type(), "busy"));
+                    return Admission.BUSY;
+                }
+            }
+            if (running) {
+                results.forEach(result -> count(result.type(), "overflow"));
+            }
+            return Admission.INLINE;
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+    }
+
+    private Partition partitionOf(Long workId) {
+        return partitions.get((int) Math.floorMod(workId, (long) partitions.size()));
+    }
+
+    private void process(Partition partition) {
+        long pollTimeoutMillis = webhookIngestProperties.getPollTimeout().toMillis();
+        while (running) {
+            try {
+                if (partition.retry().isEmpty()) {
+                    WorkResult first = partition.buffer().poll(pollTimeoutMillis, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    partition.retry().add(new Pending(first, 0));
+                } else {
+                    // 재시도할 결과가 있으면 DB 가 회복할 틈을 두고 다시 반영한다.
+                    Thread.sleep(pollTimeoutMillis);
+                }
+                applyNext(partition);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("비동기 웹훅 처리 실패 - pending={}", partition.retry().size(), e);
+            }
+        }
+    }
+
+    /**
+     * 재시도할 결과 뒤에 버퍼의 결과를 이어 붙여 최대 batchSize 건을 반영하고, 실패한 결과는 다시 재시도 목록에 남긴다.
+     */
+    private void applyNext(Partition partition) {
+        int batchSize = Math.max(1, webhookIngestProperties.getBatchSize());
+        List<Pending> batch = new ArrayList<>(partition.retry());
+        partition.retry().clear();
+        if (batch.size() < batchSize) {
+            List<WorkResult> drained = new ArrayList<>(batchSize - batch.size());
+            partition.buffer().drainTo(drained, batchSize - batch.size());
+            drained.forEach(result -> batch.add(new Pending(result, 0)));
+        }
+
+        List<WorkResult> results = batch.stream().map(Pending::result).toList();
+        Set<WorkResult> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            failed.addAll(workResultApplier.apply(results, SOURCE));
+        } catch (RuntimeException e) {
+            // 꺼낸 결과를 잃지 않도록 묶음 전체를 실패로 보고 재시도 목록에 남긴다.
+            log.error("비동기 웹훅 결과 반영 중 오류 - size={}", batch.size(), e);
+            failed.addAll(results);
+        }
+        int maxAttempts = Math.max(1, webhookIngestProperties.getMaxAttempts());
+        List<Long> finished = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            if (!failed.contains(pending.result())) {
+                finished.add(pending.result().workId());
+                continue;
+            }
+            int attempts = pending.attempts() + 1;
+            if (attempts < maxAttempts) {
+                partition.retry().add(new Pending(pending.result(), attempts));
+                continue;
+            }
+            finished.add(pending.result().workId());
+            count(pending.result().type(), "dropped");
+            log.error("비동기 웹훅 결과 반영 실패, {}회 시도 후 버림 - type={} workId={} request={}",
+                    attempts, pending.result().type(), pending.result().workId(), pending.result().request());
+        }
+        synchronized (partition) {
+            finished.forEach(workId -> partition.pendingByWork().computeIfPresent(workId,
+                    (key, pending) -> pending > 1 ? pending - 1 : null));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        acceptLock.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+
+        long deadline = System.nanoTime() + webhookIngestProperties.getShutdownTimeout().toNanos();
+        for (Partition partition : partitions) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+                partition.processor.join(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+            }
+        }
+
+        // 대기 시간 안에 끝나지 않은 처리기는 인터럽트해 멈춘다. 처리기가 살아 있는 파티션의 retry 와 버퍼를
+        // 종료 스레드가 함께 만지면 안 되므로, 그래도 멈추지 않으면 그 파티션은 반영하지 않고 남은 건수만 남긴다.
+        long pollTimeoutMillis = webhookIngestProperties.getPollTimeout().toMillis();
+        for (Partition partition : partitions) {
+            if (partition.processor.isAlive()) {
+                partition.processor.interrupt();
+                partition.processor.join(pollTimeoutMillis + 1);
+            }
+        }
+
+        int drained = 0;
+        for (Partition partition : partitions) {
+            if (partition.processor.isAlive()) {
+                log.warn("비동기 웹훅 처리기가 멈추지 않아 남은 결과를 반영하지 않음 - {} pending={}",
+                        partition.processor.getName(), partition.pendingCount());
+                continue;
+            }
+            drained += partition.retry().size() + partition.buffer().size();
+            while (!partition.retry().isEmpty() || !partition.buffer().isEmpty()) {
+                applyNext(partition);
+            }
+        }
+        log.info("비동기 웹훅 처리기 종료 - 종료 시 반영 {}건", drained);
+    }
+
+    private void count(WorkResultType type, String result) {
+        Counter.builder("webhook.ingest.requests")
+                .description("비동기 웹훅 수신 결과 (accepted: 버퍼 적재, overflow: 버퍼 초과로 동기 처리, busy: 버퍼 초과 + 앞 결과 대기로 거절, dropped: 재시도 후 반영 포기)")
+                .tag("type", type.name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public enum Admission {
+        BUFFERED,
+        INLINE,
+        BUSY
+    }
+
+    /**
+     * 처리기 하나가 전담하는 버퍼. retry 는 처리기(처리기가 끝난 뒤에는 종료 스레드)만 만진다.
+     * pendingByWork 는 버퍼와 재시도 목록에 남은 Work 별 결과 수로, 파티션 모니터로 보호한다.
+     */
+    private static final class Partition {
+
+        private final BlockingQueue<WorkResult> buffer;
+        private final List<Pending> retry = new ArrayList<>();
+        private final Map<Long, Integer> pendingByWork = new HashMap<>();
+        private Thread processor;
+
+        private Partition(BlockingQueue<WorkResult> buffer) {
+            this.buffer = buffer;
+        }
+
+        BlockingQueue<WorkResult> buffer() {
+            return buffer;
+        }
+
+        List<Pending> retry() {
+            return retry;
+        }
+
+        Map<Long, Integer> pendingByWork() {
+            return pendingByWork;
+        }
+
+        synchronized int pendingCount() {
+            return pendingByWork.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    private record Pending(WorkResult result, int attempts) {
+    }
+}
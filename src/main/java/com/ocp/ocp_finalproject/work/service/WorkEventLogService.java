@@ -0,0 +1,99 @@
+package com.ocp.ocp_finalproject.work.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResult;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+import com.ocp.ocp_finalproject.work.config.WorkEventProperties;
+import com.ocp.ocp_finalproject.work.domain.WorkEvent;
+import com.ocp.ocp_finalproject.work.dto.request.BlogUploadWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.ContentGenerateWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.KeywordSelectWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.ProductSelectWebhookRequest;
+import com.ocp.ocp_finalproject.work.dto.request.WebhookEvent;
+import com.ocp.ocp_finalproject.work.repository.WorkEventRepository;
+import com.ocp.ocp_finalproject.work.util.WebhookTimeParser;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 단계 결과를 work_event 에 추가하고, 이벤트 본문을 다시 웹훅 요청 DTO 로 되돌린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkEventLogService {
+
+    private final WorkEventRepository workEventRepository;
+    private final WorkEventProperties workEventProperties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 결과를 이벤트로 남긴다. 결과를 반영하는 트랜잭션 안에서 호출한다.
+     *
+     * @return Work / AiContent 반영을 프로젝터에 맡겼으면(비동기 반영 모드) true. 호출자는 엔티티를 읽지 않고 끝낸다.
+     */
+    public boolean append(WorkResultType step, WebhookEvent request) {
+        workEventRepository.save(toEvent(step, request));
+        return workEventProperties.isAsyncProjection();
+    }
+
+    /**
+     * 여러 결과를 한 번에 남긴다. pooled ID 채번이므로 INSERT 는 커밋 시 JDBC 배치로 묶여 나간다.
+     */
+    public boolean appendAll(List<WorkResult> results) {
+        workEventRepository.saveAll(results.stream()
+                .map(result -> toEvent(result.type(), (WebhookEvent) result.request()))
+                .toList());
+        return workEventProperties.isAsyncProjection();
+    }
+
+    public WorkResult toWorkResult(WorkEvent event) {
+        Class<? extends WebhookEvent> requestType = switch (event.getStep()) {
+            case KEYWORD_SELECT -> KeywordSelectWebhookRequest.class;
+            case PRODUCT_SELECT -> ProductSelectWebhookRequest.class;
+            case CONTENT_GENERATE -> ContentGenerateWebhookRequest.class;
+            case BLOG_UPLOAD -> BlogUploadWebhookRequest.class;
+        };
+        try {
+            return new WorkResult(event.getStep(), event.getWorkId(), objectMapper.readValue(event.getPayload(), requestType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("작업 이벤트 본문을 해석할 수 없습니다. eventId=" + event.getId(), e);
+        }
+    }
+
+    private WorkEvent toEvent(WorkResultType step, WebhookEvent request) {
+        LocalDateTime now = LocalDateTime.now();
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("작업 이벤트 본문을 직렬화할 수 없습니다. workId=" + request.getWorkId(), e);
+        }
+
+        return WorkEvent.createBuilder()
+                .workId(request.getWorkId())
+                .step(step)
+                .success(successOf(request))
+                .startedAt(request instanceof KeywordSelectWebhookRequest keyword && keyword.getStartedAt() != null
+                        ? WebhookTimeParser.toUtcOrNow(keyword.getStartedAt())
+                        : null)
+                .completedAt(request.getCompletedAt() != null ? WebhookTimeParser.toUtcOrNow(request.getCompletedAt()) : null)
+                .receivedAt(now)
+                .payload(payload)
+                // 바로 반영하는 모드에서는 같은 트랜잭션에서 반영되므로 반영 시각을 함께 남긴다.
+                .projectedAt(workEventProperties.isAsyncProjection() ? null : now)
+                .build();
+    }
+
+    private Boolean successOf(WebhookEvent request) {
+        return switch (request) {
+            case KeywordSelectWebhookRequest keyword -> keyword.isSuccess();
+            case ProductSelectWebhookRequest product -> product.getSuccess();
+            case ContentGenerateWebhookRequest content -> content.getSuccess();
+            case BlogUploadWebhookRequest blog -> blog.isSuccess();
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.ocp.ocp_finalproject.work.service;
+
+import com.ocp.ocp_finalproject.message.result.dto.WorkResult;
+import com.ocp.ocp_finalproject.message.result.service.WorkResultApplier;
+import com.ocp.ocp_finalproject.work.config.WorkEventProperties;
+import com.ocp.ocp_finalproject.work.domain.WorkEvent;
+import com.ocp.ocp_finalproject.work.repository.WorkEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비동기 반영 모드(work-event.projection=ASYNC)에서 work_event 를 Work / AiContent 에 반영한다.
+ *
+ * <p>결과 수신 경로는 이벤트 INSERT 만 하므로 Work / AiContent 행 잠금이 웹훅 요청마다 잡히지 않는다.
+ * 프로젝터는 반영하지 않은 이벤트를 수신 순서대로 batchSize 건씩 (PK 레코드 잠금으로) 선점해 {@link WorkResultApplier#project} 로
+ * 한 트랜잭션에 반영하고 projected_at 을 채운다. 묶음이 실패하면 한 건씩 반영하고, 그래도 실패한 이벤트는
+ * 뒤 이벤트를 막지 않도록 반영한 것으로 표시한 뒤 로그를 남긴다. (본문이 남아 있으므로 수동 재반영 가능)</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkEventProjector {
+
+    private final WorkEventRepository workEventRepository;
+    private final WorkEventLogService workEventLogService;
+    private final WorkResultApplier workResultApplier;
+    private final WorkEventProperties workEventProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${work-event.projector-fixed-delay:PT1S}")
+    public void project() {
+        if (!workEventProperties.isAsyncProjection()) {
+            return;
+        }
+
+        int batchSize = Math.max(1, workEventProperties.getProjectorBatchSize());
+        int projected;
+        do {
+            try {
+                Integer count = transactionTemplate.execute(tx -> projectBatch(batchSize));
+                projected = count == null ? 0 : count;
+            } catch (RuntimeException e) {
+                log.warn("작업 이벤트 묶음 반영 실패, 한 건씩 다시 반영 - batchSize={}", batchSize, e);
+                projectOneByOne(batchSize);
+                return;
+            }
+        } while (projected == batchSize);
+    }
+
+    private int projectBatch(int batchSize) {
+        List<WorkEvent> events = claimUnprojected(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<WorkResult> results = events.stream()
+                .map(workEventLogService::toWorkResult)
+                .toList();
+        List<WorkResult> skipped = workResultApplier.project(results);
+
+        LocalDateTime now = LocalDateTime.now();
+        events.forEach(event -> event.markProjected(now));
+        count("projected", events.size() - skipped.size());
+        count("skipped", skipped.size());
+        return events.size();
+    }
+
+    private void projectOneByOne(int limit) {
+        for (int i = 0; i < limit; i++) {
+            try {
+                Integer count = transactionTemplate.execute(tx -> projectBatch(1));
+                if (count == null || count == 0) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                transactionTemplate.executeWithoutResult(tx -> markFailed(e));
+            }
+        }
+    }
+
+    private void markFailed(RuntimeException cause) {
+        List<WorkEvent> events = claimUnprojected(1);
+        if (events.isEmpty()) {
+            return;
+        }
+        WorkEvent event = events.get(0);
+        event.markProjected(LocalDateTime.now());
+        count("failed", 1);
+        log.error("작업 이벤트 반영 실패, 건너뜀 - eventId={} workId={} step={}",
+                event.getId(), event.getWorkId(), event.getStep(), cause);
+    }
+
+    /**
+     * 반영하지 않은 이벤트 id 를 잠그지 않고 읽은 뒤 PK 로 잠근다. 기다리는 동안 다른 노드가 반영한 이벤트는 뺀다.
+     */
+    private List<WorkEvent> claimUnprojected(int limit) {
+        List<Long> ids = workEventRepository.findUnprojectedIds(PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return workEventRepository.lockAllByIdIn(ids).stream()
+                .filter(event -> event.getProjectedAt() == null)
+                .toList();
+    }
+
+    private void count(String result, int amount) {
+        Counter.builder("work.event.projected")
+                .description("비동기로 반영한 작업 이벤트 수")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ocp.ocp_finalproject.work.service;
+
+import com.ocp.ocp_finalproject.common.exception.CustomException;
+import com.ocp.ocp_finalproject.common.exception.ErrorCode;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResult;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResultMessage;
+import com.ocp.ocp_finalproject.message.result.service.WorkResultApplier;
+import com.ocp.ocp_finalproject.message.result.service.WorkResultMapper;
+import com.ocp.ocp_finalproject.work.config.WebhookIngestProperties;
+import com.ocp.ocp_finalproject.work.dto.response.WorkEventsResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 여러 Work 의 단계 결과를 한 요청으로 받는 묶음 이벤트 API 처리.
+ *
+ * <p>이벤트 전체를 {@link WorkResultApplier} 로 넘겨 Work / AiContent 를 IN 쿼리로 한 번에 읽고 한 트랜잭션으로 반영한다.
+ * 비동기 웹훅 모드면 Work 단위로 버퍼에 넣을지 요청 안에서 반영할지 정한다. 한 Work 의 이벤트는 모두 같은 쪽으로 가므로
+ * 일부만 버퍼에 들어가 뒤 단계가 먼저 반영되는 일이 없다. 버퍼가 찼는데 그 Work 의 앞 결과가 아직 버퍼에 남아 있으면
+ * 해당 이벤트는 실패 인덱스로 돌려 워커가 다시 보내게 한다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkEventService {
+
+    private static final String SOURCE = "events";
+
+    private final WorkResultMapper workResultMapper;
+    private final WorkResultApplier workResultApplier;
+    private final WebhookIngestService webhookIngestService;
+    private final WebhookIngestProperties webhookIngestProperties;
+
+    public WorkEventsResponse handle(List<WorkResultMessage> events) {
+        if (events == null || events.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "이벤트가 비어 있습니다.");
+        }
+        int maxEvents = webhookIngestProperties.getMaxEventsPerRequest();
+        if (events.size() > maxEvents) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "이벤트는 한 번에 최대 " + maxEvents + "건까지 보낼 수 있습니다.");
+        }
+
+        List<WorkResult> results = toWorkResults(events);
+
+        // Work 별 이벤트 위치 (요청 순서 유지)
+        Map<Long, List<Integer>> indexesByWork = new LinkedHashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            indexesByWork.computeIfAbsent(results.get(i).workId(), workId -> new ArrayList<>()).add(i);
+        }
+
+        int queued = 0;
+        List<Integer> immediateIndexes = new ArrayList<>(results.size());
+        List<Integer> failedIndexes = new ArrayList<>();
+        for (Map.Entry<Long, List<Integer>> entry : indexesByWork.entrySet()) {
+            List<WorkResult> workResults = entry.getValue().stream().map(results::get).toList();
+            switch (webhookIngestService.admit(entry.getKey(), workResults)) {
+                case BUFFERED -> queued += workResults.size();
+                case INLINE -> immediateIndexes.addAll(entry.getValue());
+                case BUSY -> failedIndexes.addAll(entry.getValue());
+            }
+        }
+        int busy = failedIndexes.size();
+        Collections.sort(immediateIndexes);
+        List<WorkResult> immediate = immediateIndexes.stream().map(results::get).toList();
+
+        // 같은 내용의 이벤트가 여러 번 와도 실패한 위치만 돌려주도록 값이 아닌 인스턴스로 찾는다.
+        Set<WorkResult> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        failed.addAll(workResultApplier.apply(immediate, SOURCE));
+        for (int i = 0; i < immediate.size(); i++) {
+            if (failed.contains(immediate.get(i))) {
+                failedIndexes.add(immediateIndexes.get(i));
+            }
+        }
+        Collections.sort(failedIndexes);
+
+        log.info("작업 이벤트 수신 - received={} queued={} processed={} busy={} failed={}",
+                results.size(), queued, immediate.size(), busy, failedIndexes.size() - busy);
+        return WorkEventsResponse.builder()
+                .received(results.size())
+                .queued(queued)
+                .processed(immediate.size() - (failedIndexes.size() - busy))
+                .failedIndexes(failedIndexes)
+                .build();
+    }
+
+    private List<WorkResult> toWorkResults(List<WorkResultMessage> events) {
+        List<WorkResult> results = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                results.add(workResultMapper.toWorkResult(events.get(i)));
+            } catch (IllegalArgumentException e) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "events[" + i + "] " + e.getMessage());
+            }
+        }
+        return results;
+    }
+}
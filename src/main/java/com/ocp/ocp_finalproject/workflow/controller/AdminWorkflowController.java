@@ -1,11 +1,15 @@
 package com.ocp.ocp_finalproject.workflow.controller;
 
 import com.ocp.ocp_finalproject.workflow.dto.response.AdminWorkflowListResponse;
+import com.ocp.ocp_finalproject.workflow.dto.response.ScheduleForecastResponse;
+import com.ocp.ocp_finalproject.workflow.dto.response.UpcomingWorkflowRunResponse;
+import com.ocp.ocp_finalproject.workflow.enums.ForecastGranularity;
 import com.ocp.ocp_finalproject.workflow.service.AdminWorkflowService;
 import com.ocp.ocp_finalproject.common.response.ApiResult;
 import com.ocp.ocp_finalproject.user.domain.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +17,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/admin/workflow")
@@ -35,4 +42,40 @@ public class AdminWorkflowController {
         return ResponseEntity.ok(ApiResult.success("워크플로우 목록 조회 성공(관리자)", workflowList));
     }
 
+    /**
+     * 실행 예정 워크플로우 조회(관리자)
+     * from 기본값: 현재 시각, to 기본값: from + 1시간
+     */
+    @GetMapping("/upcoming")
+    public ResponseEntity<ApiResult<List<UpcomingWorkflowRunResponse>>> getUpcomingRuns(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        LocalDateTime rangeFrom = from != null ? from : LocalDateTime.now();
+        LocalDateTime rangeTo = to != null ? to : rangeFrom.plusHours(1);
+
+        List<UpcomingWorkflowRunResponse> upcomingRuns = workflowService.getUpcomingRuns(principal, rangeFrom, rangeTo);
+
+        return ResponseEntity.ok(ApiResult.success("실행 예정 워크플로우 조회 성공(관리자)", upcomingRuns));
+    }
+
+    /**
+     * 스케줄 부하 예측(관리자)
+     * from 기본값: 현재 시각, days 기본값: 7 (최대 31), granularity 기본값: HOUR (peakMinute 는 항상 분 단위)
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<ApiResult<ScheduleForecastResponse>> getScheduleForecast(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "HOUR") ForecastGranularity granularity
+    ) {
+        LocalDateTime rangeFrom = from != null ? from : LocalDateTime.now();
+
+        ScheduleForecastResponse forecast = workflowService.getScheduleForecast(principal, rangeFrom, days, granularity);
+
+        return ResponseEntity.ok(ApiResult.success("스케줄 부하 예측 조회 성공(관리자)", forecast));
+    }
+
 }
\ No newline at end of file
@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "recurrence_rule")
+@Table(name = "recurrence_rule", indexes = {
+        @Index(name = "idx_recurrence_rule_start_at", columnList = "start_at"),
+        @Index(name = "idx_recurrence_rule_end_at", columnList = "end_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RecurrenceRule extends BaseEntity {
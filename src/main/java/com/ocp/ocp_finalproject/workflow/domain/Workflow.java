@@ -9,12 +9,14 @@ import com.ocp.ocp_finalproject.user.domain.User;
 import com.ocp.ocp_finalproject.work.domain.Work;
 import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
 import com.ocp.ocp_finalproject.workflow.enums.WorkflowTestStatus;
+import com.ocp.ocp_finalproject.workflow.util.RecurrenceRuleFireTimeCalculator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,7 +24,10 @@ import java.util.List;
 import static com.ocp.ocp_finalproject.common.exception.ErrorCode.INVALID_STATUS_CHANGE;
 
 @Entity
-@Table(name = "workflow")
+@Table(name = "workflow", indexes = {
+        @Index(name = "idx_workflow_status_next_content_fire_at", columnList = "status, next_content_fire_at"),
+        @Index(name = "idx_workflow_status_next_upload_fire_at", columnList = "status, next_upload_fire_at")
+})
 @Getter
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -67,6 +72,17 @@ public class Workflow extends BaseEntity {
     @Column(name="deleted_at")
     private LocalDateTime deletedAt;
 
+    // 다음 콘텐츠 생성 / 블로그 업로드 실행 예정 시각 (tick 스케줄링 엔진이 인덱스로 조회)
+    @Column(name = "next_content_fire_at")
+    private LocalDateTime nextContentFireAt;
+
+    @Column(name = "next_upload_fire_at")
+    private LocalDateTime nextUploadFireAt;
+
+    // 콘텐츠 생성 시각 분산용 지터(초). 업로드 1시간 전 기준에서 이만큼 늦게 실행한다.
+    @Column(name = "content_jitter_seconds")
+    private Integer contentJitterSeconds;
+
     public static Workflow create(
             User user,
             UserBlog userBlog,
@@ -94,6 +110,7 @@ public class Workflow extends BaseEntity {
         this.trendCategory = trendCategory;
         this.recurrenceRule = recurrenceRule;
         this.siteUrl = siteUrl;
+        refreshNextFireTimes(LocalDateTime.now());
     }
 
     public void changeStatus(WorkflowStatus newStatus) {
@@ -111,6 +128,35 @@ public class Workflow extends BaseEntity {
         this.deletedAt = LocalDateTime.now();
     }
 
+    /**
+     * 반복 규칙 기준으로 now 이후의 다음 콘텐츠 생성 / 블로그 업로드 시각을 다시 계산한다.
+     */
+    public void refreshNextFireTimes(LocalDateTime now) {
+        this.nextContentFireAt = RecurrenceRuleFireTimeCalculator.nextContentFireTime(this.recurrenceRule, getContentJitter(), now);
+        this.nextUploadFireAt = RecurrenceRuleFireTimeCalculator.nextUploadFireTime(this.recurrenceRule, now);
+    }
+
+    public void assignContentJitter(Duration contentJitter) {
+        this.contentJitterSeconds = (int) contentJitter.toSeconds();
+    }
+
+    public Duration getContentJitter() {
+        return contentJitterSeconds == null ? Duration.ZERO : Duration.ofSeconds(contentJitterSeconds);
+    }
+
+    public void updateNextFireTimes(LocalDateTime nextContentFireAt, LocalDateTime nextUploadFireAt) {
+        this.nextContentFireAt = nextContentFireAt;
+        this.nextUploadFireAt = nextUploadFireAt;
+    }
+
+    public void updateNextContentFireAt(LocalDateTime nextContentFireAt) {
+        this.nextContentFireAt = nextContentFireAt;
+    }
+
+    public void updateNextUploadFireAt(LocalDateTime nextUploadFireAt) {
+        this.nextUploadFireAt = nextUploadFireAt;
+    }
+
     public void markAsTest() {
         this.testStatus = WorkflowTestStatus.TESTING;
     }
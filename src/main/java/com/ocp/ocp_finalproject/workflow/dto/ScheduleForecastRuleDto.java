@@ -0,0 +1,37 @@
+package com.ocp.ocp_finalproject.workflow.dto;
+
+import com.ocp.ocp_finalproject.workflow.domain.RecurrenceRule;
+import com.ocp.ocp_finalproject.workflow.enums.RepeatType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스케줄 부하 예측용 반복 규칙 (엔티티를 영속성 컨텍스트에 올리지 않도록 컬럼만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleForecastRuleDto {
+
+    private Long workflowId;
+
+    private RepeatType repeatType;
+
+    private Integer repeatInterval;
+
+    private List<Integer> daysOfWeek;
+
+    private List<Integer> daysOfMonth;
+
+    private List<String> timesOfDay;
+
+    private LocalDateTime startAt;
+
+    private LocalDateTime endAt;
+
+    public RecurrenceRule toRecurrenceRule() {
+        return RecurrenceRule.create(repeatType, repeatInterval, daysOfWeek, daysOfMonth, timesOfDay, startAt, endAt);
+    }
+}
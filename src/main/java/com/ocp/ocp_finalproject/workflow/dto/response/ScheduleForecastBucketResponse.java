@@ -0,0 +1,21 @@
+package com.ocp.ocp_finalproject.workflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ScheduleForecastBucketResponse {
+
+    private final LocalDateTime at;
+
+    private final long contentGenerations;
+
+    private final long blogUploads;
+
+    private final long total;
+}
@@ -0,0 +1,36 @@
+package com.ocp.ocp_finalproject.workflow.dto.response;
+
+import com.ocp.ocp_finalproject.workflow.enums.ForecastGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ScheduleForecastResponse {
+
+    private final LocalDateTime from;
+
+    private final LocalDateTime to;
+
+    private final ForecastGranularity granularity;
+
+    // 예측에 사용한 반복 규칙 수
+    private final int ruleCount;
+
+    private final long totalContentGenerations;
+
+    private final long totalBlogUploads;
+
+    // 분 단위로 실행이 가장 많이 몰리는 시각 (granularity 와 무관)
+    private final ScheduleForecastBucketResponse peakMinute;
+
+    // 실행이 있는 구간만 시각 순으로 담는다.
+    private final List<ScheduleForecastBucketResponse> buckets;
+
+    private final long elapsedMillis;
+}
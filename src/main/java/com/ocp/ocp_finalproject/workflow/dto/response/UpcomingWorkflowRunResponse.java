@@ -0,0 +1,29 @@
+package com.ocp.ocp_finalproject.workflow.dto.response;
+
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowRunType;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class UpcomingWorkflowRunResponse {
+
+    private final Long workflowId;
+
+    private final Long userId;
+
+    private final String userName;
+
+    private final String siteUrl;
+
+    private final WorkflowStatus status;
+
+    private final WorkflowRunType runType;
+
+    private final LocalDateTime fireAt;
+}
@@ -0,0 +1,20 @@
+package com.ocp.ocp_finalproject.workflow.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 스케줄 부하 예측 히스토그램 구간 단위
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ForecastGranularity {
+
+    MINUTE("분", ChronoUnit.MINUTES),
+    HOUR("시간", ChronoUnit.HOURS);
+
+    private final String displayName;
+    private final ChronoUnit unit;
+}
@@ -0,0 +1,17 @@
+package com.ocp.ocp_finalproject.workflow.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 워크플로우 스케줄 1회 실행의 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum WorkflowRunType {
+
+    CONTENT_GENERATION("콘텐츠 생성"),
+    BLOG_UPLOAD("블로그 업로드");
+
+    private final String displayName;
+}
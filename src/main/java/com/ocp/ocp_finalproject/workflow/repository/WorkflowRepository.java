@@ -1,16 +1,23 @@
 package com.ocp.ocp_finalproject.workflow.repository;
 
 import com.ocp.ocp_finalproject.workflow.domain.Workflow;
+import com.ocp.ocp_finalproject.workflow.dto.ScheduleForecastRuleDto;
 import com.ocp.ocp_finalproject.workflow.dto.response.AdminWorkflowListResponse;
 import com.ocp.ocp_finalproject.workflow.dto.response.WorkflowListResponse;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -97,6 +104,49 @@ public interface WorkflowRepository extends JpaRepository<Workflow, Long> {
     """)
     List<Workflow> findAllPending();
 
+    /**
+     * 기동 시 스케줄 일괄 등록용 키셋 페이지 조회 (id > lastId, id 오름차순)
+     */
+    @Query("""
+        SELECT wf
+        FROM Workflow wf
+        LEFT JOIN FETCH wf.recurrenceRule rr
+        WHERE wf.status = :status
+          AND wf.id > :lastId
+        ORDER BY wf.id ASC
+    """)
+    List<Workflow> findPageByStatusAfterId(
+            @Param("status") WorkflowStatus status,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    long countByStatus(WorkflowStatus status);
+
+    /**
+     * 스케줄 정합성 점검용 id 키셋 페이지 조회
+     */
+    @Query("""
+        SELECT wf.id
+        FROM Workflow wf
+        WHERE wf.status = :status
+          AND wf.id > :lastId
+        ORDER BY wf.id ASC
+    """)
+    List<Long> findIdsByStatusAfterId(
+            @Param("status") WorkflowStatus status,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    @Query("""
+        SELECT wf
+        FROM Workflow wf
+        LEFT JOIN FETCH wf.recurrenceRule rr
+        WHERE wf.id IN :ids
+    """)
+    List<Workflow> findAllWithRecurrenceRuleByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("""
         select w
         from Workflow w
@@ -129,4 +179,131 @@ public interface WorkflowRepository extends JpaRepository<Workflow, Long> {
     """)
     Optional<Workflow> findByIdWithAllDetails(@Param("workflowId") Long workflowId);
 
+    /**
+     * tick 스케줄링 엔진: 콘텐츠 생성 시각이 도래한 ACTIVE 워크플로우를 선점한다.
+     * (status, next_content_fire_at) 인덱스를 타며, SKIP LOCKED(-2)로 다른 노드가 잡은 행은 건너뛴다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT wf
+        FROM Workflow wf
+        JOIN FETCH wf.recurrenceRule rr
+        WHERE wf.status = 'ACTIVE'
+          AND wf.nextContentFireAt <= :now
+        ORDER BY wf.nextContentFireAt ASC
+    """)
+    List<Workflow> findDueForContentGeneration(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * tick 스케줄링 엔진: 블로그 업로드 시각이 도래한 ACTIVE 워크플로우를 선점한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT wf
+        FROM Workflow wf
+        JOIN FETCH wf.recurrenceRule rr
+        WHERE wf.status = 'ACTIVE'
+          AND wf.nextUploadFireAt <= :now
+        ORDER BY wf.nextUploadFireAt ASC
+    """)
+    List<Workflow> findDueForBlogUpload(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 스케줄 부하 예측용 반복 규칙 키셋 페이지 조회. [from, to] 와 실행 기간이 겹치는 규칙만 읽는다.
+     */
+    @Query("""
+        SELECT new com.ocp.ocp_finalproject.workflow.dto.ScheduleForecastRuleDto(
+            wf.id,
+            rr.repeatType,
+            rr.repeatInterval,
+            rr.daysOfWeek,
+            rr.daysOfMonth,
+            rr.timesOfDay,
+            rr.startAt,
+            rr.endAt
+        )
+        FROM Workflow wf
+        JOIN wf.recurrenceRule rr
+        WHERE wf.status IN :statuses
+          AND wf.id > :lastId
+          AND rr.startAt <= :to
+          AND (rr.endAt IS NULL OR rr.endAt >= :from)
+        ORDER BY wf.id ASC
+    """)
+    List<ScheduleForecastRuleDto> findForecastRulesAfterId(
+            @Param("statuses") Collection<WorkflowStatus> statuses,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    /**
+     * 기간 내 콘텐츠 생성 예정 워크플로우 (status, next_content_fire_at) 인덱스 범위 조회
+     */
+    @Query("""
+        SELECT wf
+        FROM Workflow wf
+        JOIN FETCH wf.user u
+        WHERE wf.status IN :statuses
+          AND wf.nextContentFireAt >= :from
+          AND wf.nextContentFireAt < :to
+        ORDER BY wf.nextContentFireAt ASC
+    """)
+    List<Workflow> findUpcomingContentRuns(
+            @Param("statuses") Collection<WorkflowStatus> statuses,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 기간 내 블로그 업로드 예정 워크플로우 (status, next_upload_fire_at) 인덱스 범위 조회
+     */
+    @Query("""
+        SELECT wf
+        FROM Workflow wf
+        JOIN FETCH wf.user u
+        WHERE wf.status IN :statuses
+          AND wf.nextUploadFireAt >= :from
+          AND wf.nextUploadFireAt < :to
+        ORDER BY wf.nextUploadFireAt ASC
+    """)
+    List<Workflow> findUpcomingUploadRuns(
+            @Param("statuses") Collection<WorkflowStatus> statuses,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * 생애주기 스위퍼: 시작 시점이 지난 대기 워크플로우를 선점한다. (recurrence_rule.start_at 인덱스)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT wf
+        FROM Workflow wf
+        JOIN FETCH wf.recurrenceRule rr
+        WHERE wf.status = 'PENDING'
+          AND rr.startAt <= :now
+        ORDER BY rr.startAt ASC
+    """)
+    List<Workflow> findDueForActivation(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 생애주기 스위퍼: 종료 시점이 지난 활성/비활성 워크플로우를 선점한다. (recurrence_rule.end_at 인덱스)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT wf
+        FROM Workflow wf
+        JOIN FETCH wf.recurrenceRule rr
+        WHERE wf.status IN ('ACTIVE', 'INACTIVE')
+          AND rr.endAt <= :now
+        ORDER BY rr.endAt ASC
+    """)
+    List<Workflow> findDueForExpiration(@Param("now") LocalDateTime now, Pageable pageable);
+
 }
@@ -1,10 +1,20 @@
 package com.ocp.ocp_finalproject.workflow.service;
 
 import com.ocp.ocp_finalproject.workflow.dto.response.AdminWorkflowListResponse;
+import com.ocp.ocp_finalproject.workflow.dto.response.ScheduleForecastResponse;
+import com.ocp.ocp_finalproject.workflow.dto.response.UpcomingWorkflowRunResponse;
 import com.ocp.ocp_finalproject.user.domain.UserPrincipal;
+import com.ocp.ocp_finalproject.workflow.enums.ForecastGranularity;
 import org.springframework.data.domain.Page;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface AdminWorkflowService {
 
     Page<AdminWorkflowListResponse> getWorkflows(UserPrincipal principal, int page, Long userId);
+
+    List<UpcomingWorkflowRunResponse> getUpcomingRuns(UserPrincipal principal, LocalDateTime from, LocalDateTime to);
+
+    ScheduleForecastResponse getScheduleForecast(UserPrincipal principal, LocalDateTime from, int days, ForecastGranularity granularity);
 }
\ No newline at end of file
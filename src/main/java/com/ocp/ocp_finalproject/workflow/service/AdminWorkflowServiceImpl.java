@@ -1,13 +1,19 @@
 package com.ocp.ocp_finalproject.workflow.service;
 
+import com.ocp.ocp_finalproject.scheduler.service.ScheduleForecastService;
 import com.ocp.ocp_finalproject.user.repository.UserRepository;
 import com.ocp.ocp_finalproject.workflow.domain.Workflow;
 import com.ocp.ocp_finalproject.workflow.dto.response.AdminWorkflowListResponse;
+import com.ocp.ocp_finalproject.workflow.dto.response.ScheduleForecastResponse;
+import com.ocp.ocp_finalproject.workflow.dto.response.UpcomingWorkflowRunResponse;
 import com.ocp.ocp_finalproject.common.exception.CustomException;
 import com.ocp.ocp_finalproject.user.domain.User;
 import com.ocp.ocp_finalproject.user.domain.UserPrincipal;
 import com.ocp.ocp_finalproject.user.enums.UserRole;
+import com.ocp.ocp_finalproject.workflow.enums.ForecastGranularity;
 import com.ocp.ocp_finalproject.workflow.enums.SiteUrlInfo;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowRunType;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
 import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +23,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import static com.ocp.ocp_finalproject.common.exception.ErrorCode.*;
 import static org.springframework.beans.support.PagedListHolder.DEFAULT_PAGE_SIZE;
 
@@ -29,6 +40,14 @@ public class AdminWorkflowServiceImpl implements AdminWorkflowService {
 
     private final UserRepository userRepository;
 
+    private final ScheduleForecastService scheduleForecastService;
+
+    // 스케줄 부하 예측 최대 기간 (일)
+    private static final int MAX_FORECAST_DAYS = 31;
+
+    // 실행 예정 조회 대상 (대기 중인 워크플로우는 시작 이후 첫 실행 시각이 미리 계산되어 있다)
+    private static final List<WorkflowStatus> SCHEDULED_STATUSES = List.of(WorkflowStatus.ACTIVE, WorkflowStatus.PENDING);
+
     @Override
     @Transactional(readOnly = true)
     public Page<AdminWorkflowListResponse> getWorkflows(UserPrincipal principal, int page, Long userId) {
@@ -48,6 +67,42 @@ public class AdminWorkflowServiceImpl implements AdminWorkflowService {
         return workflows.map(this::toAdminWorkflowListResponse);
     }
 
+    /**
+     * [from, to) 구간에 실행 예정인 콘텐츠 생성 / 블로그 업로드 목록.
+     * next_*_fire_at 인덱스 범위 조회이므로 Quartz 트리거를 순회하지 않는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UpcomingWorkflowRunResponse> getUpcomingRuns(UserPrincipal principal, LocalDateTime from, LocalDateTime to) {
+
+        validateAndGetUser(principal);
+
+        if (!to.isAfter(from)) {
+            throw new CustomException(INVALID_DATE_RANGE);
+        }
+
+        List<UpcomingWorkflowRunResponse> runs = new ArrayList<>();
+        workflowRepository.findUpcomingContentRuns(SCHEDULED_STATUSES, from, to)
+                .forEach(wf -> runs.add(toUpcomingRunResponse(wf, WorkflowRunType.CONTENT_GENERATION, wf.getNextContentFireAt())));
+        workflowRepository.findUpcomingUploadRuns(SCHEDULED_STATUSES, from, to)
+                .forEach(wf -> runs.add(toUpcomingRunResponse(wf, WorkflowRunType.BLOG_UPLOAD, wf.getNextUploadFireAt())));
+
+        runs.sort(Comparator.comparing(UpcomingWorkflowRunResponse::getFireAt));
+        return runs;
+    }
+
+    @Override
+    public ScheduleForecastResponse getScheduleForecast(UserPrincipal principal, LocalDateTime from, int days, ForecastGranularity granularity) {
+
+        validateAndGetUser(principal);
+
+        if (days < 1 || days > MAX_FORECAST_DAYS) {
+            throw new CustomException(INVALID_DATE_RANGE);
+        }
+
+        return scheduleForecastService.forecast(from, from.plusDays(days), granularity);
+    }
+
     private void validateAndGetUser(UserPrincipal principal) {
         if (principal == null || principal.getUser() == null) {
             throw new CustomException(UNAUTHORIZED);
@@ -79,4 +134,16 @@ public class AdminWorkflowServiceImpl implements AdminWorkflowService {
                 .build();
     }
 
+    private UpcomingWorkflowRunResponse toUpcomingRunResponse(Workflow wf, WorkflowRunType runType, LocalDateTime fireAt) {
+        return UpcomingWorkflowRunResponse.builder()
+                .workflowId(wf.getId())
+                .userId(wf.getUser().getId())
+                .userName(wf.getUser().getName())
+                .siteUrl(wf.getSiteUrl())
+                .status(wf.getStatus())
+                .runType(runType)
+                .fireAt(fireAt)
+                .build();
+    }
+
 }
\ No newline at end of file
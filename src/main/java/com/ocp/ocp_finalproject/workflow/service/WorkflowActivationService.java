@@ -0,0 +1,36 @@
+package com.ocp.ocp_finalproject.workflow.service;
+
+import com.ocp.ocp_finalproject.workflow.domain.RecurrenceRule;
+import com.ocp.ocp_finalproject.workflow.domain.Workflow;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class WorkflowActivationService {
+
+    /**
+     * 시작 시점(startAt)이 지난 대기 워크플로우를 활성 상태로 변경한다.
+     *
+     * @return true if activation applied
+     */
+    public boolean activateIfStarted(Workflow workflow, LocalDateTime now) {
+        Long workflowId = workflow.getId();
+        if (workflow.getStatus() != WorkflowStatus.PENDING) {
+            log.info("워크플로우 {} 활성화를 건너뜁니다. 현재 상태={}", workflowId, workflow.getStatus());
+            return false;
+        }
+
+        RecurrenceRule rule = workflow.getRecurrenceRule();
+        if (rule == null || rule.getStartAt() == null || rule.getStartAt().isAfter(now)) {
+            log.debug("워크플로우 {} 의 시작 시점이 아직 지나지 않았습니다.", workflowId);
+            return false;
+        }
+
+        workflow.changeStatus(WorkflowStatus.ACTIVE);
+        log.info("워크플로우 {} 를 ACTIVE 상태로 전환했습니다.", workflowId);
+        return true;
+    }
+}
@@ -31,20 +31,28 @@ public class WorkflowExpirationService {
             return false;
         }
 
-        Workflow workflow = optionalWorkflow.get();
+        return completeIfExpired(optionalWorkflow.get(), LocalDateTime.now());
+    }
+
+    /**
+     * 영속 상태의 워크플로우를 now 기준으로 만료 처리한다. (생애주기 스위퍼의 일괄 처리용)
+     *
+     * @return true if completion applied
+     */
+    public boolean completeIfExpired(Workflow workflow, LocalDateTime now) {
+        Long workflowId = workflow.getId();
         RecurrenceRule rule = workflow.getRecurrenceRule();
         if (rule == null || rule.getEndAt() == null) {
             log.debug("워크플로우 {} 는 만료 시점이 없어 자동 완료를 건너뜁니다.", workflowId);
             return false;
         }
 
-        LocalDateTime now = LocalDateTime.now();
         if (rule.getEndAt().isAfter(now)) {
             log.debug("워크플로우 {} 의 만료 시점이 아직 지나지 않았습니다. endAt={}", workflowId, rule.getEndAt());
             return false;
         }
 
-        if (workflow.getStatus().canTransitionTo(WorkflowStatus.COMPLETED)) {
+        if (!workflow.getStatus().canTransitionTo(WorkflowStatus.COMPLETED)) {
             log.debug("워크플로우 {} 는 완료 상태로 전환할 수 없어 만료 처리를 건너뜁니다. currentStatus={}", workflowId, workflow.getStatus());
             return false;
         }
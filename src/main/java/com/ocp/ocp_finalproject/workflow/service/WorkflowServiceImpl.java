@@ -330,12 +330,11 @@ public class WorkflowServiceImpl implements WorkflowService {
                     public void afterCommit() {
                         try {
                             if (status == WorkflowStatus.PENDING) {
-                                schedulerSyncService.registerActivationJob(workflowId);
+                                schedulerSyncService.registerPendingWorkflow(workflowId);
                             } else if (status == WorkflowStatus.ACTIVE) {
                                 schedulerSyncService.updateWorkflowJobs(workflowId);
                             } else {
                                 schedulerSyncService.removeWorkflowJobs(workflowId);
-                                schedulerSyncService.removeActivationJob(workflowId);
                             }
                         } catch (SchedulerException e) {
                             throw new RuntimeException(e);
@@ -8,6 +8,7 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -53,11 +54,14 @@ public class RecurrenceRuleCronConverter {
                 if (startAt == null) {
                     throw new IllegalArgumentException("ONCE 반복 유형은 startAt 값이 필요합니다.");
                 }
-                LocalDateTime effectiveStart = offset != null && !offset.isZero() ? startAt.plus(offset) : startAt;
+                // 실행 시각은 분 단위로 맞춘 뒤 오프셋(콘텐츠 생성 지터의 초 단위 포함)을 더한다.
+                LocalDateTime baseStart = startAt.truncatedTo(ChronoUnit.MINUTES);
+                LocalDateTime effectiveStart = offset != null && !offset.isZero() ? baseStart.plus(offset) : baseStart;
                 cronComponents.dayOfMonth = String.valueOf(effectiveStart.getDayOfMonth());
                 cronComponents.month = String.valueOf(effectiveStart.getMonthValue());
                 cronComponents.dayOfWeek = "?";
                 cronComponents.year = String.valueOf(effectiveStart.getYear());
+                cronComponents.second = String.valueOf(effectiveStart.getSecond());
                 String minute = formatNumber(effectiveStart.getMinute());
                 String hour = formatNumber(effectiveStart.getHour());
                 return List.of(cronComponents.build(minute, hour));
@@ -106,11 +110,15 @@ public class RecurrenceRuleCronConverter {
         Optional<CronTimeFields> combinedFields = tryCombineTimes(executionTimes);
         if (combinedFields.isPresent()) {
             CronTimeFields fields = combinedFields.get();
+            cronComponents.second = fields.second();
             return List.of(cronComponents.build(fields.minute(), fields.hour()));
         }
 
         return executionTimes.stream()
-                .map(time -> cronComponents.build(formatNumber(time.getMinute()), formatNumber(time.getHour())))
+                .map(time -> {
+                    cronComponents.second = String.valueOf(time.getSecond());
+                    return cronComponents.build(formatNumber(time.getMinute()), formatNumber(time.getHour()));
+                })
                 .collect(Collectors.toList());
     }
 
@@ -121,7 +129,7 @@ public class RecurrenceRuleCronConverter {
         }
 
         if (startAt != null) {
-            return List.of(startAt.toLocalTime());
+            return List.of(startAt.toLocalTime().truncatedTo(ChronoUnit.MINUTES));
         }
 
         return List.of(LocalTime.MIDNIGHT);
@@ -138,7 +146,7 @@ public class RecurrenceRuleCronConverter {
                 continue;
             }
             try {
-                orderedTimes.add(LocalTime.parse(timeValue));
+                orderedTimes.add(LocalTime.parse(timeValue).truncatedTo(ChronoUnit.MINUTES));
             } catch (DateTimeParseException ignored) {
                 orderedTimes.add(parseLenient(timeValue));
             }
@@ -234,7 +242,16 @@ public class RecurrenceRuleCronConverter {
 
         if (executionTimes.size() == 1) {
             LocalTime time = executionTimes.get(0);
-            return Optional.of(new CronTimeFields(formatNumber(time.getMinute()), formatNumber(time.getHour())));
+            return Optional.of(new CronTimeFields(
+                    String.valueOf(time.getSecond()), formatNumber(time.getMinute()), formatNumber(time.getHour())));
+        }
+
+        // 초 단위(지터)가 서로 다르면 하나의 표현식으로 묶을 수 없다.
+        Set<Integer> seconds = executionTimes.stream()
+                .map(LocalTime::getSecond)
+                .collect(Collectors.toSet());
+        if (seconds.size() != 1) {
+            return Optional.empty();
         }
 
         Set<LocalTime> uniqueTimes = Set.copyOf(executionTimes);
@@ -245,6 +262,7 @@ public class RecurrenceRuleCronConverter {
                 .map(LocalTime::getHour)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
 
+        int second = seconds.iterator().next();
         long expectedSize = (long) minutes.size() * hours.size();
         if (expectedSize != uniqueTimes.size()) {
             return Optional.empty();
@@ -252,7 +270,7 @@ public class RecurrenceRuleCronConverter {
 
         for (Integer hour : hours) {
             for (Integer minute : minutes) {
-                if (!uniqueTimes.contains(LocalTime.of(hour, minute))) {
+                if (!uniqueTimes.contains(LocalTime.of(hour, minute, second))) {
                     return Optional.empty();
                 }
             }
@@ -267,7 +285,7 @@ public class RecurrenceRuleCronConverter {
                 .map(RecurrenceRuleCronConverter::formatNumber)
                 .collect(Collectors.joining(","));
 
-        return Optional.of(new CronTimeFields(minuteField, hourField));
+        return Optional.of(new CronTimeFields(String.valueOf(second), minuteField, hourField));
     }
 
     private static class CronComponents {
@@ -286,6 +304,6 @@ public class RecurrenceRuleCronConverter {
         }
     }
 
-    private record CronTimeFields(String minute, String hour) {
+    private record CronTimeFields(String second, String minute, String hour) {
     }
 }
@@ -0,0 +1,115 @@
+package com.ocp.ocp_finalproject.workflow.util;
+
+import com.ocp.ocp_finalproject.workflow.domain.RecurrenceRule;
+import org.quartz.CronExpression;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * RecurrenceRule 의 Cron 표현식으로 다음 실행 시각을 계산한다.
+ * Quartz Trigger 를 만들지 않고 {@link CronExpression} 만 사용하므로 트리거와 같은 시각을 돌려준다.
+ */
+public class RecurrenceRuleFireTimeCalculator {
+
+    /**
+     * 콘텐츠 생성은 블로그 업로드보다 1시간 먼저 실행한다.
+     */
+    public static final Duration CONTENT_GENERATION_OFFSET = Duration.ofHours(-1);
+
+    public static LocalDateTime nextContentFireTime(RecurrenceRule rule, LocalDateTime after) {
+        return nextContentFireTime(rule, Duration.ZERO, after);
+    }
+
+    /**
+     * @param jitter 워크플로우별 콘텐츠 생성 지터 (업로드 1시간 전 기준에서 늦추는 시간)
+     */
+    public static LocalDateTime nextContentFireTime(RecurrenceRule rule, Duration jitter, LocalDateTime after) {
+        return rule == null ? null : nextFireTime(rule, contentOffset(jitter), after);
+    }
+
+    public static Duration contentOffset(Duration jitter) {
+        return jitter == null ? CONTENT_GENERATION_OFFSET : CONTENT_GENERATION_OFFSET.plus(jitter);
+    }
+
+    public static LocalDateTime nextUploadFireTime(RecurrenceRule rule, LocalDateTime after) {
+        return rule == null ? null : nextFireTime(rule, null, after);
+    }
+
+    /**
+     * after 이후(포함하지 않음) 첫 실행 시각. 종료 시점(endAt)을 넘기면 null.
+     *
+     * @param offset 블로그 업로드 기준 시각에서 더할 오프셋 (null 이면 업로드 시각 그대로)
+     */
+    public static LocalDateTime nextFireTime(RecurrenceRule rule, Duration offset, LocalDateTime after) {
+        List<String> cronExpressions = offset == null
+                ? RecurrenceRuleCronConverter.toCronExpressions(rule)
+                : RecurrenceRuleCronConverter.toCronExpressionsWithOffset(rule, offset);
+        return nextFireTime(cronExpressions, effectiveAfter(rule, after), rule.getEndAt());
+    }
+
+    /**
+     * (after, until] 구간의 모든 실행 시각 (오름차순). 놓친 실행(misfire) 재실행 대상 계산용.
+     *
+     * @param offset 블로그 업로드 기준 시각에서 더할 오프셋 (null 이면 업로드 시각 그대로)
+     */
+    public static List<LocalDateTime> fireTimesBetween(RecurrenceRule rule, Duration offset, LocalDateTime after, LocalDateTime until) {
+        List<String> cronExpressions = offset == null
+                ? RecurrenceRuleCronConverter.toCronExpressions(rule)
+                : RecurrenceRuleCronConverter.toCronExpressionsWithOffset(rule, offset);
+        LocalDateTime endAt = rule.getEndAt() != null && rule.getEndAt().isBefore(until) ? rule.getEndAt() : until;
+
+        List<LocalDateTime> fireTimes = new ArrayList<>();
+        LocalDateTime next = nextFireTime(cronExpressions, effectiveAfter(rule, after), endAt);
+        while (next != null) {
+            fireTimes.add(next);
+            next = nextFireTime(cronExpressions, next, endAt);
+        }
+        return fireTimes;
+    }
+
+    public static LocalDateTime nextFireTime(List<String> cronExpressions, LocalDateTime after, LocalDateTime endAt) {
+        Date afterDate = toDate(after);
+        Date earliest = null;
+        for (String cronExpression : cronExpressions) {
+            Date next = parse(cronExpression).getNextValidTimeAfter(afterDate);
+            if (next != null && (earliest == null || next.before(earliest))) {
+                earliest = next;
+            }
+        }
+        if (earliest == null) {
+            return null;
+        }
+
+        LocalDateTime nextFireTime = LocalDateTime.ofInstant(earliest.toInstant(), ZoneId.systemDefault());
+        if (endAt != null && nextFireTime.isAfter(endAt)) {
+            return null;
+        }
+        return nextFireTime;
+    }
+
+    public static CronExpression parse(String cronExpression) {
+        try {
+            return new CronExpression(cronExpression);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Cron 표현식을 해석할 수 없습니다. cron=" + cronExpression, e);
+        }
+    }
+
+    private static LocalDateTime effectiveAfter(RecurrenceRule rule, LocalDateTime after) {
+        // 시작 전인 워크플로우는 startAt 이후부터 계산한다.
+        if (rule.getStartAt() != null && rule.getStartAt().isAfter(after)) {
+            return rule.getStartAt().minusSeconds(1);
+        }
+        return after;
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,153 @@
+package com.ocp.ocp_finalproject.common.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * IDENTITY 와 pooled 테이블 채번({@link IdGenerators}) 의 대량 INSERT 처리량을 비교한다.
+ * 운영과 같은 배치 설정(batch_size, order_inserts)으로 H2(MySQL 모드)에 넣으며,
+ * 처리량은 로그로만 남기고 (워밍업 후) 검증은 행 수와 JDBC 문장 수로 한다.
+ * 기본 test 태스크에서는 빠지고 {@code gradle benchmark} 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class PooledIdBatchInsertBenchmarkTest {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int WARMUP_ROWS = 2_000;
+    private static final int ROWS = 10_000;
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(PooledRow.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:id_benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void pooledIdsBatchInserts() {
+        insert(WARMUP_ROWS, IdentityRow::new);
+        insert(WARMUP_ROWS, PooledRow::new);
+
+        Result identity = insert(ROWS, IdentityRow::new);
+        Result pooled = insert(ROWS, PooledRow::new);
+
+        report("IDENTITY", identity);
+        report("POOLED", pooled);
+
+        assertThat(count(IdentityRow.class)).isEqualTo(WARMUP_ROWS + ROWS);
+        assertThat(count(PooledRow.class)).isEqualTo(WARMUP_ROWS + ROWS);
+        // IDENTITY 는 행마다 INSERT 를 실행하고, pooled 는 batch_size 단위로 묶어 실행한다.
+        assertThat(identity.statements()).isGreaterThanOrEqualTo(ROWS);
+        assertThat(pooled.statements()).isLessThan(identity.statements() / 10);
+    }
+
+    private Result insert(int rows, IntFunction<Object> factory) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                session.persist(factory.apply(i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+        }
+        return new Result(rows, System.nanoTime() - startedAt, statistics.getPrepareStatementCount());
+    }
+
+    private long count(Class<?> entityClass) {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createQuery("select count(e) from " + entityClass.getSimpleName() + " e", Long.class)
+                    .getSingleResult();
+        }
+    }
+
+    private void report(String name, Result result) {
+        log.info("{} rows={} elapsed={}ms throughput={} rows/s",
+                name, result.rows(), result.nanos() / 1_000_000,
+                result.rows() * 1_000_000_000L / Math.max(1L, result.nanos()));
+    }
+
+    private record Result(int rows, long nanos, long statements) {
+    }
+
+    @Entity(name = "IdentityRow")
+    @Table(name = "benchmark_identity_row")
+    static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(length = 100)
+        private String name;
+
+        protected IdentityRow() {
+        }
+
+        IdentityRow(int i) {
+            this.name = "row-" + i;
+        }
+    }
+
+    @Entity(name = "PooledRow")
+    @Table(name = "benchmark_pooled_row")
+    static class PooledRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "benchmark_id_generator")
+        @TableGenerator(name = "benchmark_id_generator", table = IdGenerators.TABLE,
+                pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+                pkColumnValue = "benchmark", allocationSize = IdGenerators.ALLOCATION_SIZE)
+        private Long id;
+
+        @Column(length = 100)
+        private String name;
+
+        protected PooledRow() {
+        }
+
+        PooledRow(int i) {
+            this.name = "row-" + i;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.ocp.ocp_finalproject.crawling.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocp.ocp_finalproject.common.exception.CustomException;
+import com.ocp.ocp_finalproject.common.exception.ErrorCode;
+import com.ocp.ocp_finalproject.crawling.config.ProductIngestProperties;
+import com.ocp.ocp_finalproject.crawling.domain.ProductCrawl;
+import com.ocp.ocp_finalproject.crawling.dto.ProductIngestResponse;
+import com.ocp.ocp_finalproject.crawling.repository.ProductCrawlRepository;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 크롤링 상품 목록을 chunkSize 건씩 스트리밍으로 읽어 청크마다 upsert 하고,
+ * 추가/갱신/변경 없음/중복/잘못된 상품 수를 세는지 확인한다.
+ */
+class ProductCrawlServiceTest {
+
+    private final ProductCrawlRepository productCrawlRepository = mock(ProductCrawlRepository.class);
+    private final ProductSnapshotService productSnapshotService = mock(ProductSnapshotService.class);
+    private final ProductIngestProperties productIngestProperties = new ProductIngestProperties();
+    private final ProductCrawlService productCrawlService = new ProductCrawlService(productCrawlRepository,
+            productSnapshotService, productIngestProperties, new ObjectMapper(),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @BeforeEach
+    void setUp() {
+        productIngestProperties.setChunkSize(2);
+        // 이미 저장된 상품: p-002 는 같은 값, p-003 은 가격이 바뀌어 들어온다.
+        List<ProductCrawl> stored = List.of(product("p-002", 1000), product("p-003", 1000));
+        when(productCrawlRepository.findBySiteNameAndProductCodeIn(anyString(), anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<String> codes = invocation.getArgument(1);
+                    return stored.stream().filter(product -> codes.contains(product.getProductCode())).toList();
+                });
+    }
+
+    @Test
+    void productsAreUpsertedPerChunkAndCounted() {
+        String body = "[" + String.join(",",
+                // 청크 1: 추가, 변경 없음
+                item("shop-a", "p-001", "1,000원"),
+                item("shop-a", "p-002", "1,000원"),
+                // 청크 2: 갱신, 상품 코드 없음
+                item("shop-a", "p-003", "2,000원"),
+                item("shop-a", null, "1,000원"),
+                // 청크 3: 같은 상품(대소문자만 다름)이 두 번 - 뒤의 것만 반영
+                item("shop-a", "p-004", "1,000원"),
+                item("shop-a", "P-004", "1,500원"),
+                // 청크 4: 마지막 남은 1건
+                item("shop-b", "p-001", "3,000원")) + "]";
+
+        ProductIngestResponse response = productCrawlService.ingest(stream(body));
+
+        assertThat(response.getReceived()).isEqualTo(7);
+        assertThat(response.getInserted()).isEqualTo(3);
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getUnchanged()).isEqualTo(1);
+        assertThat(response.getDuplicates()).isEqualTo(1);
+        assertThat(response.getInvalid()).isEqualTo(1);
+        // 목록 전체가 아니라 청크마다 기존 상품을 조회하고 저장한다.
+        verify(productCrawlRepository, times(4)).findBySiteNameAndProductCodeIn(anyString(), anyCollection());
+        verify(productCrawlRepository, times(4)).saveAll(any());
+        verify(productSnapshotService).refresh(Set.of("shop-a", "shop-b"));
+    }
+
+    @Test
+    void chunksReadBeforeAMalformedElementStayApplied() {
+        String body = "[" + item("shop-a", "p-001", "1,000원") + "," + item("shop-a", "p-005", "1,000원") + ",{\"site_name\":";
+
+        assertThatThrownBy(() -> productCrawlService.ingest(stream(body)))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+        // 앞선 청크는 반영된 채로 남으므로 그 사이트의 스냅샷은 맞춰 둔다.
+        verify(productCrawlRepository, times(1)).saveAll(any());
+        verify(productSnapshotService).refresh(Set.of("shop-a"));
+    }
+
+    @Test
+    void bodyMustBeAnArrayOfObjects() {
+        assertThatThrownBy(() -> productCrawlService.ingest(stream(item("shop-a", "p-001", "1,000원"))))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> productCrawlService.ingest(stream("[1, 2]")))
+                .isInstanceOf(CustomException.class);
+
+        verify(productCrawlRepository, never()).saveAll(any());
+        verify(productSnapshotService, never()).refresh(any());
+    }
+
+    private static ProductCrawl product(String productCode, int price) {
+        return ProductCrawl.createBuilder()
+                .siteName("shop-a")
+                .siteUrl("https://shop-a.example.com")
+                .productName("상품 " + productCode)
+                .productCode(productCode)
+                .productDetailUrl("https://shop-a.example.com/" + productCode)
+                .productPrice(price)
+                .productImageUrl("https://shop-a.example.com/" + productCode + ".jpg")
+                .build();
+    }
+
+    private static String item(String siteName, String productCode, String price) {
+        String code = productCode == null ? "null" : "\"" + productCode + "\"";
+        String lowerCode = productCode == null ? "none" : productCode.toLowerCase();
+        return """
+                {"site_name":"%s","site_url":"https://%s.example.com","product_name":"상품 %s","product_code":%s,\
+                "product_detail_url":"https://%s.example.com/%s","product_price":"%s",\
+                "image_url":"https://%s.example.com/%s.jpg"}"""
+                .formatted(siteName, siteName, lowerCode, code, siteName, lowerCode, price, siteName, lowerCode);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
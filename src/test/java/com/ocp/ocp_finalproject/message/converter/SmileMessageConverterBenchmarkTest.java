@@ -0,0 +1,174 @@
+package com.ocp.ocp_finalproject.message.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
+import com.ocp.ocp_finalproject.message.blog.dto.BlogUploadRequest;
+import com.ocp.ocp_finalproject.message.content.dto.ContentGenerateRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * JSON 과 Smile(+gzip) 인코딩의 메시지 크기 / 직렬화·역직렬화 시간을 비교하고 왕복 변환 결과가 같은지 확인한다.
+ * 수치는 로그로만 남기며 (JIT 워밍업 후 평균), 검증은 왕복 결과와 크기 감소만 한다.
+ * 기본 test 태스크에서는 빠지고 {@code gradle benchmark} 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class SmileMessageConverterBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    private final Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter(RabbitConfig.MESSAGE_PACKAGES);
+    private final SmileMessageConverter smileConverter = new SmileMessageConverter(1024, RabbitConfig.MESSAGE_PACKAGES);
+    private final ContentTypeDelegatingMessageConverter delegatingConverter = delegatingConverter();
+
+    @Test
+    void blogUploadRequestRoundTrip() {
+        BlogUploadRequest request = blogUploadRequest();
+
+        Object json = roundTrip(delegatingConverter, MessageEncoding.JSON, request);
+        Object smile = roundTrip(delegatingConverter, MessageEncoding.SMILE, request);
+
+        assertThat(json).isEqualTo(request);
+        assertThat(smile).isEqualTo(request);
+        assertThat(encode(smileConverter, MessageEncoding.SMILE, request).getBody().length)
+                .isLessThan(encode(jsonConverter, MessageEncoding.JSON, request).getBody().length);
+
+        report("BlogUploadRequest", request);
+    }
+
+    @Test
+    void contentGenerateRequestRoundTrip() {
+        ContentGenerateRequest request = contentGenerateRequest();
+
+        Object smile = roundTrip(delegatingConverter, MessageEncoding.SMILE, request);
+
+        assertThat(smile).isEqualTo(request);
+        assertThat(encode(smileConverter, MessageEncoding.SMILE, request).getBody().length)
+                .isLessThan(encode(jsonConverter, MessageEncoding.JSON, request).getBody().length);
+
+        report("ContentGenerateRequest", request);
+    }
+
+    @Test
+    void smallMessageIsNotCompressed() {
+        BlogUploadRequest request = new BlogUploadRequest();
+        request.setWorkId(1L);
+        request.setTitle("짧은 제목");
+
+        Message message = encode(smileConverter, MessageEncoding.SMILE, request);
+
+        assertThat(message.getMessageProperties().getContentEncoding()).isNull();
+        assertThat(message.getMessageProperties().getHeaders())
+                .containsEntry(SmileMessageConverter.SCHEMA_VERSION_HEADER, SmileMessageConverter.SCHEMA_VERSION);
+        assertThat(smileConverter.fromMessage(message)).isEqualTo(request);
+    }
+
+    private void report(String name, Object payload) {
+        for (MessageEncoding encoding : MessageEncoding.values()) {
+            MessageConverter converter = encoding == MessageEncoding.SMILE ? smileConverter : jsonConverter;
+            Message message = encode(converter, encoding, payload);
+            int bytes = message.getBody().length;
+
+            for (int i = 0; i < WARMUP; i++) {
+                converter.fromMessage(encode(converter, encoding, payload));
+            }
+
+            long encodeNanos = 0L;
+            long decodeNanos = 0L;
+            for (int i = 0; i < ITERATIONS; i++) {
+                long startedAt = System.nanoTime();
+                Message encoded = encode(converter, encoding, payload);
+                long encodedAt = System.nanoTime();
+                converter.fromMessage(encoded);
+                decodeNanos += System.nanoTime() - encodedAt;
+                encodeNanos += encodedAt - startedAt;
+            }
+
+            log.info("{} {} bytes={} encode={}ns decode={}ns contentEncoding={}",
+                    name, encoding, bytes, encodeNanos / ITERATIONS, decodeNanos / ITERATIONS,
+                    message.getMessageProperties().getContentEncoding());
+        }
+    }
+
+    private Object roundTrip(MessageConverter converter, MessageEncoding encoding, Object payload) {
+        return converter.fromMessage(encode(converter, encoding, payload));
+    }
+
+    private Message encode(MessageConverter converter, MessageEncoding encoding, Object payload) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(encoding.getContentType());
+        return converter.toMessage(payload, properties);
+    }
+
+    private ContentTypeDelegatingMessageConverter delegatingConverter() {
+        ContentTypeDelegatingMessageConverter converter = new ContentTypeDelegatingMessageConverter(jsonConverter);
+        converter.addDelegate("application/json", jsonConverter);
+        converter.addDelegate(SmileMessageConverter.CONTENT_TYPE, smileConverter);
+        return converter;
+    }
+
+    private BlogUploadRequest blogUploadRequest() {
+        StringBuilder html = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            html.append("<h2>추천 상품 ").append(i).append("</h2>")
+                    .append("<p>이번 시즌 가장 인기 있는 상품을 소개합니다. 가격과 후기를 함께 확인해 보세요.</p>")
+                    .append("<img src=\"https://image.example.com/products/").append(i).append(".jpg\"/>");
+        }
+
+        BlogUploadRequest request = new BlogUploadRequest();
+        request.setWorkId(12_345L);
+        request.setBlogType("NAVER");
+        request.setTitle("이번 주 인기 상품 모음");
+        request.setContent(html.toString());
+        request.setBlogId("blog-user");
+        request.setBlogPassword("encrypted-password");
+        request.setBlogUrl("https://blog.example.com/blog-user");
+        request.setWebhookUrl("https://api.example.com/api/v1/webhook/blog-upload");
+        request.setWebhookToken("token");
+        request.setIsTest(false);
+        return request;
+    }
+
+    private ContentGenerateRequest contentGenerateRequest() {
+        List<ContentGenerateRequest.ProductInfo> products = new ArrayList<>();
+        IntStream.range(0, 200).forEach(i -> {
+            ContentGenerateRequest.ProductInfo product = new ContentGenerateRequest.ProductInfo();
+            product.setProductId((long) i);
+            product.setProductName("상품 " + i);
+            product.setProductCode("CODE-" + i);
+            product.setProductDetailUrl("https://shop.example.com/goods/" + i);
+            product.setProductPrice(10_000 + i);
+            product.setProductImageUrl("https://image.example.com/goods/" + i + ".jpg");
+            products.add(product);
+        });
+
+        ContentGenerateRequest.WebhookUrls webhookUrls = new ContentGenerateRequest.WebhookUrls();
+        webhookUrls.setKeywordSelect("https://api.example.com/api/v1/webhook/keyword");
+        webhookUrls.setProductSelect("https://api.example.com/api/v1/webhook/product");
+        webhookUrls.setContentGenerate("https://api.example.com/api/v1/webhook/content");
+        webhookUrls.setAirflowLog("https://api.example.com/api/v1/webhook/log");
+
+        ContentGenerateRequest request = new ContentGenerateRequest();
+        request.setWorkId(12_345L);
+        request.setHasCrawledItems(true);
+        request.setRecentTrendKeywords(List.of("겨울 패딩", "니트", "머플러"));
+        request.setCrawledProducts(products);
+        request.setWebhookSecret("secret");
+        request.setWebhookUrls(webhookUrls);
+        request.setSiteUrl("https://shop.example.com");
+        request.setIsTest(false);
+        return request;
+    }
+}
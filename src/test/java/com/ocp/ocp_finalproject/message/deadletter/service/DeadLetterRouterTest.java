@@ -0,0 +1,113 @@
+package com.ocp.ocp_finalproject.message.deadletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
+import com.ocp.ocp_finalproject.message.deadletter.DeadLetterQueues;
+import com.ocp.ocp_finalproject.message.deadletter.config.DeadLetterProperties;
+import com.ocp.ocp_finalproject.message.publisher.ConfirmingPublisher;
+import com.ocp.ocp_finalproject.message.publisher.ConfirmingPublisher.OutgoingMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+/**
+ * dead-letter 메시지를 재시도 횟수에 따라 다음 재시도 큐 또는 parking 큐로 옮기는지 확인한다.
+ */
+class DeadLetterRouterTest {
+
+    private static final String QUEUE = RabbitConfig.CONTENT_GENERATE_QUEUE;
+
+    private final ConfirmingPublisher confirmingPublisher = mock(ConfirmingPublisher.class);
+    private final DeadLetterProperties deadLetterProperties = new DeadLetterProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DeadLetterRouter deadLetterRouter =
+            new DeadLetterRouter(confirmingPublisher, deadLetterProperties, meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        deadLetterProperties.setMaxRetries(3);
+        when(confirmingPublisher.publish(any())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void messageWithRetriesLeftGoesToTheNextRetryQueue() {
+        Message message = deadLetter(1);
+
+        deadLetterRouter.route(message);
+
+        OutgoingMessage routed = published();
+        assertThat(routed.routingKey()).isEqualTo(DeadLetterQueues.retry(QUEUE, 2));
+        assertThat(routed.message().getMessageProperties().<Integer>getHeader(DeadLetterQueues.RETRY_COUNT_HEADER))
+                .isEqualTo(2);
+        assertThat(counter("retried")).isEqualTo(1);
+    }
+
+    @Test
+    void exhaustedMessageIsParkedWithTheDeathReason() {
+        Message message = deadLetter(3);
+        message.getMessageProperties().setHeader("x-death", List.of(
+                Map.of("reason", "rejected", "queue", QUEUE),
+                Map.of("reason", "expired", "queue", DeadLetterQueues.retry(QUEUE, 3))));
+
+        deadLetterRouter.route(message);
+
+        OutgoingMessage routed = published();
+        MessageProperties properties = routed.message().getMessageProperties();
+        assertThat(routed.routingKey()).isEqualTo(DeadLetterQueues.parking(QUEUE));
+        assertThat(properties.<String>getHeader(DeadLetterQueues.PARKED_REASON_HEADER)).isEqualTo("rejected");
+        assertThat(properties.<String>getHeader(DeadLetterQueues.PARKED_AT_HEADER)).isNotNull();
+        assertThat(counter("parked")).isEqualTo(1);
+    }
+
+    @Test
+    void unknownDeadLetterQueueIsRejected() {
+        Message message = new Message(new byte[0], new MessageProperties());
+        message.getMessageProperties().setConsumerQueue("unknown-queue.dlq");
+
+        assertThatThrownBy(() -> deadLetterRouter.route(message)).isInstanceOf(AmqpRejectAndDontRequeueException.class);
+        verify(confirmingPublisher, never()).publish(any());
+    }
+
+    @Test
+    void failedConfirmIsPropagatedSoTheMessageStaysInTheDeadLetterQueue() {
+        when(confirmingPublisher.publish(any())).thenReturn(CompletableFuture.failedFuture(new AmqpException("nack")));
+
+        assertThatThrownBy(() -> deadLetterRouter.route(deadLetter(0))).isInstanceOf(CompletionException.class);
+    }
+
+    private OutgoingMessage published() {
+        ArgumentCaptor<OutgoingMessage> captor = ArgumentCaptor.forClass(OutgoingMessage.class);
+        verify(confirmingPublisher).publish(captor.capture());
+        return captor.getValue();
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("rabbit.dead_letter.routed").tag("queue", QUEUE).tag("result", result).counter().count();
+    }
+
+    private static Message deadLetter(int retries) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(DeadLetterQueues.deadLetter(QUEUE));
+        properties.setMessageId("outbox-1");
+        if (retries > 0) {
+            properties.setHeader(DeadLetterQueues.RETRY_COUNT_HEADER, retries);
+        }
+        return new Message("{}".getBytes(), properties);
+    }
+}
@@ -0,0 +1,129 @@
+package com.ocp.ocp_finalproject.message.deadletter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
+import com.ocp.ocp_finalproject.common.exception.CustomException;
+import com.ocp.ocp_finalproject.common.exception.ErrorCode;
+import com.ocp.ocp_finalproject.message.deadletter.DeadLetterQueues;
+import com.ocp.ocp_finalproject.message.deadletter.config.DeadLetterProperties;
+import com.ocp.ocp_finalproject.message.deadletter.dto.response.ParkedReplayResponse;
+import com.ocp.ocp_finalproject.user.domain.User;
+import com.ocp.ocp_finalproject.user.domain.UserPrincipal;
+import com.ocp.ocp_finalproject.user.enums.UserRole;
+import com.ocp.ocp_finalproject.user.repository.UserRepository;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.RabbitExceptionTranslator;
+
+/**
+ * parking 큐 재처리가 재시도 헤더를 지워 작업 큐로 다시 보내고, confirm 뒤에만 ack 하는지 확인한다.
+ */
+class ParkedMessageServiceTest {
+
+    private static final String QUEUE = RabbitConfig.CONTENT_GENERATE_QUEUE;
+    private static final String PARKING_QUEUE = DeadLetterQueues.parking(QUEUE);
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final Channel channel = mock(Channel.class);
+    private final ParkedMessageService parkedMessageService =
+            new ParkedMessageService(rabbitTemplate, new DeadLetterProperties(), userRepository);
+
+    private UserPrincipal admin;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getRole()).thenReturn(UserRole.ADMIN);
+        admin = mock(UserPrincipal.class);
+        when(admin.getUser()).thenReturn(user);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // RabbitTemplate.execute 처럼 채널 예외를 AmqpException 으로 바꿔 돌려준다.
+        when(rabbitTemplate.execute(any())).thenAnswer(invocation -> {
+            try {
+                return invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel);
+            } catch (Exception e) {
+                throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+            }
+        });
+        when(channel.basicGet(PARKING_QUEUE, false)).thenReturn(parked(11L), parked(12L), null);
+        when(channel.queueDeclarePassive(PARKING_QUEUE)).thenReturn(new AMQP.Queue.DeclareOk.Builder()
+                .queue(PARKING_QUEUE).messageCount(0).consumerCount(0).build());
+    }
+
+    @Test
+    void replayResetsRetryHeadersAndAcksAfterConfirm() throws Exception {
+        ParkedReplayResponse response = parkedMessageService.replay(admin, QUEUE, 10);
+
+        assertThat(response.getReplayed()).isEqualTo(2);
+        ArgumentCaptor<AMQP.BasicProperties> properties = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel, times(2))
+                .basicPublish(eq(""), eq(QUEUE), eq(false), properties.capture(), any(byte[].class));
+        assertThat(properties.getAllValues()).allSatisfy(published -> assertThat(published.getHeaders())
+                .containsEntry("__TypeId__", "ContentGenerateRequest")
+                .doesNotContainKeys(DeadLetterQueues.RETRY_COUNT_HEADER, DeadLetterQueues.PARKED_AT_HEADER,
+                        DeadLetterQueues.PARKED_REASON_HEADER, "x-death"));
+        verify(channel).waitForConfirmsOrDie(anyLong());
+        verify(channel).basicAck(12L, true);
+    }
+
+    @Test
+    void failedConfirmRequeuesEverythingRead() throws Exception {
+        doThrow(new IOException("confirm timeout")).when(channel).waitForConfirmsOrDie(anyLong());
+
+        assertThatThrownBy(() -> parkedMessageService.replay(admin, QUEUE, 10))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.PARKED_MESSAGE_REPLAY_FAILED);
+        verify(channel).basicNack(12L, true, true);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    void unknownQueueIsRejected() throws IOException {
+        assertThatThrownBy(() -> parkedMessageService.replay(admin, "unknown-queue", 10))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.DEAD_LETTER_QUEUE_NOT_FOUND);
+        verify(channel, never()).basicGet(anyString(), anyBoolean());
+    }
+
+    private static GetResponse parked(long deliveryTag) {
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+                .contentType("application/json")
+                .headers(Map.of(
+                        "__TypeId__", "ContentGenerateRequest",
+                        DeadLetterQueues.RETRY_COUNT_HEADER, 3,
+                        DeadLetterQueues.PARKED_AT_HEADER, "2025-01-01T00:00",
+                        DeadLetterQueues.PARKED_REASON_HEADER, "rejected",
+                        "x-death", List.of(Map.of("reason", "rejected"))))
+                .build();
+        return new GetResponse(new Envelope(deliveryTag, false, "", PARKING_QUEUE), properties, "{}".getBytes(), 0);
+    }
+}
@@ -0,0 +1,108 @@
+package com.ocp.ocp_finalproject.message.outbox.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.message.outbox.config.OutboxProperties;
+import com.ocp.ocp_finalproject.message.outbox.domain.OutboxMessage;
+import com.ocp.ocp_finalproject.message.outbox.dto.FairKeyBacklog;
+import com.ocp.ocp_finalproject.message.outbox.enums.OutboxStatus;
+import com.ocp.ocp_finalproject.message.outbox.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 발행량을 사용자별 가중치만큼 나누고, 사용자를 번갈아 이어 붙이며, 다음 주기는 직전에 마지막으로 배정받은
+ * 사용자 다음부터 시작하는지 확인한다. 선점 결과의 fair_key 를 본문에 담아 발행 순서를 사용자 순서로 본다.
+ */
+class FairOutboxRelayTest {
+
+    private final OutboxMessageRepository outboxMessageRepository = mock(OutboxMessageRepository.class);
+    private final OutboxRelay outboxRelay = mock(OutboxRelay.class);
+    private final OutboxProperties outboxProperties = new OutboxProperties();
+    private final FairOutboxRelay fairOutboxRelay = new FairOutboxRelay(outboxMessageRepository, outboxRelay,
+            outboxProperties, new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        // 주기마다 버킷이 다시 가득 차도록 충전 속도를 크게 둔다.
+        outboxProperties.getFair().setPermitsPerSecond(1_000_000);
+        when(outboxMessageRepository.findPublishableByFairKey(anyString(), eq(OutboxStatus.PENDING), any(), any()))
+                .thenAnswer(invocation -> messages(invocation.getArgument(0), invocation.<Pageable>getArgument(3).getPageSize()));
+    }
+
+    @Test
+    void budgetIsSplitByWeightAndInterleaved() {
+        outboxProperties.getFair().setBurst(6);
+        outboxProperties.getFair().setWeights(Map.of("a", 2));
+        fairOutboxRelay.init();
+        backlog(new FairKeyBacklog("c", 1), new FairKeyBacklog("b", 10), new FairKeyBacklog("a", 10));
+
+        fairOutboxRelay.relay();
+
+        // a 는 라운드당 2건, b / c 는 1건. c 는 1건뿐이라 두 번째 라운드는 a, b 만 남는다.
+        assertThat(published()).containsExactly("a", "a", "b", "c", "a", "a");
+    }
+
+    @Test
+    void nextCycleStartsAfterTheLastServedUser() {
+        outboxProperties.getFair().setBurst(2);
+        fairOutboxRelay.init();
+        backlog(new FairKeyBacklog("a", 5), new FairKeyBacklog("b", 5), new FairKeyBacklog("c", 5));
+
+        fairOutboxRelay.relay();
+        fairOutboxRelay.relay();
+
+        ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.captor();
+        verify(outboxRelay, times(2)).publishClaimed(captor.capture());
+        assertThat(fairKeys(captor.getAllValues().get(0))).containsExactly("a", "b");
+        // 발행량이 사용자 수보다 적어도 c 가 다음 주기에 먼저 기회를 얻는다.
+        assertThat(fairKeys(captor.getAllValues().get(1))).containsExactly("c", "a");
+        InOrder inOrder = inOrder(outboxMessageRepository);
+        inOrder.verify(outboxMessageRepository).findPublishableByFairKey(eq("a"), any(), any(), any());
+        inOrder.verify(outboxMessageRepository).findPublishableByFairKey(eq("b"), any(), any(), any());
+        inOrder.verify(outboxMessageRepository).findPublishableByFairKey(eq("c"), any(), any(), any());
+        inOrder.verify(outboxMessageRepository).findPublishableByFairKey(eq("a"), any(), any(), any());
+    }
+
+    private void backlog(FairKeyBacklog... backlogs) {
+        when(outboxMessageRepository.countPublishableByFairKey(eq(OutboxStatus.PENDING), any())).thenReturn(List.of(backlogs));
+    }
+
+    private List<String> published() {
+        ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.captor();
+        verify(outboxRelay).publishClaimed(captor.capture());
+        return fairKeys(captor.getValue());
+    }
+
+    private static List<String> fairKeys(List<OutboxMessage> messages) {
+        return messages.stream().map(OutboxMessage::getFairKey).toList();
+    }
+
+    private static List<OutboxMessage> messages(String fairKey, int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> OutboxMessage.createBuilder()
+                        .exchange("")
+                        .routingKey("content-generate-queue")
+                        .fairKey(fairKey)
+                        .body(new byte[0])
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,127 @@
+package com.ocp.ocp_finalproject.message.outbox.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.message.outbox.config.OutboxProperties;
+import com.ocp.ocp_finalproject.message.outbox.domain.OutboxMessage;
+import com.ocp.ocp_finalproject.message.outbox.enums.OutboxStatus;
+import com.ocp.ocp_finalproject.message.outbox.repository.OutboxMessageRepository;
+import com.ocp.ocp_finalproject.message.publisher.ConfirmingPublisher;
+import com.ocp.ocp_finalproject.message.publisher.ConfirmingPublisher.OutgoingMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스 릴레이가 선점한 배치를 한 번에 발행하고, confirm 결과에 따라 SENT / 재시도 / FAILED 로 반영하는지 확인한다.
+ */
+class OutboxRelayTest {
+
+    private final OutboxMessageRepository outboxMessageRepository = mock(OutboxMessageRepository.class);
+    private final ConfirmingPublisher confirmingPublisher = mock(ConfirmingPublisher.class);
+    private final OutboxProperties outboxProperties = new OutboxProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxRelay outboxRelay = new OutboxRelay(outboxMessageRepository, confirmingPublisher, outboxProperties,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+
+    @Test
+    void confirmResultsAreAppliedPerMessage() {
+        outboxProperties.getRelay().setConfirmTimeout(Duration.ofMillis(200));
+        outboxProperties.getRelay().setMaxAttempts(2);
+        OutboxMessage acked = message(1L);
+        OutboxMessage nacked = message(2L);
+        OutboxMessage lastAttempt = message(3L);
+        OutboxMessage unconfirmed = message(4L);
+        ReflectionTestUtils.setField(lastAttempt, "attempts", 1);
+        when(confirmingPublisher.publishAll(anyList(), eq(Duration.ofMillis(200)))).thenReturn(List.of(
+                CompletableFuture.completedFuture(null),
+                CompletableFuture.failedFuture(new AmqpException("nack: full")),
+                CompletableFuture.failedFuture(new AmqpException("nack: full")),
+                new CompletableFuture<>()));
+        LocalDateTime before = LocalDateTime.now();
+
+        outboxRelay.publishClaimed(List.of(acked, nacked, lastAttempt, unconfirmed));
+
+        assertThat(acked.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(acked.getSentAt()).isNotNull();
+        // 재시도가 남았으면 PENDING 으로 두고 백오프 뒤로 미룬다.
+        assertThat(nacked.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(nacked.getAttempts()).isEqualTo(1);
+        assertThat(nacked.getLastError()).isEqualTo("nack: full");
+        assertThat(nacked.getNextAttemptAt()).isAfterOrEqualTo(before.plus(outboxProperties.getRelay().getBackoff()));
+        assertThat(lastAttempt.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(unconfirmed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(unconfirmed.getLastError()).isEqualTo("confirm timeout");
+
+        assertThat(meterRegistry.get("outbox.relay.messages").tag("result", "sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox.relay.messages").tag("result", "retry").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbox.relay.messages").tag("result", "failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publishedMessageCarriesOutboxIdAndStoredBody() {
+        OutboxMessage message = message(7L);
+        when(confirmingPublisher.publishAll(anyList(), any())).thenReturn(List.of(CompletableFuture.completedFuture(null)));
+
+        outboxRelay.publishClaimed(List.of(message));
+
+        ArgumentCaptor<List<OutgoingMessage>> published = ArgumentCaptor.captor();
+        verify(confirmingPublisher).publishAll(published.capture(), any());
+        OutgoingMessage outgoing = published.getValue().get(0);
+        Message amqpMessage = outgoing.message();
+        assertThat(outgoing.routingKey()).isEqualTo("content-generate-queue");
+        assertThat(amqpMessage.getBody()).isEqualTo(message.getBody());
+        assertThat(amqpMessage.getMessageProperties().getMessageId()).isEqualTo("outbox-7");
+        assertThat(amqpMessage.getMessageProperties().getTimestamp()).isNotNull();
+        assertThat(amqpMessage.getMessageProperties().<String>getHeader("__TypeId__")).isEqualTo("ContentGenerateRequest");
+    }
+
+    @Test
+    void relayKeepsClaimingWhileBatchesAreFull() {
+        outboxProperties.getRelay().setBatchSize(2);
+        List<OutboxMessage> full = List.of(message(1L), message(2L));
+        List<OutboxMessage> partial = List.of(message(3L));
+        when(outboxMessageRepository.findPublishable(eq(OutboxStatus.PENDING), any(), eq(false), eq(PageRequest.of(0, 2))))
+                .thenReturn(full, partial);
+        when(confirmingPublisher.publishAll(anyList(), any())).thenAnswer(invocation -> IntStream
+                .range(0, invocation.<List<?>>getArgument(0).size())
+                .mapToObj(i -> CompletableFuture.<Void>completedFuture(null))
+                .toList());
+
+        outboxRelay.relay();
+
+        verify(outboxMessageRepository, times(2)).findPublishable(any(), any(), eq(false), any());
+        assertThat(full).extracting(OutboxMessage::getStatus).containsOnly(OutboxStatus.SENT);
+        assertThat(partial.get(0).getStatus()).isEqualTo(OutboxStatus.SENT);
+    }
+
+    private static OutboxMessage message(Long id) {
+        OutboxMessage message = OutboxMessage.createBuilder()
+                .exchange("")
+                .routingKey("content-generate-queue")
+                .contentType("application/json")
+                .typeId("ContentGenerateRequest")
+                .body(("{\"workId\":" + id + "}").getBytes())
+                .build();
+        ReflectionTestUtils.setField(message, "id", id);
+        return message;
+    }
+}
@@ -0,0 +1,149 @@
+package com.ocp.ocp_finalproject.message.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.message.publisher.ConfirmingPublisher.OutgoingMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * in-flight 윈도우, confirm 타임아웃, nack 재전송, 라우팅 실패(return) 처리를 확인한다.
+ * 브로커 대신 보낸 메시지의 CorrelationData 를 모아 두고 테스트에서 confirm 을 돌려준다.
+ */
+class ConfirmingPublisherTest {
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final PublisherProperties publisherProperties = new PublisherProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingQueue<CorrelationData> sent = new LinkedBlockingQueue<>();
+
+    private ConfirmingPublisher confirmingPublisher;
+
+    @BeforeEach
+    void setUp() {
+        when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class))).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate));
+        doAnswer(invocation -> sent.add(invocation.getArgument(3)))
+                .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        publisherProperties.setRetryBackoff(Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        confirmingPublisher.shutdown();
+    }
+
+    @Test
+    void windowLimitsUnconfirmedMessages() throws Exception {
+        publisherProperties.setMaxInFlight(2);
+        start();
+
+        List<CompletableFuture<Void>> results = confirmingPublisher.publishAll(
+                List.of(outgoing(), outgoing(), outgoing()), Duration.ofMillis(50));
+
+        // 두 건이 confirm 을 기다리는 동안 세 번째는 자리를 얻지 못하고 실패한다.
+        assertThat(sent).hasSize(2);
+        assertThat(results.get(2)).isCompletedExceptionally();
+        assertThat(counter("window_timeout")).isEqualTo(1);
+
+        ack(next());
+        ack(next());
+        CompletableFuture.allOf(results.get(0), results.get(1)).get(5, TimeUnit.SECONDS);
+        // confirm 을 받으면 자리가 돌아온다.
+        CompletableFuture<Void> afterConfirm = confirmingPublisher.publish(outgoing());
+        ack(next());
+        afterConfirm.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void nackIsRetriedUntilAcked() throws Exception {
+        publisherProperties.setMaxAttempts(3);
+        start();
+
+        CompletableFuture<Void> result = confirmingPublisher.publish(outgoing());
+        next().getFuture().complete(new CorrelationData.Confirm(false, "queue full"));
+        ack(next());
+
+        result.get(5, TimeUnit.SECONDS);
+        assertThat(counter("nacked")).isEqualTo(1);
+        assertThat(counter("retried")).isEqualTo(1);
+        assertThat(counter("acked")).isEqualTo(1);
+    }
+
+    @Test
+    void confirmTimeoutFailsAfterLastAttempt() throws InterruptedException {
+        publisherProperties.setMaxAttempts(2);
+        publisherProperties.setConfirmTimeout(Duration.ofMillis(50));
+        start();
+
+        CompletableFuture<Void> result = confirmingPublisher.publish(outgoing());
+
+        assertThat(next()).isNotNull();
+        assertThat(next()).isNotNull();
+        assertThat(result).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .withMessageContaining("confirm timeout")
+                .withMessageContaining("2회 시도");
+        assertThat(counter("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void returnedMessageIsNotRetried() throws InterruptedException {
+        start();
+
+        CompletableFuture<Void> result = confirmingPublisher.publish(outgoing());
+        CorrelationData correlationData = next();
+        correlationData.setReturned(new ReturnedMessage(message(), 312, "NO_ROUTE", "", "missing-queue"));
+        ack(correlationData);
+
+        assertThat(result).failsWithin(5, TimeUnit.SECONDS);
+        assertThat(counter("returned")).isEqualTo(1);
+        assertThat(sent.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private void start() {
+        confirmingPublisher = new ConfirmingPublisher(rabbitTemplate, publisherProperties, meterRegistry);
+        confirmingPublisher.init();
+    }
+
+    private CorrelationData next() throws InterruptedException {
+        return sent.poll(5, TimeUnit.SECONDS);
+    }
+
+    private static void ack(CorrelationData correlationData) {
+        correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("rabbit.publish.messages").tag("result", result).counter().count();
+    }
+
+    private static OutgoingMessage outgoing() {
+        return new OutgoingMessage("", "content-generate-queue", message());
+    }
+
+    private static Message message() {
+        return new Message("{}".getBytes(), new MessageProperties());
+    }
+}
@@ -0,0 +1,83 @@
+package com.ocp.ocp_finalproject.scheduler.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ocp.ocp_finalproject.scheduler.job.ContentGenerationJob;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerMetaData;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.quartz.LocalDataSourceJobStore;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * quartz-cluster 프로필을 H2(MySQL 모드)에 띄워 JDBC JobStore + 클러스터 설정이 적용되는지 확인한다.
+ * MySQL로 확인하려면 datasource 속성만 로컬 MySQL로 바꿔 실행하면 된다.
+ */
+@SpringBootTest
+@ActiveProfiles("quartz-cluster")
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.url=jdbc:h2:mem:quartzdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.quartz.jdbc.initialize-schema=always"
+})
+class QuartzClusterConfigTest {
+
+    private static final JobKey TEST_JOB_KEY = new JobKey("content-generate-cluster-test");
+
+    @Autowired
+    private Scheduler scheduler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        scheduler.deleteJob(TEST_JOB_KEY);
+    }
+
+    @Test
+    void schedulerUsesClusteredJdbcJobStore() throws Exception {
+        SchedulerMetaData metaData = scheduler.getMetaData();
+
+        assertThat(metaData.isJobStoreSupportsPersistence()).isTrue();
+        assertThat(metaData.isJobStoreClustered()).isTrue();
+        assertThat(metaData.getJobStoreClass()).isEqualTo(LocalDataSourceJobStore.class);
+        assertThat(metaData.getSchedulerName()).isEqualTo("ocp-scheduler");
+    }
+
+    @Test
+    void scheduledJobIsPersistedToQuartzTables() throws Exception {
+        JobDetail job = JobBuilder.newJob(ContentGenerationJob.class)
+                .withIdentity(TEST_JOB_KEY)
+                .usingJobData("workflowId", 1L)
+                .storeDurably()
+                .build();
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity("content-generate-trigger-cluster-test")
+                .forJob(job)
+                .withSchedule(CronScheduleBuilder.cronSchedule("0 0 9 * * ?"))
+                .build();
+
+        scheduler.scheduleJob(job, Set.of(trigger), true);
+
+        Integer persisted = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM QRTZ_JOB_DETAILS WHERE JOB_NAME = ?",
+                Integer.class,
+                TEST_JOB_KEY.getName()
+        );
+        assertThat(persisted).isEqualTo(1);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.common.config.rabbit.RabbitConfig;
+import com.ocp.ocp_finalproject.message.content.enums.ContentGenerateLane;
+import com.ocp.ocp_finalproject.message.outbox.enums.OutboxStatus;
+import com.ocp.ocp_finalproject.message.outbox.repository.OutboxMessageRepository;
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.scheduler.service.ContentAdmissionController.AdmissionCheck;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+
+/**
+ * 큐 적체(브로커 대기 + 미발행 아웃박스)와 소비자 수로 정한 한도 안에서만 스케줄 실행을 허용하는지 확인한다.
+ */
+class ContentAdmissionControllerTest {
+
+    private static final String QUEUE = RabbitConfig.CONTENT_GENERATE_QUEUE;
+
+    private final AmqpAdmin amqpAdmin = mock(AmqpAdmin.class);
+    private final OutboxMessageRepository outboxMessageRepository = mock(OutboxMessageRepository.class);
+    private final SchedulerProperties schedulerProperties = new SchedulerProperties();
+    private final ContentAdmissionController contentAdmissionController = new ContentAdmissionController(
+            amqpAdmin, outboxMessageRepository, schedulerProperties, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        SchedulerProperties.Admission admission = schedulerProperties.getAdmission();
+        admission.setMaxBacklogPerConsumer(20);
+        admission.setMaxBacklog(100);
+        admission.setProbeTtl(Duration.ofMinutes(1));
+        when(outboxMessageRepository.countByStatusAndRoutingKey(OutboxStatus.PENDING, QUEUE)).thenReturn(5L);
+    }
+
+    @Test
+    void admissionsAreCountedAgainstTheCachedProbe() {
+        // 브로커 30 + 아웃박스 5 = 35, 한도 = min(100, 20 x 2) = 40
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 30, 2));
+
+        long admitted = IntStream.range(0, 10)
+                .mapToObj(i -> contentAdmissionController.check(ContentGenerateLane.BATCH))
+                .filter(AdmissionCheck::admitted)
+                .count();
+
+        assertThat(admitted).isEqualTo(5);
+        AdmissionCheck deferred = contentAdmissionController.check(ContentGenerateLane.BATCH);
+        assertThat(deferred.admitted()).isFalse();
+        assertThat(deferred.note()).isEqualTo("backlog=40 consumers=2 limit=40");
+        // probeTtl 동안은 브로커를 다시 조회하지 않는다.
+        verify(amqpAdmin, times(1)).getQueueInfo(QUEUE);
+    }
+
+    @Test
+    void withoutConsumersOnlyTheGlobalLimitApplies() {
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 90, 0));
+
+        long admitted = IntStream.range(0, 10)
+                .mapToObj(i -> contentAdmissionController.check(ContentGenerateLane.BATCH))
+                .filter(AdmissionCheck::admitted)
+                .count();
+
+        assertThat(admitted).isEqualTo(5);
+    }
+
+    @Test
+    void interactiveLaneIsAlwaysAdmitted() {
+        AdmissionCheck check = contentAdmissionController.check(ContentGenerateLane.INTERACTIVE);
+
+        assertThat(check.admitted()).isTrue();
+        verify(amqpAdmin, never()).getQueueInfo(any());
+    }
+
+    @Test
+    void unavailableQueueDepthDoesNotBlockRuns() {
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenThrow(new AmqpIOException(new java.io.IOException("connection refused")));
+
+        AdmissionCheck check = contentAdmissionController.check(ContentGenerateLane.BATCH);
+
+        assertThat(check.admitted()).isTrue();
+        assertThat(check.note()).isEqualTo("queue depth unavailable");
+    }
+}
@@ -0,0 +1,56 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 워크플로우 id 로부터 계산하는 콘텐츠 생성 지터가 결정적이고, 범위 안에서 고르게 퍼지는지 확인한다.
+ */
+class ContentJitterPolicyTest {
+
+    private final SchedulerProperties schedulerProperties = new SchedulerProperties();
+    private final ContentJitterPolicy contentJitterPolicy = new ContentJitterPolicy(schedulerProperties);
+
+    @Test
+    void jitterIsZeroWhenDisabled() {
+        assertThat(contentJitterPolicy.jitterFor(42L)).isEqualTo(Duration.ZERO);
+        assertThat(contentJitterPolicy.contentOffset(42L)).isEqualTo(Duration.ofHours(-1));
+    }
+
+    @Test
+    void jitterIsDeterministicAndSpreadAcrossTheWindow() {
+        schedulerProperties.setContentJitter(Duration.ofMinutes(10));
+
+        List<Duration> jitters = LongStream.rangeClosed(1, 100)
+                .mapToObj(contentJitterPolicy::jitterFor)
+                .toList();
+
+        // 재기동/재등록해도 같은 워크플로우는 같은 지터를 받는다.
+        assertThat(contentJitterPolicy.jitterFor(7L)).isEqualTo(jitters.get(6));
+        assertThat(jitters).allSatisfy(jitter -> assertThat(jitter)
+                .isGreaterThanOrEqualTo(Duration.ZERO)
+                .isLessThan(Duration.ofMinutes(10)));
+        // 연속된 id 도 한 초에 몰리지 않는다.
+        assertThat(jitters.stream().distinct().count()).isGreaterThan(80);
+        assertThat(jitters.stream().filter(jitter -> jitter.getSeconds() < 300).count()).isBetween(30L, 70L);
+        assertThat(contentJitterPolicy.contentOffset(7L)).isEqualTo(Duration.ofHours(-1).plus(jitters.get(6)));
+    }
+
+    @Test
+    void windowMustBeShorterThanContentGenerationLead() {
+        schedulerProperties.setContentJitter(Duration.ofHours(1));
+        assertThatThrownBy(contentJitterPolicy::validate).isInstanceOf(IllegalStateException.class);
+
+        schedulerProperties.setContentJitter(Duration.ofSeconds(-1));
+        assertThatThrownBy(contentJitterPolicy::validate).isInstanceOf(IllegalStateException.class);
+
+        schedulerProperties.setContentJitter(Duration.ofMinutes(59));
+        contentJitterPolicy.validate();
+    }
+}
@@ -0,0 +1,85 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.content.domain.AiContent;
+import com.ocp.ocp_finalproject.content.repository.AiContentRepository;
+import com.ocp.ocp_finalproject.message.content.ContentGenerateProducer;
+import com.ocp.ocp_finalproject.message.content.dto.ContentGenerateRequest;
+import com.ocp.ocp_finalproject.message.content.enums.ContentGenerateLane;
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.scheduler.service.ContentAdmissionController.AdmissionCheck;
+import com.ocp.ocp_finalproject.work.domain.Work;
+import com.ocp.ocp_finalproject.work.enums.AdmissionDecision;
+import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
+import com.ocp.ocp_finalproject.work.repository.WorkRepository;
+import com.ocp.ocp_finalproject.work.service.ContentGenerateService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 미룬 콘텐츠 생성 Work 를 마감이 지났으면 생략(SHED), 적체가 풀렸으면 발행, 아직 적체 중이면 다시 미루는지 확인한다.
+ */
+class DeferredContentDispatcherTest {
+
+    private final WorkRepository workRepository = mock(WorkRepository.class);
+    private final AiContentRepository aiContentRepository = mock(AiContentRepository.class);
+    private final ContentGenerateService contentGenerateService = mock(ContentGenerateService.class);
+    private final ContentGenerateProducer contentGenerateProducer = mock(ContentGenerateProducer.class);
+    private final ContentAdmissionController contentAdmissionController = mock(ContentAdmissionController.class);
+    private final SchedulerProperties schedulerProperties = new SchedulerProperties();
+    private final DeferredContentDispatcher deferredContentDispatcher = new DeferredContentDispatcher(
+            workRepository, aiContentRepository, contentGenerateService, contentGenerateProducer,
+            contentAdmissionController, schedulerProperties, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @Test
+    void deferredWorksAreShedAdmittedOrDeferredAgain() {
+        LocalDateTime now = LocalDateTime.now();
+        Work expired = deferredWork(1L, now.minusMinutes(1));
+        Work admitted = deferredWork(2L, now.plusMinutes(30));
+        Work stillBacklogged = deferredWork(3L, now.plusMinutes(30));
+        when(workRepository.findDueDeferred(eq(AdmissionDecision.DEFERRED), eq(WorkExecutionStatus.PENDING), any(), any()))
+                .thenReturn(List.of(expired, admitted, stillBacklogged));
+        when(contentAdmissionController.check(ContentGenerateLane.BATCH)).thenReturn(
+                new AdmissionCheck(true, "backlog=10 consumers=2 limit=40"),
+                new AdmissionCheck(false, "backlog=40 consumers=2 limit=40"));
+        ContentGenerateRequest request = new ContentGenerateRequest();
+        when(contentGenerateService.createRequestForWork(admitted)).thenReturn(request);
+        when(contentGenerateService.applyWebhookSettings(request)).thenReturn(request);
+        AiContent pendingContent = mock(AiContent.class);
+        when(aiContentRepository.findByWorkIdIn(List.of(1L))).thenReturn(List.of(pendingContent));
+
+        deferredContentDispatcher.dispatchDeferred();
+
+        // 마감이 지난 Work 는 판단하지 않고 생략하며, 생성 대기 중인 AiContent 도 실패로 닫는다.
+        assertThat(expired.getAdmissionDecision()).isEqualTo(AdmissionDecision.SHED);
+        assertThat(expired.getStatus()).isEqualTo(WorkExecutionStatus.FAILED);
+        verify(pendingContent).markFailed(any());
+        verify(contentGenerateService, never()).createRequestForWork(expired);
+
+        assertThat(admitted.getAdmissionDecision()).isEqualTo(AdmissionDecision.ADMITTED);
+        verify(contentGenerateProducer).send(request, null);
+
+        assertThat(stillBacklogged.getAdmissionDecision()).isEqualTo(AdmissionDecision.DEFERRED);
+        assertThat(stillBacklogged.getNextAdmissionAt()).isAfter(now.plus(schedulerProperties.getAdmission().getDeferDelay()).minusSeconds(1));
+        assertThat(stillBacklogged.getAdmissionNote()).isEqualTo("backlog=40 consumers=2 limit=40");
+        verify(contentGenerateService, never()).createRequestForWork(stillBacklogged);
+    }
+
+    private static Work deferredWork(Long id, LocalDateTime deadline) {
+        Work work = Work.createBuilder().status(WorkExecutionStatus.PENDING).build();
+        ReflectionTestUtils.setField(work, "id", id);
+        work.defer(LocalDateTime.now().minusMinutes(1), deadline, "backlog=50 consumers=2 limit=40");
+        return work;
+    }
+}
@@ -0,0 +1,101 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.work.dto.response.WorkflowLastWorkResponse;
+import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
+import com.ocp.ocp_finalproject.work.repository.WorkRepository;
+import com.ocp.ocp_finalproject.workflow.domain.RecurrenceRule;
+import com.ocp.ocp_finalproject.workflow.domain.Workflow;
+import com.ocp.ocp_finalproject.workflow.enums.RepeatType;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
+import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 놓친 실행을 워크플로우별 기준점(마지막 작업 시각, 생성 시각, horizon) 이후로만 계산하고
+ * 예정 시각 순서대로 재실행하는지 확인한다.
+ */
+class MisfireCatchUpServiceTest {
+
+    // 09:00 업로드 / 08:00 콘텐츠 생성 워크플로우가 모두 놓친 뒤 기동한 시각
+    private static final LocalDateTime UNTIL = LocalDateTime.of(2025, 1, 3, 9, 30);
+    private static final LocalDateTime HORIZON_START = UNTIL.minusDays(1);
+
+    private final WorkflowRepository workflowRepository = mock(WorkflowRepository.class);
+    private final WorkRepository workRepository = mock(WorkRepository.class);
+    private final WorkflowRunDispatcher workflowRunDispatcher = mock(WorkflowRunDispatcher.class);
+    private final SchedulerProperties schedulerProperties = new SchedulerProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MisfireCatchUpService misfireCatchUpService = new MisfireCatchUpService(
+            workflowRepository, workRepository, workflowRunDispatcher, schedulerProperties, meterRegistry);
+
+    @Test
+    void missedRunsStartFromEachWorkflowsBaseline() throws InterruptedException {
+        schedulerProperties.getCatchUp().setHorizon(Duration.ofDays(1));
+        schedulerProperties.getCatchUp().setPermitsPerSecond(1000);
+
+        // 1: 오늘 콘텐츠 생성은 이미 실행됐고 업로드만 놓쳤다.
+        Workflow alreadyGenerated = activeWorkflow(1L, LocalDateTime.of(2024, 12, 1, 0, 0), Duration.ZERO);
+        // 2: 기준점이 없으므로 horizon 시작부터 계산하고, 지터만큼 늦은 콘텐츠 생성 시각을 쓴다.
+        Workflow noBaseline = activeWorkflow(2L, LocalDateTime.of(2024, 12, 1, 0, 0), Duration.ofSeconds(30));
+        // 3: 오늘 08:30 에 만들어졌으므로 08:00 콘텐츠 생성은 놓친 것이 아니다. 재실행 전에 비활성화됐다.
+        Workflow createdToday = activeWorkflow(3L, LocalDateTime.of(2025, 1, 3, 8, 30), Duration.ZERO);
+        List<Workflow> workflows = List.of(alreadyGenerated, noBaseline, createdToday);
+
+        when(workflowRepository.findPageByStatusAfterId(eq(WorkflowStatus.ACTIVE), anyLong(), any()))
+                .thenReturn(workflows);
+        when(workRepository.findLastStartedAtByWorkflowIds(List.of(1L, 2L, 3L), WorkExecutionStatus.FAILED, HORIZON_START))
+                .thenReturn(List.of(new WorkflowLastWorkResponse(1L, LocalDateTime.of(2025, 1, 3, 8, 0, 2))));
+        when(workRepository.findLastCompletedAtByWorkflowIds(List.of(1L, 2L, 3L), WorkExecutionStatus.COMPLETED, HORIZON_START))
+                .thenReturn(List.of());
+        when(workflowRepository.findById(1L)).thenReturn(Optional.of(alreadyGenerated));
+        when(workflowRepository.findById(2L)).thenReturn(Optional.of(noBaseline));
+        Workflow deactivated = activeWorkflow(3L, LocalDateTime.of(2025, 1, 3, 8, 30), Duration.ZERO);
+        ReflectionTestUtils.setField(deactivated, "status", WorkflowStatus.INACTIVE);
+        when(workflowRepository.findById(3L)).thenReturn(Optional.of(deactivated));
+
+        misfireCatchUpService.catchUp(UNTIL);
+
+        // 예정 시각 순서: 2 의 콘텐츠 생성(08:00:30) → 업로드(09:00). 업로드는 워크플로우당 1회로 합친다.
+        InOrder inOrder = inOrder(workflowRunDispatcher);
+        inOrder.verify(workflowRunDispatcher).dispatchContentGeneration(2L);
+        inOrder.verify(workflowRunDispatcher).dispatchBlogUpload(1L);
+        inOrder.verify(workflowRunDispatcher).dispatchBlogUpload(2L);
+        verify(workflowRunDispatcher, never()).dispatchContentGeneration(1L);
+        verify(workflowRunDispatcher, never()).dispatchContentGeneration(3L);
+        verify(workflowRunDispatcher, never()).dispatchBlogUpload(3L);
+
+        assertThat(meterRegistry.get("scheduler.catchup.runs")
+                .tag("type", "BLOG_UPLOAD").tag("result", "skipped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("scheduler.catchup.runs")
+                .tag("type", "BLOG_UPLOAD").tag("result", "dispatched").counter().count()).isEqualTo(2);
+    }
+
+    private static Workflow activeWorkflow(Long id, LocalDateTime createdAt, Duration contentJitter) {
+        RecurrenceRule rule = RecurrenceRule.create(RepeatType.DAILY, 1, null, null, List.of("09:00"),
+                LocalDateTime.of(2024, 12, 1, 0, 0), null);
+        Workflow workflow = Workflow.create(null, null, null, rule, "https://blog.example.com");
+        ReflectionTestUtils.setField(workflow, "id", id);
+        ReflectionTestUtils.setField(workflow, "status", WorkflowStatus.ACTIVE);
+        ReflectionTestUtils.setField(workflow, "createdAt", createdAt);
+        workflow.assignContentJitter(contentJitter);
+        return workflow;
+    }
+}
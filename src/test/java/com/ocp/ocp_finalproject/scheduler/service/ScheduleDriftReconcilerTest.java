@@ -0,0 +1,128 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.workflow.domain.Workflow;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
+import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 어긋남은 연속된 두 번의 점검에서 모두 발견돼야 복구하고, 복구 직전에 워크플로우를 다시 읽는지 확인한다.
+ * ACTIVE 워크플로우는 1, 2 이고 스케줄러에는 1 과 이미 비활성화된 3 의 Job 만 있다.
+ */
+class ScheduleDriftReconcilerTest {
+
+    private static final JobKey CONTENT_3 = new JobKey("content-generate-3");
+    private static final JobKey UPLOAD_3 = new JobKey("blog-upload-3");
+
+    private final WorkflowRepository workflowRepository = mock(WorkflowRepository.class);
+    private final SchedulerSyncService schedulerSyncService = mock(SchedulerSyncService.class);
+    private final WorkflowFireScheduleService workflowFireScheduleService = mock(WorkflowFireScheduleService.class);
+    private final Scheduler scheduler = mock(Scheduler.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ScheduleDriftReconciler scheduleDriftReconciler = new ScheduleDriftReconciler(
+            workflowRepository, schedulerSyncService, workflowFireScheduleService, new SchedulerProperties(),
+            scheduler, new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+
+    @BeforeEach
+    void setUp() throws SchedulerException {
+        when(workflowRepository.findIdsByStatusAfterId(eq(WorkflowStatus.ACTIVE), anyLong(), any()))
+                .thenReturn(List.of(1L, 2L));
+        when(scheduler.getJobKeys(any())).thenReturn(Set.of(
+                new JobKey("content-generate-1"), new JobKey("blog-upload-1"), CONTENT_3, UPLOAD_3,
+                new JobKey("schedule-drift-reconcile")));
+    }
+
+    @Test
+    void firstCheckOnlyRecordsDrift() throws SchedulerException {
+        Set<String> drift = scheduleDriftReconciler.reconcile(Set.of());
+
+        assertThat(drift).containsExactlyInAnyOrder(
+                "missing-workflow-2", "orphan-content-generate-3", "orphan-blog-upload-3");
+        verify(scheduler, never()).deleteJobs(anyList());
+        verify(scheduler, never()).scheduleJobs(anyMap(), anyBoolean());
+    }
+
+    @Test
+    void driftSeenTwiceIsRepaired() throws SchedulerException {
+        Workflow workflow2 = workflow(2L, WorkflowStatus.ACTIVE);
+        Map<JobDetail, Set<? extends Trigger>> jobs = Map.of(mock(JobDetail.class), Set.of());
+        when(workflowRepository.findAllById(anyCollection())).thenReturn(List.of());
+        when(workflowRepository.findAllWithRecurrenceRuleByIdIn(List.of(2L))).thenReturn(List.of(workflow2));
+        when(schedulerSyncService.buildWorkflowJobs(workflow2)).thenReturn(jobs);
+        when(schedulerSyncService.workflowJobKeys(2L)).thenReturn(List.of(new JobKey("content-generate-2")));
+
+        Set<String> firstCheck = scheduleDriftReconciler.reconcile(Set.of());
+        scheduleDriftReconciler.reconcile(firstCheck);
+
+        ArgumentCaptor<List<JobKey>> deleted = ArgumentCaptor.captor();
+        verify(scheduler, times(2)).deleteJobs(deleted.capture());
+        assertThat(deleted.getAllValues()).anySatisfy(keys -> assertThat(keys).containsExactlyInAnyOrder(CONTENT_3, UPLOAD_3));
+        verify(workflowFireScheduleService).refresh(eq(workflow2), any());
+        verify(scheduler).scheduleJobs(jobs, true);
+        assertThat(meterRegistry.get("scheduler.reconcile.repaired").tag("type", "orphan_jobs").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("scheduler.reconcile.repaired").tag("type", "missing_workflow_jobs").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void driftResolvedBetweenChecksIsLeftAlone() throws SchedulerException {
+        // 두 번의 점검 사이에 3 은 다시 활성화되고 2 는 비활성화됐다 (복구 직전 재조회 결과).
+        Workflow reactivated = workflow(3L, WorkflowStatus.ACTIVE);
+        Workflow deactivated = workflow(2L, WorkflowStatus.INACTIVE);
+        when(workflowRepository.findAllById(anyCollection())).thenReturn(List.of(reactivated));
+        when(workflowRepository.findAllWithRecurrenceRuleByIdIn(List.of(2L))).thenReturn(List.of(deactivated));
+
+        Set<String> firstCheck = scheduleDriftReconciler.reconcile(Set.of());
+        scheduleDriftReconciler.reconcile(firstCheck);
+
+        // 고아 후보였던 3 의 Job 은 지우지 않고, 비활성화된 2 는 등록하지 않는다.
+        verify(scheduler, times(2)).deleteJobs(List.of());
+        verify(scheduler).scheduleJobs(Map.of(), true);
+        verify(schedulerSyncService, never()).buildWorkflowJobs(any());
+    }
+
+    @Test
+    void failedCheckKeepsPreviousDrift() throws SchedulerException {
+        when(scheduler.getJobKeys(any())).thenThrow(new SchedulerException("jobstore down"));
+
+        Set<String> previous = Set.of("missing-workflow-2");
+
+        assertThat(scheduleDriftReconciler.reconcile(previous)).isSameAs(previous);
+    }
+
+    private static Workflow workflow(Long id, WorkflowStatus status) {
+        Workflow workflow = mock(Workflow.class);
+        when(workflow.getId()).thenReturn(id);
+        when(workflow.getStatus()).thenReturn(status);
+        return workflow;
+    }
+}
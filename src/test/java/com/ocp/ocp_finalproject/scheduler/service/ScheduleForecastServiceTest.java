@@ -0,0 +1,69 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.workflow.dto.ScheduleForecastRuleDto;
+import com.ocp.ocp_finalproject.workflow.dto.response.ScheduleForecastBucketResponse;
+import com.ocp.ocp_finalproject.workflow.dto.response.ScheduleForecastResponse;
+import com.ocp.ocp_finalproject.workflow.enums.ForecastGranularity;
+import com.ocp.ocp_finalproject.workflow.enums.RepeatType;
+import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
+import com.ocp.ocp_finalproject.workflow.util.RecurrenceRuleFireTimeCalculator;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 지터로 Cron 표현식이 워크플로우마다 달라도, 지터를 뺀 표현식으로 묶어 계산한 예측이
+ * 워크플로우별 실제 실행 시각(RecurrenceRuleFireTimeCalculator)과 같은 분에 쌓이는지 확인한다.
+ */
+class ScheduleForecastServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    private final WorkflowRepository workflowRepository = mock(WorkflowRepository.class);
+    private final SchedulerProperties schedulerProperties = new SchedulerProperties();
+    private final ContentJitterPolicy contentJitterPolicy = new ContentJitterPolicy(schedulerProperties);
+    private final ScheduleForecastService scheduleForecastService =
+            new ScheduleForecastService(workflowRepository, contentJitterPolicy, schedulerProperties);
+
+    @Test
+    void jitteredContentGenerationsLandInTheirOwnMinutes() {
+        schedulerProperties.setContentJitter(Duration.ofMinutes(10));
+        List<ScheduleForecastRuleDto> rules = LongStream.rangeClosed(1, 20)
+                .mapToObj(workflowId -> new ScheduleForecastRuleDto(workflowId, RepeatType.DAILY, 1, null, null,
+                        List.of("09:00"), FROM.minusMonths(1), null))
+                .toList();
+        when(workflowRepository.findForecastRulesAfterId(any(), any(), any(), anyLong(), any())).thenReturn(rules);
+
+        ScheduleForecastResponse response = scheduleForecastService.forecast(FROM, TO, ForecastGranularity.MINUTE);
+
+        Map<LocalDateTime, Long> expected = rules.stream()
+                .map(rule -> RecurrenceRuleFireTimeCalculator.nextContentFireTime(rule.toRecurrenceRule(),
+                        contentJitterPolicy.jitterFor(rule.getWorkflowId()), FROM.minusSeconds(1)))
+                .collect(Collectors.groupingBy(fireAt -> fireAt.truncatedTo(ChronoUnit.MINUTES), TreeMap::new,
+                        Collectors.counting()));
+        Map<LocalDateTime, Long> actual = response.getBuckets().stream()
+                .filter(bucket -> bucket.getContentGenerations() > 0)
+                .collect(Collectors.toMap(ScheduleForecastBucketResponse::getAt,
+                        ScheduleForecastBucketResponse::getContentGenerations, Long::sum, TreeMap::new));
+
+        // 지터가 서로 다른 분에 퍼져 있어야 의미 있는 검증이다.
+        assertThat(expected).hasSizeGreaterThan(1);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(response.getTotalContentGenerations()).isEqualTo(rules.size());
+        assertThat(response.getTotalBlogUploads()).isEqualTo(rules.size());
+    }
+}
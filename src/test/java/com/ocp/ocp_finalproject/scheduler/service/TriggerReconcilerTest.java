@@ -0,0 +1,104 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ocp.ocp_finalproject.scheduler.job.ContentGenerationJob;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.StdSchedulerFactory;
+
+/**
+ * 원하는 Trigger 구성과 등록된 Trigger 를 비교해 추가/삭제/변경만 반영하는지 RAMJobStore 스케줄러로 확인한다.
+ */
+class TriggerReconcilerTest {
+
+    private static final JobDetail JOB = JobBuilder.newJob(ContentGenerationJob.class)
+            .withIdentity("content-generate-1")
+            .build();
+
+    private Scheduler scheduler;
+    private TriggerReconciler triggerReconciler;
+
+    @BeforeEach
+    void setUp() throws SchedulerException {
+        Properties properties = new Properties();
+        properties.setProperty(StdSchedulerFactory.PROP_SCHED_INSTANCE_NAME, "trigger-reconciler-test");
+        properties.setProperty("org.quartz.threadPool.threadCount", "1");
+        properties.setProperty(StdSchedulerFactory.PROP_JOB_STORE_CLASS, "org.quartz.simpl.RAMJobStore");
+        scheduler = new StdSchedulerFactory(properties).getScheduler();
+        triggerReconciler = new TriggerReconciler(scheduler);
+    }
+
+    @AfterEach
+    void tearDown() throws SchedulerException {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void newJobIsScheduledWithAllTriggers() throws SchedulerException {
+        TriggerReconciler.Result result = triggerReconciler.reconcile(JOB, Set.of(trigger(0, "0 0 8 * * ?"), trigger(1, "0 0 11 * * ?")));
+
+        assertThat(result).isEqualTo(new TriggerReconciler.Result(2, 0, 0));
+        assertThat(scheduler.getTriggersOfJob(JOB.getKey())).hasSize(2);
+    }
+
+    @Test
+    void onlyChangedTriggersAreWritten() throws SchedulerException {
+        triggerReconciler.reconcile(JOB, Set.of(trigger(0, "0 0 8 * * ?"), trigger(1, "0 0 11 * * ?"), trigger(2, "0 0 14 * * ?")));
+
+        // 0 은 그대로, 1 은 시각 변경, 2 는 삭제, 3 은 추가
+        TriggerReconciler.Result result = triggerReconciler.reconcile(JOB,
+                Set.of(trigger(0, "0 0 8 * * ?"), trigger(1, "0 30 11 * * ?"), trigger(3, "0 0 17 * * ?")));
+
+        assertThat(result).isEqualTo(new TriggerReconciler.Result(1, 1, 1));
+        assertThat(scheduler.getTriggersOfJob(JOB.getKey()))
+                .extracting(trigger -> ((CronTrigger) trigger).getCronExpression())
+                .containsExactlyInAnyOrder("0 0 8 * * ?", "0 30 11 * * ?", "0 0 17 * * ?");
+    }
+
+    @Test
+    void sameScheduleIsNotRewritten() throws SchedulerException {
+        Set<Trigger> triggers = Set.of(trigger(0, "0 0 8 * * ?"));
+        triggerReconciler.reconcile(JOB, triggers);
+
+        TriggerReconciler.Result result = triggerReconciler.reconcile(JOB, Set.of(trigger(0, "0 0 8 * * ?")));
+
+        assertThat(result.hasChanges()).isFalse();
+        assertThat(scheduler.getTriggersOfJob(JOB.getKey())).extracting(Trigger::getKey)
+                .containsExactlyElementsOf(List.of(new TriggerKey("content-generate-1-trigger-0")));
+    }
+
+    @Test
+    void misfireInstructionChangeIsRescheduled() throws SchedulerException {
+        triggerReconciler.reconcile(JOB, Set.of(trigger(0, "0 0 8 * * ?")));
+
+        Trigger fireNow = TriggerBuilder.newTrigger()
+                .withIdentity("content-generate-1-trigger-0")
+                .forJob(JOB)
+                .withSchedule(CronScheduleBuilder.cronSchedule("0 0 8 * * ?").withMisfireHandlingInstructionFireAndProceed())
+                .build();
+
+        assertThat(triggerReconciler.reconcile(JOB, Set.of(fireNow))).isEqualTo(new TriggerReconciler.Result(0, 0, 1));
+    }
+
+    private static Trigger trigger(int index, String cron) {
+        return TriggerBuilder.newTrigger()
+                .withIdentity("content-generate-1-trigger-" + index)
+                .forJob(JOB)
+                .withSchedule(CronScheduleBuilder.cronSchedule(cron).withMisfireHandlingInstructionDoNothing())
+                .build();
+    }
+}
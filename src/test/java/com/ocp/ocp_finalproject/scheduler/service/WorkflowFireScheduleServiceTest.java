@@ -0,0 +1,137 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.workflow.domain.RecurrenceRule;
+import com.ocp.ocp_finalproject.workflow.domain.Workflow;
+import com.ocp.ocp_finalproject.workflow.enums.RepeatType;
+import com.ocp.ocp_finalproject.workflow.enums.WorkflowStatus;
+import com.ocp.ocp_finalproject.workflow.repository.WorkflowRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * tick 엔진의 선점(claim)을 H2(MySQL 모드)에서 확인한다.
+ * 선점한 워크플로우는 같은 트랜잭션에서 now 이후의 다음 실행 시각으로 넘어가고,
+ * 다른 트랜잭션이 잡고 있는 행은 기다리지 않고 건너뛰어(SKIP LOCKED) 한 회차를 두 노드가 함께 잡지 않는다.
+ */
+@DataJpaTest
+@Import({WorkflowFireScheduleService.class, ContentJitterPolicy.class, SchedulerProperties.class})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tickclaimdb;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.test.database.replace=none"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WorkflowFireScheduleServiceTest {
+
+    // 09:00 업로드 워크플로우의 콘텐츠 생성(08:00)과 업로드가 모두 지난 시각
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 9, 0, 30);
+
+    @Autowired
+    private WorkflowFireScheduleService workflowFireScheduleService;
+
+    @Autowired
+    private WorkflowRepository workflowRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        workflowRepository.deleteAll();
+    }
+
+    @Test
+    void claimAdvancesNextFireTimesFromNow() {
+        List<Long> workflowIds = saveDueWorkflows(3);
+
+        List<Long> contentRuns = workflowFireScheduleService.claimDueContentRuns(NOW, 10);
+        List<Long> uploadRuns = workflowFireScheduleService.claimDueUploadRuns(NOW, 10);
+
+        assertThat(contentRuns).containsExactlyInAnyOrderElementsOf(workflowIds);
+        assertThat(uploadRuns).containsExactlyInAnyOrderElementsOf(workflowIds);
+        for (Workflow workflow : workflowRepository.findAllById(workflowIds)) {
+            // 밀린 회차를 하나씩 따라가지 않고 now 이후 첫 실행 시각으로 넘어간다.
+            assertThat(workflow.getNextContentFireAt()).isEqualTo(LocalDateTime.of(2025, 1, 2, 8, 0));
+            assertThat(workflow.getNextUploadFireAt()).isEqualTo(LocalDateTime.of(2025, 1, 2, 9, 0));
+        }
+        // 다음 tick 에서는 같은 회차를 다시 잡지 않는다.
+        assertThat(workflowFireScheduleService.claimDueContentRuns(NOW, 10)).isEmpty();
+        assertThat(workflowFireScheduleService.claimDueUploadRuns(NOW, 10)).isEmpty();
+    }
+
+    @Test
+    void concurrentClaimSkipsRowsLockedByAnotherNode() throws Exception {
+        List<Long> workflowIds = saveDueWorkflows(4);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 첫 번째 노드: 2건을 선점한 채 커밋하지 않고 기다린다.
+        CompletableFuture<List<Long>> firstNode = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    List<Long> ids = workflowFireScheduleService.claimDueContentRuns(NOW, 2);
+                    claimed.countDown();
+                    await(release);
+                    return ids;
+                }));
+        assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 두 번째 노드: 잠긴 행을 기다리지 않고 건너뛴다. (InnoDB 는 나머지 2건을, H2 는 스캔한 행을 모두 잠가 0건을 가져간다)
+        List<Long> secondNode = CompletableFuture
+                .supplyAsync(() -> workflowFireScheduleService.claimDueContentRuns(NOW, 10))
+                .get(5, TimeUnit.SECONDS);
+        release.countDown();
+        List<Long> firstNodeIds = firstNode.get(10, TimeUnit.SECONDS);
+        // 다음 tick: 남은 회차만 가져간다.
+        List<Long> nextTick = workflowFireScheduleService.claimDueContentRuns(NOW, 10);
+
+        assertThat(firstNodeIds).hasSize(2);
+        assertThat(secondNode).doesNotContainAnyElementsOf(firstNodeIds);
+        List<Long> all = new ArrayList<>(firstNodeIds);
+        all.addAll(secondNode);
+        all.addAll(nextTick);
+        assertThat(all).containsExactlyInAnyOrderElementsOf(workflowIds);
+    }
+
+    private List<Long> saveDueWorkflows(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // H2 의 JSON 컬럼은 문자열 변환기와 맞지 않으므로 실행 시각은 startAt(09:00)에서 가져온다.
+            RecurrenceRule rule = RecurrenceRule.create(RepeatType.DAILY, 1, null, null, null,
+                    LocalDateTime.of(2024, 12, 1, 9, 0), null);
+            Workflow workflow = Workflow.create(null, null, null, rule, "https://blog.example.com");
+            ReflectionTestUtils.setField(workflow, "status", WorkflowStatus.ACTIVE);
+            workflow.assignContentJitter(Duration.ZERO);
+            workflow.updateNextFireTimes(LocalDateTime.of(2024, 12, 31, 8, 0), LocalDateTime.of(2025, 1, 1, 9, 0));
+            ids.add(workflowRepository.save(workflow).getId());
+        }
+        return ids;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
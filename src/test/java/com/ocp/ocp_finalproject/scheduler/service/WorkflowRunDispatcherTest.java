@@ -0,0 +1,58 @@
+package com.ocp.ocp_finalproject.scheduler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.message.blog.BlogUploadProducer;
+import com.ocp.ocp_finalproject.message.content.ContentGenerateProducer;
+import com.ocp.ocp_finalproject.message.content.enums.ContentGenerateLane;
+import com.ocp.ocp_finalproject.scheduler.config.SchedulerProperties;
+import com.ocp.ocp_finalproject.work.domain.Work;
+import com.ocp.ocp_finalproject.work.enums.AdmissionDecision;
+import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
+import com.ocp.ocp_finalproject.work.repository.WorkRepository;
+import com.ocp.ocp_finalproject.work.service.BlogUploadService;
+import com.ocp.ocp_finalproject.work.service.ContentGenerateService;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 발행을 기다리는 Work 가 있는 워크플로우의 다음 실행은 새 Work 를 만들지 않고 그 Work 에 합치는지 확인한다.
+ */
+class WorkflowRunDispatcherTest {
+
+    private final ContentGenerateService contentGenerateService = mock(ContentGenerateService.class);
+    private final ContentGenerateProducer contentGenerateProducer = mock(ContentGenerateProducer.class);
+    private final ContentAdmissionController contentAdmissionController = mock(ContentAdmissionController.class);
+    private final WorkRepository workRepository = mock(WorkRepository.class);
+    private final SchedulerProperties schedulerProperties = new SchedulerProperties();
+    private final WorkflowRunDispatcher workflowRunDispatcher = new WorkflowRunDispatcher(
+            contentGenerateService, contentGenerateProducer, mock(BlogUploadService.class), mock(BlogUploadProducer.class),
+            contentAdmissionController, workRepository, schedulerProperties,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @Test
+    void nextRunIsCoalescedIntoTheDeferredWork() {
+        LocalDateTime firstDeadline = LocalDateTime.now().plusMinutes(5);
+        Work deferred = Work.createBuilder().status(WorkExecutionStatus.PENDING).build();
+        deferred.defer(LocalDateTime.now().plusMinutes(1), firstDeadline, "backlog=50 consumers=2 limit=40");
+        when(contentAdmissionController.isEnabled()).thenReturn(true);
+        when(workRepository.findFirstByWorkflowIdAndAdmissionDecisionAndStatusOrderByIdAsc(
+                10L, AdmissionDecision.DEFERRED, WorkExecutionStatus.PENDING)).thenReturn(Optional.of(deferred));
+
+        workflowRunDispatcher.dispatchContentGeneration(10L);
+
+        assertThat(deferred.getCoalescedRuns()).isEqualTo(1);
+        // 합친 실행의 마감 시각까지 기다릴 수 있도록 마감을 늦춘다.
+        assertThat(deferred.getAdmissionDeadline()).isAfter(firstDeadline);
+        verify(contentGenerateService, never()).createRequest(any());
+        verify(contentAdmissionController).count(ContentGenerateLane.BATCH, "coalesced");
+    }
+}
@@ -0,0 +1,77 @@
+package com.ocp.ocp_finalproject.work.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.ocp.ocp_finalproject.content.domain.AiContent;
+import com.ocp.ocp_finalproject.content.repository.AiContentRepository;
+import com.ocp.ocp_finalproject.work.domain.Work;
+import com.ocp.ocp_finalproject.work.dto.request.KeywordSelectWebhookRequest;
+import com.ocp.ocp_finalproject.work.enums.WorkExecutionStatus;
+import com.ocp.ocp_finalproject.work.repository.WorkRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 큐 대기 시간(rabbit.queue.wait)을 Work 생성 시각이 아니라 메시지 발행 시각(publishedAt)부터 재는지 확인한다.
+ */
+class KeywordSelectWebhookServiceTest {
+
+    private static final OffsetDateTime STARTED_AT = OffsetDateTime.of(2025, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KeywordSelectWebhookService keywordSelectWebhookService = new KeywordSelectWebhookService(
+            mock(WorkRepository.class), mock(AiContentRepository.class), mock(WebhookIdempotencyService.class),
+            mock(WorkEventLogService.class), meterRegistry);
+
+    @Test
+    void queueWaitIsMeasuredFromPublishTime() {
+        // Work 는 한 시간 전에 만들어졌지만(입장 제어로 보류) 발행은 시작 3초 전에 됐다.
+        Work work = requestedWork(STARTED_AT.minusHours(1));
+        KeywordSelectWebhookRequest request = request(STARTED_AT.minusSeconds(3));
+
+        keywordSelectWebhookService.apply(request, work, mock(AiContent.class));
+
+        Timer timer = meterRegistry.find("rabbit.queue.wait").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.SECONDS)).isEqualTo(3.0);
+    }
+
+    @Test
+    void queueWaitIsNotRecordedWithoutPublishTime() {
+        Work work = requestedWork(STARTED_AT.minusHours(1));
+
+        keywordSelectWebhookService.apply(request(null), work, mock(AiContent.class));
+
+        assertThat(meterRegistry.find("rabbit.queue.wait").timer()).isNull();
+    }
+
+    private static Work requestedWork(OffsetDateTime createdAt) {
+        Work work = Work.createBuilder()
+                .status(WorkExecutionStatus.REQUESTED)
+                .build();
+        ReflectionTestUtils.setField(work, "id", 1L);
+        ReflectionTestUtils.setField(work, "createdAt",
+                LocalDateTime.ofInstant(createdAt.toInstant(), ZoneOffset.systemDefault()));
+        return work;
+    }
+
+    private static KeywordSelectWebhookRequest request(OffsetDateTime publishedAt) {
+        KeywordSelectWebhookRequest request = new KeywordSelectWebhookRequest();
+        request.setWorkId(1L);
+        request.setKeyword("keyword");
+        request.setSuccess(true);
+        request.setIsTest(false);
+        request.setStartedAt(STARTED_AT);
+        request.setCompletedAt(STARTED_AT.plusSeconds(10));
+        request.setPublishedAt(publishedAt);
+        return request;
+    }
+}
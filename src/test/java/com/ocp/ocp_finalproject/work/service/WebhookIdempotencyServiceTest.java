@@ -0,0 +1,164 @@
+package com.ocp.ocp_finalproject.work.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+import com.ocp.ocp_finalproject.work.config.WebhookIdempotencyProperties;
+import com.ocp.ocp_finalproject.work.dto.request.KeywordSelectWebhookRequest;
+import com.ocp.ocp_finalproject.work.repository.WebhookReceiptRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 멱등 키 계산(eventId → completedAt, 긴 키는 SHA-256), 메모리 LRU, 커밋 후에만 LRU 에 올리는 동작을 확인한다.
+ * INSERT IGNORE / DELETE ... LIMIT 은 MySQL 전용이므로 저장소는 목으로 두고 반환값(반영 행 수)으로 판정을 흉내 낸다.
+ */
+class WebhookIdempotencyServiceTest {
+
+    private static final OffsetDateTime COMPLETED_AT = OffsetDateTime.of(2025, 1, 1, 12, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    private final WebhookIdempotencyProperties webhookIdempotencyProperties = new WebhookIdempotencyProperties();
+    private final WebhookReceiptRepository webhookReceiptRepository = mock(WebhookReceiptRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void eventKeyFallsBackToCompletedAtAndHashesLongKeys() throws Exception {
+        assertThat(WebhookIdempotencyService.eventKey(event(1L, "evt-1"))).isEqualTo("evt-1");
+        // eventId 가 없거나 비어 있으면 completedAt 을 UTC 시각으로 쓴다.
+        assertThat(WebhookIdempotencyService.eventKey(event(1L, " "))).isEqualTo("2025-01-01T03:00:00Z");
+        assertThat(WebhookIdempotencyService.eventKey(event(1L, null))).isEqualTo("2025-01-01T03:00:00Z");
+
+        String exactly64 = "a".repeat(64);
+        assertThat(WebhookIdempotencyService.eventKey(event(1L, exactly64))).isEqualTo(exactly64);
+        String longKey = "b".repeat(65);
+        String expected = HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(longKey.getBytes(StandardCharsets.UTF_8)));
+        assertThat(WebhookIdempotencyService.eventKey(event(1L, longKey))).isEqualTo(expected).hasSize(64);
+
+        KeywordSelectWebhookRequest noKey = event(1L, null);
+        noKey.setCompletedAt(null);
+        assertThat(WebhookIdempotencyService.eventKey(noKey)).isNull();
+    }
+
+    @Test
+    void committedKeyIsServedFromCache() {
+        WebhookIdempotencyService service = service(10);
+        when(webhookReceiptRepository.insertIgnore(anyLong(), anyString(), anyString(), any())).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "evt-1"))).isTrue();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "evt-1"))).isFalse();
+        verify(webhookReceiptRepository, times(1)).insertIgnore(anyLong(), anyString(), anyString(), any());
+        assertThat(meterRegistry.get("webhook.idempotency.duplicates").tag("detected_by", "cache").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackKeyIsNotCached() {
+        WebhookIdempotencyService service = service(10);
+        when(webhookReceiptRepository.insertIgnore(anyLong(), anyString(), anyString(), any())).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "evt-1"))).isTrue();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // 반영이 롤백됐으므로 재전송은 다시 DB 로 판정해 처리한다.
+        assertThat(service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "evt-1"))).isTrue();
+        verify(webhookReceiptRepository, times(2)).insertIgnore(anyLong(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void leastRecentlyUsedKeyIsEvicted() {
+        WebhookIdempotencyService service = service(2);
+        // 이미 기록된 키: DB 에서 중복으로 판정되고 LRU 에 올라간다.
+        when(webhookReceiptRepository.insertIgnore(anyLong(), anyString(), anyString(), any())).thenReturn(0);
+        service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "a"));
+        service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "b"));
+        // a 를 다시 쓰면 가장 오래 쓰지 않은 키는 b 가 된다.
+        service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "a"));
+        service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "c"));
+
+        assertThat(service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "a"))).isFalse();
+        assertThat(service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "b"))).isFalse();
+
+        verify(webhookReceiptRepository, times(1)).insertIgnore(eq(1L), eq("KEYWORD_SELECT"), eq("a"), any());
+        verify(webhookReceiptRepository, times(2)).insertIgnore(eq(1L), eq("KEYWORD_SELECT"), eq("b"), any());
+    }
+
+    @Test
+    void keysAreScopedByWorkAndStep() {
+        WebhookIdempotencyService service = service(10);
+        when(webhookReceiptRepository.insertIgnore(anyLong(), anyString(), anyString(), any())).thenReturn(0, 1, 1);
+
+        service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "evt-1"));
+
+        assertThat(service.tryRegister(WorkResultType.PRODUCT_SELECT, event(1L, "evt-1"))).isTrue();
+        assertThat(service.tryRegister(WorkResultType.KEYWORD_SELECT, event(2L, "evt-1"))).isTrue();
+    }
+
+    @Test
+    void disabledServiceDoesNotTouchTheDatabase() {
+        webhookIdempotencyProperties.setEnabled(false);
+        WebhookIdempotencyService service = service(10);
+
+        assertThat(service.tryRegister(WorkResultType.KEYWORD_SELECT, event(1L, "evt-1"))).isTrue();
+        verify(webhookReceiptRepository, never()).insertIgnore(anyLong(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void purgeDeletesInBatchesUntilAShortBatch() {
+        webhookIdempotencyProperties.setPurgeBatchSize(2);
+        WebhookIdempotencyService service = service(10);
+        when(webhookReceiptRepository.deleteReceivedBefore(any(), anyInt())).thenReturn(2, 2, 1);
+
+        service.purgeExpired();
+
+        verify(webhookReceiptRepository, times(3)).deleteReceivedBefore(any(), eq(2));
+    }
+
+    private WebhookIdempotencyService service(int cacheSize) {
+        webhookIdempotencyProperties.setCacheSize(cacheSize);
+        return new WebhookIdempotencyService(webhookIdempotencyProperties, webhookReceiptRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+    }
+
+    private static KeywordSelectWebhookRequest event(Long workId, String eventId) {
+        KeywordSelectWebhookRequest request = new KeywordSelectWebhookRequest();
+        request.setWorkId(workId);
+        request.setEventId(eventId);
+        request.setCompletedAt(COMPLETED_AT);
+        return request;
+    }
+}
@@ -0,0 +1,153 @@
+package com.ocp.ocp_finalproject.work.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.common.exception.CustomException;
+import com.ocp.ocp_finalproject.common.exception.ErrorCode;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResult;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+import com.ocp.ocp_finalproject.message.result.service.WorkResultApplier;
+import com.ocp.ocp_finalproject.work.config.WebhookIngestProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 비동기 웹훅 버퍼가 넘칠 때의 단계 순서와 종료 시 처리기 정리를 확인한다.
+ * 처리기 1개, 버퍼 1칸으로 띄우고 반영기(WorkResultApplier)를 붙잡아 버퍼가 찬 상황을 만든다.
+ */
+class WebhookIngestServiceTest {
+
+    private final WorkResultApplier workResultApplier = mock(WorkResultApplier.class);
+    private final List<WorkResult> applied = new CopyOnWriteArrayList<>();
+    private final List<Thread> applyThreads = new CopyOnWriteArrayList<>();
+    private final CountDownLatch applying = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private WebhookIngestService webhookIngestService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        webhookIngestService.shutdown();
+    }
+
+    @Test
+    void overflowIsRejectedWhileEarlierResultsOfSameWorkArePending() throws InterruptedException {
+        when(workResultApplier.apply(anyList(), anyString())).thenAnswer(invocation -> {
+            applying.countDown();
+            release.await();
+            applied.addAll(invocation.getArgument(0));
+            return List.of();
+        });
+        start(Duration.ofSeconds(5));
+
+        assertThat(webhookIngestService.accept(result(1L, WorkResultType.KEYWORD_SELECT))).isTrue();
+        assertThat(applying.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(webhookIngestService.accept(result(1L, WorkResultType.PRODUCT_SELECT))).isTrue();
+
+        // 버퍼가 찼고 같은 Work 의 앞 결과가 남아 있으므로 동기 처리하지 않고 거절한다.
+        assertThatThrownBy(() -> webhookIngestService.accept(result(1L, WorkResultType.CONTENT_GENERATE)))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.WORK_WEBHOOK_BUSY);
+        // 남은 결과가 없는 다른 Work 는 기존처럼 동기 처리로 돌린다.
+        assertThat(webhookIngestService.accept(result(2L, WorkResultType.KEYWORD_SELECT))).isFalse();
+
+        release.countDown();
+        webhookIngestService.shutdown();
+
+        assertThat(applied).extracting(WorkResult::type)
+                .containsExactly(WorkResultType.KEYWORD_SELECT, WorkResultType.PRODUCT_SELECT);
+        // 모두 반영된 뒤에는 같은 Work 도 동기 처리로 받는다.
+        assertThat(webhookIngestService.accept(result(1L, WorkResultType.CONTENT_GENERATE))).isFalse();
+    }
+
+    @Test
+    void shutdownInterruptsProcessorBeforeDrainingItsPartition() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        when(workResultApplier.apply(anyList(), anyString())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                applying.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("interrupted", e);
+                }
+            }
+            applied.addAll(invocation.getArgument(0));
+            applyThreads.add(Thread.currentThread());
+            return List.of();
+        });
+        start(Duration.ofMillis(50));
+
+        WorkResult result = result(1L, WorkResultType.KEYWORD_SELECT);
+        assertThat(webhookIngestService.accept(result)).isTrue();
+        assertThat(applying.await(5, TimeUnit.SECONDS)).isTrue();
+
+        webhookIngestService.shutdown();
+
+        // 인터럽트로 실패한 묶음은 재시도 목록에 남고, 처리기가 끝난 뒤 종료 스레드가 반영한다.
+        assertThat(applied).containsExactly(result);
+        assertThat(applyThreads).containsExactly(Thread.currentThread());
+    }
+
+    @Test
+    void shutdownSkipsPartitionWhoseProcessorDoesNotStop() throws InterruptedException {
+        when(workResultApplier.apply(anyList(), anyString())).thenAnswer(invocation -> {
+            applying.countDown();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        });
+        start(Duration.ofMillis(50));
+
+        assertThat(webhookIngestService.accept(result(1L, WorkResultType.KEYWORD_SELECT))).isTrue();
+        assertThat(applying.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(webhookIngestService.accept(result(1L, WorkResultType.PRODUCT_SELECT))).isTrue();
+
+        webhookIngestService.shutdown();
+
+        // 처리기가 아직 반영 중이므로 종료 스레드는 그 파티션의 버퍼를 건드리지 않는다.
+        verify(workResultApplier, times(1)).apply(anyList(), anyString());
+    }
+
+    private void start(Duration shutdownTimeout) {
+        WebhookIngestProperties properties = new WebhookIngestProperties();
+        properties.setMode(WebhookIngestProperties.Mode.ASYNC);
+        properties.setProcessors(1);
+        properties.setCapacity(1);
+        properties.setPollTimeout(Duration.ofMillis(20));
+        properties.setShutdownTimeout(shutdownTimeout);
+        webhookIngestService = new WebhookIngestService(properties, workResultApplier, new SimpleMeterRegistry());
+        webhookIngestService.start();
+    }
+
+    private static WorkResult result(Long workId, WorkResultType type) {
+        return new WorkResult(type, workId, new Object());
+    }
+}
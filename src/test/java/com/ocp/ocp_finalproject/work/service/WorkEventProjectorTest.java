@@ -0,0 +1,142 @@
+package com.ocp.ocp_finalproject.work.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.message.result.dto.WorkResult;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+import com.ocp.ocp_finalproject.message.result.service.WorkResultApplier;
+import com.ocp.ocp_finalproject.work.config.WorkEventProperties;
+import com.ocp.ocp_finalproject.work.domain.WorkEvent;
+import com.ocp.ocp_finalproject.work.repository.WorkEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비동기 반영에서 묶음이 실패하면 한 건씩 반영하고, 그래도 실패한 이벤트는 건너뛴 것으로 표시하며,
+ * 잠금을 기다리는 동안 다른 노드가 반영한 이벤트는 다시 반영하지 않는지 확인한다.
+ */
+class WorkEventProjectorTest {
+
+    private final WorkEventRepository workEventRepository = mock(WorkEventRepository.class);
+    private final WorkEventLogService workEventLogService = mock(WorkEventLogService.class);
+    private final WorkResultApplier workResultApplier = mock(WorkResultApplier.class);
+    private final WorkEventProperties workEventProperties = new WorkEventProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WorkEventProjector workEventProjector = new WorkEventProjector(workEventRepository,
+            workEventLogService, workResultApplier, workEventProperties,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        workEventProperties.setProjection(WorkEventProperties.Projection.ASYNC);
+        when(workEventLogService.toWorkResult(any()))
+                .thenAnswer(invocation -> {
+                    WorkEvent event = invocation.getArgument(0);
+                    return new WorkResult(event.getStep(), event.getWorkId(), new Object());
+                });
+    }
+
+    @Test
+    void failedBatchIsProjectedOneByOneAndTheFailingEventIsSkipped() {
+        workEventProperties.setProjectorBatchSize(3);
+        List<WorkEvent> events = List.of(event(1L, 10L), event(2L, 20L), event(3L, 30L));
+        storedEvents(events);
+        // work 20 의 이벤트는 반영할 때마다 실패한다.
+        when(workResultApplier.project(anyList())).thenAnswer(invocation -> {
+            List<WorkResult> results = invocation.getArgument(0);
+            if (results.stream().anyMatch(result -> result.workId() == 20L)) {
+                throw new IllegalStateException("projection failed");
+            }
+            return List.of();
+        });
+
+        workEventProjector.project();
+
+        // 실패한 이벤트도 뒤 이벤트를 막지 않도록 반영한 것으로 표시한다.
+        assertThat(events).allSatisfy(event -> assertThat(event.getProjectedAt()).isNotNull());
+        assertThat(projectedCount("projected")).isEqualTo(2);
+        assertThat(projectedCount("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void eventsProjectedByAnotherNodeAreNotProjectedAgain() {
+        workEventProperties.setProjectorBatchSize(2);
+        WorkEvent alreadyProjected = event(1L, 10L);
+        WorkEvent pending = event(2L, 20L);
+        when(workEventRepository.findUnprojectedIds(PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+        // 잠금을 기다리는 동안 다른 노드가 1번 이벤트를 반영하고 커밋했다.
+        when(workEventRepository.lockAllByIdIn(List.of(1L, 2L))).thenAnswer(invocation -> {
+            alreadyProjected.markProjected(LocalDateTime.now());
+            return List.of(alreadyProjected, pending);
+        });
+        when(workResultApplier.project(anyList())).thenReturn(List.of());
+
+        workEventProjector.project();
+
+        verify(workEventLogService, never()).toWorkResult(alreadyProjected);
+        ArgumentCaptor<List<WorkResult>> projected = ArgumentCaptor.captor();
+        verify(workResultApplier).project(projected.capture());
+        assertThat(projected.getValue()).extracting(WorkResult::workId).containsExactly(20L);
+        assertThat(pending.getProjectedAt()).isNotNull();
+        assertThat(projectedCount("projected")).isEqualTo(1);
+    }
+
+    @Test
+    void inlineProjectionDoesNothing() {
+        workEventProperties.setProjection(WorkEventProperties.Projection.INLINE);
+
+        workEventProjector.project();
+
+        verify(workEventRepository, never()).findUnprojectedIds(any());
+    }
+
+    /**
+     * 저장소 목을 이벤트 목록에 연결한다. 반영하지 않은 이벤트 id 를 순서대로 돌려주고 PK 로 잠근다.
+     */
+    private void storedEvents(List<WorkEvent> events) {
+        Map<Long, WorkEvent> byId = events.stream().collect(Collectors.toMap(WorkEvent::getId, Function.identity()));
+        when(workEventRepository.findUnprojectedIds(any())).thenAnswer(invocation -> events.stream()
+                .filter(event -> event.getProjectedAt() == null)
+                .map(WorkEvent::getId)
+                .limit(invocation.<Pageable>getArgument(0).getPageSize())
+                .toList());
+        when(workEventRepository.lockAllByIdIn(any())).thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0)
+                .stream().flatMap(id -> Stream.ofNullable(byId.get(id))).toList());
+    }
+
+    private double projectedCount(String result) {
+        var counter = meterRegistry.find("work.event.projected").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static WorkEvent event(Long id, Long workId) {
+        WorkEvent event = WorkEvent.createBuilder()
+                .workId(workId)
+                .step(WorkResultType.KEYWORD_SELECT)
+                .receivedAt(LocalDateTime.now())
+                .payload("{}")
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ocp.ocp_finalproject.work.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ocp.ocp_finalproject.message.result.dto.WorkResult;
+import com.ocp.ocp_finalproject.message.result.dto.WorkResultMessage;
+import com.ocp.ocp_finalproject.message.result.enums.WorkResultType;
+import com.ocp.ocp_finalproject.message.result.service.WorkResultApplier;
+import com.ocp.ocp_finalproject.message.result.service.WorkResultMapper;
+import com.ocp.ocp_finalproject.work.config.WebhookIngestProperties;
+import com.ocp.ocp_finalproject.work.dto.response.WorkEventsResponse;
+import com.ocp.ocp_finalproject.work.service.WebhookIngestService.Admission;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 여러 Work 의 이벤트가 섞인 요청에서 버퍼/요청 내 반영/거절이 Work 단위로 정해지는지 확인한다.
+ */
+class WorkEventServiceTest {
+
+    private final WorkResultMapper workResultMapper = mock(WorkResultMapper.class);
+    private final WorkResultApplier workResultApplier = mock(WorkResultApplier.class);
+    private final WebhookIngestService webhookIngestService = mock(WebhookIngestService.class);
+    private final WorkEventService workEventService = new WorkEventService(
+            workResultMapper, workResultApplier, webhookIngestService, new WebhookIngestProperties());
+
+    @Test
+    void mixedBatchIsRoutedPerWork() {
+        // 요청 순서: work1 키워드, work2 키워드, work1 상품, work3 키워드, work2 상품
+        List<WorkResult> results = List.of(
+                result(1L, WorkResultType.KEYWORD_SELECT),
+                result(2L, WorkResultType.KEYWORD_SELECT),
+                result(1L, WorkResultType.PRODUCT_SELECT),
+                result(3L, WorkResultType.KEYWORD_SELECT),
+                result(2L, WorkResultType.PRODUCT_SELECT));
+        List<WorkResultMessage> events = new ArrayList<>();
+        for (WorkResult result : results) {
+            WorkResultMessage event = new WorkResultMessage();
+            when(workResultMapper.toWorkResult(event)).thenReturn(result);
+            events.add(event);
+        }
+        List<WorkResult> work1 = List.of(results.get(0), results.get(2));
+        List<WorkResult> work2 = List.of(results.get(1), results.get(4));
+        when(webhookIngestService.admit(1L, work1)).thenReturn(Admission.BUFFERED);
+        when(webhookIngestService.admit(2L, work2)).thenReturn(Admission.INLINE);
+        when(webhookIngestService.admit(3L, List.of(results.get(3)))).thenReturn(Admission.BUSY);
+        when(workResultApplier.apply(eq(work2), anyString())).thenReturn(List.of(results.get(4)));
+
+        WorkEventsResponse response = workEventService.handle(events);
+
+        // 한 Work 의 이벤트는 한 번에 같은 쪽으로 가고, 요청 안에서 반영하는 Work 는 단계 순서대로 넘긴다.
+        verify(webhookIngestService).admit(1L, work1);
+        verify(webhookIngestService).admit(2L, work2);
+        verify(webhookIngestService).admit(3L, List.of(results.get(3)));
+        verifyNoMoreInteractions(webhookIngestService);
+        verify(workResultApplier).apply(eq(work2), anyString());
+
+        assertThat(response.getReceived()).isEqualTo(5);
+        assertThat(response.getQueued()).isEqualTo(2);
+        assertThat(response.getProcessed()).isEqualTo(1);
+        // 거절된 work3 와 반영에 실패한 work2 상품 이벤트는 요청 순서대로 돌려준다.
+        assertThat(response.getFailedIndexes()).containsExactly(3, 4);
+    }
+
+    private static WorkResult result(Long workId, WorkResultType type) {
+        return new WorkResult(type, workId, new Object());
+    }
+}
@@ -0,0 +1,65 @@
+package com.ocp.ocp_finalproject.workflow.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ocp.ocp_finalproject.workflow.domain.RecurrenceRule;
+import com.ocp.ocp_finalproject.workflow.enums.RepeatType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 콘텐츠 생성 오프셋(-1시간 + 지터)이 Cron 표현식의 초/분/시 필드에 그대로 반영되는지 확인한다.
+ */
+class RecurrenceRuleCronConverterTest {
+
+    private static final LocalDateTime START_AT = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @Test
+    void uploadCronRunsOnTheMinute() {
+        RecurrenceRule rule = daily(List.of("09:00", "12:00"));
+
+        assertThat(RecurrenceRuleCronConverter.toCronExpressions(rule)).containsExactly("0 00 09,12 * * ?");
+    }
+
+    @Test
+    void jitterSecondsAreCarriedIntoTheSecondField() {
+        RecurrenceRule rule = daily(List.of("09:00", "12:00"));
+
+        assertThat(RecurrenceRuleCronConverter.toCronExpressionsWithOffset(rule, contentOffset(37)))
+                .containsExactly("37 00 08,11 * * ?");
+        // 1분을 넘는 지터는 분 필드로 올라간다.
+        assertThat(RecurrenceRuleCronConverter.toCronExpressionsWithOffset(rule, contentOffset(90)))
+                .containsExactly("30 01 08,11 * * ?");
+    }
+
+    @Test
+    void onceRuleAppliesJitterToTheTruncatedStart() {
+        RecurrenceRule rule = RecurrenceRule.create(RepeatType.ONCE, null, null, null, null,
+                LocalDateTime.of(2025, 3, 1, 9, 0, 45), null);
+
+        assertThat(RecurrenceRuleCronConverter.toCronExpressionsWithOffset(rule, contentOffset(37)))
+                .containsExactly("37 00 08 1 3 ? 2025");
+    }
+
+    @Test
+    void jitteredCronFiresAtTheSameTimeAsTheCalculator() {
+        RecurrenceRule rule = daily(List.of("09:00"));
+        Duration jitter = Duration.ofSeconds(437);
+
+        LocalDateTime fireAt = RecurrenceRuleFireTimeCalculator.nextContentFireTime(rule, jitter, START_AT);
+
+        assertThat(fireAt).isEqualTo(LocalDateTime.of(2025, 3, 1, 8, 7, 17));
+        assertThat(RecurrenceRuleFireTimeCalculator.nextUploadFireTime(rule, START_AT))
+                .isEqualTo(LocalDateTime.of(2025, 3, 1, 9, 0));
+    }
+
+    private static RecurrenceRule daily(List<String> timesOfDay) {
+        return RecurrenceRule.create(RepeatType.DAILY, 1, null, null, timesOfDay, START_AT, null);
+    }
+
+    private static Duration contentOffset(long jitterSeconds) {
+        return RecurrenceRuleFireTimeCalculator.contentOffset(Duration.ofSeconds(jitterSeconds));
+    }
+}
@@ -39,7 +39,16 @@ connection = pika.BlockingConnection(
 channel = connection.channel()
 
 # Declare queue (ensure it exists)
-channel.queue_declare(queue='content-generate-queue', durable=True)
+# (백엔드 RabbitConfig 와 같은 인자로 선언해야 PRECONDITION_FAILED 가 나지 않는다)
+channel.queue_declare(
+    queue='content-generate-queue',
+    durable=True,
+    arguments={
+        'x-dead-letter-exchange': 'ocp.dlx',
+        'x-dead-letter-routing-key': 'content-generate-queue',
+        'x-max-priority': 5,
+    },
+)
 
 # Publish message
 channel.basic_publish(